@@ -0,0 +1,159 @@
+package org.bimserver.benchmarks;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.bimserver.BimServer;
+import org.bimserver.BimServerConfig;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.OldQuery;
+import org.bimserver.database.OperationType;
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.interfaces.objects.SProject;
+import org.bimserver.models.log.AccessMethod;
+import org.bimserver.models.store.ConcreteRevision;
+import org.bimserver.models.store.Revision;
+import org.bimserver.models.store.ServerState;
+import org.bimserver.shared.LocalDevelopmentResourceFetcher;
+import org.bimserver.shared.interfaces.AdminInterface;
+import org.bimserver.shared.interfaces.LowLevelInterface;
+import org.bimserver.utils.PathUtils;
+import org.bimserver.webservices.ServiceMap;
+import org.bimserver.webservices.authorization.SystemAuthorization;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A BIMserver in a temporary home directory with one project containing a synthetic IFC2x3 model. Every wall gets a
+ * property set with a few properties, so the model has the kind of object graph that queries and serializers see in real
+ * models.
+ *
+ * Resources are loaded from the workspace, so run the benchmarks from the Benchmarks directory.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkServer {
+	public static final String SCHEMA = "ifc2x3tc1";
+	private static final int PROPERTIES_PER_WALL = 3;
+
+	@Param({"1000", "10000"})
+	public int nrWalls;
+
+	private Path home;
+	private BimServer bimServer;
+	private PackageMetaData packageMetaData;
+	private long roid;
+	private int pid;
+	private int rid;
+
+	@Setup(Level.Trial)
+	public void start() throws Exception {
+		home = Files.createTempDirectory("bimserver-benchmark");
+		BimServerConfig config = new BimServerConfig();
+		config.setHomeDir(home);
+		config.setResourceFetcher(new LocalDevelopmentResourceFetcher(Paths.get("../")));
+		config.setStartEmbeddedWebServer(false);
+		config.setClassPath(System.getProperty("java.class.path"));
+		config.setStartCommandLine(false);
+		config.setLocalDev(true);
+		bimServer = new BimServer(config);
+		bimServer.getVersionChecker().getLocalVersion().setDate(new Date());
+		bimServer.start();
+		if (bimServer.getServerInfo().getServerState() == ServerState.NOT_SETUP) {
+			AdminInterface adminInterface = bimServer.getServiceFactory().get(new SystemAuthorization(1, TimeUnit.HOURS), AccessMethod.INTERNAL).get(AdminInterface.class);
+			adminInterface.setup("http://localhost:8080", "Benchmark", "Benchmark server", null, "Administrator", "admin@bimserver.org", "admin");
+		}
+		String token = bimServer.getServiceFactory().get(AccessMethod.INTERNAL).getAuthInterface().login("admin@bimserver.org", "admin");
+		ServiceMap serviceMap = bimServer.getServiceFactory().get(token, AccessMethod.INTERNAL);
+		packageMetaData = bimServer.getMetaDataManager().getPackageMetaData(SCHEMA);
+
+		SProject project = serviceMap.getServiceInterface().addProject("benchmark", SCHEMA);
+		roid = createModel(serviceMap.getLowLevelInterface(), project.getOid());
+
+		try (DatabaseSession databaseSession = bimServer.getDatabase().createSession(OperationType.READ_ONLY)) {
+			Revision revision = databaseSession.get(roid, OldQuery.getDefault());
+			ConcreteRevision concreteRevision = revision.getLastConcreteRevision();
+			pid = concreteRevision.getProject().getId();
+			rid = concreteRevision.getId();
+		}
+	}
+
+	private long createModel(LowLevelInterface lowLevelInterface, long poid) throws Exception {
+		Long tid = lowLevelInterface.startTransaction(poid);
+		Long storey = lowLevelInterface.createObject(tid, "IfcBuildingStorey", true);
+		lowLevelInterface.setStringAttribute(tid, storey, "Name", "Storey");
+		Long containment = lowLevelInterface.createObject(tid, "IfcRelContainedInSpatialStructure", true);
+		lowLevelInterface.setReference(tid, containment, "RelatingStructure", storey);
+		for (int i = 0; i < nrWalls; i++) {
+			Long wall = lowLevelInterface.createObject(tid, "IfcWall", true);
+			lowLevelInterface.setStringAttribute(tid, wall, "Name", "Wall " + i);
+			lowLevelInterface.addReference(tid, containment, "RelatedElements", wall);
+
+			Long propertySet = lowLevelInterface.createObject(tid, "IfcPropertySet", true);
+			lowLevelInterface.setStringAttribute(tid, propertySet, "Name", "Pset_WallCommon");
+			for (int j = 0; j < PROPERTIES_PER_WALL; j++) {
+				Long property = lowLevelInterface.createObject(tid, "IfcPropertySingleValue", false);
+				lowLevelInterface.setStringAttribute(tid, property, "Name", "Property " + j);
+				lowLevelInterface.addReference(tid, propertySet, "HasProperties", property);
+			}
+
+			Long definesByProperties = lowLevelInterface.createObject(tid, "IfcRelDefinesByProperties", true);
+			lowLevelInterface.addReference(tid, definesByProperties, "RelatedObjects", wall);
+			lowLevelInterface.setReference(tid, definesByProperties, "RelatingPropertyDefinition", propertySet);
+		}
+		return lowLevelInterface.commitTransaction(tid, "Synthetic model with " + nrWalls + " walls", false);
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() throws Exception {
+		if (bimServer != null) {
+			bimServer.stop();
+		}
+		if (home != null) {
+			PathUtils.removeDirectoryWithContent(home);
+		}
+	}
+
+	public BimServer getBimServer() {
+		return bimServer;
+	}
+
+	public PackageMetaData getPackageMetaData() {
+		return packageMetaData;
+	}
+
+	public long getRoid() {
+		return roid;
+	}
+
+	public int getPid() {
+		return pid;
+	}
+
+	public int getRid() {
+		return rid;
+	}
+}
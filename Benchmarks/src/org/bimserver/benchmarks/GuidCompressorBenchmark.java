@@ -0,0 +1,72 @@
+package org.bimserver.benchmarks;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.concurrent.TimeUnit;
+
+import org.bimserver.shared.GuidCompressor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuidCompressorBenchmark {
+	private static final int NR_GUIDS = 1024;
+
+	private final String[] compressed = new String[NR_GUIDS];
+	private final String[] uncompressed = new String[NR_GUIDS];
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		for (int i = 0; i < NR_GUIDS; i++) {
+			compressed[i] = GuidCompressor.getNewIfcGloballyUniqueId();
+			uncompressed[i] = GuidCompressor.uncompressGuidString(compressed[i]);
+		}
+	}
+
+	@Benchmark
+	public String newGuid() {
+		return GuidCompressor.getNewIfcGloballyUniqueId();
+	}
+
+	@Benchmark
+	public String compress() {
+		index = (index + 1) & (NR_GUIDS - 1);
+		return GuidCompressor.compressGuidString(uncompressed[index]);
+	}
+
+	@Benchmark
+	public String uncompress() throws Exception {
+		index = (index + 1) & (NR_GUIDS - 1);
+		return GuidCompressor.uncompressGuidString(compressed[index]);
+	}
+}
@@ -0,0 +1,133 @@
+package org.bimserver.benchmarks;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.OperationType;
+import org.bimserver.database.queries.QueryObjectProvider;
+import org.bimserver.emf.SharedJsonStreamingSerializer;
+import org.bimserver.plugins.serializers.ObjectProvider;
+import org.bimserver.shared.HashMapVirtualObject;
+import org.eclipse.emf.ecore.EClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+
+/**
+ * Serializes the results of the include query of {@link QueryBenchmark} with SharedJsonStreamingSerializer. The objects
+ * are read once, so only the serialization is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializerBenchmark {
+	private final List<HashMapVirtualObject> objects = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkServer server) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			QueryObjectProvider queryObjectProvider = new QueryObjectProvider(databaseSession, server.getBimServer(), QueryBenchmark.parse(server, QueryBenchmark.INCLUDE_QUERY), Collections.singleton(server.getRoid()), server.getPackageMetaData());
+			HashMapVirtualObject next = queryObjectProvider.next();
+			while (next != null) {
+				objects.add(next);
+				next = queryObjectProvider.next();
+			}
+		}
+	}
+
+	@Benchmark
+	public long serialize() throws Exception {
+		return write(false);
+	}
+
+	@Benchmark
+	public long serializeMinimal() throws Exception {
+		return write(true);
+	}
+
+	private long write(boolean minimal) throws Exception {
+		SharedJsonStreamingSerializer serializer = new SharedJsonStreamingSerializer(new ListObjectProvider(objects), null, false, minimal);
+		CountingOutputStream outputStream = new CountingOutputStream(ByteStreams.nullOutputStream());
+		while (serializer.write(outputStream, null)) {
+		}
+		return outputStream.getCount();
+	}
+
+	private static class ListObjectProvider implements ObjectProvider {
+		private final List<HashMapVirtualObject> objects;
+		private int index;
+
+		public ListObjectProvider(List<HashMapVirtualObject> objects) {
+			this.objects = objects;
+		}
+
+		@Override
+		public HashMapVirtualObject next() {
+			return index < objects.size() ? objects.get(index++) : null;
+		}
+
+		@Override
+		public ObjectProvider copy() {
+			return new ListObjectProvider(objects);
+		}
+
+		@Override
+		public HashMapVirtualObject getByOid(long oid) {
+			return null;
+		}
+
+		@Override
+		public EClass getEClassForOid(long oid) {
+			return null;
+		}
+
+		@Override
+		public EClass getEClassForCid(short cid) {
+			return null;
+		}
+
+		@Override
+		public ObjectNode getQueryNode() {
+			return null;
+		}
+
+		@Override
+		public void cache(HashMapVirtualObject object) {
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package org.bimserver.benchmarks;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.bimserver.database.Record;
+import org.bimserver.database.SearchingRecordIterator;
+import org.bimserver.database.berkeley.BerkeleyKeyValueStore;
+import org.bimserver.utils.PathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BerkeleyKeyValueStore on a non-transactional table, with keys laid out like object keys (pid, oid, -rid). Every class
+ * has its own table, so iterating all keys of one pid is what a type query does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyValueStoreBenchmark {
+	private static final String TABLE = "benchmark";
+	private static final int PID = 1;
+	private static final int RID = 1;
+	private static final int NR_CLASSES = 16;
+
+	@Param({"100000"})
+	public int nrRecords;
+
+	@Param({"128"})
+	public int valueSize;
+
+	private Path home;
+	private BerkeleyKeyValueStore keyValueStore;
+	private byte[] value;
+	private final Random random = new Random(1);
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		home = Files.createTempDirectory("bimserver-kv-benchmark");
+		keyValueStore = new BerkeleyKeyValueStore(home, new Properties());
+		keyValueStore.createTable(TABLE, null, false);
+		value = new byte[valueSize];
+		random.nextBytes(value);
+		for (int i = 0; i < nrRecords; i++) {
+			keyValueStore.store(TABLE, createKey(i), value, null);
+		}
+		keyValueStore.sync();
+	}
+
+	private byte[] createKey(int index) {
+		ByteBuffer key = ByteBuffer.allocate(16);
+		key.putInt(PID);
+		// Like oids, the lowest 16 bits are the cid
+		key.putLong(((long) index << 16) | (index % NR_CLASSES));
+		key.putInt(-RID);
+		return key.array();
+	}
+
+	@Benchmark
+	public byte[] get() throws Exception {
+		return keyValueStore.get(TABLE, createKey(random.nextInt(nrRecords)), null);
+	}
+
+	@Benchmark
+	public byte[] getPartial() throws Exception {
+		return keyValueStore.getPartial(TABLE, createKey(random.nextInt(nrRecords)), 0, 2, null);
+	}
+
+	@Benchmark
+	public void store() throws Exception {
+		keyValueStore.store(TABLE, createKey(random.nextInt(nrRecords)), value, null);
+	}
+
+	@Benchmark
+	public int iterate() throws Exception {
+		return iterate(-1);
+	}
+
+	@Benchmark
+	public int iterateKeysOnly() throws Exception {
+		return iterate(0);
+	}
+
+	private int iterate(int valueLength) throws Exception {
+		byte[] prefix = ByteBuffer.allocate(4).putInt(PID).array();
+		int count = 0;
+		try (SearchingRecordIterator recordIterator = keyValueStore.getPartialRecordIterator(TABLE, prefix, prefix, valueLength, null)) {
+			Record record = recordIterator.next();
+			while (record != null) {
+				count += record.getKey().length;
+				record = recordIterator.next();
+			}
+		}
+		return count;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		keyValueStore.close();
+		PathUtils.removeDirectoryWithContent(home);
+	}
+}
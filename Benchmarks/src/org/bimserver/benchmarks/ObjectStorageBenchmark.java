@@ -0,0 +1,102 @@
+package org.bimserver.benchmarks;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.OldQuery;
+import org.bimserver.database.OperationType;
+import org.bimserver.emf.IdEObject;
+import org.bimserver.emf.IfcModelInterface;
+import org.bimserver.emf.PackageMetaData;
+import org.eclipse.emf.ecore.EClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes and reads the walls and property objects of the synthetic model through DatabaseSession.store/commit and
+ * getAllOfTypes, which includes encoding and decoding of the stored object format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectStorageBenchmark {
+	private Set<EClass> eClasses;
+	private OldQuery query;
+	private DatabaseSession loadingSession;
+	private List<IdEObject> objects;
+	private int pid;
+	private int nextRid;
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkServer server) throws Exception {
+		PackageMetaData packageMetaData = server.getPackageMetaData();
+		eClasses = new HashSet<>();
+		for (String name : Arrays.asList("IfcWall", "IfcPropertySet", "IfcPropertySingleValue", "IfcRelDefinesByProperties")) {
+			eClasses.add(packageMetaData.getEClass(name));
+		}
+		query = new OldQuery(packageMetaData, server.getPid(), server.getRid(), server.getRoid());
+		// Kept open, the objects lazy load through this session when they are stored
+		loadingSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY);
+		objects = new ArrayList<>(loadingSession.getAllOfTypes(eClasses, query).getValues());
+		pid = server.getPid();
+		// Rids after the revision that is read, so the written copies are never visible to the get benchmark
+		nextRid = server.getRid() + 1;
+	}
+
+	@Benchmark
+	public int store(BenchmarkServer server) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_WRITE)) {
+			// Every invocation writes a new version, stored objects cannot be overwritten
+			databaseSession.store(objects, pid, nextRid++);
+			databaseSession.commit();
+		}
+		return objects.size();
+	}
+
+	@Benchmark
+	public IfcModelInterface get(BenchmarkServer server) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			return databaseSession.getAllOfTypes(eClasses, query);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		loadingSession.close();
+	}
+}
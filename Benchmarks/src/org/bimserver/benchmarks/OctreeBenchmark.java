@@ -0,0 +1,94 @@
+package org.bimserver.benchmarks;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.bimserver.database.queries.Bounds;
+import org.bimserver.geometry.accellerator.GeometryObject;
+import org.bimserver.geometry.accellerator.Node;
+import org.bimserver.geometry.accellerator.Octree;
+import org.bimserver.models.ifc2x3tc1.Ifc2x3tc1Package;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The in-memory part of GeometryAccellerator.generateOctree: placing objects in the octree and moving up nodes with few
+ * triangles. The objects are boxes of typical building element sizes in a building of 100 x 60 x 30 meters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OctreeBenchmark {
+	private static final int MAX_DEPTH = 9;
+
+	@Param({"10000", "100000"})
+	public int nrObjects;
+
+	private Bounds totalBounds;
+	private GeometryObject[] objects;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(1);
+		totalBounds = new Bounds(0, 0, 0, 100000, 60000, 30000);
+		objects = new GeometryObject[nrObjects];
+		for (int i = 0; i < nrObjects; i++) {
+			double x = random.nextDouble() * 99000;
+			double y = random.nextDouble() * 59000;
+			double z = random.nextInt(10) * 3000;
+			// Mostly small objects (furniture, doors), some large ones (walls, slabs)
+			double size = random.nextInt(10) == 0 ? 1000 + random.nextDouble() * 20000 : 100 + random.nextDouble() * 900;
+			Bounds bounds = new Bounds(x, y, z, Math.min(x + size, 100000), Math.min(y + size / 4, 60000), z + Math.min(size, 3000));
+			int triangles = 12 + random.nextInt(500);
+			objects[i] = new GeometryObject(i, Ifc2x3tc1Package.eINSTANCE.getIfcWall(), 1, triangles, 0, triangles, 1f, bounds);
+		}
+	}
+
+	@Benchmark
+	public Octree generate() {
+		Octree octree = new Octree(totalBounds, MAX_DEPTH);
+		for (GeometryObject geometryObject : objects) {
+			Node node = octree.add(geometryObject);
+			geometryObject.setTileId(node.getId());
+			geometryObject.setTileLevel(node.getLevel());
+		}
+		octree.moveUp(node -> {
+			int totalTriangles = 0;
+			for (GeometryObject geometryObject : node.getValues()) {
+				totalTriangles += geometryObject.getTriangles();
+			}
+			return totalTriangles < 1200;
+		});
+		return octree;
+	}
+}
@@ -0,0 +1,105 @@
+package org.bimserver.benchmarks;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.OperationType;
+import org.bimserver.database.queries.QueryObjectProvider;
+import org.bimserver.database.queries.om.JsonQueryObjectModelConverter;
+import org.bimserver.database.queries.om.Query;
+import org.bimserver.shared.HashMapVirtualObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Runs queries through QueryObjectProvider, every invocation reads all results in a new read-only session
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+	public static final String TYPE_QUERY = "{\"type\":\"IfcWall\"}";
+	public static final String SUB_TYPES_QUERY = "{\"type\":{\"name\":\"IfcBuildingElement\",\"includeAllSubTypes\":true}}";
+	public static final String INCLUDE_QUERY = "{\"type\":\"IfcWall\",\"include\":{\"type\":\"IfcWall\",\"field\":\"IsDefinedBy\",\"include\":{\"type\":\"IfcRelDefinesByProperties\",\"field\":\"RelatingPropertyDefinition\",\"include\":{\"type\":\"IfcPropertySet\",\"field\":\"HasProperties\"}}}}";
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private Query typeQuery;
+	private Query subTypesQuery;
+	private Query includeQuery;
+	private Set<Long> roids;
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkServer server) throws Exception {
+		typeQuery = parse(server, TYPE_QUERY);
+		subTypesQuery = parse(server, SUB_TYPES_QUERY);
+		includeQuery = parse(server, INCLUDE_QUERY);
+		roids = Collections.singleton(server.getRoid());
+	}
+
+	static Query parse(BenchmarkServer server, String json) throws Exception {
+		JsonQueryObjectModelConverter converter = new JsonQueryObjectModelConverter(server.getPackageMetaData());
+		return converter.parseJson("query", OBJECT_MAPPER.readValue(json, ObjectNode.class));
+	}
+
+	@Benchmark
+	public int typeQuery(BenchmarkServer server) throws Exception {
+		return run(server, typeQuery);
+	}
+
+	@Benchmark
+	public int subTypesQuery(BenchmarkServer server) throws Exception {
+		return run(server, subTypesQuery);
+	}
+
+	@Benchmark
+	public int includeQuery(BenchmarkServer server) throws Exception {
+		return run(server, includeQuery);
+	}
+
+	private int run(BenchmarkServer server, Query query) throws Exception {
+		int count = 0;
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			QueryObjectProvider queryObjectProvider = new QueryObjectProvider(databaseSession, server.getBimServer(), query, roids, server.getPackageMetaData());
+			HashMapVirtualObject next = queryObjectProvider.next();
+			while (next != null) {
+				count++;
+				next = queryObjectProvider.next();
+			}
+		}
+		return count;
+	}
+}
@@ -12235,4 +12235,84 @@ public class SConverter {
 		result.setBounds(convertFromSObject(input.getBounds(), session));
 		return result;
 	}
+
+	public Set<SOutputFileCacheStatistics> convertToSSetOutputFileCacheStatistics(Collection<OutputFileCacheStatistics> input) {
+		Set<SOutputFileCacheStatistics> result = new HashSet<SOutputFileCacheStatistics>();
+		for (OutputFileCacheStatistics o : input) {
+			result.add(convertToSObject(o));
+		}
+		return result;
+	}
+
+	public Set<OutputFileCacheStatistics> convertFromSSetOutputFileCacheStatistics(Collection<SOutputFileCacheStatistics> input, DatabaseSession session) throws BimserverDatabaseException {
+		Set<OutputFileCacheStatistics> result = new HashSet<OutputFileCacheStatistics>();
+		for (SOutputFileCacheStatistics o : input) {
+			result.add(convertFromSObject(o, session));
+		}
+		return result;
+	}
+
+	public List<SOutputFileCacheStatistics> convertToSListOutputFileCacheStatistics(Collection<OutputFileCacheStatistics> input) {
+		List<SOutputFileCacheStatistics> result = new ArrayList<SOutputFileCacheStatistics>();
+		for (OutputFileCacheStatistics o : input) {
+			result.add(convertToSObject(o));
+		}
+		return result;
+	}
+
+	public List<OutputFileCacheStatistics> convertFromSListOutputFileCacheStatistics(Collection<SOutputFileCacheStatistics> input, DatabaseSession session) throws BimserverDatabaseException {
+		List<OutputFileCacheStatistics> result = new ArrayList<OutputFileCacheStatistics>();
+		for (SOutputFileCacheStatistics o : input) {
+			result.add(convertFromSObject(o, session));
+		}
+		return result;
+	}
+
+	public SOutputFileCacheStatistics convertToSObject(OutputFileCacheStatistics input) {
+		if (input == null) {
+			return null;
+		}
+
+		SOutputFileCacheStatistics result = new SOutputFileCacheStatistics();
+		result.setOid(input.getOid());
+		result.setUuid(input.getUuid());
+		result.setRid(input.getRid());
+		result.setHits(input.getHits());
+		result.setMisses(input.getMisses());
+		result.setEvictions(input.getEvictions());
+		result.setEvictedBytes(input.getEvictedBytes());
+		result.setFiles(input.getFiles());
+		result.setUsedBytes(input.getUsedBytes());
+		result.setMaxBytes(input.getMaxBytes());
+		return result;
+	}
+
+	public OutputFileCacheStatistics convertFromSObject(SOutputFileCacheStatistics input, DatabaseSession session) throws BimserverDatabaseException {
+		if (session == null) {
+			throw new BimserverDatabaseException("session == null, use the other method");
+		}
+		OutputFileCacheStatistics result = convertFromSObject(input, (OutputFileCacheStatistics)session.create(StorePackage.eINSTANCE.getOutputFileCacheStatistics()), session);
+
+
+		return result;
+	}
+
+	public OutputFileCacheStatistics convertFromSObject(SOutputFileCacheStatistics input) throws BimserverDatabaseException {
+		OutputFileCacheStatistics result = convertFromSObject(input, StoreFactory.eINSTANCE.createOutputFileCacheStatistics(), null);
+		return result;
+	}
+
+	public OutputFileCacheStatistics convertFromSObject(SOutputFileCacheStatistics input, OutputFileCacheStatistics result, DatabaseSession session) throws BimserverDatabaseException {
+		if (input == null) {
+			return null;
+		}
+		result.setHits(input.getHits());
+		result.setMisses(input.getMisses());
+		result.setEvictions(input.getEvictions());
+		result.setEvictedBytes(input.getEvictedBytes());
+		result.setFiles(input.getFiles());
+		result.setUsedBytes(input.getUsedBytes());
+		result.setMaxBytes(input.getMaxBytes());
+		return result;
+	}
 }
\ No newline at end of file
@@ -36,6 +36,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import javax.crypto.spec.SecretKeySpec;
@@ -70,6 +71,7 @@ import org.bimserver.emf.IfcModelInterface;
 import org.bimserver.emf.MetaDataManager;
 import org.bimserver.emf.PackageMetaData;
 import org.bimserver.endpoints.EndPointManager;
+import org.bimserver.geometry.GeometryScheduler;
 import org.bimserver.geometry.accellerator.GeometryAccellerator;
 import org.bimserver.interfaces.SConverter;
 import org.bimserver.interfaces.objects.SInternalServicePluginConfiguration;
@@ -144,7 +146,7 @@ import org.bimserver.shared.interfaces.PublicInterface;
 import org.bimserver.shared.interfaces.ServiceInterface;
 import org.bimserver.shared.meta.SServicesMap;
 import org.bimserver.shared.pb.ProtocolBuffersMetaData;
-import org.bimserver.shared.reflector.RealtimeReflectorFactoryBuilder;
+import org.bimserver.shared.reflector.PrecompiledReflectorFactoryBuilder;
 import org.bimserver.shared.reflector.ReflectorFactory;
 import org.bimserver.templating.TemplateEngine;
 import org.bimserver.utils.Formatters;
@@ -168,6 +170,7 @@ public class BimServer implements BasicServerInfoProvider {
 	private Logger LOGGER;
 
 	private GregorianCalendar serverStartTime;
+	private final StartupTimer startupTimer = new StartupTimer();
 	private BimDatabase bimDatabase;
 	private JobScheduler bimScheduler;
 	private LongActionManager longActionManager;
@@ -202,12 +205,14 @@ public class BimServer implements BasicServerInfoProvider {
 	private Map<String, WebModulePlugin> webModules = new HashMap<String, WebModulePlugin>();
 	private WebModulePlugin defaultWebModule;
 	private ExecutorService executorService = Executors.newCachedThreadPool();
+	private final ForkJoinPool queryPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 	private InternalServicesManager internalServicesManager;
 	private MetaDataManager metaDataManager;
 	private SchemaConverterManager schemaConverterManager = new SchemaConverterManager();
 	private WebModuleManager webModuleManager;
 	private MetricsRegistry metricsRegistry;
 	private RenderEnginePools renderEnginePools;
+	private GeometryScheduler geometryScheduler;
 	private MavenPluginRepository mavenPluginRepository;
 	private AuthCache authCache;
 	private GeometryAccellerator geometryAccellerator;
@@ -223,6 +228,7 @@ public class BimServer implements BasicServerInfoProvider {
 		System.setProperty("org.eclipse.emf.common.util.ReferenceClearingQueue", "false");
 		this.config = config;
 		try {
+			startupTimer.phase("Home dir");
 			if (config.getHomeDir() != null) {
 				initHomeDir(config);
 			}
@@ -247,12 +253,14 @@ public class BimServer implements BasicServerInfoProvider {
 
 			LOGGER.info("Starting BIMserver (" + System.getProperty("os.name") + ", " + System.getProperty("java.version") + ", " + System.getProperty("sun.arch.data.model") + "bit, Xmx: " + Formatters.bytesToString(Runtime.getRuntime().maxMemory()) + ")");
 
+			startupTimer.phase("Services map");
 			servicesMap = InterfaceList.createSServicesMap();
 			LOGGER.debug("SServiceMap Created");
 
 			jsonSocketReflectorFactory = new JsonSocketReflectorFactory(servicesMap);
 			LOGGER.debug("JsonSocketReflectorFactory created");
 
+			startupTimer.phase("Internal services");
 			serverInfoManager = new ServerInfoManager();
 			LOGGER.debug("ServerInfoManager created");
 
@@ -274,6 +282,7 @@ public class BimServer implements BasicServerInfoProvider {
 				Files.createDirectory(homeDirIncoming);
 			}
 
+			startupTimer.phase("Plugin manager");
 			mavenPluginRepository = new MavenPluginRepository();
 			pluginManager = new PluginManager(tmp, config.getClassPath(), serviceFactory, internalServicesManager, servicesMap, this);
 			pluginBundleManager = new PluginBundleManager(pluginManager, mavenPluginRepository, config.getHomeDir().resolve("plugins"));
@@ -281,6 +290,7 @@ public class BimServer implements BasicServerInfoProvider {
 			pluginManager.setMetaDataManager(metaDataManager);
 			LOGGER.debug("PluginManager created");
 
+			startupTimer.phase("Version checker");
 			try {
 				LOGGER.debug("Version Checker created");
 				versionChecker = new VersionChecker(config.getResourceFetcher());
@@ -295,6 +305,7 @@ public class BimServer implements BasicServerInfoProvider {
 				LOGGER.debug("Embedded webserver created");
 			}
 
+			startupTimer.end();
 			LOGGER.debug("Done with initial setup");
 		} catch (Throwable e) {
 			if (LOGGER == null) {
@@ -651,6 +662,7 @@ public class BimServer implements BasicServerInfoProvider {
 				LOGGER.error("", e);
 			}
 
+			startupTimer.phase("Plugins");
 			try {
 				metaDataManager.init(true);
 				pluginManager.initAllLoadedPlugins();
@@ -659,6 +671,7 @@ public class BimServer implements BasicServerInfoProvider {
 			}
 			serverStartTime = new GregorianCalendar();
 
+			startupTimer.phase("Managers and caches");
 			longActionManager = new LongActionManager(this);
 
 			Set<EPackage> packages = new LinkedHashSet<>();
@@ -692,6 +705,7 @@ public class BimServer implements BasicServerInfoProvider {
 
 			OldQuery.setPackageMetaDataForDefaultQuery(metaDataManager.getPackageMetaData("store"));
 
+			startupTimer.phase("Database");
 			bimDatabase = new Database(this, packages, keyValueStore, metaDataManager);
 			try {
 				bimDatabase.init();
@@ -725,8 +739,10 @@ public class BimServer implements BasicServerInfoProvider {
 				encryptionkey = new SecretKeySpec(encryptionkeyBytes, "AES");
 			}
 			
+			startupTimer.phase("Stale data cleanup");
 			cleanupStaleData();
 
+			startupTimer.phase("Server info and handlers");
 			serverInfoManager.init(this);
 
 			webModuleManager = new WebModuleManager(this);
@@ -737,6 +753,7 @@ public class BimServer implements BasicServerInfoProvider {
 
 			serverSettingsCache = new ServerSettingsCache(bimDatabase);
 
+			startupTimer.phase("Query defines");
 			for (String schema : new String[]{"ifc2x3tc1", "ifc4"}) {
 				for (String type : new String[] {"geometry", "stdlib"}) {
 					try {
@@ -755,6 +772,7 @@ public class BimServer implements BasicServerInfoProvider {
 				}
 			}
 			
+			startupTimer.phase("Database dependant items");
 			serverInfoManager.update();
 
 			if (serverInfoManager.getServerState() == ServerState.MIGRATION_REQUIRED) {
@@ -774,20 +792,24 @@ public class BimServer implements BasicServerInfoProvider {
 				initDatabaseDependantItems();
 			}
 
+			startupTimer.phase("Mail and disk caches");
 			mailSystem = new MailSystem(this);
 
 			diskCacheManager = new DiskCacheManager(this, config.getHomeDir().resolve("cache"));
-			newDiskCacheManager = new NewDiskCacheManager(this, config.getHomeDir().resolve("cache"));
+			// Separate directory, the streaming cache evicts every file it finds in its directory
+			newDiskCacheManager = new NewDiskCacheManager(this, config.getHomeDir().resolve("streamingcache"), config.getOutputFileCacheMaxBytes());
 
 			mergerFactory = new MergerFactory(this);
 
-			RealtimeReflectorFactoryBuilder factoryBuilder = new RealtimeReflectorFactoryBuilder(servicesMap);
+			startupTimer.phase("Reflector factory");
+			PrecompiledReflectorFactoryBuilder factoryBuilder = new PrecompiledReflectorFactoryBuilder(servicesMap);
 			reflectorFactory = factoryBuilder.newReflectorFactory();
 			if (reflectorFactory == null) {
 				throw new RuntimeException("No reflector factory!");
 			}
 			servicesMap.setReflectorFactory(reflectorFactory);
 
+			startupTimer.phase("Scheduler and web server");
 			bimScheduler = new JobScheduler(this);
 			bimScheduler.start();
 
@@ -803,6 +825,7 @@ public class BimServer implements BasicServerInfoProvider {
 			if (getServerInfoManager().getServerState() == ServerState.SETUP) {
 				getServerInfoManager().setServerState(ServerState.RUNNING);
 			}
+			LOGGER.info(startupTimer.report());
 		} catch (Throwable e) {
 			LOGGER.error("", e);
 			serverInfoManager.setErrorMessage(e.getMessage());
@@ -1051,6 +1074,10 @@ public class BimServer implements BasicServerInfoProvider {
 		return renderEnginePools;
 	}
 
+	public GeometryScheduler getGeometryScheduler() {
+		return geometryScheduler;
+	}
+
 	public ObjectType convertSettings(DatabaseSession session, ObjectDefinition objectDefinition) throws BimserverDatabaseException {
 		ObjectType settings = session.create(ObjectType.class);
 		if (objectDefinition != null) {
@@ -1127,9 +1154,15 @@ public class BimServer implements BasicServerInfoProvider {
 			}
 
 			int renderEngineProcesses = getServerSettingsCache().getServerSettings().getRenderEngineProcesses();
-			RenderEnginePoolFactory renderEnginePoolFactory = new CommonsPoolingRenderEnginePoolFactory(renderEngineProcesses);
+			RenderEnginePoolFactory renderEnginePoolFactory = new CommonsPoolingRenderEnginePoolFactory(renderEngineProcesses, config.isReuseRenderEngines(), config.getRenderEngineMaxJobs(), config.getRenderEnginePrewarm());
 
 			renderEnginePools = new RenderEnginePools(this, renderEnginePoolFactory);
+			if (config.isReuseRenderEngines() && config.getRenderEnginePrewarm() > 0) {
+				try (DatabaseSession prewarmSession = bimDatabase.createSession(OperationType.READ_ONLY)) {
+					renderEnginePools.prewarm(prewarmSession);
+				}
+			}
+			geometryScheduler = new GeometryScheduler(renderEngineProcesses);
 			
 			session = bimDatabase.createSession(OperationType.POSSIBLY_WRITE);
 //			createDatabaseObjects(session);
@@ -1427,6 +1460,7 @@ public class BimServer implements BasicServerInfoProvider {
 	public void stop() {
 		LOGGER.info("Stopping BIMserver");
 		executorService.shutdown();
+		queryPool.shutdown();
 		if (bimDatabase != null) {
 			try {
 				bimDatabase.close();
@@ -1451,6 +1485,15 @@ public class BimServer implements BasicServerInfoProvider {
 		if (commandLine != null) {
 			commandLine.shutdown();
 		}
+		if (newDiskCacheManager != null) {
+			newDiskCacheManager.close();
+		}
+		if (geometryScheduler != null) {
+			geometryScheduler.shutdown();
+		}
+		if (renderEnginePools != null) {
+			renderEnginePools.close();
+		}
 		pluginBundleManager.close();
 		LOGGER.info("BIMserver stopped");
 //		ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
@@ -1564,6 +1607,13 @@ public class BimServer implements BasicServerInfoProvider {
 		return executorService;
 	}
 
+	/**
+	 * Runs the partitions of queries that span multiple revisions, see ParallelQueryObjectProvider
+	 */
+	public ForkJoinPool getQueryPool() {
+		return queryPool;
+	}
+
 	public MetaDataManager getMetaDataManager() {
 		return metaDataManager;
 	}
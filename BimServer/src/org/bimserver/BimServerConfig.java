@@ -34,6 +34,11 @@ public class BimServerConfig {
 	private Environment environment;
 	private String resourceBase;
 	private Properties bdbEnvironmentProperties = null;
+	private long outputFileCacheMaxBytes = 10L * 1024 * 1024 * 1024;
+	private long maxJsonRequestBytes = 1024L * 1024 * 1024;
+	private boolean reuseRenderEngines = false;
+	private int renderEngineMaxJobs = 100;
+	private int renderEnginePrewarm = 0;
 	
 	public boolean isStartEmbeddedWebServer() {
 		return startEmbeddedWebServer;
@@ -94,6 +99,61 @@ public class BimServerConfig {
 		return bdbEnvironmentProperties;
 	}
 	
+	/**
+	 * @param outputFileCacheMaxBytes The maximum size of the output file cache on disk, -1 for no limit
+	 */
+	public void setOutputFileCacheMaxBytes(long outputFileCacheMaxBytes) {
+		this.outputFileCacheMaxBytes = outputFileCacheMaxBytes;
+	}
+	
+	public long getOutputFileCacheMaxBytes() {
+		return outputFileCacheMaxBytes;
+	}
+	
+	/**
+	 * @param maxJsonRequestBytes The maximum size of a request to the JSON API, -1 for no limit
+	 */
+	public void setMaxJsonRequestBytes(long maxJsonRequestBytes) {
+		this.maxJsonRequestBytes = maxJsonRequestBytes;
+	}
+	
+	public long getMaxJsonRequestBytes() {
+		return maxJsonRequestBytes;
+	}
+	
+	/**
+	 * @param reuseRenderEngines Keep render engines initialized between geometry jobs instead of starting a new one for every job
+	 */
+	public void setReuseRenderEngines(boolean reuseRenderEngines) {
+		this.reuseRenderEngines = reuseRenderEngines;
+	}
+	
+	public boolean isReuseRenderEngines() {
+		return reuseRenderEngines;
+	}
+	
+	/**
+	 * @param renderEngineMaxJobs When reusing render engines, the number of jobs after which a render engine is replaced
+	 */
+	public void setRenderEngineMaxJobs(int renderEngineMaxJobs) {
+		this.renderEngineMaxJobs = renderEngineMaxJobs;
+	}
+	
+	public int getRenderEngineMaxJobs() {
+		return renderEngineMaxJobs;
+	}
+	
+	/**
+	 * @param renderEnginePrewarm When reusing render engines, the number of render engines per pool that is started on startup and kept ready
+	 */
+	public void setRenderEnginePrewarm(int renderEnginePrewarm) {
+		this.renderEnginePrewarm = renderEnginePrewarm;
+	}
+	
+	public int getRenderEnginePrewarm() {
+		return renderEnginePrewarm;
+	}
+	
 	public int getPort() {
 		return port;
 	}
@@ -223,6 +223,26 @@ public class GenerateGeometryResult {
 		return multiplierToMm;
 	}
 
+	/**
+	 * Extends the bounds with the bounds of geometry that is not generated, but kept from an earlier revision
+	 */
+	public void include(Bounds bounds, Bounds boundsUntransformed) {
+		include(min, max, bounds);
+		include(minUntransformed, maxUntransformed, boundsUntransformed);
+	}
+
+	private void include(double[] min, double[] max, Bounds bounds) {
+		if (bounds == null || bounds.getMin() == null || bounds.getMax() == null) {
+			return;
+		}
+		min[0] = Math.min(min[0], bounds.getMin().getX());
+		min[1] = Math.min(min[1], bounds.getMin().getY());
+		min[2] = Math.min(min[2], bounds.getMin().getZ());
+		max[0] = Math.max(max[0], bounds.getMax().getX());
+		max[1] = Math.max(max[1], bounds.getMax().getY());
+		max[2] = Math.max(max[2], bounds.getMax().getZ());
+	}
+
 	public synchronized void addDensity(Density density) {
 		densities.add(density);
 	}
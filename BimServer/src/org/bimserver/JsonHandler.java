@@ -18,7 +18,10 @@ package org.bimserver;
  *****************************************************************************/
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -43,71 +46,159 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class JsonHandler {
 	private static final Logger LOGGER = LoggerFactory.getLogger(JsonHandler.class);
 	private final BimServer bimServer;
 	private final JsonConverter converter;
+	private final ObjectMapper requestMapper;
 	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
 	public JsonHandler(BimServer bimServer) {
 		this.bimServer = bimServer;
 		this.converter = new JsonConverter(bimServer.getServicesMap());
+		this.requestMapper = createRequestMapper(bimServer.getConfig().getMaxJsonRequestBytes());
+	}
+
+	private static ObjectMapper createRequestMapper(long maxRequestBytes) {
+		// A single string (a base64 encoded file for example) is only limited by the size of the request
+		StreamReadConstraints constraints = StreamReadConstraints.builder().maxDocumentLength(maxRequestBytes).maxStringLength(Integer.MAX_VALUE).build();
+		return new ObjectMapper(JsonFactory.builder().streamReadConstraints(constraints).build());
+	}
+
+	/**
+	 * @return A parser for incoming messages, which fails when a message is bigger than the configured maximum
+	 */
+	public JsonParser createParser(InputStream inputStream) throws IOException {
+		return requestMapper.createParser(inputStream);
 	}
 
 	public void execute(ObjectNode incomingMessage, HttpServletRequest httpRequest, Writer out) {
-		JsonFactory jsonFactory = new JsonFactory();
+		try (JsonParser parser = OBJECT_MAPPER.treeAsTokens(incomingMessage)) {
+			parser.nextToken();
+			execute(parser, httpRequest, out);
+		} catch (IOException e) {
+			LOGGER.error("", e);
+		}
+	}
+
+	/**
+	 * Executes the requests while the message is being parsed, so only one request of a message has to be in memory at a
+	 * time. Requests that come before the token in the message are kept until the end of the message, because they can
+	 * only be executed with the token.
+	 * 
+	 * @param parser A parser positioned at the start of the message object
+	 */
+	public void execute(JsonParser parser, HttpServletRequest httpRequest, Writer out) {
 		JsonGenerator writer = null;
 		try {
-			writer = jsonFactory.createGenerator(out);
+			writer = OBJECT_MAPPER.getFactory().createGenerator(out);
 			writer.writeStartObject();
-			String token = incomingMessage.has("token") ? incomingMessage.get("token").asText() : null;
-			String oAuthCode = incomingMessage.has("oauthcode") ? incomingMessage.get("oauthcode").asText() : null;
-			long messageId = incomingMessage.has("id") ? incomingMessage.get("id").asLong() : -1;
-			if (messageId != -1) {
-				writer.writeFieldName("id");
-				writer.writeNumber(messageId);
+			String token = null;
+			String oAuthCode = null;
+			boolean tokenRead = false;
+			ObjectNode pendingRequest = null;
+			List<ObjectNode> pendingRequests = null;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.currentName();
+				parser.nextToken();
+				if (fieldName.equals("token")) {
+					token = parser.getText();
+					tokenRead = true;
+				} else if (fieldName.equals("oauthcode")) {
+					oAuthCode = parser.getText();
+					tokenRead = true;
+				} else if (fieldName.equals("id")) {
+					long messageId = parser.getValueAsLong(-1);
+					if (messageId != -1) {
+						writer.writeFieldName("id");
+						writer.writeNumber(messageId);
+					}
+				} else if (fieldName.equals("request")) {
+					ObjectNode request = parser.readValueAsTree();
+					if (tokenRead) {
+						writer.writeFieldName("response");
+						processSafe(request, token, oAuthCode, httpRequest, writer);
+					} else {
+						pendingRequest = request;
+					}
+				} else if (fieldName.equals("requests")) {
+					if (parser.currentToken() != JsonToken.START_ARRAY) {
+						throw new UserException("\"requests\" should be an array");
+					}
+					if (tokenRead) {
+						writer.writeFieldName("responses");
+						writer.writeStartArray();
+						while (parser.nextToken() != JsonToken.END_ARRAY) {
+							processSafe(parser.readValueAsTree(), token, oAuthCode, httpRequest, writer);
+						}
+						writer.writeEndArray();
+					} else {
+						pendingRequests = new ArrayList<>();
+						while (parser.nextToken() != JsonToken.END_ARRAY) {
+							pendingRequests.add(parser.readValueAsTree());
+						}
+					}
+				} else {
+					parser.skipChildren();
+				}
 			}
-			if (incomingMessage.has("request")) {
+			if (pendingRequest != null) {
 				writer.writeFieldName("response");
-				processSingleRequest((ObjectNode) incomingMessage.get("request"), token, oAuthCode, httpRequest, writer);
-			} else if (incomingMessage.has("requests")) {
-				processMultiRequest((ArrayNode) incomingMessage.get("requests"), token, oAuthCode, httpRequest, writer);
+				processSafe(pendingRequest, token, oAuthCode, httpRequest, writer);
+			}
+			if (pendingRequests != null) {
+				writer.writeFieldName("responses");
+				writer.writeStartArray();
+				for (ObjectNode request : pendingRequests) {
+					processSafe(request, token, oAuthCode, httpRequest, writer);
+				}
+				writer.writeEndArray();
 			}
 		} catch (Throwable throwable) {
-			if (throwable instanceof UserException) {
-
-			} else {
-				LOGGER.info(incomingMessage.toString());
+			// The message itself could not be read
+			if (!(throwable instanceof UserException)) {
 				LOGGER.info("", throwable);
 			}
-			// throwable.printStackTrace();
-			handleThrowable(writer, throwable);
+			if (writer != null) {
+				try {
+					if (writer.getOutputContext().inObject()) {
+						writer.writeFieldName("response");
+					}
+				} catch (IOException e) {
+					LOGGER.error("", e);
+				}
+				handleThrowable(writer, throwable);
+			}
 		} finally {
 			try {
-				writer.writeEndObject();
-				writer.close();
+				if (writer != null) {
+					// Also closes the arrays and objects that were left open by an error
+					writer.close();
+				}
 			} catch (Exception e) {
 				LOGGER.error("", e);
 			}
 		}
 	}
 
-	private void processMultiRequest(ArrayNode requests, String jsonToken, String oAuthCode, HttpServletRequest httpRequest, JsonGenerator out) throws Exception {
-		out.writeFieldName("responses");
-		out.writeStartArray();
-		for (int r = 0; r < requests.size(); r++) {
-			try {
-				processSingleRequest((ObjectNode) requests.get(r), jsonToken, oAuthCode, httpRequest, out);
-			} catch (Exception e) {
-				handleThrowable(out, e);
+	private void processSafe(ObjectNode request, String jsonToken, String oAuthCode, HttpServletRequest httpRequest, JsonGenerator writer) {
+		try {
+			processSingleRequest(request, jsonToken, oAuthCode, httpRequest, writer);
+		} catch (Throwable throwable) {
+			if (!(throwable instanceof UserException)) {
+				LOGGER.info(request.toString());
+			} else if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Failed JSON request " + request.toString());
 			}
+			handleThrowable(writer, throwable);
 		}
-		out.writeEndArray();
 	}
 
 	private void processSingleRequest(ObjectNode request, String jsonToken, String oAuthCode, HttpServletRequest httpRequest, JsonGenerator writer) throws Exception {
@@ -160,20 +251,27 @@ public class JsonHandler {
 			boolean isMonitor = serviceMap != null && serviceMap.getUser() != null && serviceMap.getUser().getUserType() == UserType.MONITOR;
 			Recording recording = null;
 			if (!isMonitor) {
-				recording = bimServer.getMetricsRegistry().startRecording(sService, method);
+				UserType userType = serviceMap != null && serviceMap.getUser() != null ? serviceMap.getUser().getUserType() : null;
+				recording = bimServer.getMetricsRegistry().startRecording(sService, method, userType);
 			}
 
-			Object result = method.invoke(sService.getInterfaceClass(), service, parameters);
+			Object result;
+			try {
+				result = method.invoke(sService.getInterfaceClass(), service, parameters);
+			} catch (Throwable e) {
+				if (recording != null) {
+					recording.fail();
+				}
+				throw e;
+			}
 
-			if (!isMonitor) {
+			if (recording != null) {
 				recording.finish();
 			}
 
-			// When we have managed to get here, no exceptions have been thrown.
-			// We
-			// can safely assume further serialization to JSON won't fail. So
-			// now we
-			// can start streaming
+			// When we have managed to get here, no exceptions have been thrown,
+			// the result is written to the response without building a tree of
+			// it first, unless writing it could fail halfway
 			if (writer != null) {
 				if (result == null) {
 					writer.writeStartObject();
@@ -181,11 +279,17 @@ public class JsonHandler {
 					writer.writeStartObject();
 					writer.writeEndObject();
 					writer.writeEndObject();
+				} else if (converter.isStreamable(result)) {
+					writer.writeStartObject();
+					writer.writeFieldName("result");
+					converter.toJson(result, writer);
+					writer.writeEndObject();
 				} else {
+					// Errors are thrown before anything has been written, so they can still be reported as an exception
+					JsonNode json = converter.toJson(result);
 					writer.writeStartObject();
 					writer.writeFieldName("result");
-					JsonNode jsonResult = converter.toJson(result);
-					OBJECT_MAPPER.writeValue(writer, jsonResult);
+					writer.writeTree(json);
 					writer.writeEndObject();
 				}
 			}
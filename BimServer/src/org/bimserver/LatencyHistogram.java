@@ -0,0 +1,154 @@
+package org.bimserver;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free histogram of durations in microseconds. Every power of two is split in 8 linear buckets (like HdrHistogram
+ * does), so percentiles have a relative error of at most 12.5%, with a fixed amount of memory for the whole range.
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int NR_BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(NR_BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalMicros = new LongAdder();
+	private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	public void record(long micros) {
+		if (micros < 0) {
+			micros = 0;
+		}
+		buckets.incrementAndGet(bucketIndex(micros));
+		count.increment();
+		totalMicros.add(micros);
+		min.accumulate(micros);
+		max.accumulate(micros);
+	}
+
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * @return The highest value that ends up in the given bucket
+	 */
+	static long bucketUpperBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long subBucket = SUB_BUCKETS + (index % SUB_BUCKETS);
+		int shift = exponent - SUB_BUCKET_BITS;
+		if (subBucket + 1 > (Long.MAX_VALUE >>> shift)) {
+			return Long.MAX_VALUE;
+		}
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	/**
+	 * @param percentile Between 0 and 100
+	 */
+	public long getPercentile(double percentile) {
+		Snapshot snapshot = snapshot();
+		return snapshot.getPercentile(percentile);
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getTotalMicros() {
+		return totalMicros.sum();
+	}
+
+	public long getMin() {
+		long result = min.get();
+		return result == Long.MAX_VALUE ? 0 : result;
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public long getAverage() {
+		long count = this.count.sum();
+		if (count == 0) {
+			return 0;
+		}
+		return totalMicros.sum() / count;
+	}
+
+	/**
+	 * Copies the buckets, so multiple percentiles can be calculated from the same state while recording continues
+	 */
+	public Snapshot snapshot() {
+		long[] copy = new long[NR_BUCKETS];
+		long total = 0;
+		for (int i = 0; i < NR_BUCKETS; i++) {
+			copy[i] = buckets.get(i);
+			total += copy[i];
+		}
+		return new Snapshot(copy, total, getMax());
+	}
+
+	public static class Snapshot {
+		private final long[] buckets;
+		private final long count;
+		private final long max;
+
+		private Snapshot(long[] buckets, long count, long max) {
+			this.buckets = buckets;
+			this.count = count;
+			this.max = max;
+		}
+
+		public long getPercentile(double percentile) {
+			if (count == 0) {
+				return 0;
+			}
+			long rank = (long) Math.ceil(percentile / 100.0 * count);
+			if (rank < 1) {
+				rank = 1;
+			}
+			long seen = 0;
+			for (int i = 0; i < buckets.length; i++) {
+				seen += buckets[i];
+				if (seen >= rank) {
+					return Math.min(bucketUpperBound(i), max);
+				}
+			}
+			return max;
+		}
+
+		public long getCount() {
+			return count;
+		}
+	}
+}
@@ -17,28 +17,86 @@ package org.bimserver;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.bimserver.models.store.UserType;
 import org.bimserver.shared.meta.SMethod;
 import org.bimserver.shared.meta.SService;
 
+/**
+ * Statistics of one method, recording a call does not take any locks. Durations are kept per user type as well, calls
+ * without a user (for example login) are counted as anonymous.
+ */
 public class MethodStats {
-	private final AtomicLong nrCalls = new AtomicLong();
-	private final AtomicLong totalNanoSeconds = new AtomicLong();
+	private static final int ANONYMOUS = UserType.VALUES.size();
+
+	private final SService sService;
+	private final SMethod sMethod;
+	private final LatencyHistogram histogram = new LatencyHistogram();
+	private final AtomicReferenceArray<LatencyHistogram> perUserType = new AtomicReferenceArray<>(UserType.VALUES.size() + 1);
+	private final LongAdder nrFailed = new LongAdder();
+	private volatile long lastCall;
 
 	public MethodStats(SService sService, SMethod sMethod) {
+		this.sService = sService;
+		this.sMethod = sMethod;
 	}
 
 	public void add(Recording recording) {
-		nrCalls.incrementAndGet();
-		totalNanoSeconds.addAndGet(recording.getTotalTime());
+		long micros = recording.getTotalTime() / 1000;
+		histogram.record(micros);
+		getOrCreate(recording.getUserType() == null ? ANONYMOUS : recording.getUserType().ordinal()).record(micros);
+		if (recording.isFailed()) {
+			nrFailed.increment();
+		}
+		lastCall = System.currentTimeMillis();
+	}
+
+	private LatencyHistogram getOrCreate(int index) {
+		LatencyHistogram result = perUserType.get(index);
+		if (result == null) {
+			perUserType.compareAndSet(index, null, new LatencyHistogram());
+			result = perUserType.get(index);
+		}
+		return result;
+	}
+
+	public SService getService() {
+		return sService;
+	}
+
+	public SMethod getMethod() {
+		return sMethod;
+	}
+
+	public LatencyHistogram getHistogram() {
+		return histogram;
+	}
+
+	/**
+	 * @return The histogram of calls by users of this type, or null when there were no such calls
+	 */
+	public LatencyHistogram getHistogram(UserType userType) {
+		return perUserType.get(userType == null ? ANONYMOUS : userType.ordinal());
 	}
-	
+
 	public long getAverageNanoSecondsPerCall() {
-		return totalNanoSeconds.get() / nrCalls.get();
+		return histogram.getAverage() * 1000;
 	}
 
 	public long getNrCalls() {
-		return nrCalls.get();
+		return histogram.getCount();
+	}
+
+	public long getNrFailed() {
+		return nrFailed.sum();
+	}
+
+	/**
+	 * @return Time of the last call in milliseconds since the epoch, 0 when there have been no calls
+	 */
+	public long getLastCall() {
+		return lastCall;
 	}
 }
\ No newline at end of file
@@ -17,55 +17,145 @@ package org.bimserver;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bimserver.interfaces.objects.SInterfaceMetric;
 import org.bimserver.interfaces.objects.SMethodMetric;
 import org.bimserver.interfaces.objects.SMetrics;
+import org.bimserver.models.store.UserType;
 import org.bimserver.shared.meta.SMethod;
 import org.bimserver.shared.meta.SService;
 
 public class MetricsRegistry {
+	private static final double[] QUANTILES = new double[]{0.5, 0.9, 0.99};
 
-	private final Map<SService, Map<SMethod, MethodStats>> methodStats = new HashMap<>();
+	private final Map<SMethod, MethodStats> methodStats = new ConcurrentHashMap<>();
 	
-	public Recording startRecording(SService sService, SMethod method) {
-		return new Recording(this, sService, method);
+	public Recording startRecording(SService sService, SMethod method, UserType userType) {
+		return new Recording(this, sService, method, userType);
 	}
 	
-	public synchronized MethodStats getMethodStats(SMethod sMethod) {
-		Map<SMethod, MethodStats> map = this.methodStats.get(sMethod.getService());
-		if (map == null) {
-			map = new HashMap<SMethod, MethodStats>();
-			this.methodStats.put(sMethod.getService(), map);
+	public MethodStats getMethodStats(SMethod sMethod) {
+		MethodStats stats = methodStats.get(sMethod);
+		if (stats == null) {
+			stats = methodStats.computeIfAbsent(sMethod, m -> new MethodStats(m.getService(), m));
 		}
-		MethodStats methodStats = map.get(sMethod);
-		if (methodStats == null) {
-			methodStats = new MethodStats(sMethod.getService(), sMethod);
-			map.put(sMethod, methodStats);
+		return stats;
+	}
+	
+	private Map<SService, List<MethodStats>> getStatsPerService() {
+		Map<SService, List<MethodStats>> result = new LinkedHashMap<>();
+		for (MethodStats stats : methodStats.values()) {
+			result.computeIfAbsent(stats.getService(), s -> new ArrayList<>()).add(stats);
 		}
-		return methodStats;
+		return result;
 	}
 	
-	public synchronized SMetrics getMetrics() {
+	public SMetrics getMetrics() {
 		SMetrics sMetrics = new SMetrics();
-		for (SService sService : methodStats.keySet()) {
+		for (Map.Entry<SService, List<MethodStats>> entry : getStatsPerService().entrySet()) {
 			SInterfaceMetric interfaceMetric = new SInterfaceMetric();
-			interfaceMetric.setName(sService.getSimpleName());
+			interfaceMetric.setName(entry.getKey().getSimpleName());
 			
 			sMetrics.getInterfaces().add(interfaceMetric);
-			for (SMethod sMethod : methodStats.get(sService).keySet()) {
+			for (MethodStats methodStats : entry.getValue()) {
 				SMethodMetric sMethodMetric = new SMethodMetric();
-				sMethodMetric.setName(sMethod.getName());
+				sMethodMetric.setName(methodStats.getMethod().getName());
 				
 				interfaceMetric.getMethods().add(sMethodMetric);
 				
-				MethodStats methodStats = getMethodStats(sMethod);
-				sMethodMetric.setNrCalls(methodStats.getNrCalls());
-				sMethodMetric.setAverageMs(methodStats.getAverageNanoSecondsPerCall() / 1000000);
+				LatencyHistogram histogram = methodStats.getHistogram();
+				sMethodMetric.setNrCalls(histogram.getCount());
+				sMethodMetric.setAverageMs(histogram.getAverage() / 1000);
+				sMethodMetric.setShortestMs(histogram.getMin() / 1000);
+				sMethodMetric.setLongestMs(histogram.getMax() / 1000);
+				if (methodStats.getLastCall() != 0) {
+					sMethodMetric.setLastCall(new Date(methodStats.getLastCall()));
+				}
 			}
 		}
 		return sMetrics;
 	}
+
+	/**
+	 * Writes all method statistics in the Prometheus text exposition format (version 0.0.4)
+	 */
+	public void writeTextExposition(Writer writer) throws IOException {
+		Map<SService, List<MethodStats>> statsPerService = getStatsPerService();
+
+		writer.write("# HELP bimserver_api_call_duration_seconds Duration of API calls\n");
+		writer.write("# TYPE bimserver_api_call_duration_seconds summary\n");
+		for (List<MethodStats> list : statsPerService.values()) {
+			for (MethodStats stats : list) {
+				writeSummary(writer, "bimserver_api_call_duration_seconds", labels(stats, null), stats.getHistogram());
+			}
+		}
+
+		writer.write("# HELP bimserver_api_call_duration_by_user_type_seconds Duration of API calls per type of user\n");
+		writer.write("# TYPE bimserver_api_call_duration_by_user_type_seconds summary\n");
+		for (List<MethodStats> list : statsPerService.values()) {
+			for (MethodStats stats : list) {
+				for (UserType userType : UserType.VALUES) {
+					LatencyHistogram histogram = stats.getHistogram(userType);
+					if (histogram != null) {
+						writeSummary(writer, "bimserver_api_call_duration_by_user_type_seconds", labels(stats, userType.getName()), histogram);
+					}
+				}
+				LatencyHistogram anonymous = stats.getHistogram(null);
+				if (anonymous != null) {
+					writeSummary(writer, "bimserver_api_call_duration_by_user_type_seconds", labels(stats, "ANONYMOUS"), anonymous);
+				}
+			}
+		}
+
+		writer.write("# HELP bimserver_api_call_duration_max_seconds Longest API call\n");
+		writer.write("# TYPE bimserver_api_call_duration_max_seconds gauge\n");
+		for (List<MethodStats> list : statsPerService.values()) {
+			for (MethodStats stats : list) {
+				writer.write("bimserver_api_call_duration_max_seconds{" + labels(stats, null) + "} " + seconds(stats.getHistogram().getMax()) + "\n");
+			}
+		}
+
+		writer.write("# HELP bimserver_api_call_failures_total API calls that threw an exception\n");
+		writer.write("# TYPE bimserver_api_call_failures_total counter\n");
+		for (List<MethodStats> list : statsPerService.values()) {
+			for (MethodStats stats : list) {
+				writer.write("bimserver_api_call_failures_total{" + labels(stats, null) + "} " + stats.getNrFailed() + "\n");
+			}
+		}
+	}
+
+	public static void writeSummary(Writer writer, String name, String labels, LatencyHistogram histogram) throws IOException {
+		// Count and sum are read before the snapshot, so they never include calls that the quantiles do not know about
+		long count = histogram.getCount();
+		long totalMicros = histogram.getTotalMicros();
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		String quantilePrefix = labels.isEmpty() ? "" : labels + ",";
+		for (double quantile : QUANTILES) {
+			writer.write(name + "{" + quantilePrefix + "quantile=\"" + quantile + "\"} " + seconds(snapshot.getPercentile(quantile * 100)) + "\n");
+		}
+		String labelSet = labels.isEmpty() ? "" : "{" + labels + "}";
+		writer.write(name + "_sum" + labelSet + " " + seconds(totalMicros) + "\n");
+		writer.write(name + "_count" + labelSet + " " + count + "\n");
+	}
+
+	private String labels(MethodStats stats, String userType) {
+		String result = "interface=\"" + stats.getService().getSimpleName() + "\",method=\"" + stats.getMethod().getName() + "\"";
+		if (userType != null) {
+			result += ",user_type=\"" + userType + "\"";
+		}
+		return result;
+	}
+
+	private static String seconds(long micros) {
+		return String.format(Locale.ROOT, "%.6f", micros / 1000000.0);
+	}
 }
\ No newline at end of file
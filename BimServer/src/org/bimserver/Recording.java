@@ -17,6 +17,7 @@ package org.bimserver;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
+import org.bimserver.models.store.UserType;
 import org.bimserver.shared.meta.SMethod;
 import org.bimserver.shared.meta.SService;
 
@@ -25,10 +26,13 @@ public class Recording {
 	private MetricsRegistry metricsRegistry;
 	private long end;
 	private SMethod method;
+	private UserType userType;
+	private boolean failed;
 
-	public Recording(MetricsRegistry metricsRegistry, SService sService, SMethod method) {
+	public Recording(MetricsRegistry metricsRegistry, SService sService, SMethod method, UserType userType) {
 		this.metricsRegistry = metricsRegistry;
 		this.method = method;
+		this.userType = userType;
 		start = System.nanoTime();
 	}
 
@@ -37,7 +41,20 @@ public class Recording {
 		metricsRegistry.getMethodStats(method).add(this);
 	}
 
+	public void fail() {
+		failed = true;
+		finish();
+	}
+
 	public long getTotalTime() {
 		return end - start;
 	}
+
+	public UserType getUserType() {
+		return userType;
+	}
+
+	public boolean isFailed() {
+		return failed;
+	}
 }
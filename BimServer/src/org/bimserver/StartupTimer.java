@@ -0,0 +1,60 @@
+package org.bimserver;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of how long each phase of the startup of BIMserver takes. A phase ends when the next one is started, when
+ * {@link #end()} is called or when the report is made.
+ */
+public class StartupTimer {
+	private final Map<String, Long> phases = new LinkedHashMap<>();
+	private String currentPhase;
+	private long currentPhaseStart;
+
+	public synchronized void phase(String name) {
+		long now = System.nanoTime();
+		endPhase(now);
+		currentPhase = name;
+		currentPhaseStart = now;
+	}
+
+	public synchronized void end() {
+		endPhase(System.nanoTime());
+	}
+
+	private void endPhase(long now) {
+		if (currentPhase != null) {
+			phases.merge(currentPhase, now - currentPhaseStart, Long::sum);
+			currentPhase = null;
+		}
+	}
+
+	public synchronized String report() {
+		endPhase(System.nanoTime());
+		long total = 0;
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, Long> entry : phases.entrySet()) {
+			sb.append("\n\t" + entry.getKey() + ": " + (entry.getValue() / 1000000) + " ms");
+			total += entry.getValue();
+		}
+		return "Startup timing (" + (total / 1000000) + " ms)" + sb;
+	}
+}
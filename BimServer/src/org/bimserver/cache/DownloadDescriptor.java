@@ -18,24 +18,29 @@ package org.bimserver.cache;
  *****************************************************************************/
 
 import java.io.IOException;
-import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.bimserver.database.queries.om.JsonQueryObjectModelConverter;
 import org.bimserver.database.queries.om.Query;
 import org.bimserver.emf.PackageMetaData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonGenerationException;
-import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Charsets;
-import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 
 public class DownloadDescriptor {
+	private static final Logger LOGGER = LoggerFactory.getLogger(DownloadDescriptor.class);
 	@SuppressWarnings("deprecation")
 	private static final HashFunction hf = Hashing.md5();  // TODO: use Hashing.goodFastHash instead?
 	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
@@ -45,6 +50,7 @@ public class DownloadDescriptor {
 	private String fileNameWithoutExtension;
 	private PackageMetaData packageMetaData;
 	private String jsonQuery;
+	private String cacheKey;
 
 	public long getSerializerOid() {
 		return serializerOid;
@@ -59,37 +65,61 @@ public class DownloadDescriptor {
 		this.fileNameWithoutExtension = fileNameWithoutExtension;
 	}
 	
+	/**
+	 * The key is based on the serializer, the roids and the canonical form of the query, so queries that only differ in the
+	 * order of their fields or in whitespace share their cached results
+	 */
 	public String getCacheKey() {
+		if (cacheKey == null) {
+			cacheKey = createCacheKey();
+		}
+		return cacheKey;
+	}
+
+	private String createCacheKey() {
 		Hasher hasher = hf.newHasher();
 		// TODO This serializerOid actually makes the cache a per-user cache... Maybe not the most useful feature
 		hasher.putLong(serializerOid);
-		for (long roid : roids) {
+		for (long roid : new TreeSet<>(roids)) {
 			hasher.putLong(roid);
 		}
-		if (jsonQuery != null) {
-			// TODO This is based on the incoming JSON (if there is any), this should be replaced at some point by a canonical-form
-			hasher.putString(jsonQuery, Charsets.UTF_8);
-			HashCode hashcode = hasher.hash();
-			return hashcode.toString();
-		} else {
-			// TODO This does not work because the toJson function is not complete
-			ObjectNode json = new JsonQueryObjectModelConverter(packageMetaData).toJson(query);
-			try {
-				StringWriter stringWriter = new StringWriter();
-				OBJECT_MAPPER.writeValue(stringWriter, json);
-				System.out.println(query.toString());
-				hasher.putString(stringWriter.toString(), Charsets.UTF_8);
-				HashCode hashcode = hasher.hash();
-				return hashcode.toString();
-			} catch (JsonGenerationException e) {
-				e.printStackTrace();
-			} catch (JsonMappingException e) {
-				e.printStackTrace();
-			} catch (IOException e) {
-				e.printStackTrace();
+		try {
+			JsonNode json;
+			if (jsonQuery != null) {
+				json = OBJECT_MAPPER.readTree(jsonQuery);
+			} else {
+				// TODO This does not work because the toJson function is not complete
+				json = new JsonQueryObjectModelConverter(packageMetaData).toJson(query);
+			}
+			hasher.putString(OBJECT_MAPPER.writeValueAsString(canonicalize(json)), Charsets.UTF_8);
+		} catch (IOException e) {
+			LOGGER.error("", e);
+			hasher.putString(String.valueOf(jsonQuery), Charsets.UTF_8);
+		}
+		return hasher.hash().toString();
+	}
+
+	/**
+	 * @return A copy of the node with the fields of all objects sorted by name, arrays keep their order
+	 */
+	private static JsonNode canonicalize(JsonNode node) {
+		if (node.isObject()) {
+			List<String> fieldNames = new ArrayList<>();
+			node.fieldNames().forEachRemaining(fieldNames::add);
+			Collections.sort(fieldNames);
+			ObjectNode sorted = OBJECT_MAPPER.createObjectNode();
+			for (String fieldName : fieldNames) {
+				sorted.set(fieldName, canonicalize(node.get(fieldName)));
+			}
+			return sorted;
+		} else if (node.isArray()) {
+			ArrayNode array = OBJECT_MAPPER.createArrayNode();
+			for (JsonNode element : node) {
+				array.add(canonicalize(element));
 			}
+			return array;
 		}
-		return null;
+		return node;
 	}
 
 	public String getFileNameWithoutExtension() {
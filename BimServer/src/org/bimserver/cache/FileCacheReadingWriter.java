@@ -21,6 +21,7 @@ import java.io.BufferedInputStream;
 import java.io.Closeable;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
@@ -36,30 +37,55 @@ import com.google.common.io.ByteStreams;
 
 public class FileCacheReadingWriter implements Writer, Closeable {
 
-	private Path file;
 	private DataInputStream inputStream;
 	private int nextSize = -1;
+	private boolean started;
 	private byte[] buffer;
 
 	public FileCacheReadingWriter(Path file) {
-		this.file = file;
 		try {
-			inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
-			nextSize = inputStream.readInt();
+			init(Files.newInputStream(file));
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
 	}
+
+	/**
+	 * @param inputStream The data of a cache file, which can also be a file that is still being written. Nothing is read
+	 *                    before the first message is requested, so this does not wait for the writing download.
+	 */
+	public FileCacheReadingWriter(InputStream inputStream) {
+		this.inputStream = new DataInputStream(new BufferedInputStream(inputStream));
+	}
+
+	private void init(InputStream in) throws IOException {
+		inputStream = new DataInputStream(new BufferedInputStream(in));
+		nextSize = inputStream.readInt();
+		started = true;
+	}
 	
 	@Override
 	public boolean writeMessage(OutputStream outputStream, ProgressReporter progressReporter) throws IOException, SerializerException {
+		if (!started) {
+			nextSize = inputStream.readInt();
+			started = true;
+		}
 		if (outputStream instanceof ReusableLittleEndianDataOutputStream) {
 			ReusableLittleEndianDataOutputStream reusableLittleEndianDataOutputStream = (ReusableLittleEndianDataOutputStream)outputStream;
 			reusableLittleEndianDataOutputStream.ensureExtraCapacity(nextSize);
 			GrowingByteBuffer growingByteBuffer = reusableLittleEndianDataOutputStream.getGrowingByteBuffer();
 			ByteBuffer targetBuffer = growingByteBuffer.getByteBuffer();
-			inputStream.readFully(targetBuffer.array(), targetBuffer.position(), nextSize);
-			targetBuffer.position(targetBuffer.position() + nextSize);
+			if (targetBuffer.hasArray()) {
+				inputStream.readFully(targetBuffer.array(), targetBuffer.arrayOffset() + targetBuffer.position(), nextSize);
+				targetBuffer.position(targetBuffer.position() + nextSize);
+			} else {
+				// Direct buffer from the pool, goes through a reusable heap buffer
+				if (buffer == null || nextSize > buffer.length) {
+					buffer = new byte[nextSize];
+				}
+				inputStream.readFully(buffer, 0, nextSize);
+				targetBuffer.put(buffer, 0, nextSize);
+			}
 			nextSize = inputStream.readInt();
 			return nextSize != -1;
 		} else {
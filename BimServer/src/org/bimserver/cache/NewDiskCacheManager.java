@@ -17,43 +17,174 @@ package org.bimserver.cache;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.bimserver.BimServer;
+import org.bimserver.interfaces.objects.SOutputFileCacheStatistics;
 import org.bimserver.plugins.serializers.MessagingStreamingSerializer;
+import org.bimserver.plugins.serializers.Writer;
 import org.bimserver.utils.PathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Charsets;
+
+/**
+ * Disk cache for serialized downloads, bounded by a byte budget. When the budget is exceeded the least recently used files are removed.
+ * 
+ * The sizes and access times are kept in an index file that is written on shutdown, so starting up does not have to list the cache
+ * directory. The index is removed when it has been read, after a crash the directory is listed again.
+ */
 public class NewDiskCacheManager {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(NewDiskCacheManager.class);
+	private static final String INDEX_FILE_NAME = "cache.index";
+	// Files bigger than this part of the budget are not kept
+	private static final int MAX_ENTRY_FRACTION = 4;
 	private final Path cacheDir;
+	private final Path indexFile;
 	private final BimServer bimServer;
-	private final Set<String> cachedFileNames = new HashSet<>();
+	private final long maxBytes;
+	
+	// Access ordered, the first entry is the least recently used one
+	private final LinkedHashMap<String, CacheEntry> cachedFiles = new LinkedHashMap<>(16, 0.75f, true);
 	private final Map<String, DiskCacheItem> busyCaching = new HashMap<>();
+	private long totalBytes;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+	private final AtomicLong evictedBytes = new AtomicLong();
 
-	public NewDiskCacheManager(BimServer bimServer, Path cacheDir) {
+	private static class CacheEntry {
+		private final long size;
+		private long lastAccessed;
+
+		public CacheEntry(long size, long lastAccessed) {
+			this.size = size;
+			this.lastAccessed = lastAccessed;
+		}
+	}
+
+	public NewDiskCacheManager(BimServer bimServer, Path cacheDir, long maxBytes) {
 		this.bimServer = bimServer;
 		this.cacheDir = cacheDir;
+		this.maxBytes = maxBytes;
+		this.indexFile = cacheDir.resolve(INDEX_FILE_NAME);
 		try {
 			if (!Files.exists(cacheDir)) {
 				Files.createDirectory(cacheDir);
 			}
-			for (Path file : PathUtils.list(this.cacheDir)) {
-				if (file.getFileName().toString().endsWith(".__tmp")) {
-					Files.delete(file);
-				} else {
-					cachedFileNames.add(file.getFileName().toString());
+			if (!readIndex()) {
+				scanCacheDir();
+			}
+		} catch (IOException e) {
+			LOGGER.error("", e);
+		}
+	}
+
+	private boolean readIndex() {
+		if (!Files.exists(indexFile)) {
+			return false;
+		}
+		List<CacheEntryLine> lines = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(indexFile, Charsets.UTF_8)) {
+			String line = reader.readLine();
+			while (line != null) {
+				String[] split = line.split("\t");
+				if (split.length == 3) {
+					lines.add(new CacheEntryLine(split[0], Long.parseLong(split[1]), Long.parseLong(split[2])));
 				}
+				line = reader.readLine();
 			}
+		} catch (IOException | NumberFormatException e) {
+			LOGGER.error("Could not read cache index, rebuilding", e);
+			return false;
+		}
+		try {
+			// Only a cleanly written index can be trusted, so this one is not used again after a crash
+			Files.delete(indexFile);
+		} catch (IOException e) {
+			LOGGER.error("", e);
+			return false;
+		}
+		// The index is written in least recently used first order
+		for (CacheEntryLine cacheEntryLine : lines) {
+			cachedFiles.put(cacheEntryLine.cacheKey, new CacheEntry(cacheEntryLine.size, cacheEntryLine.lastAccessed));
+			totalBytes += cacheEntryLine.size;
+		}
+		return true;
+	}
+
+	private static class CacheEntryLine {
+		private final String cacheKey;
+		private final long size;
+		private final long lastAccessed;
+
+		public CacheEntryLine(String cacheKey, long size, long lastAccessed) {
+			this.cacheKey = cacheKey;
+			this.size = size;
+			this.lastAccessed = lastAccessed;
+		}
+	}
+
+	private void scanCacheDir() throws IOException {
+		List<Path> files = new ArrayList<>();
+		for (Path file : PathUtils.list(this.cacheDir)) {
+			if (file.getFileName().toString().endsWith(".__tmp")) {
+				Files.delete(file);
+			} else if (!Files.isDirectory(file)) {
+				files.add(file);
+			}
+		}
+		// Without an index the modification time is the best guess for the last access
+		files.sort((a, b) -> Long.compare(lastModified(a), lastModified(b)));
+		for (Path file : files) {
+			long size = Files.size(file);
+			cachedFiles.put(file.getFileName().toString(), new CacheEntry(size, lastModified(file)));
+			totalBytes += size;
+		}
+	}
+
+	private long lastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Writes the index, called on shutdown
+	 */
+	public void close() {
+		Path tmpIndexFile = cacheDir.resolve(INDEX_FILE_NAME + ".__tmp");
+		synchronized (cachedFiles) {
+			try (BufferedWriter writer = Files.newBufferedWriter(tmpIndexFile, Charsets.UTF_8)) {
+				for (Map.Entry<String, CacheEntry> entry : cachedFiles.entrySet()) {
+					writer.write(entry.getKey() + "\t" + entry.getValue().size + "\t" + entry.getValue().lastAccessed);
+					writer.newLine();
+				}
+			} catch (IOException e) {
+				LOGGER.error("", e);
+				return;
+			}
+		}
+		try {
+			Files.move(tmpIndexFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
 		} catch (IOException e) {
 			LOGGER.error("", e);
 		}
@@ -62,14 +193,16 @@ public class NewDiskCacheManager {
 	public boolean contains(DownloadDescriptor downloadDescriptor) {
 		if (isEnabled()) {
 			String cacheKey = downloadDescriptor.getCacheKey();
+			boolean contains = false;
 			synchronized (busyCaching) {
-				if (busyCaching.containsKey(cacheKey)) {
-					return true;
-				}
+				contains = busyCaching.containsKey(cacheKey);
 			}
-			synchronized (cachedFileNames) {
-				return cachedFileNames.contains(cacheKey);
+			if (!contains) {
+				synchronized (cachedFiles) {
+					contains = cachedFiles.containsKey(cacheKey);
+				}
 			}
+			return contains;
 		} else {
 			return false;
 		}
@@ -97,31 +230,128 @@ public class NewDiskCacheManager {
 			Path file = cacheDir.resolve(cacheKey);
 			if (!Files.exists(file)) {
 				// This is an inconsistency that can only happen when users remove cached files manually while BIMserver is running
-				cachedFileNames.remove(file.getFileName().toString());
-				busyCaching.remove(downloadDescriptor.getCacheKey());
+				removeEntry(file.getFileName().toString());
+				synchronized (busyCaching) {
+					busyCaching.remove(downloadDescriptor.getCacheKey());
+				}
 				LOGGER.error("File " + file.getFileName().toString() + " not found in cache");
 			} else {
 //				LOGGER.info("Reading from cache " + cacheKey);
+				hits.incrementAndGet();
+				synchronized (cachedFiles) {
+					// Also moves the entry to the end of the eviction order
+					CacheEntry cacheEntry = cachedFiles.get(cacheKey);
+					if (cacheEntry != null) {
+						cacheEntry.lastAccessed = System.currentTimeMillis();
+					}
+				}
 				return file;
 			}
 		}
 		return null;
 	}
 
-	public NewDiskCacheWriter startCachingWriter(DownloadDescriptor downloadDescriptor, MessagingStreamingSerializer messagingStreamingSerializer) {
+	/**
+	 * @return Whether the data has been cached completely, data that is still being cached is not included
+	 */
+	public boolean isCached(DownloadDescriptor downloadDescriptor) {
+		if (isEnabled()) {
+			synchronized (cachedFiles) {
+				return cachedFiles.containsKey(downloadDescriptor.getCacheKey());
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a writer that reads the messages of a download from the cache file, also when the file is still being written by
+	 * another download. Meant to be called before a serializer is prepared for the download.
+	 * 
+	 * @return The writer, or null when the data is not (being) cached
+	 */
+	public FileCacheReadingWriter getReadingWriter(DownloadDescriptor downloadDescriptor) {
+		if (!isEnabled()) {
+			return null;
+		}
 		try {
-			String cacheKey = downloadDescriptor.getCacheKey();
-//			LOGGER.info("Start caching " + cacheKey);
-			NewDiskCacheWriter out = new NewDiskCacheWriter(this, cacheDir.resolve(cacheKey), downloadDescriptor, messagingStreamingSerializer);
+			InputStream inputStream;
 			synchronized (busyCaching) {
-				busyCaching.put(cacheKey, out);
+				inputStream = openCached(downloadDescriptor.getCacheKey());
 			}
-			return out;
-		} catch (FileNotFoundException e) {
+			if (inputStream != null) {
+				return createReadingWriter(inputStream, downloadDescriptor);
+			}
+		} catch (IOException e) {
 			LOGGER.error("", e);
 		}
 		return null;
 	}
+
+	/**
+	 * Returns a writer for the messages of a download. When the same data is already cached, or is being cached by another
+	 * download at this moment, the writer reads it from the cache file, otherwise the serializer is used and its messages are
+	 * cached. Checking and starting happen atomically, so identical downloads never generate the same data at the same time.
+	 */
+	public Writer getCachingWriter(DownloadDescriptor downloadDescriptor, MessagingStreamingSerializer messagingStreamingSerializer) {
+		String cacheKey = downloadDescriptor.getCacheKey();
+		try {
+			InputStream inputStream;
+			synchronized (busyCaching) {
+				inputStream = openCached(cacheKey);
+				if (inputStream == null) {
+					misses.incrementAndGet();
+					NewDiskCacheWriter newDiskCacheWriter = new NewDiskCacheWriter(this, cacheDir.resolve(cacheKey), downloadDescriptor, messagingStreamingSerializer);
+					busyCaching.put(cacheKey, newDiskCacheWriter);
+					return newDiskCacheWriter;
+				}
+			}
+			// Another download started caching the same data after this one was prepared, its serializer is not used
+			try {
+				messagingStreamingSerializer.close();
+			} catch (IOException e) {
+				LOGGER.error("", e);
+			}
+			return createReadingWriter(inputStream, downloadDescriptor);
+		} catch (IOException e) {
+			LOGGER.error("", e);
+		}
+		return messagingStreamingSerializer;
+	}
+
+	/**
+	 * Must be called while holding the busyCaching lock
+	 * 
+	 * @return A stream of the file that is being written, or of the cached file, or null when neither exists
+	 */
+	private InputStream openCached(String cacheKey) throws IOException {
+		DiskCacheItem diskCacheItem = busyCaching.get(cacheKey);
+		if (diskCacheItem instanceof NewDiskCacheWriter) {
+			InputStream inputStream = ((NewDiskCacheWriter) diskCacheItem).attach();
+			if (inputStream != null) {
+				hits.incrementAndGet();
+				return inputStream;
+			}
+		}
+		// Also when the file has been written, but the manager has not been told yet
+		Path file = cacheDir.resolve(cacheKey);
+		if (Files.exists(file)) {
+			hits.incrementAndGet();
+			synchronized (cachedFiles) {
+				CacheEntry cacheEntry = cachedFiles.get(cacheKey);
+				if (cacheEntry != null) {
+					cacheEntry.lastAccessed = System.currentTimeMillis();
+				}
+			}
+			return Files.newInputStream(file);
+		}
+		return null;
+	}
+
+	private FileCacheReadingWriter createReadingWriter(InputStream inputStream, DownloadDescriptor downloadDescriptor) {
+		FileCacheReadingWriter fileCacheReadingWriter = new FileCacheReadingWriter(inputStream);
+		fileCacheReadingWriter.setName(downloadDescriptor.getFileNameWithoutExtension());
+		return fileCacheReadingWriter;
+	}
 	
 	public NewDiskCacheOutputStream startCaching(DownloadDescriptor downloadDescriptor) throws Exception {
 		try {
@@ -131,6 +361,7 @@ public class NewDiskCacheManager {
 					throw new Exception("This key is already being cached");
 				}
 //				LOGGER.info("Start caching " + cacheKey);
+				misses.incrementAndGet();
 				NewDiskCacheOutputStream out = new NewDiskCacheOutputStream(this, cacheDir.resolve(cacheKey), downloadDescriptor);
 				busyCaching.put(cacheKey, out);
 				return out;
@@ -155,25 +386,106 @@ public class NewDiskCacheManager {
 		} catch (IOException e) {
 			LOGGER.error("", e);
 		}
-		cachedFileNames.clear();
+		synchronized (cachedFiles) {
+			cachedFiles.clear();
+			totalBytes = 0;
+		}
 		return removed;
 	}
 
 	public void doneGenerating(DiskCacheItem diskCacheItem) {
+		String cacheKey = diskCacheItem.getDownloadDescriptor().getCacheKey();
+		long size = 0;
+		try {
+			size = Files.size(cacheDir.resolve(cacheKey));
+		} catch (IOException e) {
+			LOGGER.error("", e);
+		}
+		if (maxBytes >= 0 && size > maxBytes / MAX_ENTRY_FRACTION) {
+			// Keeping this one would push out most of the other files
+			LOGGER.info("Not caching " + cacheKey + ", it is too big (" + size + " bytes)");
+			try {
+				Files.deleteIfExists(cacheDir.resolve(cacheKey));
+			} catch (IOException e) {
+				LOGGER.warn("Could not remove cached file " + cacheKey + ": " + e.getMessage());
+			}
+			synchronized (busyCaching) {
+				busyCaching.remove(cacheKey, diskCacheItem);
+			}
+			return;
+		}
 		synchronized (busyCaching) {
-			String cacheKey = diskCacheItem.getDownloadDescriptor().getCacheKey();
 //			LOGGER.info("Done caching " + cacheKey);
-			busyCaching.remove(cacheKey);
-			cachedFileNames.add(cacheKey);
+			busyCaching.remove(cacheKey, diskCacheItem);
+			synchronized (cachedFiles) {
+				CacheEntry previous = cachedFiles.put(cacheKey, new CacheEntry(size, System.currentTimeMillis()));
+				if (previous != null) {
+					totalBytes -= previous.size;
+				}
+				totalBytes += size;
+			}
 		}
+		evict();
 	}
 
-	public void remove(NewDiskCacheOutputStream diskCacheOutputStream) {
-		String cacheKey = diskCacheOutputStream.getDownloadDescriptor().getCacheKey();
+	/**
+	 * Removes the least recently used files until the total size is within the budget. The most recently added/used file is never removed.
+	 */
+	private void evict() {
+		if (maxBytes < 0) {
+			return;
+		}
+		List<String> toDelete = new ArrayList<>();
+		synchronized (cachedFiles) {
+			Iterator<Map.Entry<String, CacheEntry>> iterator = cachedFiles.entrySet().iterator();
+			while (totalBytes > maxBytes && cachedFiles.size() - toDelete.size() > 1 && iterator.hasNext()) {
+				Map.Entry<String, CacheEntry> entry = iterator.next();
+				iterator.remove();
+				totalBytes -= entry.getValue().size;
+				evictions.incrementAndGet();
+				evictedBytes.addAndGet(entry.getValue().size);
+				toDelete.add(entry.getKey());
+			}
+		}
+		for (String cacheKey : toDelete) {
+			try {
+				Files.deleteIfExists(cacheDir.resolve(cacheKey));
+			} catch (IOException e) {
+				// Probably still being read (on some OSes that prevents deletion), it will be found again when there is no index
+				LOGGER.warn("Could not remove cached file " + cacheKey + ": " + e.getMessage());
+			}
+		}
+	}
+
+	private void removeEntry(String cacheKey) {
+		synchronized (cachedFiles) {
+			CacheEntry cacheEntry = cachedFiles.remove(cacheKey);
+			if (cacheEntry != null) {
+				totalBytes -= cacheEntry.size;
+			}
+		}
+	}
+
+	public void remove(DiskCacheItem diskCacheItem) {
+		String cacheKey = diskCacheItem.getDownloadDescriptor().getCacheKey();
 //		LOGGER.info("Removing cache " + cacheKey);
-		cachedFileNames.remove(cacheKey);
+		removeEntry(cacheKey);
 		synchronized (busyCaching) {
-			busyCaching.remove(cacheKey);
+			busyCaching.remove(cacheKey, diskCacheItem);
 		}
 	}
+
+	public SOutputFileCacheStatistics getStatistics() {
+		SOutputFileCacheStatistics result = new SOutputFileCacheStatistics();
+		result.setHits(hits.get());
+		result.setMisses(misses.get());
+		result.setEvictions(evictions.get());
+		result.setEvictedBytes(evictedBytes.get());
+		result.setMaxBytes(maxBytes);
+		synchronized (cachedFiles) {
+			result.setFiles(cachedFiles.size());
+			result.setUsedBytes(totalBytes);
+		}
+		return result;
+	}
 }
\ No newline at end of file
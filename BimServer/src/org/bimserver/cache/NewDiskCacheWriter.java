@@ -17,17 +17,20 @@ package org.bimserver.cache;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.DataOutputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.io.output.NullOutputStream;
 import org.bimserver.plugins.serializers.MessagingStreamingSerializer;
 import org.bimserver.plugins.serializers.ProgressReporter;
 import org.bimserver.plugins.serializers.SerializerException;
@@ -35,50 +38,151 @@ import org.bimserver.plugins.serializers.Writer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Passes the messages of a serializer on to a download, and writes them to a cache file at the same time. Other downloads of
+ * the same data can read along while the file is being written, see {@link #attach()}.
+ * 
+ * The file is only added to the cache when the serializer has written its last message, a download that is aborted halfway
+ * does not leave a partial file in the cache.
+ */
 public class NewDiskCacheWriter implements Writer, DiskCacheItem, Closeable {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(NewDiskCacheWriter.class);
-	private NewDiskCacheManager newDiskCacheManager;
-	private Path file;
-	private DownloadDescriptor downloadDescriptor;
-	private DataOutputStream outputStream;
-	private MessagingStreamingSerializer messagingStreamingSerializer;
+	private final NewDiskCacheManager newDiskCacheManager;
+	private final Path file;
+	private final Path tempFile;
+	private final DownloadDescriptor downloadDescriptor;
+	private final MessagingStreamingSerializer messagingStreamingSerializer;
 	private final CountDownLatch latch = new CountDownLatch(1);
-	private Path tempFile;
+	private final ByteArrayOutputStream message = new ByteArrayOutputStream();
+	private final DataOutputStream outputStream;
+	private long bytesWritten;
+	private boolean complete;
+	private boolean failed;
+
+	// Guarded by this
+	private long bytesFlushed;
+	private int readers;
+	private boolean finished;
 	
-	public NewDiskCacheWriter(NewDiskCacheManager newDiskCacheManager, Path file, DownloadDescriptor downloadDescriptor, MessagingStreamingSerializer messagingStreamingSerializer) throws FileNotFoundException {
+	public NewDiskCacheWriter(NewDiskCacheManager newDiskCacheManager, Path file, DownloadDescriptor downloadDescriptor, MessagingStreamingSerializer messagingStreamingSerializer) throws IOException {
 		this.newDiskCacheManager = newDiskCacheManager;
 		this.file = file;
 		this.downloadDescriptor = downloadDescriptor;
 		this.tempFile = file.getParent().resolve(file.getFileName().toString() + ".__tmp");
 		this.messagingStreamingSerializer = messagingStreamingSerializer;
-		try {
-			this.outputStream = new DataOutputStream(Files.newOutputStream(tempFile));
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		this.outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile), 65536));
 	}
 
 	@Override
 	public boolean writeMessage(OutputStream outputStream, ProgressReporter progressReporter) throws IOException, SerializerException {
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-		boolean result = messagingStreamingSerializer.writeMessage(baos, progressReporter);
-		this.outputStream.writeInt(baos.size());
-		this.outputStream.write(baos.toByteArray());
-		outputStream.write(baos.toByteArray());
+		message.reset();
+		boolean result;
+		try {
+			result = messagingStreamingSerializer.writeMessage(message, progressReporter);
+			this.outputStream.writeInt(message.size());
+			message.writeTo(this.outputStream);
+			bytesWritten += 4 + message.size();
+			if (!result) {
+				this.outputStream.writeInt(-1);
+				bytesWritten += 4;
+				complete = true;
+			}
+		} catch (IOException | SerializerException | RuntimeException e) {
+			failed = true;
+			throw e;
+		}
+		synchronized (this) {
+			// Without readers the buffer is only flushed when it is full
+			if (readers > 0 || complete) {
+				this.outputStream.flush();
+				bytesFlushed = bytesWritten;
+				notifyAll();
+			}
+		}
+		message.writeTo(outputStream);
 		return result;
 	}
 
+	/**
+	 * @return A stream that reads the file while it is being written, blocking until more data is available, or null when
+	 *         writing has already finished, in which case the data is either in the cache or not at all
+	 */
+	public synchronized InputStream attach() throws IOException {
+		if (finished) {
+			return null;
+		}
+		InputStream inputStream = Files.newInputStream(tempFile);
+		readers++;
+		return new TailingInputStream(inputStream);
+	}
+
+	private synchronized long awaitAvailable(long position) throws IOException {
+		while (bytesFlushed <= position && !finished) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+		}
+		if (bytesFlushed > position || complete) {
+			return bytesFlushed - position;
+		}
+		throw new IOException("Caching " + file.getFileName() + " failed");
+	}
+
+	private synchronized boolean hasReaders() {
+		return readers > 0;
+	}
+
+	private synchronized void detach() {
+		readers--;
+	}
+
 	@Override
 	public void close() throws IOException {
-//		LOGGER.info("Renaming temp file " + tempFile.getFileName().toString() + " to " + file.getFileName().toString());
-		outputStream.writeInt(-1);
-		outputStream.close();
-		if (Files.exists(tempFile)) {
-			Files.move(tempFile, file);
+		if (!complete && !failed && hasReaders()) {
+			// The download has stopped early, but other downloads are reading along, so the rest is generated for them
+			try {
+				while (writeMessage(NullOutputStream.INSTANCE, new ProgressReporter() {
+					@Override
+					public void update(long progress, long max) {
+					}
+
+					@Override
+					public void setTitle(String stage) {
+					}
+				})) {
+				}
+			} catch (IOException | SerializerException | RuntimeException e) {
+				LOGGER.error("", e);
+			}
+		}
+		synchronized (this) {
+			try {
+				outputStream.close();
+				if (complete) {
+					Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+				} else {
+					Files.deleteIfExists(tempFile);
+				}
+			} catch (IOException e) {
+				complete = false;
+				throw e;
+			} finally {
+				finished = true;
+				notifyAll();
+			}
+		}
+		try {
+			if (complete) {
+				newDiskCacheManager.doneGenerating(this);
+			} else {
+				newDiskCacheManager.remove(this);
+			}
+		} finally {
+			latch.countDown();
 		}
-		newDiskCacheManager.doneGenerating(this);
-		latch.countDown();
 	}
 
 	@Override
@@ -90,4 +194,46 @@ public class NewDiskCacheWriter implements Writer, DiskCacheItem, Closeable {
 	public DownloadDescriptor getDownloadDescriptor() {
 		return downloadDescriptor;
 	}
+
+	private class TailingInputStream extends InputStream {
+		private final InputStream inputStream;
+		private long position;
+		private boolean closed;
+
+		public TailingInputStream(InputStream inputStream) {
+			this.inputStream = inputStream;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] buffer = new byte[1];
+			int read = read(buffer, 0, 1);
+			return read == -1 ? -1 : buffer[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			long available = awaitAvailable(position);
+			if (available == 0) {
+				return -1;
+			}
+			int read = inputStream.read(b, off, (int) Math.min(len, available));
+			if (read > 0) {
+				position += read;
+			}
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!closed) {
+				closed = true;
+				inputStream.close();
+				detach();
+			}
+		}
+	}
 }
@@ -32,6 +32,8 @@ import org.bimserver.shared.exceptions.UserException;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
+
 public class AddAttributeChange implements Change {
 
 	private final long oid;
@@ -44,6 +46,11 @@ public class AddAttributeChange implements Change {
 		this.value = value;
 	}
 
+	@Override
+	public void collectOids(LongCollection oids) {
+		oids.add(oid);
+	}
+
 	@Override
 	public void execute(Transaction transaction) throws UserException, BimserverLockConflictException, BimserverDatabaseException, IOException, QueryException {
 		PackageMetaData packageMetaData = transaction.getDatabaseSession().getMetaDataManager().getPackageMetaData(transaction.getProject().getSchema());
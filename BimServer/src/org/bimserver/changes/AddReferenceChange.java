@@ -32,6 +32,8 @@ import org.bimserver.shared.exceptions.UserException;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EReference;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
+
 public class AddReferenceChange implements Change {
 
 	private final long oid;
@@ -44,6 +46,14 @@ public class AddReferenceChange implements Change {
 		this.referenceOid = referenceOid;
 	}
 
+	@Override
+	public void collectOids(LongCollection oids) {
+		oids.add(oid);
+		if (referenceOid != -1) {
+			oids.add(referenceOid);
+		}
+	}
+
 	@Override
 	public void execute(Transaction transaction) throws UserException, BimserverLockConflictException, BimserverDatabaseException, IOException, QueryException {
 		PackageMetaData packageMetaData = transaction.getDatabaseSession().getMetaDataManager().getPackageMetaData(transaction.getProject().getSchema());
@@ -24,7 +24,15 @@ import org.bimserver.database.BimserverLockConflictException;
 import org.bimserver.database.queries.om.QueryException;
 import org.bimserver.shared.exceptions.UserException;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
+
 public interface Change {
 
 	void execute(Transaction transaction) throws UserException, BimserverLockConflictException, BimserverDatabaseException, IOException, QueryException;
+
+	/**
+	 * Adds the oids of the existing objects this change reads, so they can all be read in one go before the changes are executed
+	 */
+	default void collectOids(LongCollection oids) {
+	}
 }
\ No newline at end of file
@@ -34,6 +34,8 @@ import org.bimserver.shared.exceptions.UserException;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EReference;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
+
 public class RemoveAllReferencesChange implements Change {
 
 	private final Long oid;
@@ -44,6 +46,11 @@ public class RemoveAllReferencesChange implements Change {
 		this.referenceName = referenceName;
 	}
 
+	@Override
+	public void collectOids(LongCollection oids) {
+		oids.add(oid);
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void execute(Transaction transaction) throws UserException, BimserverLockConflictException,
@@ -33,6 +33,8 @@ import org.bimserver.shared.exceptions.UserException;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
+
 public class RemoveAttributeChange implements Change {
 
 	private final long oid;
@@ -45,6 +47,11 @@ public class RemoveAttributeChange implements Change {
 		this.index = index;
 	}
 
+	@Override
+	public void collectOids(LongCollection oids) {
+		oids.add(oid);
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void execute(Transaction transaction) throws UserException, BimserverLockConflictException, BimserverDatabaseException, IOException, QueryException {
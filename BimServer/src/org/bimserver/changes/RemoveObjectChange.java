@@ -33,6 +33,8 @@ import org.bimserver.shared.exceptions.UserException;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EReference;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
+
 public class RemoveObjectChange implements Change {
 
 	private final long oid;
@@ -46,6 +48,11 @@ public class RemoveObjectChange implements Change {
 		this.oid = oid;
 	}
 
+	@Override
+	public void collectOids(LongCollection oids) {
+		oids.add(oid);
+	}
+
 	@Override
 	public void execute(Transaction transaction) throws UserException, BimserverLockConflictException, BimserverDatabaseException, IOException, QueryException {
 		PackageMetaData packageMetaData = transaction.getDatabaseSession().getMetaDataManager().getPackageMetaData(transaction.getProject().getSchema());
@@ -51,6 +51,8 @@ import org.bimserver.shared.exceptions.UserException;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EReference;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
+
 public class RemoveReferenceChange implements Change {
 
 	private final long oid;
@@ -72,6 +74,14 @@ public class RemoveReferenceChange implements Change {
 		this.index = -1;
 	}
 	
+	@Override
+	public void collectOids(LongCollection oids) {
+		oids.add(oid);
+		if (referencedOid != -1) {
+			oids.add(referencedOid);
+		}
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Override
 	public void execute(Transaction transaction) throws UserException, BimserverLockConflictException, BimserverDatabaseException, IOException, QueryException {
@@ -53,6 +53,8 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EEnum;
 import org.eclipse.emf.ecore.EcorePackage;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
+
 public class SetAttributeChange implements Change {
 
 	private final long oid;
@@ -68,6 +70,11 @@ public class SetAttributeChange implements Change {
 		this.value = value;
 	}
 
+	@Override
+	public void collectOids(LongCollection oids) {
+		oids.add(oid);
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public void execute(Transaction transaction) throws UserException, BimserverLockConflictException, BimserverDatabaseException, IOException, QueryException {
@@ -32,6 +32,8 @@ import org.bimserver.shared.HashMapVirtualObject;
 import org.bimserver.shared.exceptions.UserException;
 import org.eclipse.emf.ecore.*;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
+
 public class SetAttributeChangeAtIndex implements Change {
 
 	private final long oid;
@@ -46,6 +48,11 @@ public class SetAttributeChangeAtIndex implements Change {
 		this.value = value;
 	}
 
+	@Override
+	public void collectOids(LongCollection oids) {
+		oids.add(oid);
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public void execute(Transaction transaction) throws UserException, BimserverLockConflictException, BimserverDatabaseException, IOException, QueryException {
@@ -38,6 +38,8 @@ import org.eclipse.emf.ecore.EEnum;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EcorePackage;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
+
 public class SetWrappedAttributeChange implements Change {
 
 	private final Long oid;
@@ -52,6 +54,13 @@ public class SetWrappedAttributeChange implements Change {
 		this.value = value;
 	}
 
+	@Override
+	public void collectOids(LongCollection oids) {
+		if (oid != null) {
+			oids.add(oid.longValue());
+		}
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public void execute(Transaction transaction) throws UserException, BimserverLockConflictException,
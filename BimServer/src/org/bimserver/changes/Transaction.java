@@ -17,21 +17,37 @@ package org.bimserver.changes;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.bimserver.BimServer;
+import org.bimserver.BimserverDatabaseException;
 import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.queries.QueryObjectProvider;
+import org.bimserver.database.queries.om.Query;
+import org.bimserver.database.queries.om.QueryException;
+import org.bimserver.database.queries.om.QueryPart;
+import org.bimserver.emf.PackageMetaData;
 import org.bimserver.models.store.ConcreteRevision;
 import org.bimserver.models.store.Project;
 import org.bimserver.models.store.Revision;
 import org.bimserver.shared.HashMapVirtualObject;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+
 public class Transaction {
 	private final Map<Long, HashMapVirtualObject> created = new HashMap<>();
 	private final Map<Long, HashMapVirtualObject> updated = new HashMap<>();
 	private final Map<Long, HashMapVirtualObject> deleted = new HashMap<>();
+	private final Map<Long, HashMapVirtualObject> prefetched = new HashMap<>();
 	private final Revision previousRevision;
 	private final Project project;
 	private final ConcreteRevision concreteRevision;
@@ -74,7 +90,46 @@ public class Transaction {
 		} else if (updated.containsKey(oid)) {
 			return updated.get(oid);
 		}
-		return null;
+		return prefetched.get(oid);
+	}
+
+	/**
+	 * Reads the given objects from the previous revision with one query, ordered by oid, so the changes find them with
+	 * {@link #get(long)} instead of each running a query for a single object. Objects that are already part of this
+	 * transaction are skipped.
+	 */
+	public void prefetch(LongCollection oids) throws BimserverDatabaseException, IOException, QueryException {
+		if (previousRevision == null) {
+			return;
+		}
+		LongArrayList toRead = new LongArrayList();
+		LongIterator iterator = oids.iterator();
+		while (iterator.hasNext()) {
+			long oid = iterator.nextLong();
+			if (get(oid) == null) {
+				toRead.add(oid);
+			}
+		}
+		if (toRead.isEmpty()) {
+			return;
+		}
+		long[] sortedOids = toRead.toLongArray();
+		Arrays.sort(sortedOids);
+		List<Long> oidList = new ArrayList<>(sortedOids.length);
+		for (long oid : sortedOids) {
+			oidList.add(oid);
+		}
+		PackageMetaData packageMetaData = databaseSession.getMetaDataManager().getPackageMetaData(project.getSchema());
+		Query query = new Query(packageMetaData);
+		QueryPart queryPart = query.createQueryPart();
+		queryPart.addOids(oidList);
+
+		QueryObjectProvider queryObjectProvider = new QueryObjectProvider(databaseSession, bimServer, query, Collections.singleton(previousRevision.getOid()), packageMetaData);
+		HashMapVirtualObject next = queryObjectProvider.next();
+		while (next != null) {
+			prefetched.put(next.getOid(), next);
+			next = queryObjectProvider.next();
+		}
 	}
 
 	public void created(HashMapVirtualObject object) {
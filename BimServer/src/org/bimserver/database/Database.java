@@ -37,6 +37,11 @@ import org.bimserver.BimserverDatabaseException;
 import org.bimserver.database.actions.AddUserDatabaseAction;
 import org.bimserver.database.actions.CreateBaseProjectDatabaseAction;
 import org.bimserver.database.berkeley.DatabaseInitException;
+import org.bimserver.database.indexes.ClassificationIndex;
+import org.bimserver.database.indexes.GeometryDataIndex;
+import org.bimserver.database.indexes.PropertyIndex;
+import org.bimserver.database.indexes.RevisionVisibilityIndex;
+import org.bimserver.database.indexes.SpatialIndex;
 import org.bimserver.database.migrations.InconsistentModelsException;
 import org.bimserver.database.migrations.MigrationException;
 import org.bimserver.database.migrations.Migrator;
@@ -81,6 +86,12 @@ public class Database implements BimDatabase {
 	private final Map<EClass, AtomicLong> oidCounters = new HashMap<EClass, AtomicLong>();
 	private final AtomicInteger pidCounter = new AtomicInteger(1);
 	private final Registry registry;
+	private final SpatialIndex spatialIndex;
+	private final GeometryDataIndex geometryDataIndex;
+	private final PropertyIndex propertyIndex;
+	private final ClassificationIndex classificationIndex;
+	private final RevisionVisibilityIndex revisionVisibilityIndex;
+	private final RevisionMetaDataCache revisionMetaDataCache;
 	private Date created;
 	final Set<DatabaseSession> sessions = Collections.newSetFromMap(new ConcurrentHashMap<DatabaseSession, Boolean>());
 	private int databaseSchemaVersion;
@@ -109,6 +120,12 @@ public class Database implements BimDatabase {
 			this.emfPackages.put(ePackage.getName(), ePackage);
 		}
 		this.registry = new Registry(keyValueStore);
+		this.spatialIndex = new SpatialIndex(keyValueStore);
+		this.geometryDataIndex = new GeometryDataIndex(keyValueStore);
+		this.propertyIndex = new PropertyIndex(keyValueStore);
+		this.classificationIndex = new ClassificationIndex(keyValueStore);
+		this.revisionVisibilityIndex = new RevisionVisibilityIndex(keyValueStore);
+		this.revisionMetaDataCache = new RevisionMetaDataCache(metaDataManager);
 		if (DatabaseSession.DEVELOPER_DEBUG) {
 			new DatabaseSessionMonitor(this).start();
 		}
@@ -153,6 +170,12 @@ public class Database implements BimDatabase {
 					registry.save(DATE_CREATED, created, databaseSession);
 				}
 			}
+			// Written in the same transaction as the revision it describes
+			openOrCreateInternalTable(GeometryDataIndex.GEOMETRY_DATA_INDEX_TABLE, databaseSession, true);
+			openOrCreateInternalTable(SpatialIndex.SPATIAL_INDEX_TABLE, databaseSession, true);
+			openOrCreateInternalTable(PropertyIndex.PROPERTY_INDEX_TABLE, databaseSession, true);
+			openOrCreateInternalTable(ClassificationIndex.CLASSIFICATION_INDEX_TABLE, databaseSession, true);
+			openOrCreateInternalTable(RevisionVisibilityIndex.REVISION_VISIBILITY_TABLE, databaseSession, true);
 			
 			databaseSchemaVersion = registry.readInt(SCHEMA_VERSION, databaseSession, -1);
 			
@@ -220,6 +243,14 @@ public class Database implements BimDatabase {
 		}
 	}
 
+	private void openOrCreateInternalTable(String tableName, DatabaseSession databaseSession, boolean transactional) throws BimserverDatabaseException {
+		if (keyValueStore.containsTable(tableName)) {
+			keyValueStore.openTable(databaseSession, tableName, transactional);
+		} else {
+			keyValueStore.createTable(tableName, databaseSession, transactional);
+		}
+	}
+
 	public ServerSettings createDefaultSettings(DatabaseSession databaseSession) throws BimserverDatabaseException {
 		ServerSettings settings = databaseSession.create(ServerSettings.class);
 		settings.setEmailSenderAddress("no-reply@bimserver.org");
@@ -392,6 +423,30 @@ public class Database implements BimDatabase {
 		return eClassToCid.get(eClass);
 	}
 
+	public SpatialIndex getSpatialIndex() {
+		return spatialIndex;
+	}
+
+	public GeometryDataIndex getGeometryDataIndex() {
+		return geometryDataIndex;
+	}
+
+	public PropertyIndex getPropertyIndex() {
+		return propertyIndex;
+	}
+
+	public ClassificationIndex getClassificationIndex() {
+		return classificationIndex;
+	}
+
+	public RevisionVisibilityIndex getRevisionVisibilityIndex() {
+		return revisionVisibilityIndex;
+	}
+
+	public RevisionMetaDataCache getRevisionMetaDataCache() {
+		return revisionMetaDataCache;
+	}
+
 	public Registry getRegistry() {
 		return registry;
 	}
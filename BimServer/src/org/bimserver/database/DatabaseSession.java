@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -34,12 +35,17 @@ import java.util.Scanner;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.bimserver.BimserverDatabaseException;
 import org.bimserver.ServerIfcModel;
 import org.bimserver.database.actions.BimDatabaseAction;
 import org.bimserver.database.berkeley.BimserverConcurrentModificationDatabaseException;
+import org.bimserver.database.indexes.ClassificationIndex;
+import org.bimserver.database.indexes.GeometryDataIndex;
+import org.bimserver.database.indexes.PropertyIndex;
+import org.bimserver.database.indexes.RevisionVisibilityIndex;
+import org.bimserver.database.indexes.RevisionVisibilityIndex.VisibleOids;
+import org.bimserver.database.indexes.SpatialIndex;
 import org.bimserver.database.query.conditions.Condition;
 import org.bimserver.database.query.conditions.IsOfTypeCondition;
 import org.bimserver.emf.IdEObject;
@@ -98,6 +104,7 @@ import com.sleepycat.je.TransactionTimeoutException;
 public class DatabaseSession implements LazyLoader, OidProvider, DatabaseInterface, AutoCloseable {
 	public static final int DEFAULT_CONFLICT_RETRIES = 10;
 	public static final boolean DEVELOPER_DEBUG = false;
+	private static final int WRITE_BATCH_SIZE = 10000;
 	private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseSession.class);
 	
 	private final Database database;
@@ -108,7 +115,8 @@ public class DatabaseSession implements LazyLoader, OidProvider, DatabaseInterfa
 	private StackTraceElement[] stackTrace;
 	private final ObjectCache objectCache = new ObjectCache();
 	private Map<String, Long> startOids;
-	private Map<Long, HashMapVirtualObject> voCache;
+	private static final int VO_CACHE_SIZE = 100000;
+	private volatile LongLruCache<HashMapVirtualObject> voCache;
 	private CleanupListener cleanupListener;
 	private final Set<ServerIfcModel> serverModels = new HashSet<>();
 	private long reads;
@@ -173,6 +181,10 @@ public class DatabaseSession implements LazyLoader, OidProvider, DatabaseInterfa
 		}
 		state = SessionState.CLOSED;
 		objectCache.clear();
+		if (voCache != null) {
+			LOGGER.debug("Virtual object cache " + voCache);
+			voCache.clear();
+		}
 		for (ServerIfcModel serverIfcModel : serverModels) {
 			try {
 				serverIfcModel.close();
@@ -205,46 +217,75 @@ public class DatabaseSession implements LazyLoader, OidProvider, DatabaseInterfa
 			}
 			int current = 0;
 			long writes = 0;
-			ByteBuffer keyBuffer = ByteBuffer.wrap(new byte[16]);
+			WriteBatch writeBatch = new WriteBatch();
 			if (objectsToDelete != null) {
 				for (RecordIdentifierPlusType recordIdentifier : objectsToDelete) {
-					fillKeyBuffer(keyBuffer, recordIdentifier);
-					database.getKeyValueStore().storeNoOverwrite(recordIdentifier.getPackageName() + "_" + recordIdentifier.getClassName(), keyBuffer.array(), new byte[] { -1 }, this);
+					writeBatch.storeNoOverwrite(recordIdentifier.getPackageName() + "_" + recordIdentifier.getClassName(), createKeyBuffer(recordIdentifier.getPid(), recordIdentifier.getOid(), recordIdentifier.getRid()).array(), new byte[] { -1 });
 					writes++;
 				}
 			}
 			// This buffer is reused for the values, it's position must be reset at the end of the loop, and the convertObjectToByteArray function is responsible for setting the buffer's position to the end of the (used part of the) buffer
 			ByteBuffer reusableBuffer = ByteBuffer.allocate(32768);
 			if (objectsToCommit != null) {
+				// Grouping per class, so the table name, metadata and indices only have to be looked up once per class
+				Map<EClass, List<IdEObject>> objectsPerClass = new LinkedHashMap<>();
 				for (IdEObject object : objectsToCommit) {
-					if (object.getOid() == -1) {
-						throw new BimserverDatabaseException("Cannot store object with oid -1");
-					}
-					fillKeyBuffer(keyBuffer, object);
-					if (DEVELOPER_DEBUG) {
-						LOGGER.info("Write: " + object.eClass().getName() + " " + "pid=" + object.getPid() + " oid=" + object.getOid() + " rid=" + object.getRid());
+					List<IdEObject> list = objectsPerClass.get(object.eClass());
+					if (list == null) {
+						list = new ArrayList<>();
+						objectsPerClass.put(object.eClass(), list);
 					}
-					ByteBuffer valueBuffer = convertObjectToByteArray(object, reusableBuffer, getMetaDataManager().getPackageMetaData(object.eClass().getEPackage().getName()));
-					int valueBufferPosition = valueBuffer.position();
-					processPossibleIndices(keyBuffer, object.getPid(), object.getRid(), object.getOid(), object.eClass(), valueBuffer);
-					if (object.eClass().getEAnnotation("nolazyload") == null && !overwriteEnabled) {
-						try {
-							database.getKeyValueStore().storeNoOverwrite(object.eClass().getEPackage().getName() + "_" + object.eClass().getName(), keyBuffer.array(), valueBuffer.array(), 0, valueBufferPosition, this);
-						} catch (BimserverConcurrentModificationDatabaseException e) {
-							throw e;
+					list.add(object);
+				}
+				for (EClass eClass : objectsPerClass.keySet()) {
+					List<IdEObject> objects = objectsPerClass.get(eClass);
+					String tableName = database.getTableName(eClass);
+					PackageMetaData packageMetaData = getMetaDataManager().getPackageMetaData(eClass.getEPackage().getName());
+					boolean noOverwrite = eClass.getEAnnotation("nolazyload") == null && !overwriteEnabled;
+					List<EStructuralFeature> indexFeatures = getIndexFeatures(eClass);
+					List<byte[]> oldValues = null;
+					if (!indexFeatures.isEmpty() && perRecordVersioning(eClass)) {
+						List<byte[]> oldKeys = new ArrayList<>(objects.size());
+						for (IdEObject object : objects) {
+							oldKeys.add(createKeyBuffer(object.getPid(), object.getOid(), object.getRid() - 1).array());
 						}
-					} else {
-						database.getKeyValueStore().store(object.eClass().getEPackage().getName() + "_" + object.eClass().getName(), keyBuffer.array(),
-								valueBuffer.array(), 0, valueBuffer.position(), this);
+						oldValues = database.getKeyValueStore().getBatch(tableName, oldKeys, this);
 					}
-					if (progressHandler != null) {
-						progressHandler.progress(++current, objectsToCommit.size());
+					for (int i = 0; i < objects.size(); i++) {
+						IdEObject object = objects.get(i);
+						if (object.getOid() == -1) {
+							throw new BimserverDatabaseException("Cannot store object with oid -1");
+						}
+						byte[] key = createKeyBuffer(object.getPid(), object.getOid(), object.getRid()).array();
+						if (DEVELOPER_DEBUG) {
+							LOGGER.info("Write: " + eClass.getName() + " " + "pid=" + object.getPid() + " oid=" + object.getOid() + " rid=" + object.getRid());
+						}
+						ByteBuffer valueBuffer = convertObjectToByteArray(object, reusableBuffer, packageMetaData);
+						byte[] value = Arrays.copyOf(valueBuffer.array(), valueBuffer.position());
+						if (!indexFeatures.isEmpty()) {
+							updateIndices(key, object.getPid(), object.getRid(), object.getOid(), eClass, indexFeatures, ByteBuffer.wrap(value), oldValues == null ? null : oldValues.get(i));
+						}
+						if (noOverwrite) {
+							writeBatch.storeNoOverwrite(tableName, key, value);
+						} else {
+							writeBatch.store(tableName, key, value);
+						}
+						if (writeBatch.size() >= WRITE_BATCH_SIZE) {
+							database.getKeyValueStore().storeBatch(writeBatch, this);
+							writeBatch.clear();
+						}
+						if (progressHandler != null) {
+							progressHandler.progress(++current, objectsToCommit.size());
+						}
+						writes++;
+						reusableBuffer = valueBuffer; // bimServerClient may have increased the size of the buffer by creating a new one, we keep using it for other objects
+						reusableBuffer.position(0);
 					}
-					writes++;
-					reusableBuffer = valueBuffer; // bimServerClient may have increased the size of the buffer by creating a new one, we keep using it for other objects
-					reusableBuffer.position(0);
 				}
 			}
+			if (!writeBatch.isEmpty()) {
+				database.getKeyValueStore().storeBatch(writeBatch, this);
+			}
 			if (bimTransaction != null) {
 				bimTransaction.commit();
 				database.getKeyValueStore().sync();
@@ -267,72 +308,59 @@ public class DatabaseSession implements LazyLoader, OidProvider, DatabaseInterfa
 		}
 	}
 
-	private void processPossibleIndices(ByteBuffer keyBuffer, int pid, int rid, long oid, EClass eClass, ByteBuffer valueBuffer) throws BimserverLockConflictException, BimserverDatabaseException {
-		boolean hasAtLeastOneIndex = false;
+	private List<EStructuralFeature> getIndexFeatures(EClass eClass) {
+		List<EStructuralFeature> indexFeatures = new ArrayList<>();
 		for (EStructuralFeature eStructuralFeature : eClass.getEAllStructuralFeatures()) {
 			if (eStructuralFeature.getEAnnotation("singleindex") != null) {
-				hasAtLeastOneIndex = true;
-				break;
+				indexFeatures.add(eStructuralFeature);
 			}
 		}
-		if (hasAtLeastOneIndex) {
+		return indexFeatures;
+	}
+
+	private void processPossibleIndices(ByteBuffer keyBuffer, int pid, int rid, long oid, EClass eClass, ByteBuffer valueBuffer) throws BimserverLockConflictException, BimserverDatabaseException {
+		List<EStructuralFeature> indexFeatures = getIndexFeatures(eClass);
+		if (!indexFeatures.isEmpty()) {
 			byte[] oldData = null;
-			ByteBuffer oldKeyBuffer = null;
-			boolean perRecordVersioning = perRecordVersioning(eClass);
-			if (perRecordVersioning) {
-				oldKeyBuffer = ByteBuffer.allocate(16);
-				oldKeyBuffer.putInt(pid);
-				oldKeyBuffer.putLong(oid);
-				oldKeyBuffer.putInt(-(rid - 1));
-				oldData = database.getKeyValueStore().get(eClass.getEPackage().getName() + "_" + eClass.getName(), oldKeyBuffer.array(), this);
+			if (perRecordVersioning(eClass)) {
+				oldData = database.getKeyValueStore().get(database.getTableName(eClass), createKeyBuffer(pid, oid, rid - 1).array(), this);
+			}
+			updateIndices(keyBuffer.array(), pid, rid, oid, eClass, indexFeatures, valueBuffer, oldData);
+		}
+	}
+
+	private void updateIndices(byte[] key, int pid, int rid, long oid, EClass eClass, List<EStructuralFeature> indexFeatures, ByteBuffer valueBuffer, byte[] oldData) throws BimserverLockConflictException, BimserverDatabaseException {
+		boolean perRecordVersioning = perRecordVersioning(eClass);
+		for (EStructuralFeature eStructuralFeature : indexFeatures) {
+			String indexTableName = eClass.getEPackage().getName() + "_" + eClass.getName() + "_" + eStructuralFeature.getName();
+			if (perRecordVersioning && oldData != null) {
+				ByteBuffer oldValue = ByteBuffer.wrap(oldData);
+				
+				byte[] featureBytesOldIndex = extractFeatureBytes(this, oldValue, eClass, eStructuralFeature);
+				
+				database.getKeyValueStore().delete(indexTableName, featureBytesOldIndex, createKeyBuffer(pid, oid, rid - 1).array(), this);
 			}
 			
-			for (EStructuralFeature eStructuralFeature : eClass.getEAllStructuralFeatures()) {
-				if (eStructuralFeature.getEAnnotation("singleindex") != null) {
-					String indexTableName = eClass.getEPackage().getName() + "_" + eClass.getName() + "_" + eStructuralFeature.getName();
-					if (perRecordVersioning && oldData != null) {
-						ByteBuffer oldValue = ByteBuffer.wrap(oldData);
-						
-						byte[] featureBytesOldIndex = extractFeatureBytes(this, oldValue, eClass, eStructuralFeature);
-						
-						if (!perRecordVersioning) {
-							ByteBuffer oldFeatureBuffer = ByteBuffer.allocate(featureBytesOldIndex.length + 8);
-							oldFeatureBuffer.putInt(pid);
-							oldFeatureBuffer.putInt(-(rid - 1));
-							oldFeatureBuffer.put(featureBytesOldIndex);
-							featureBytesOldIndex = oldFeatureBuffer.array();
-						}
-						
-						database.getKeyValueStore().delete(indexTableName, featureBytesOldIndex, oldKeyBuffer.array(), this);
-					}
-					
-					byte[] featureBytes = extractFeatureBytes(this, valueBuffer, eClass, eStructuralFeature);
-					if (featureBytes != null) {
-						if (!perRecordVersioning) {
-							ByteBuffer featureBuffer = ByteBuffer.allocate(featureBytes.length + 8);
-							featureBuffer.putInt(pid);
-							featureBuffer.putInt(-rid);
-							featureBuffer.put(featureBytes);
-							featureBytes = featureBuffer.array();
-						}
-						database.getKeyValueStore().store(indexTableName, featureBytes, keyBuffer.array(), this);
-					}
+			byte[] featureBytes = extractFeatureBytes(this, valueBuffer, eClass, eStructuralFeature);
+			if (featureBytes != null) {
+				if (!perRecordVersioning) {
+					ByteBuffer featureBuffer = ByteBuffer.allocate(featureBytes.length + 8);
+					featureBuffer.putInt(pid);
+					featureBuffer.putInt(-rid);
+					featureBuffer.put(featureBytes);
+					featureBytes = featureBuffer.array();
 				}
+				database.getKeyValueStore().store(indexTableName, featureBytes, key, this);
 			}
 		}
 	}
 
-	private void fillKeyBuffer(ByteBuffer buffer, RecordIdentifierPlusType recordIdentifier) {
-		fillKeyBuffer(buffer, recordIdentifier.getPid(), recordIdentifier.getOid(), recordIdentifier.getRid());
-	}
-
 	private IdEObjectImpl createInternal(EClass eClass, QueryInterface queryInterface) {
 		IdEObjectImpl object = (IdEObjectImpl) eClass.getEPackage().getEFactoryInstance().create(eClass);
 		object.setQueryInterface(queryInterface);
 		return object;
 	}
 
-	@SuppressWarnings({ "unused" })
 	private IdEObject convertByteArrayToObject(IdEObject idEObject, EClass originalQueryClass, EClass eClass, long oid, ByteBuffer buffer, IfcModelInterface model, int rid, QueryInterface query, TodoList todoList) throws BimserverDatabaseException {
 		try {
 			if (idEObject == null) {
@@ -1053,6 +1081,10 @@ public class DatabaseSession implements LazyLoader, OidProvider, DatabaseInterfa
 	public int getCount(EClass eClass, IfcModelInterface model, int pid, int rid) throws BimserverDatabaseException {
 		// TODO, only need to fetch the first byte of the value to be able to do the null-check, needs change in keyvaluestore layer
 		checkOpen();
+		VisibleOids visibleOids = database.getRevisionVisibilityIndex().get(this, pid, rid, eClass);
+		if (visibleOids != null) {
+			return visibleOids.size();
+		}
 		int count = 0;
 		SearchingRecordIterator recordIterator = database.getKeyValueStore().getRecordIterator(eClass.getEPackage().getName() + "_" + eClass.getName(),
 				BinUtils.intToByteArray(pid), BinUtils.intToByteArray(pid), this);
@@ -2352,6 +2384,30 @@ public class DatabaseSession implements LazyLoader, OidProvider, DatabaseInterfa
 		return database.getKeyValueStore();
 	}
 
+	public SpatialIndex getSpatialIndex() {
+		return database.getSpatialIndex();
+	}
+
+	public GeometryDataIndex getGeometryDataIndex() {
+		return database.getGeometryDataIndex();
+	}
+
+	public PropertyIndex getPropertyIndex() {
+		return database.getPropertyIndex();
+	}
+
+	public ClassificationIndex getClassificationIndex() {
+		return database.getClassificationIndex();
+	}
+
+	public RevisionVisibilityIndex getRevisionVisibilityIndex() {
+		return database.getRevisionVisibilityIndex();
+	}
+
+	public RevisionMetaDataCache getRevisionMetaDataCache() {
+		return database.getRevisionMetaDataCache();
+	}
+
 	@Override
 	public byte[] get(String tableName, byte[] key) throws BimserverLockConflictException, BimserverDatabaseException {
 		return database.getKeyValueStore().get(tableName, key, this);
@@ -2370,22 +2426,61 @@ public class DatabaseSession implements LazyLoader, OidProvider, DatabaseInterfa
 		if (voCache == null) {
 			synchronized (this) {
 				if (voCache == null) {
-					voCache = new ConcurrentHashMap<>();
+					voCache = new LongLruCache<>(VO_CACHE_SIZE);
 				}
 			}
 		}
 	}
 	
+	/**
+	 * Caches an object that can be read again from the database, it is evicted when the cache is full
+	 */
 	public void cache(HashMapVirtualObject object) {
 		makeSureCacheExists();
 		voCache.put(object.getOid(), object);
 	}
+
+	/**
+	 * Caches an object that will be changed again later in this session, it stays in the cache until it is unpinned or uncached
+	 */
+	public void cachePinned(HashMapVirtualObject object) {
+		makeSureCacheExists();
+		voCache.putPinned(object.getOid(), object);
+	}
+
+	/**
+	 * Makes a pinned object evictable again
+	 */
+	public void unpin(long oid) {
+		if (voCache != null) {
+			voCache.unpin(oid);
+		}
+	}
+
+	public void uncache(long oid) {
+		if (voCache != null) {
+			voCache.remove(oid);
+		}
+	}
 	
 	public HashMapVirtualObject getFromCache(long oid) {
 		makeSureCacheExists();
 		return voCache.get(oid);
 	}
 
+	/**
+	 * Only returns an object that was read for the given revision, the cache is shared by all revisions read in this session
+	 */
+	public HashMapVirtualObject getFromCache(long oid, int rid) {
+		makeSureCacheExists();
+		return voCache.get(oid, object -> object.getReusable() == null || object.getReusable().getRid() == rid);
+	}
+
+	public String getCacheStatistics() {
+		LongLruCache<HashMapVirtualObject> cache = voCache;
+		return cache == null ? "not used" : cache.toString();
+	}
+
 	public <T extends IdEObject> List<T> getAll(Class<T> class1) throws BimserverDatabaseException {
 		EClass eClass = getEClass(class1.getPackage().getName(), class1.getSimpleName());
 		IfcModelInterface allOfType = getAllOfType(eClass, OldQuery.getDefault());
@@ -2407,10 +2502,9 @@ public class DatabaseSession implements LazyLoader, OidProvider, DatabaseInterfa
 	public void addStartOid(EClass eClass, long oid) {
 		String fullname = eClass.getEPackage().getName() + "." + eClass.getName();
 		Long currentStart = startOids.get(fullname);
-		if (currentStart == null) {
-			 startOids.put(fullname, oid - 65536);
-		} else if (oid < currentStart) {
-			startOids.put(fullname, oid);
+		// Like in newOid, the start is one step before the first oid, the objects are not added in oid order
+		if (currentStart == null || oid - 65536 < currentStart) {
+			startOids.put(fullname, oid - 65536);
 		}
 	}
 	
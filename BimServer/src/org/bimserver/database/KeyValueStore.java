@@ -42,6 +42,11 @@ public interface KeyValueStore {
 
 	byte[] get(String tableName, byte[] key, DatabaseSession databaseSession) throws BimserverLockConflictException, BimserverDatabaseException;
 
+	/**
+	 * Reads at most length bytes of the value, starting at offset. The result is shorter when the value is shorter.
+	 */
+	byte[] getPartial(String tableName, byte[] key, int offset, int length, DatabaseSession databaseSession) throws BimserverLockConflictException, BimserverDatabaseException;
+
 	byte[] getFirstStartingWith(String tableName, byte[] key, DatabaseSession databaseSession) throws BimserverLockConflictException, BimserverDatabaseException;
 
 	void sync();
@@ -76,6 +81,16 @@ public interface KeyValueStore {
 	
 	void store(String tableName, byte[] key, byte[] value, int offset, int length, DatabaseSession databaseSession) throws BimserverDatabaseException, BimserverLockConflictException;
 
+	/**
+	 * Writes all records of the batch, per table in key order using one cursor per table
+	 */
+	void storeBatch(WriteBatch writeBatch, DatabaseSession databaseSession) throws BimserverDatabaseException, BimserverLockConflictException;
+
+	/**
+	 * @return The values of the given keys (null for keys that do not exist), in the same order as the given keys
+	 */
+	List<byte[]> getBatch(String tableName, List<byte[]> keys, DatabaseSession databaseSession) throws BimserverDatabaseException, BimserverLockConflictException;
+
 	void dumpOpenCursors();
 
 	boolean createIndexTable(String tableName, DatabaseSession databaseSession, boolean transactional) throws BimserverDatabaseException;
@@ -89,4 +104,9 @@ public interface KeyValueStore {
 	boolean isTransactional(DatabaseSession databaseSession, String tableName) throws BimserverDatabaseException;
 
 	SearchingRecordIterator getRecordIterator(String tableName, byte[] mustStartWith, byte[] startSearchingAt, DatabaseSession databaseSession, boolean keysOnly) throws BimserverLockConflictException, BimserverDatabaseException;
+
+	/**
+	 * Only reads the first valueLength bytes of every value (less when a value is shorter), 0 only reads the keys, -1 reads the complete values
+	 */
+	SearchingRecordIterator getPartialRecordIterator(String tableName, byte[] mustStartWith, byte[] startSearchingAt, int valueLength, DatabaseSession databaseSession) throws BimserverLockConflictException, BimserverDatabaseException;
 }
\ No newline at end of file
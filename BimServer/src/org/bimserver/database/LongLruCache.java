@@ -0,0 +1,232 @@
+package org.bimserver.database;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.function.Predicate;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Thread safe cache with long keys (oids) that evicts the least recently used entry when it gets too big.
+ *
+ * The keys are spread over a number of segments that each have their own lock and their own share of the maximum size, so
+ * threads reading different objects do not wait for each other. The least recently used entry is determined per segment.
+ *
+ * Pinned entries are never evicted, this is used for objects that will be changed again later in the same session, so all
+ * threads keep working on the same instance. Pinned entries have to be unpinned or removed when that is done.
+ */
+public class LongLruCache<V> {
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final Segment<V>[] segments;
+	private final int mask;
+
+	/**
+	 * @param maxSize The maximum amount of entries that are not pinned
+	 */
+	public LongLruCache(int maxSize) {
+		this(maxSize, DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * @param maxSize The maximum amount of entries that are not pinned
+	 * @param concurrencyLevel The amount of segments, rounded up to a power of two
+	 */
+	@SuppressWarnings("unchecked")
+	public LongLruCache(int maxSize, int concurrencyLevel) {
+		int nrSegments = HashCommon.nextPowerOfTwo(Math.max(1, concurrencyLevel));
+		segments = new Segment[nrSegments];
+		mask = nrSegments - 1;
+		for (int i = 0; i < nrSegments; i++) {
+			// The remainder is divided over the first segments, so the total is exactly maxSize
+			segments[i] = new Segment<>(maxSize / nrSegments + (i < maxSize % nrSegments ? 1 : 0));
+		}
+	}
+
+	private Segment<V> getSegment(long key) {
+		// Oids of one class are consecutive, mixing spreads them over all segments
+		return segments[(int) HashCommon.mix(key) & mask];
+	}
+
+	public V get(long key) {
+		return getSegment(key).get(key, null);
+	}
+
+	/**
+	 * @return The value, or null when there is none or the value is not valid, the latter also counts as a miss
+	 */
+	public V get(long key, Predicate<? super V> valid) {
+		return getSegment(key).get(key, valid);
+	}
+
+	public void put(long key, V value) {
+		getSegment(key).put(key, value);
+	}
+
+	public void putPinned(long key, V value) {
+		getSegment(key).putPinned(key, value);
+	}
+
+	/**
+	 * Makes a pinned entry a normal entry again, it can be evicted after this
+	 */
+	public void unpin(long key) {
+		getSegment(key).unpin(key);
+	}
+
+	public void remove(long key) {
+		getSegment(key).remove(key);
+	}
+
+	public void clear() {
+		for (Segment<V> segment : segments) {
+			segment.clear();
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment<V> segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	public int getPinnedSize() {
+		int size = 0;
+		for (Segment<V> segment : segments) {
+			size += segment.getPinnedSize();
+		}
+		return size;
+	}
+
+	public long getHits() {
+		long hits = 0;
+		for (Segment<V> segment : segments) {
+			hits += segment.getHits();
+		}
+		return hits;
+	}
+
+	public long getMisses() {
+		long misses = 0;
+		for (Segment<V> segment : segments) {
+			misses += segment.getMisses();
+		}
+		return misses;
+	}
+
+	public long getEvictions() {
+		long evictions = 0;
+		for (Segment<V> segment : segments) {
+			evictions += segment.getEvictions();
+		}
+		return evictions;
+	}
+
+	@Override
+	public String toString() {
+		return "size: " + size() + ", pinned: " + getPinnedSize() + ", hits: " + getHits() + ", misses: " + getMisses() + ", evictions: " + getEvictions();
+	}
+
+	private static class Segment<V> {
+		private final Long2ObjectLinkedOpenHashMap<V> entries = new Long2ObjectLinkedOpenHashMap<>();
+		private final Long2ObjectOpenHashMap<V> pinned = new Long2ObjectOpenHashMap<>();
+		private final int maxSize;
+		private long hits;
+		private long misses;
+		private long evictions;
+
+		Segment(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		synchronized V get(long key, Predicate<? super V> valid) {
+			V value = pinned.get(key);
+			if (value == null) {
+				value = entries.getAndMoveToLast(key);
+			}
+			if (value != null && valid != null && !valid.test(value)) {
+				value = null;
+			}
+			if (value == null) {
+				misses++;
+			} else {
+				hits++;
+			}
+			return value;
+		}
+
+		synchronized void put(long key, V value) {
+			if (pinned.containsKey(key)) {
+				pinned.put(key, value);
+				return;
+			}
+			entries.putAndMoveToLast(key, value);
+			while (entries.size() > maxSize) {
+				entries.removeFirst();
+				evictions++;
+			}
+		}
+
+		synchronized void putPinned(long key, V value) {
+			entries.remove(key);
+			pinned.put(key, value);
+		}
+
+		synchronized void unpin(long key) {
+			V value = pinned.remove(key);
+			if (value != null) {
+				put(key, value);
+			}
+		}
+
+		synchronized void remove(long key) {
+			if (pinned.remove(key) == null) {
+				entries.remove(key);
+			}
+		}
+
+		synchronized void clear() {
+			entries.clear();
+			pinned.clear();
+		}
+
+		synchronized int size() {
+			return entries.size() + pinned.size();
+		}
+
+		synchronized int getPinnedSize() {
+			return pinned.size();
+		}
+
+		synchronized long getHits() {
+			return hits;
+		}
+
+		synchronized long getMisses() {
+			return misses;
+		}
+
+		synchronized long getEvictions() {
+			return evictions;
+		}
+	}
+}
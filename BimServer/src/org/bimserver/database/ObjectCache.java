@@ -20,16 +20,17 @@ package org.bimserver.database;
 import org.bimserver.emf.IdEObject;
 import org.bimserver.emf.IdEObjectImpl;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 
+/**
+ * Keeps the one instance per oid that is used within a session, objects are referenced by the models of the session so
+ * this cache cannot evict anything. Use {@link LongLruCache} for objects that can be read again.
+ */
 public class ObjectCache {
-	private final BiMap<Long, IdEObjectImpl> oidCache = HashBiMap.create();
+	private final Long2ObjectOpenHashMap<IdEObjectImpl> oidCache = new Long2ObjectOpenHashMap<>();
 
 	public void put(long oid, IdEObject object) {
-		if (!oidCache.containsValue(object)) {
-			oidCache.put(oid, (IdEObjectImpl) object);
-		}
+		oidCache.put(oid, (IdEObjectImpl) object);
 	}
 	
 	public IdEObject get(long oid) {
@@ -37,11 +38,14 @@ public class ObjectCache {
 	}
 	
 	public long get(IdEObject object) {
-		return oidCache.inverse().get(object);
+		if (!contains(object)) {
+			throw new IllegalArgumentException("Object not in cache: " + object.getOid());
+		}
+		return object.getOid();
 	}
 	
 	public boolean contains(IdEObject object) {
-		return oidCache.inverse().containsKey(object);
+		return oidCache.get(object.getOid()) == object;
 	}
 
 	public boolean contains(long oid) {
@@ -51,4 +55,8 @@ public class ObjectCache {
 	public void clear() {
 		oidCache.clear();
 	}
+
+	public int size() {
+		return oidCache.size();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package org.bimserver.database;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.actions.AbstractDownloadDatabaseAction;
+import org.bimserver.emf.MetaDataManager;
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.models.store.ConcreteRevision;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the information that is needed to start querying a concrete revision (oid counters, stop rid and package meta data),
+ * so concurrent queries on the same revision do not have to compute it again.
+ *
+ * Computing an entry is cheap enough to not lock anything, when two threads compute the same entry they get the same result.
+ */
+public class RevisionMetaDataCache {
+	private static final int MAX_SIZE = 10000;
+	private final Cache<Long, RevisionMetaData> cache = CacheBuilder.newBuilder().maximumSize(MAX_SIZE).build();
+	private final MetaDataManager metaDataManager;
+
+	public RevisionMetaDataCache(MetaDataManager metaDataManager) {
+		this.metaDataManager = metaDataManager;
+	}
+
+	public static class RevisionMetaData {
+		private final int pid;
+		private final int highestStopRid;
+		private final PackageMetaData packageMetaData;
+		private final OidCounters oidCounters;
+
+		public RevisionMetaData(int pid, int highestStopRid, PackageMetaData packageMetaData, OidCounters oidCounters) {
+			this.pid = pid;
+			this.highestStopRid = highestStopRid;
+			this.packageMetaData = packageMetaData;
+			this.oidCounters = oidCounters;
+		}
+
+		public int getPid() {
+			return pid;
+		}
+
+		public int getHighestStopRid() {
+			return highestStopRid;
+		}
+
+		public PackageMetaData getPackageMetaData() {
+			return packageMetaData;
+		}
+
+		/**
+		 * @return The oid counters, or null when the revision does not have them
+		 */
+		public OidCounters getOidCounters() {
+			return oidCounters;
+		}
+	}
+
+	public RevisionMetaData get(ConcreteRevision concreteRevision, DatabaseSession databaseSession) throws BimserverDatabaseException {
+		RevisionMetaData revisionMetaData = cache.getIfPresent(concreteRevision.getOid());
+		if (revisionMetaData == null) {
+			int highestStopRid = AbstractDownloadDatabaseAction.findHighestStopRid(concreteRevision.getProject(), concreteRevision);
+			PackageMetaData packageMetaData = metaDataManager.getPackageMetaData(concreteRevision.getProject().getSchema());
+			OidCounters oidCounters = null;
+			if (concreteRevision.getOidCounters() != null) {
+				oidCounters = new OidCounters(databaseSession, concreteRevision.getOidCounters());
+			}
+			revisionMetaData = new RevisionMetaData(concreteRevision.getProject().getId(), highestStopRid, packageMetaData, oidCounters);
+			cache.put(concreteRevision.getOid(), revisionMetaData);
+		}
+		return revisionMetaData;
+	}
+
+	public void invalidate(long croid) {
+		cache.invalidate(croid);
+	}
+
+	/**
+	 * Removes the entries of all revisions of the given project, the stop rids and oid counters might have changed by a new concrete revision
+	 */
+	public void invalidateProject(int pid) {
+		cache.asMap().values().removeIf(revisionMetaData -> revisionMetaData.getPid() == pid);
+	}
+
+	public long size() {
+		return cache.size();
+	}
+}
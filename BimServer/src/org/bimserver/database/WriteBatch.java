@@ -0,0 +1,118 @@
+package org.bimserver.database;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.common.primitives.UnsignedBytes;
+
+/**
+ * Collects records for multiple tables, so they can be written with one cursor per table in key order.
+ *
+ * Keys and values are not copied, callers should not reuse the arrays after adding them.
+ */
+public class WriteBatch {
+	private static final Comparator<Entry> KEY_COMPARATOR = new Comparator<Entry>() {
+		private final Comparator<byte[]> comparator = UnsignedBytes.lexicographicalComparator();
+
+		@Override
+		public int compare(Entry o1, Entry o2) {
+			return comparator.compare(o1.getKey(), o2.getKey());
+		}
+	};
+
+	private final Map<String, List<Entry>> tables = new TreeMap<>();
+	private int size;
+
+	public static class Entry {
+		private final byte[] key;
+		private final byte[] value;
+		private final boolean noOverwrite;
+
+		public Entry(byte[] key, byte[] value, boolean noOverwrite) {
+			this.key = key;
+			this.value = value;
+			this.noOverwrite = noOverwrite;
+		}
+
+		public byte[] getKey() {
+			return key;
+		}
+
+		public byte[] getValue() {
+			return value;
+		}
+
+		public boolean isNoOverwrite() {
+			return noOverwrite;
+		}
+	}
+
+	public void store(String tableName, byte[] key, byte[] value) {
+		add(tableName, new Entry(key, value, false));
+	}
+
+	public void storeNoOverwrite(String tableName, byte[] key, byte[] value) {
+		add(tableName, new Entry(key, value, true));
+	}
+
+	private void add(String tableName, Entry entry) {
+		List<Entry> entries = tables.get(tableName);
+		if (entries == null) {
+			entries = new ArrayList<>();
+			tables.put(tableName, entries);
+		}
+		entries.add(entry);
+		size++;
+	}
+
+	public Set<String> getTableNames() {
+		return tables.keySet();
+	}
+
+	/**
+	 * @return The entries of the given table, sorted by key (unsigned, like the key-value store sorts them)
+	 */
+	public List<Entry> getSortedEntries(String tableName) {
+		List<Entry> entries = tables.get(tableName);
+		if (entries == null) {
+			return Collections.emptyList();
+		}
+		Collections.sort(entries, KEY_COMPARATOR);
+		return entries;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		tables.clear();
+		size = 0;
+	}
+}
@@ -0,0 +1,440 @@
+package org.bimserver.database.actions;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.bimserver.BimServer;
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.changes.Transaction;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.queries.QueryObjectProvider;
+import org.bimserver.database.queries.om.Query;
+import org.bimserver.database.queries.om.QueryException;
+import org.bimserver.database.queries.om.QueryPart;
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.plugins.serializers.ObjectProvider;
+import org.bimserver.shared.HashMapVirtualObject;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+/**
+ * Finds the products of which the geometry is changed by a transaction. A product is affected when one of the objects that
+ * can be reached from its ObjectPlacement or Representation has been created or changed, when one of those references has
+ * been changed, or when the geometry of one of its openings is affected.
+ *
+ * Starting at the changed objects, the objects that refer to them are looked up level by level until the products are
+ * reached. Referrers are found through the stored inverse references where the schema has them (placements, product
+ * definition shapes, representations and maps). For the other references (mostly within representation items) only the
+ * classes that can refer to the objects of the current level are read. New objects can only be referred to by other
+ * objects of the transaction, so those are never looked up in the database.
+ */
+public class AffectedProducts {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AffectedProducts.class);
+
+	private final BimServer bimServer;
+	private final DatabaseSession databaseSession;
+	private final PackageMetaData packageMetaData;
+	private final EClass productClass;
+	private final EClass relVoidsElementClass;
+	private final EReference objectPlacementFeature;
+	private final EReference representationFeature;
+	private final EReference geometryFeature;
+	private final EReference relatingBuildingElementFeature;
+	private final EReference relatedOpeningElementFeature;
+
+	// All (non product) classes of which the objects can influence the geometry of a product
+	private final Set<EClass> geometryClasses = new HashSet<>();
+	// The classes of which the objects can refer to objects that influence the geometry of a product
+	private final Set<EClass> referringClasses = new HashSet<>();
+	private final Map<EClass, List<EReference>> upwardReferences = new HashMap<>();
+	private final Map<EClass, Referrers> referrers = new HashMap<>();
+
+	private final LongOpenHashSet affectedProducts = new LongOpenHashSet();
+	private final LongOpenHashSet deletedProducts = new LongOpenHashSet();
+	private final LongOpenHashSet replacedGeometry = new LongOpenHashSet();
+	private int objectsRead;
+	private int classesScanned;
+
+	/**
+	 * How the objects that refer to an object of a certain class are found
+	 */
+	private static class Referrers {
+		// Inverse references of the class itself that point to the referrers
+		private final Set<EReference> inverses = new LinkedHashSet<>();
+		// Classes of which all objects have to be read, because the reference has no stored inverse
+		private final Set<EClass> classesToScan = new LinkedHashSet<>();
+	}
+
+	public AffectedProducts(BimServer bimServer, DatabaseSession databaseSession, PackageMetaData packageMetaData) {
+		this.bimServer = bimServer;
+		this.databaseSession = databaseSession;
+		this.packageMetaData = packageMetaData;
+		this.productClass = packageMetaData.getEClass("IfcProduct");
+		this.relVoidsElementClass = packageMetaData.getEClass("IfcRelVoidsElement");
+		this.objectPlacementFeature = (EReference) productClass.getEStructuralFeature("ObjectPlacement");
+		this.representationFeature = (EReference) productClass.getEStructuralFeature("Representation");
+		this.geometryFeature = (EReference) productClass.getEStructuralFeature("geometry");
+		this.relatingBuildingElementFeature = (EReference) relVoidsElementClass.getEStructuralFeature("RelatingBuildingElement");
+		this.relatedOpeningElementFeature = (EReference) relVoidsElementClass.getEStructuralFeature("RelatedOpeningElement");
+
+		Deque<EClass> toDo = new ArrayDeque<>();
+		toDo.addAll(packageMetaData.getAllSubClassesIncludingSelf(objectPlacementFeature.getEReferenceType()));
+		toDo.addAll(packageMetaData.getAllSubClassesIncludingSelf(representationFeature.getEReferenceType()));
+		while (!toDo.isEmpty()) {
+			EClass eClass = toDo.pop();
+			if (eClass.getEPackage() != packageMetaData.getEPackage() || productClass.isSuperTypeOf(eClass) || !geometryClasses.add(eClass)) {
+				continue;
+			}
+			List<EReference> references = new ArrayList<>();
+			for (EReference eReference : eClass.getEAllReferences()) {
+				if (!isInverse(eReference)) {
+					references.add(eReference);
+					toDo.addAll(packageMetaData.getAllSubClassesIncludingSelf(eReference.getEReferenceType()));
+				}
+			}
+			upwardReferences.put(eClass, references);
+		}
+		for (EClass eClass : packageMetaData.getAllSubClassesIncludingSelf(productClass)) {
+			upwardReferences.put(eClass, List.of(objectPlacementFeature, representationFeature));
+		}
+		for (EClass eClass : packageMetaData.getAllSubClassesIncludingSelf(relVoidsElementClass)) {
+			upwardReferences.put(eClass, List.of(relatedOpeningElementFeature));
+		}
+		referringClasses.addAll(upwardReferences.keySet());
+	}
+
+	/**
+	 * @return Whether the transaction changes any object that can influence the geometry of a product
+	 */
+	public boolean isAffectedBy(Transaction transaction) {
+		for (Iterable<HashMapVirtualObject> objects : List.of(transaction.getCreated(), transaction.getUpdated(), transaction.getDeleted())) {
+			for (HashMapVirtualObject object : objects) {
+				if (isRelevant(object.eClass())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean isRelevant(EClass eClass) {
+		return geometryClasses.contains(eClass) || productClass.isSuperTypeOf(eClass) || relVoidsElementClass.isSuperTypeOf(eClass);
+	}
+
+	public void compute(Transaction transaction, long previousRoid, long newRoid) throws BimserverDatabaseException, IOException, QueryException {
+		long start = System.nanoTime();
+		// The new state of the objects of the transaction
+		Long2ObjectOpenHashMap<HashMapVirtualObject> changed = new Long2ObjectOpenHashMap<>();
+		LongOpenHashSet created = new LongOpenHashSet();
+		LongOpenHashSet affected = new LongOpenHashSet();
+		for (HashMapVirtualObject object : transaction.getCreated()) {
+			changed.put(object.getOid(), object);
+			created.add(object.getOid());
+			affected.add(object.getOid());
+		}
+		List<Long> updatedProducts = new ArrayList<>();
+		for (HashMapVirtualObject object : transaction.getUpdated()) {
+			changed.put(object.getOid(), object);
+			if (productClass.isSuperTypeOf(object.eClass())) {
+				updatedProducts.add(object.getOid());
+			} else {
+				affected.add(object.getOid());
+			}
+		}
+		for (HashMapVirtualObject object : transaction.getDeleted()) {
+			changed.remove(object.getOid());
+			affected.remove(object.getOid());
+			if (productClass.isSuperTypeOf(object.eClass())) {
+				deletedProducts.add(object.getOid());
+				addReferencedOid(replacedGeometry, object.eGet(geometryFeature));
+			} else if (relVoidsElementClass.isSuperTypeOf(object.eClass())) {
+				// The opening is no longer cut out of the element
+				addReferencedOid(affected, object.eGet(relatingBuildingElementFeature));
+			}
+		}
+		addChangedProducts(transaction, updatedProducts, previousRoid, affected);
+		affected.removeAll(deletedProducts);
+
+		// Referrers of new objects, these are all part of the transaction
+		Long2ObjectOpenHashMap<LongArrayList> referrersOfCreated = new Long2ObjectOpenHashMap<>();
+		for (HashMapVirtualObject object : changed.values()) {
+			for (EReference eReference : getUpwardReferences(object.eClass())) {
+				for (long oid : getReferencedOids(object, eReference)) {
+					if (created.contains(oid)) {
+						referrersOfCreated.computeIfAbsent(oid, k -> new LongArrayList()).add(object.getOid());
+					}
+				}
+			}
+		}
+
+		List<Long> productsWithoutRepresentation = new ArrayList<>();
+		LongArrayList level = new LongArrayList(affected);
+		int levels = 0;
+		while (!level.isEmpty()) {
+			levels++;
+			LongArrayList nextLevel = new LongArrayList();
+			Set<EClass> classesToScan = new HashSet<>();
+			LongOpenHashSet scanFor = new LongOpenHashSet();
+			for (HashMapVirtualObject object : getObjects(level, changed, newRoid)) {
+				long oid = object.getOid();
+				EClass eClass = object.eClass();
+				if (productClass.isSuperTypeOf(eClass)) {
+					affectedProducts.add(oid);
+					addReferencedOid(replacedGeometry, object.eGet(geometryFeature));
+					if (getReferencedOids(object, representationFeature).isEmpty() && getReferencedOids(object, geometryFeature).size() == 1) {
+						productsWithoutRepresentation.add(oid);
+					}
+				} else if (relVoidsElementClass.isSuperTypeOf(eClass)) {
+					addAffected(affected, nextLevel, getReferencedOids(object, relatingBuildingElementFeature));
+				}
+				if (created.contains(oid)) {
+					LongArrayList referrersOfObject = referrersOfCreated.get(oid);
+					if (referrersOfObject != null) {
+						addAffected(affected, nextLevel, referrersOfObject);
+					}
+					continue;
+				}
+				Referrers referrersOfClass = getReferrers(eClass);
+				for (EReference inverse : referrersOfClass.inverses) {
+					addAffected(affected, nextLevel, getReferencedOids(object, inverse));
+				}
+				if (!referrersOfClass.classesToScan.isEmpty()) {
+					classesToScan.addAll(referrersOfClass.classesToScan);
+					scanFor.add(oid);
+				}
+			}
+			if (!scanFor.isEmpty()) {
+				scan(classesToScan, scanFor, newRoid, affected, nextLevel);
+			}
+			level = nextLevel;
+		}
+		clearGeometry(productsWithoutRepresentation, newRoid);
+		affectedProducts.removeAll(deletedProducts);
+		LOGGER.info(affectedProducts.size() + " products affected by transaction (" + levels + " levels, " + objectsRead + " objects read, " + classesScanned + " classes scanned, " + ((System.nanoTime() - start) / 1000000) + " ms)");
+	}
+
+	/**
+	 * An updated product is only affected when its placement or representation has been replaced, not for example when only its name has changed
+	 */
+	private void addChangedProducts(Transaction transaction, List<Long> updatedProducts, long previousRoid, LongOpenHashSet affected) throws BimserverDatabaseException, IOException, QueryException {
+		if (updatedProducts.isEmpty()) {
+			return;
+		}
+		Collections.sort(updatedProducts);
+		Query query = new Query(packageMetaData);
+		QueryPart queryPart = query.createQueryPart();
+		queryPart.addOids(updatedProducts);
+		ObjectProvider objectProvider = createObjectProvider(query, previousRoid);
+		HashMapVirtualObject previous = objectProvider.next();
+		while (previous != null) {
+			HashMapVirtualObject current = transaction.get(previous.getOid());
+			if (current == null || !Objects.equals(previous.eGet(objectPlacementFeature), current.eGet(objectPlacementFeature)) || !Objects.equals(previous.eGet(representationFeature), current.eGet(representationFeature))) {
+				affected.add(previous.getOid());
+			}
+			previous = objectProvider.next();
+		}
+	}
+
+	/**
+	 * @return The objects with the given oids, the ones of the transaction as they are now, the others read from the new revision
+	 */
+	private List<HashMapVirtualObject> getObjects(LongArrayList oids, Long2ObjectOpenHashMap<HashMapVirtualObject> changed, long newRoid) throws BimserverDatabaseException, IOException, QueryException {
+		List<HashMapVirtualObject> objects = new ArrayList<>();
+		List<Long> toRead = new ArrayList<>();
+		for (long oid : oids) {
+			HashMapVirtualObject object = changed.get(oid);
+			if (object != null) {
+				objects.add(object);
+			} else {
+				toRead.add(oid);
+			}
+		}
+		if (!toRead.isEmpty()) {
+			Collections.sort(toRead);
+			Query query = new Query(packageMetaData);
+			QueryPart queryPart = query.createQueryPart();
+			queryPart.addOids(toRead);
+			ObjectProvider objectProvider = createObjectProvider(query, newRoid);
+			HashMapVirtualObject next = objectProvider.next();
+			while (next != null) {
+				objectsRead++;
+				objects.add(next);
+				next = objectProvider.next();
+			}
+		}
+		return objects;
+	}
+
+	/**
+	 * Reads all objects of the given classes from the new revision, the ones that refer to one of the given oids are affected
+	 */
+	private void scan(Set<EClass> classesToScan, LongOpenHashSet targets, long newRoid, LongOpenHashSet affected, LongArrayList nextLevel) throws BimserverDatabaseException, IOException, QueryException {
+		Query query = new Query(packageMetaData);
+		QueryPart queryPart = query.createQueryPart();
+		for (EClass eClass : classesToScan) {
+			queryPart.addType(eClass, false);
+		}
+		classesScanned += classesToScan.size();
+		ObjectProvider objectProvider = createObjectProvider(query, newRoid);
+		HashMapVirtualObject next = objectProvider.next();
+		while (next != null) {
+			objectsRead++;
+			if (!affected.contains(next.getOid()) && refersTo(next, targets)) {
+				affected.add(next.getOid());
+				nextLevel.add(next.getOid());
+			}
+			next = objectProvider.next();
+		}
+	}
+
+	private boolean refersTo(HashMapVirtualObject object, LongOpenHashSet targets) {
+		for (EReference eReference : getUpwardReferences(object.eClass())) {
+			for (long oid : getReferencedOids(object, eReference)) {
+				if (targets.contains(oid)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Products of which the Representation has been removed do not get new geometry, the reference to their old geometry is removed
+	 */
+	private void clearGeometry(List<Long> products, long newRoid) throws BimserverDatabaseException, IOException, QueryException {
+		products.removeIf(deletedProducts::contains);
+		if (products.isEmpty()) {
+			return;
+		}
+		Collections.sort(products);
+		Query query = new Query(packageMetaData);
+		QueryPart queryPart = query.createQueryPart();
+		queryPart.addOids(products);
+		ObjectProvider objectProvider = createObjectProvider(query, newRoid);
+		HashMapVirtualObject next = objectProvider.next();
+		while (next != null) {
+			next.eUnset(geometryFeature);
+			next.saveOverwrite();
+			next = objectProvider.next();
+		}
+	}
+
+	ObjectProvider createObjectProvider(Query query, long roid) throws IOException, QueryException {
+		return new QueryObjectProvider(databaseSession, bimServer, query, Collections.singleton(roid), packageMetaData);
+	}
+
+	/**
+	 * Only the references of the entities of the schema can be inverses, the other classes are the lists of two dimensional lists
+	 */
+	private boolean isInverse(EReference eReference) {
+		return packageMetaData.getSchemaDefinition().getEntityBNNoCaseConvert(packageMetaData.getUpperCase(eReference.getEContainingClass())) != null && packageMetaData.isInverse(eReference);
+	}
+
+	private List<EReference> getUpwardReferences(EClass eClass) {
+		List<EReference> references = upwardReferences.get(eClass);
+		return references == null ? Collections.emptyList() : references;
+	}
+
+	private Referrers getReferrers(EClass eClass) {
+		Referrers result = referrers.get(eClass);
+		if (result == null) {
+			result = new Referrers();
+			for (EClass referringClass : referringClasses) {
+				for (EReference eReference : getUpwardReferences(referringClass)) {
+					if (!eReference.getEReferenceType().isSuperTypeOf(eClass)) {
+						continue;
+					}
+					EReference inverse = packageMetaData.hasInverse(eReference) ? packageMetaData.getInverseOrOpposite(eClass, eReference) : null;
+					if (inverse != null && eClass.getEAllReferences().contains(inverse) && packageMetaData.useForDatabaseStorage(eClass, inverse)) {
+						result.inverses.add(inverse);
+					} else {
+						result.classesToScan.add(referringClass);
+					}
+				}
+			}
+			referrers.put(eClass, result);
+		}
+		return result;
+	}
+
+	private void addAffected(LongOpenHashSet affected, LongArrayList nextLevel, LongList oids) {
+		for (long oid : oids) {
+			if (affected.add(oid)) {
+				nextLevel.add(oid);
+			}
+		}
+	}
+
+	private LongList getReferencedOids(HashMapVirtualObject object, EReference eReference) {
+		LongArrayList oids = new LongArrayList();
+		Object value = object.eGet(eReference);
+		if (value instanceof Long) {
+			addReferencedOid(oids, value);
+		} else if (value instanceof List) {
+			for (Object item : (List<?>) value) {
+				addReferencedOid(oids, item);
+			}
+		}
+		return oids;
+	}
+
+	private void addReferencedOid(LongCollection oids, Object value) {
+		if (value instanceof Long && (long) value != -1) {
+			oids.add((long) value);
+		}
+	}
+
+	/**
+	 * @return The products (visible in the new revision) of which the geometry has to be generated again
+	 */
+	public LongSet getAffectedProducts() {
+		return affectedProducts;
+	}
+
+	public LongSet getDeletedProducts() {
+		return deletedProducts;
+	}
+
+	/**
+	 * @return The GeometryInfo objects of the affected and deleted products, these should not be carried forward
+	 */
+	public LongSet getReplacedGeometry() {
+		return replacedGeometry;
+	}
+}
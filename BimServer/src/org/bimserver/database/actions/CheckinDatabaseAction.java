@@ -244,6 +244,11 @@ public class CheckinDatabaseAction extends GenericCheckinDatabaseAction {
 
 			if (ifcModel != null) {
 				getDatabaseSession().store(ifcModel.getValues(), project.getId(), concreteRevision.getId());
+				writePropertyIndex(ifcModel, project.getId(), concreteRevision.getId());
+				writeClassificationIndex(ifcModel, project.getId(), concreteRevision.getId());
+				if (!merge) {
+					writeRevisionVisibility(ifcModel, project.getId(), concreteRevision.getId());
+				}
 			}
 			getDatabaseSession().addPostCommitAction(new PostCommitAction() {
 				@Override
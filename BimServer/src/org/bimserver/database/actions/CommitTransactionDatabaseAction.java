@@ -18,7 +18,10 @@ package org.bimserver.database.actions;
  *****************************************************************************/
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.bimserver.BimServer;
@@ -34,6 +37,7 @@ import org.bimserver.database.OldQuery;
 import org.bimserver.database.OldQuery.Deep;
 import org.bimserver.database.OperationType;
 import org.bimserver.database.PostCommitAction;
+import org.bimserver.database.indexes.RevisionVisibilityIndex;
 import org.bimserver.database.queries.om.QueryException;
 import org.bimserver.emf.PackageMetaData;
 import org.bimserver.geometry.GeometryGenerationReport;
@@ -43,6 +47,7 @@ import org.bimserver.mail.MailSystem;
 import org.bimserver.models.log.AccessMethod;
 import org.bimserver.models.log.NewRevisionAdded;
 import org.bimserver.models.store.ConcreteRevision;
+import org.bimserver.models.store.Density;
 import org.bimserver.models.store.ExtendedData;
 import org.bimserver.models.store.ExtendedDataSchema;
 import org.bimserver.models.store.Project;
@@ -62,6 +67,9 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Charsets;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
 public class CommitTransactionDatabaseAction extends GenericCheckinDatabaseAction {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CommitTransactionDatabaseAction.class);
@@ -167,6 +175,16 @@ public class CommitTransactionDatabaseAction extends GenericCheckinDatabaseActio
 				}
 			}
 		}
+		// Then read all existing objects the other changes need at once, a change that does not find its object in the transaction queries it by itself
+		LongOpenHashSet touchedOids = new LongOpenHashSet();
+		for (Change change : longTransaction.getChanges()) {
+			change.collectOids(touchedOids);
+		}
+		try {
+			transaction.prefetch(touchedOids);
+		} catch (IOException | QueryException e) {
+			LOGGER.error("", e);
+		}
 		// Then do the rest
 		for (Change change : longTransaction.getChanges()) {
 			if (!(change instanceof CreateObjectChange)) {
@@ -178,10 +196,13 @@ public class CommitTransactionDatabaseAction extends GenericCheckinDatabaseActio
 			}
 		}
 
+		Map<EClass, LongArrayList> createdOids = new HashMap<>();
+		Map<EClass, LongArrayList> deletedOids = new HashMap<>();
 		for (HashMapVirtualObject object : transaction.getCreated()) {
 			getDatabaseSession().addStartOid(object.eClass(), object.getOid());
 			getDatabaseSession().save(object);
 			summaryMap.add(object.eClass(), 1);
+			createdOids.computeIfAbsent(object.eClass(), eClass -> new LongArrayList()).add(object.getOid());
 		}
 		for (HashMapVirtualObject object : transaction.getUpdated()) {
 			getDatabaseSession().save(object, concreteRevision.getId());
@@ -189,7 +210,9 @@ public class CommitTransactionDatabaseAction extends GenericCheckinDatabaseActio
 		for (HashMapVirtualObject object : transaction.getDeleted()) {
 			getDatabaseSession().delete(object, concreteRevision.getId());
 			summaryMap.remove(object.eClass(), 1);
+			deletedOids.computeIfAbsent(object.eClass(), eClass -> new LongArrayList()).add(object.getOid());
 		}
+		writeRevisionVisibility(project, previousRevision, previousConcreteRevision, concreteRevision, createdOids, deletedOids);
 
 		Revision newRevision = result.getRevisions().get(0);
 
@@ -233,32 +256,13 @@ public class CommitTransactionDatabaseAction extends GenericCheckinDatabaseActio
 					
 					generateDensityAndBounds(result, generateGeometry, concreteRevision);
 	
-					final GeometryGenerationReport finalReport = report;
-					
-					getDatabaseSession().addPostCommitAction(new PostCommitAction() {
-						@Override
-						public void execute() throws UserException {
-							if (finalReport != null) {
-								byte[] htmlBytes = finalReport.toHtml().getBytes(Charsets.UTF_8);
-								byte[] jsonBytes = finalReport.toJson().toString().getBytes(Charsets.UTF_8);
-								try (DatabaseSession tmpSession = getBimServer().getDatabase().createSession(OperationType.POSSIBLY_WRITE)) {
-									AddGeometryReports addGeometryReports = new AddGeometryReports(tmpSession, AccessMethod.INTERNAL, htmlBytes, jsonBytes, finalReport.getTimeToGenerateMs(), authorization.getUoid(), revision.getOid());
-									try {
-										tmpSession.executeAndCommitAction(addGeometryReports);
-									} catch (ServerException e1) {
-										LOGGER.error("", e1);
-									}
-								} catch (BimserverDatabaseException e1) {
-									LOGGER.error("", e1);
-								}
-							}
-							getBimServer().getNotificationsManager().notify(new NewRevisionNotification(getBimServer(), project.getOid(), revision.getOid(), authorization));
-						}
-					});
+					addGeometryReport(project, report);
 				} catch (GeometryGeneratingException e) {
 					throw new UserException(e);
 				}
 				revision.setHasGeometry(true);
+			} else if (previousRevision != null && generateAffectedGeometry(project, result, transaction, previousRevision, previousConcreteRevision, concreteRevision, queryContext, packageMetaData)) {
+				revision.setHasGeometry(true);
 			} else {
 				if (previousRevision != null) {
 					byte[] htmlBytes = null;
@@ -312,6 +316,107 @@ public class CommitTransactionDatabaseAction extends GenericCheckinDatabaseActio
 		return concreteRevision;
 	}
 
+	/**
+	 * Only generates the geometry of the products that are affected by the transaction, all other products keep referencing
+	 * the geometry they had in the previous revision. Their densities and spatial index entries are carried forward.
+	 *
+	 * @return Whether the geometry of the new revision has been taken care of, when not the previous geometry can be used as is
+	 */
+	private boolean generateAffectedGeometry(Project project, CreateRevisionResult result, Transaction transaction, Revision previousRevision, ConcreteRevision previousConcreteRevision, ConcreteRevision concreteRevision, QueryContext queryContext, PackageMetaData packageMetaData) throws UserException, BimserverDatabaseException {
+		if (!previousRevision.isHasGeometry() || previousRevision.getConcreteRevisions().size() != 1 || previousConcreteRevision.getProject().getId() != project.getId() || previousConcreteRevision.getBounds() == null) {
+			return false;
+		}
+		AffectedProducts affectedProducts = new AffectedProducts(getBimServer(), getDatabaseSession(), packageMetaData);
+		if (!affectedProducts.isAffectedBy(transaction)) {
+			return false;
+		}
+		setProgress("Generating Geometry...", -1);
+		try {
+			affectedProducts.compute(transaction, previousRevision.getOid(), queryContext.getRoid());
+		} catch (IOException | QueryException e) {
+			throw new BimserverDatabaseException(e);
+		}
+		if (affectedProducts.getAffectedProducts().isEmpty() && affectedProducts.getDeletedProducts().isEmpty()) {
+			return false;
+		}
+
+		GeometryGenerationReport report = new GeometryGenerationReport();
+		report.setOriginalDeserializer("No deserializer, low level call");
+		report.setOriginalIfcFileName("No file, low level call");
+		report.setOriginalIfcFileSize(-1);
+
+		GenerateGeometryResult generateGeometry;
+		if (affectedProducts.getAffectedProducts().isEmpty()) {
+			// Only products have been deleted
+			generateGeometry = new GenerateGeometryResult();
+			generateGeometry.setMultiplierToMm(previousConcreteRevision.getMultiplierToMm());
+			generateGeometry.include(previousConcreteRevision.getBounds(), previousConcreteRevision.getBoundsUntransformed());
+		} else {
+			StreamingGeometryGenerator streamingGeometryGenerator = new StreamingGeometryGenerator(getBimServer(), null, -1L, report);
+			streamingGeometryGenerator.setIncremental(getDatabaseSession(), affectedProducts.getAffectedProducts(), previousConcreteRevision.getBounds(), previousConcreteRevision.getBoundsUntransformed());
+			try {
+				generateGeometry = streamingGeometryGenerator.generateGeometry(authorization.getUoid(), getDatabaseSession(), queryContext, affectedProducts.getAffectedProducts().size());
+			} catch (GeometryGeneratingException e) {
+				throw new UserException(e);
+			}
+		}
+
+		concreteRevision.setMultiplierToMm(generateGeometry.getMultiplierToMm());
+		concreteRevision.setBounds(generateGeometry.getBounds());
+		concreteRevision.setBoundsUntransformed(generateGeometry.getBoundsUntransformed());
+
+		List<Density> keptDensities = new ArrayList<>();
+		if (previousConcreteRevision.getDensityCollection() != null) {
+			for (Density density : previousConcreteRevision.getDensityCollection().getDensities()) {
+				if (!affectedProducts.getReplacedGeometry().contains(density.getGeometryInfoId())) {
+					keptDensities.add(density);
+				}
+			}
+		}
+		generateDensityAndBounds(result, generateGeometry, concreteRevision, keptDensities);
+
+		LongOpenHashSet excludedOids = new LongOpenHashSet(affectedProducts.getAffectedProducts());
+		excludedOids.addAll(affectedProducts.getDeletedProducts());
+		getDatabaseSession().getSpatialIndex().copy(getDatabaseSession(), project.getId(), previousConcreteRevision.getId(), concreteRevision.getId(), excludedOids);
+
+		addGeometryReport(project, report);
+		return true;
+	}
+
+	private void addGeometryReport(Project project, GeometryGenerationReport report) {
+		getDatabaseSession().addPostCommitAction(new PostCommitAction() {
+			@Override
+			public void execute() throws UserException {
+				byte[] htmlBytes = report.toHtml().getBytes(Charsets.UTF_8);
+				byte[] jsonBytes = report.toJson().toString().getBytes(Charsets.UTF_8);
+				try (DatabaseSession tmpSession = getBimServer().getDatabase().createSession(OperationType.POSSIBLY_WRITE)) {
+					AddGeometryReports addGeometryReports = new AddGeometryReports(tmpSession, AccessMethod.INTERNAL, htmlBytes, jsonBytes, report.getTimeToGenerateMs(), authorization.getUoid(), revision.getOid());
+					try {
+						tmpSession.executeAndCommitAction(addGeometryReports);
+					} catch (ServerException e1) {
+						LOGGER.error("", e1);
+					}
+				} catch (BimserverDatabaseException e1) {
+					LOGGER.error("", e1);
+				}
+				getBimServer().getNotificationsManager().notify(new NewRevisionNotification(getBimServer(), project.getOid(), revision.getOid(), authorization));
+			}
+		});
+	}
+
+	/**
+	 * The visible objects of the new revision are the ones of the previous revision plus the changes, when the previous
+	 * revision has no visibility index (or is made up of multiple concrete revisions) the new revision won't get one either
+	 */
+	private void writeRevisionVisibility(Project project, Revision previousRevision, ConcreteRevision previousConcreteRevision, ConcreteRevision concreteRevision, Map<EClass, LongArrayList> createdOids, Map<EClass, LongArrayList> deletedOids) throws BimserverDatabaseException {
+		RevisionVisibilityIndex revisionVisibilityIndex = getDatabaseSession().getRevisionVisibilityIndex();
+		if (previousConcreteRevision == null) {
+			revisionVisibilityIndex.put(getDatabaseSession(), project.getId(), concreteRevision.getId(), createdOids);
+		} else if (previousRevision.getConcreteRevisions().size() == 1 && previousConcreteRevision.getProject().getId() == project.getId()) {
+			revisionVisibilityIndex.putChanges(getDatabaseSession(), project.getId(), previousConcreteRevision.getId(), concreteRevision.getId(), createdOids, deletedOids);
+		}
+	}
+
 	public Revision getRevision() {
 		return revision;
 	}
@@ -18,6 +18,7 @@ package org.bimserver.database.actions;
  *****************************************************************************/
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 
 /******************************************************************************
@@ -52,12 +53,19 @@ import org.bimserver.BimserverDatabaseException;
 import org.bimserver.GenerateGeometryResult;
 import org.bimserver.database.BimserverLockConflictException;
 import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.OidCounters;
+import org.bimserver.database.Record;
+import org.bimserver.database.SearchingRecordIterator;
+import org.bimserver.database.indexes.ClassificationIndex;
+import org.bimserver.database.indexes.PropertyIndex;
+import org.bimserver.database.indexes.RevisionVisibilityIndex;
 import org.bimserver.database.queries.QueryObjectProvider;
 import org.bimserver.database.queries.QueryTypeStackFrame;
 import org.bimserver.database.queries.om.Include;
 import org.bimserver.database.queries.om.Query;
 import org.bimserver.database.queries.om.QueryException;
 import org.bimserver.database.queries.om.QueryPart;
+import org.bimserver.emf.IdEObject;
 import org.bimserver.emf.IfcModelInterface;
 import org.bimserver.emf.PackageMetaData;
 import org.bimserver.geometry.Density;
@@ -74,15 +82,25 @@ import org.bimserver.models.store.StoreFactory;
 import org.bimserver.models.store.StorePackage;
 import org.bimserver.models.store.User;
 import org.bimserver.shared.HashMapVirtualObject;
+import org.bimserver.shared.HashMapWrappedVirtualObject;
 import org.bimserver.shared.exceptions.UserException;
+import org.bimserver.utils.BinUtils;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
 public abstract class GenericCheckinDatabaseAction extends BimDatabaseAction<ConcreteRevision>{
 
+	static final int INVERSES_IN_MEMORY = 1000000;
+	private static final int INVERSES_BATCH_SIZE = 10000;
+	private static final String[] PROPERTY_INDEX_TYPES = {"IfcPropertySingleValue", "IfcPropertySet", "IfcTypeObject", "IfcRelDefinesByProperties", "IfcRelDefinesByType"};
 	private BimServer bimServer;
 
 	public GenericCheckinDatabaseAction(BimServer bimServer, DatabaseSession databaseSession, AccessMethod accessMethod) {
@@ -118,6 +136,9 @@ public abstract class GenericCheckinDatabaseAction extends BimDatabaseAction<Con
 		concreteRevision.setUser(user);
 		concreteRevision.setProject(project);
 		project.setLastConcreteRevision(concreteRevision);
+		// Cached stop rids and oid counters of this project can be outdated after this commit
+		final int pid = project.getId();
+		session.addPostCommitAction(() -> session.getRevisionMetaDataCache().invalidateProject(pid));
 		Revision newRevision = createNewVirtualRevision(session, project, concreteRevision, comment, date, user, size);
 
 		for (Checkout checkout : project.getCheckouts()) {
@@ -182,6 +203,13 @@ public abstract class GenericCheckinDatabaseAction extends BimDatabaseAction<Con
 	}
 	
 	protected void generateDensityAndBounds(CreateRevisionResult result, GenerateGeometryResult generateGeometry, ConcreteRevision concreteRevision) throws BimserverDatabaseException {
+		generateDensityAndBounds(result, generateGeometry, concreteRevision, Collections.emptyList());
+	}
+
+	/**
+	 * @param keptDensities Densities of geometry that has not been regenerated, but is kept from an earlier revision
+	 */
+	protected void generateDensityAndBounds(CreateRevisionResult result, GenerateGeometryResult generateGeometry, ConcreteRevision concreteRevision, List<org.bimserver.models.store.Density> keptDensities) throws BimserverDatabaseException {
 		for (Revision revision : result.getRevisions()) {
 			Bounds newBounds = GeometryFactory.eINSTANCE.createBounds();
 			Vector3f min = GeometryFactory.eINSTANCE.createVector3f();
@@ -335,6 +363,15 @@ public abstract class GenericCheckinDatabaseAction extends BimDatabaseAction<Con
 			dbDensity.setVolume(density.getVolume());
 			newList.add(dbDensity);
 		}
+		for (org.bimserver.models.store.Density density : keptDensities) {
+			org.bimserver.models.store.Density dbDensity = StoreFactory.eINSTANCE.createDensity();
+			dbDensity.setType(density.getType());
+			dbDensity.setDensity(density.getDensity());
+			dbDensity.setGeometryInfoId(density.getGeometryInfoId());
+			dbDensity.setTrianglesBelow(density.getTrianglesBelow());
+			dbDensity.setVolume(density.getVolume());
+			newList.add(dbDensity);
+		}
 		newList.sort(new Comparator<org.bimserver.models.store.Density>(){
 			@Override
 			public int compare(org.bimserver.models.store.Density o1, org.bimserver.models.store.Density o2) {
@@ -369,8 +406,6 @@ public abstract class GenericCheckinDatabaseAction extends BimDatabaseAction<Con
 	
 	@SuppressWarnings("unchecked")
 	protected void fixInverses(PackageMetaData packageMetaData, long newRoid, Map<EClass, Integer> summaryMap) throws QueryException, JsonParseException, JsonMappingException, IOException, BimserverDatabaseException {
-		// TODO remove cache, this is essentially a big part of the model in memory again
-		Map<Long, HashMapVirtualObject> cache = new HashMap<Long, HashMapVirtualObject>();
 		Query query = new Query("Inverses fixer", packageMetaData);
 		
 		int nrTypes = 0;
@@ -389,73 +424,338 @@ public abstract class GenericCheckinDatabaseAction extends BimDatabaseAction<Con
 			}
 		}
 		
-		QueryObjectProvider queryObjectProvider = new QueryObjectProvider(getDatabaseSession(), bimServer, query, Collections.singleton(newRoid), packageMetaData);
-		HashMapVirtualObject next = queryObjectProvider.next();
-		EClass lastEClass = null;
-		int currentType = 0;
-		while (next != null) {
-			if (next.eClass() != lastEClass && uniqueTypes.contains(next.eClass()) && queryObjectProvider.getStackFrame() instanceof QueryTypeStackFrame) {
-				lastEClass = next.eClass();
-				currentType++;
-				setProgress("Generating inverses", (100 * currentType / nrTypes));
+		// Instead of keeping all referenced objects in memory, the references are collected (sorted by target, spilled to disk when there are many) and applied in batches afterwards
+		try (InverseReferenceSorter sorter = new InverseReferenceSorter(bimServer.getHomeDir().resolve("tmp"), INVERSES_IN_MEMORY)) {
+			QueryObjectProvider queryObjectProvider = new QueryObjectProvider(getDatabaseSession(), bimServer, query, Collections.singleton(newRoid), packageMetaData);
+			HashMapVirtualObject next = queryObjectProvider.next();
+			EClass lastEClass = null;
+			int currentType = 0;
+			while (next != null) {
+				if (next.eClass() != lastEClass && uniqueTypes.contains(next.eClass()) && queryObjectProvider.getStackFrame() instanceof QueryTypeStackFrame) {
+					lastEClass = next.eClass();
+					currentType++;
+					setProgress("Generating inverses", (100 * currentType / nrTypes));
+				}
+				if (packageMetaData.hasInverses(next.eClass())) {
+					for (EReference eReference : packageMetaData.getAllHasInverseReferences(next.eClass())) {
+						Object reference = next.eGet(eReference);
+						if (reference != null) {
+							if (eReference.isMany()) {
+								List<Long> references = (List<Long>)reference;
+								for (Long refOid : references) {
+									addInverse(packageMetaData, sorter, next, eReference, refOid);
+								}
+							} else {
+								addInverse(packageMetaData, sorter, next, eReference, (Long)reference);
+							}
+						}
+					}
+				}
+				next = queryObjectProvider.next();
 			}
-			if (packageMetaData.hasInverses(next.eClass())) {
-				for (EReference eReference : packageMetaData.getAllHasInverseReferences(next.eClass())) {
-					Object reference = next.eGet(eReference);
-					if (reference != null) {
-						if (eReference.isMany()) {
-							List<Long> references = (List<Long>)reference;
-							for (Long refOid : references) {
-								fixInverses(packageMetaData, newRoid, cache, next, eReference, refOid);
+			
+			setProgress("Storing data", -1);
+			
+			try (InverseReferenceSorter.SortedIterator iterator = sorter.sorted()) {
+				LongArrayList targets = new LongArrayList();
+				LongArrayList sources = new LongArrayList();
+				IntArrayList features = new IntArrayList();
+				boolean hasNext = iterator.next();
+				while (hasNext) {
+					// Collect the references of a batch of targets, all references to the same target end up in the same batch
+					targets.clear();
+					sources.clear();
+					features.clear();
+					int nrTargets = 0;
+					long lastTarget = 0;
+					while (hasNext) {
+						long target = iterator.getTargetOid();
+						if (nrTargets == 0 || target != lastTarget) {
+							if (nrTargets == INVERSES_BATCH_SIZE) {
+								break;
 							}
-						} else {
-							fixInverses(packageMetaData, newRoid, cache, next, eReference, (Long)reference);
+							nrTargets++;
+							lastTarget = target;
 						}
+						targets.add(target);
+						sources.add(iterator.getSourceOid());
+						features.add(iterator.getFeatureId());
+						hasNext = iterator.next();
 					}
+					applyInverses(packageMetaData, newRoid, targets, sources, features);
 				}
 			}
-			next = queryObjectProvider.next();
-		}
-		
-		setProgress("Storing data", -1);
-		
-		for (HashMapVirtualObject referencedObject : cache.values()) {
-			referencedObject.saveOverwrite();
 		}
 	}
 	
-	private void fixInverses(PackageMetaData packageMetaData, long newRoid, Map<Long, HashMapVirtualObject> cache, HashMapVirtualObject next, EReference eReference, long refOid)
-			throws JsonParseException, JsonMappingException, IOException, QueryException, BimserverDatabaseException {
-		HashMapVirtualObject referencedObject = cache.get(refOid);
-		if (referencedObject == null) {
-			referencedObject = getByOid(packageMetaData, getDatabaseSession(), newRoid, refOid);
-			if (referencedObject == null) {
-				throw new BimserverDatabaseException("Referenced object with oid " + refOid + " (" + getDatabaseSession().getEClassForOid(refOid).getName() + ")" + ", referenced from " + next.eClass().getName() + " not found");
-			}
-			cache.put(refOid, referencedObject);
-		}
-		EReference oppositeReference = packageMetaData.getInverseOrOpposite(referencedObject.eClass(), eReference);
+	private void addInverse(PackageMetaData packageMetaData, InverseReferenceSorter sorter, HashMapVirtualObject next, EReference eReference, long refOid) throws IOException, BimserverDatabaseException {
+		EClass referencedEClass = getDatabaseSession().getEClassForOid(refOid);
+		EReference oppositeReference = packageMetaData.getInverseOrOpposite(referencedEClass, eReference);
 		if (oppositeReference == null) {
-			if (eReference.getName().equals("RelatedElements") && referencedObject.eClass().getName().equals("IfcSpace")) {
+			if (eReference.getName().equals("RelatedElements") && referencedEClass.getName().equals("IfcSpace")) {
 				// Ignore, IfcSpace should have  a field called RelatedElements, but it doesn't.
 			} else {
 //				LOGGER.error("No opposite " + eReference.getName() + " found");
 			}
+			// Still added, so the existence of the referenced object is checked
+			sorter.add(refOid, next.getOid(), -1);
 		} else {
+			sorter.add(refOid, next.getOid(), referencedEClass.getFeatureID(oppositeReference));
+		}
+	}
+	
+	private void applyInverses(PackageMetaData packageMetaData, long newRoid, LongArrayList targets, LongArrayList sources, IntArrayList features) throws JsonParseException, JsonMappingException, IOException, QueryException, BimserverDatabaseException {
+		// One query for the whole batch, the oids are sorted per class so every table is read in one ordered pass
+		Query query = new Query("Inverses fixer", packageMetaData);
+		QueryPart queryPart = query.createQueryPart();
+		for (int i = 0; i < targets.size(); i++) {
+			queryPart.addOid(targets.getLong(i));
+		}
+		Long2ObjectOpenHashMap<HashMapVirtualObject> referencedObjects = new Long2ObjectOpenHashMap<>();
+		QueryObjectProvider queryObjectProvider = new QueryObjectProvider(getDatabaseSession(), bimServer, query, Collections.singleton(newRoid), packageMetaData);
+		HashMapVirtualObject next = queryObjectProvider.next();
+		while (next != null) {
+			referencedObjects.put(next.getOid(), next);
+			next = queryObjectProvider.next();
+		}
+		
+		List<HashMapVirtualObject> changed = new ArrayList<>();
+		HashMapVirtualObject lastChanged = null;
+		for (int i = 0; i < targets.size(); i++) {
+			long refOid = targets.getLong(i);
+			long sourceOid = sources.getLong(i);
+			HashMapVirtualObject referencedObject = referencedObjects.get(refOid);
+			if (referencedObject == null) {
+				throw new BimserverDatabaseException("Referenced object with oid " + refOid + " (" + getDatabaseSession().getEClassForOid(refOid).getName() + ")" + ", referenced from " + getDatabaseSession().getEClassForOid(sourceOid).getName() + " not found");
+			}
+			int featureId = features.getInt(i);
+			if (featureId == -1) {
+				continue;
+			}
+			EReference oppositeReference = (EReference) referencedObject.eClass().getEStructuralFeature(featureId);
+			EClass sourceEClass = getDatabaseSession().getEClassForOid(sourceOid);
 			if (oppositeReference.isMany()) {
 				Object existingList = referencedObject.eGet(oppositeReference);
 				if (existingList != null) {
 					int currentSize = ((List<?>)existingList).size();
-					referencedObject.setListItemReference(oppositeReference, currentSize, next.eClass(), next.getOid(), 0);
+					referencedObject.setListItemReference(oppositeReference, currentSize, sourceEClass, sourceOid, 0);
 				} else {
-					referencedObject.setListItemReference(oppositeReference, 0, next.eClass(), next.getOid(), 0);
+					referencedObject.setListItemReference(oppositeReference, 0, sourceEClass, sourceOid, 0);
 				}
 			} else {
-				referencedObject.setReference(oppositeReference, next.getOid(), 0);
+				referencedObject.setReference(oppositeReference, sourceOid, 0);
 			}
+			// Targets are sorted, so all changes to one object are consecutive
+			if (referencedObject != lastChanged) {
+				changed.add(referencedObject);
+				lastChanged = referencedObject;
+			}
+		}
+		for (HashMapVirtualObject referencedObject : changed) {
+			referencedObject.saveOverwrite();
 		}
 	}
 	
+	/**
+	 * Reads the property sets of a new revision back from the database and writes the property index for it
+	 */
+	@SuppressWarnings("unchecked")
+	protected void writePropertyIndex(PackageMetaData packageMetaData, long newRoid, int pid, int rid) throws QueryException, IOException, BimserverDatabaseException {
+		PropertyIndex.Builder builder = getDatabaseSession().getPropertyIndex().createBuilder();
+		boolean typesDefineProperties = typesDefineProperties(packageMetaData);
+		Query query = new Query("Property index", packageMetaData);
+		for (String type : PROPERTY_INDEX_TYPES) {
+			query.createQueryPart().addType(packageMetaData.getEClass(type), true);
+		}
+		QueryObjectProvider queryObjectProvider = new QueryObjectProvider(getDatabaseSession(), bimServer, query, Collections.singleton(newRoid), packageMetaData);
+		HashMapVirtualObject next = queryObjectProvider.next();
+		while (next != null) {
+			EClass eClass = next.eClass();
+			if (packageMetaData.getEClass("IfcPropertySingleValue").isSuperTypeOf(eClass)) {
+				HashMapWrappedVirtualObject value = (HashMapWrappedVirtualObject) next.get("NominalValue");
+				if (value != null) {
+					builder.addProperty(next.getOid(), (String) next.get("Name"), value.eClass().getName(), value.eGet(value.eClass().getEStructuralFeature("wrappedValue")));
+				}
+			} else if (packageMetaData.getEClass("IfcPropertySet").isSuperTypeOf(eClass)) {
+				builder.addPropertySet(next.getOid(), (String) next.get("Name"), toOids((List<Long>) next.get("HasProperties")));
+			} else if (packageMetaData.getEClass("IfcTypeObject").isSuperTypeOf(eClass)) {
+				builder.addTypeObject(next.getOid(), toOids((List<Long>) next.get("HasPropertySets")));
+			} else if (packageMetaData.getEClass("IfcRelDefinesByProperties").isSuperTypeOf(eClass)) {
+				Long propertySet = (Long) next.get("RelatingPropertyDefinition");
+				if (propertySet != null) {
+					builder.addRelation(propertySet, toOids((List<Long>) next.get("RelatedObjects")));
+				}
+			} else if (typesDefineProperties && packageMetaData.getEClass("IfcRelDefinesByType").isSuperTypeOf(eClass)) {
+				Long typeObject = (Long) next.get("RelatingType");
+				if (typeObject != null) {
+					builder.addRelation(typeObject, toOids((List<Long>) next.get("RelatedObjects")));
+				}
+			}
+			next = queryObjectProvider.next();
+		}
+		builder.write(getDatabaseSession(), pid, rid);
+	}
+
+	/**
+	 * Same as {@link #writePropertyIndex(PackageMetaData, long, int, int)}, for models that are still in memory. The oids of the objects must be known already.
+	 */
+	protected void writePropertyIndex(IfcModelInterface model, int pid, int rid) throws BimserverDatabaseException {
+		PackageMetaData packageMetaData = model.getPackageMetaData();
+		PropertyIndex.Builder builder = getDatabaseSession().getPropertyIndex().createBuilder();
+		boolean typesDefineProperties = typesDefineProperties(packageMetaData);
+		for (IdEObject idEObject : model.getValues()) {
+			EClass eClass = idEObject.eClass();
+			if (packageMetaData.getEClass("IfcPropertySingleValue").isSuperTypeOf(eClass)) {
+				IdEObject value = (IdEObject) get(idEObject, "NominalValue");
+				if (value != null) {
+					builder.addProperty(idEObject.getOid(), (String) get(idEObject, "Name"), value.eClass().getName(), get(value, "wrappedValue"));
+				}
+			} else if (packageMetaData.getEClass("IfcPropertySet").isSuperTypeOf(eClass)) {
+				builder.addPropertySet(idEObject.getOid(), (String) get(idEObject, "Name"), toOids((List<?>) get(idEObject, "HasProperties")));
+			} else if (packageMetaData.getEClass("IfcTypeObject").isSuperTypeOf(eClass)) {
+				builder.addTypeObject(idEObject.getOid(), toOids((List<?>) get(idEObject, "HasPropertySets")));
+			} else if (packageMetaData.getEClass("IfcRelDefinesByProperties").isSuperTypeOf(eClass)) {
+				IdEObject propertySet = (IdEObject) get(idEObject, "RelatingPropertyDefinition");
+				if (propertySet != null) {
+					builder.addRelation(propertySet.getOid(), toOids((List<?>) get(idEObject, "RelatedObjects")));
+				}
+			} else if (typesDefineProperties && packageMetaData.getEClass("IfcRelDefinesByType").isSuperTypeOf(eClass)) {
+				IdEObject typeObject = (IdEObject) get(idEObject, "RelatingType");
+				if (typeObject != null) {
+					builder.addRelation(typeObject.getOid(), toOids((List<?>) get(idEObject, "RelatedObjects")));
+				}
+			}
+		}
+		builder.write(getDatabaseSession(), pid, rid);
+	}
+
+	/**
+	 * Reads the classification references and their relations of a new revision back from the database and writes the classification index for it
+	 */
+	@SuppressWarnings("unchecked")
+	protected void writeClassificationIndex(PackageMetaData packageMetaData, long newRoid, int pid, int rid) throws QueryException, IOException, BimserverDatabaseException {
+		ClassificationIndex.Builder builder = getDatabaseSession().getClassificationIndex().createBuilder();
+		EClass classificationReferenceClass = packageMetaData.getEClass("IfcClassificationReference");
+		EClass relAssociatesClassificationClass = packageMetaData.getEClass("IfcRelAssociatesClassification");
+		EStructuralFeature codeFeature = getClassificationCodeFeature(classificationReferenceClass);
+		Query query = new Query("Classification index", packageMetaData);
+		query.createQueryPart().addType(classificationReferenceClass, false);
+		query.createQueryPart().addType(relAssociatesClassificationClass, false);
+		QueryObjectProvider queryObjectProvider = new QueryObjectProvider(getDatabaseSession(), bimServer, query, Collections.singleton(newRoid), packageMetaData);
+		HashMapVirtualObject next = queryObjectProvider.next();
+		while (next != null) {
+			if (next.eClass() == classificationReferenceClass) {
+				builder.addClassificationReference(next.getOid(), (String) next.eGet(codeFeature));
+			} else if (next.eClass() == relAssociatesClassificationClass) {
+				Long classification = (Long) next.get("RelatingClassification");
+				if (classification != null) {
+					builder.addRelation(classification, toOids((List<Long>) next.get("RelatedObjects")));
+				}
+			}
+			next = queryObjectProvider.next();
+		}
+		builder.write(getDatabaseSession(), pid, rid);
+	}
+
+	/**
+	 * Same as {@link #writeClassificationIndex(PackageMetaData, long, int, int)}, for models that are still in memory
+	 */
+	protected void writeClassificationIndex(IfcModelInterface model, int pid, int rid) throws BimserverDatabaseException {
+		PackageMetaData packageMetaData = model.getPackageMetaData();
+		ClassificationIndex.Builder builder = getDatabaseSession().getClassificationIndex().createBuilder();
+		EClass classificationReferenceClass = packageMetaData.getEClass("IfcClassificationReference");
+		EClass relAssociatesClassificationClass = packageMetaData.getEClass("IfcRelAssociatesClassification");
+		EStructuralFeature codeFeature = getClassificationCodeFeature(classificationReferenceClass);
+		for (IdEObject idEObject : model.getValues()) {
+			if (idEObject.eClass() == classificationReferenceClass) {
+				builder.addClassificationReference(idEObject.getOid(), (String) idEObject.eGet(codeFeature));
+			} else if (idEObject.eClass() == relAssociatesClassificationClass) {
+				IdEObject classification = (IdEObject) get(idEObject, "RelatingClassification");
+				if (classification != null) {
+					builder.addRelation(classification.getOid(), toOids((List<?>) get(idEObject, "RelatedObjects")));
+				}
+			}
+		}
+		builder.write(getDatabaseSession(), pid, rid);
+	}
+
+	/**
+	 * Writes the revision visibility index for a new revision that replaces all objects of the previous revisions. Only the
+	 * keys of the records of this revision are read, starting at the first oid of this revision when it is known.
+	 */
+	protected void writeRevisionVisibility(int pid, int rid, Set<EClass> eClasses, OidCounters oidCounters) throws BimserverDatabaseException {
+		Map<EClass, LongArrayList> visibleOids = new HashMap<>();
+		byte[] pidBytes = BinUtils.intToByteArray(pid);
+		for (EClass eClass : eClasses) {
+			if (!RevisionVisibilityIndex.covers(eClass)) {
+				continue;
+			}
+			ByteBuffer startKey = ByteBuffer.allocate(12);
+			startKey.putInt(pid);
+			startKey.putLong(oidCounters.containsKey(eClass) ? oidCounters.get(eClass) : 0);
+			String tableName = eClass.getEPackage().getName() + "_" + eClass.getName();
+			LongArrayList oids = new LongArrayList();
+			try (SearchingRecordIterator recordIterator = getDatabaseSession().getKeyValueStore().getRecordIterator(tableName, pidBytes, startKey.array(), getDatabaseSession(), true)) {
+				Record record = recordIterator.next();
+				while (record != null) {
+					ByteBuffer keyBuffer = ByteBuffer.wrap(record.getKey());
+					keyBuffer.getInt();
+					long oid = keyBuffer.getLong();
+					int keyRid = -keyBuffer.getInt();
+					if (keyRid == rid) {
+						oids.add(oid);
+					}
+					record = recordIterator.next();
+				}
+			}
+			visibleOids.put(eClass, oids);
+		}
+		getDatabaseSession().getRevisionVisibilityIndex().put(getDatabaseSession(), pid, rid, visibleOids);
+	}
+
+	/**
+	 * Same as {@link #writeRevisionVisibility(int, int, Set, OidCounters)}, for models that are still in memory
+	 */
+	protected void writeRevisionVisibility(IfcModelInterface model, int pid, int rid) throws BimserverDatabaseException {
+		Map<EClass, LongArrayList> visibleOids = new HashMap<>();
+		for (IdEObject idEObject : model.getValues()) {
+			if (RevisionVisibilityIndex.covers(idEObject.eClass())) {
+				visibleOids.computeIfAbsent(idEObject.eClass(), eClass -> new LongArrayList()).add(idEObject.getOid());
+			}
+		}
+		getDatabaseSession().getRevisionVisibilityIndex().put(getDatabaseSession(), pid, rid, visibleOids);
+	}
+
+	/**
+	 * The same feature QueryClassificationsAndTypesStackFrame uses, renamed from "ItemReference" in IFC2x3 to "Identification" in IFC4
+	 */
+	private EStructuralFeature getClassificationCodeFeature(EClass classificationReferenceClass) {
+		return classificationReferenceClass.getEStructuralFeature(1);
+	}
+
+	/**
+	 * In IFC2x3 the IfcRelDefinesByType relations are part of IsDefinedBy, the property query follows them. In IFC4 they moved to IsTypedBy, which the property query does not follow.
+	 */
+	private boolean typesDefineProperties(PackageMetaData packageMetaData) {
+		return packageMetaData.getEClass("IfcObject").getEStructuralFeature("IsTypedBy") == null;
+	}
+
+	private Object get(IdEObject idEObject, String featureName) {
+		return idEObject.eGet(idEObject.eClass().getEStructuralFeature(featureName));
+	}
+
+	private long[] toOids(List<?> references) {
+		if (references == null) {
+			return new long[0];
+		}
+		long[] result = new long[references.size()];
+		for (int i = 0; i < result.length; i++) {
+			Object reference = references.get(i);
+			result[i] = reference instanceof IdEObject ? ((IdEObject) reference).getOid() : (Long) reference;
+		}
+		return result;
+	}
+
 	public HashMapVirtualObject getByOid(PackageMetaData packageMetaData, DatabaseSession databaseSession, long roid, long oid) throws JsonParseException, JsonMappingException, IOException, QueryException, BimserverDatabaseException {
 		Query query = new Query("test", packageMetaData);
 		QueryPart queryPart = query.createQueryPart();
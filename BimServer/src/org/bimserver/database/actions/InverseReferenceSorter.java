@@ -0,0 +1,279 @@
+package org.bimserver.database.actions;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unimi.dsi.fastutil.Arrays;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+
+/**
+ * Sorts (target oid, source oid, feature id) tuples by the class of the target and then by target oid, using a bounded amount of memory.
+ * When the in-memory buffer is full it is sorted and written to a temporary file, the files are merged when iterating.
+ *
+ * The sort is stable, tuples for the same target are returned in the order they were added.
+ */
+public class InverseReferenceSorter implements Closeable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(InverseReferenceSorter.class);
+	private static final int INITIAL_CAPACITY = 1024;
+	private final Path tmpDir;
+	private final int maxTuplesInMemory;
+	// Grown when needed, most transactions only add a few tuples
+	private long[] targets;
+	private long[] sources;
+	private int[] features;
+	private final List<Path> runs = new ArrayList<>();
+	private int size;
+	private long total;
+
+	public InverseReferenceSorter(Path tmpDir, int maxTuplesInMemory) {
+		this.tmpDir = tmpDir;
+		this.maxTuplesInMemory = maxTuplesInMemory;
+		int initialCapacity = Math.min(INITIAL_CAPACITY, maxTuplesInMemory);
+		this.targets = new long[initialCapacity];
+		this.sources = new long[initialCapacity];
+		this.features = new int[initialCapacity];
+	}
+
+	public void add(long targetOid, long sourceOid, int featureId) throws IOException {
+		if (size == targets.length) {
+			if (size < maxTuplesInMemory) {
+				grow();
+			} else {
+				spill();
+			}
+		}
+		targets[size] = targetOid;
+		sources[size] = sourceOid;
+		features[size] = featureId;
+		size++;
+		total++;
+	}
+
+	private void grow() {
+		int capacity = (int) Math.min((long) targets.length * 2, maxTuplesInMemory);
+		targets = LongArrays.forceCapacity(targets, capacity, size);
+		sources = LongArrays.forceCapacity(sources, capacity, size);
+		features = IntArrays.forceCapacity(features, capacity, size);
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	private static int compare(long oid1, long oid2) {
+		// The lower 16 bits of an oid are the cid, grouping per class gives one ordered pass per table
+		int result = Short.compare((short) oid1, (short) oid2);
+		if (result != 0) {
+			return result;
+		}
+		return Long.compare(oid1, oid2);
+	}
+
+	private void sortBuffer() {
+		Arrays.mergeSort(0, size, (k1, k2) -> compare(targets[k1], targets[k2]), (a, b) -> {
+			long tmpTarget = targets[a];
+			targets[a] = targets[b];
+			targets[b] = tmpTarget;
+			long tmpSource = sources[a];
+			sources[a] = sources[b];
+			sources[b] = tmpSource;
+			int tmpFeature = features[a];
+			features[a] = features[b];
+			features[b] = tmpFeature;
+		});
+	}
+
+	private void spill() throws IOException {
+		sortBuffer();
+		Path run = Files.createTempFile(tmpDir, "inverses", ".run");
+		runs.add(run);
+		try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), 65536))) {
+			for (int i = 0; i < size; i++) {
+				outputStream.writeLong(targets[i]);
+				outputStream.writeLong(sources[i]);
+				outputStream.writeInt(features[i]);
+			}
+		}
+		size = 0;
+	}
+
+	/**
+	 * Finishes adding, after calling this no more tuples can be added
+	 */
+	public SortedIterator sorted() throws IOException {
+		if (runs.isEmpty()) {
+			sortBuffer();
+			return new MemoryIterator();
+		}
+		if (size > 0) {
+			spill();
+		}
+		return new MergingIterator();
+	}
+
+	@Override
+	public void close() {
+		for (Path run : runs) {
+			try {
+				Files.deleteIfExists(run);
+			} catch (IOException e) {
+				LOGGER.error("", e);
+			}
+		}
+		runs.clear();
+	}
+
+	public interface SortedIterator extends Closeable {
+		boolean next() throws IOException;
+
+		long getTargetOid();
+
+		long getSourceOid();
+
+		int getFeatureId();
+	}
+
+	private class MemoryIterator implements SortedIterator {
+		private int index = -1;
+
+		@Override
+		public boolean next() {
+			index++;
+			return index < size;
+		}
+
+		@Override
+		public long getTargetOid() {
+			return targets[index];
+		}
+
+		@Override
+		public long getSourceOid() {
+			return sources[index];
+		}
+
+		@Override
+		public int getFeatureId() {
+			return features[index];
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private static class RunReader {
+		private final DataInputStream inputStream;
+		private final int runIndex;
+		private long target;
+		private long source;
+		private int feature;
+
+		public RunReader(Path run, int runIndex) throws IOException {
+			this.inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), 65536));
+			this.runIndex = runIndex;
+		}
+
+		public boolean read() throws IOException {
+			try {
+				target = inputStream.readLong();
+			} catch (EOFException e) {
+				inputStream.close();
+				return false;
+			}
+			source = inputStream.readLong();
+			feature = inputStream.readInt();
+			return true;
+		}
+	}
+
+	private class MergingIterator implements SortedIterator {
+		// Ties are broken by the run index, to keep the sort stable
+		private final PriorityQueue<RunReader> queue = new PriorityQueue<>(Math.max(1, runs.size()), (r1, r2) -> {
+			int result = compare(r1.target, r2.target);
+			return result != 0 ? result : Integer.compare(r1.runIndex, r2.runIndex);
+		});
+		private final List<RunReader> readers = new ArrayList<>();
+		private long target;
+		private long source;
+		private int feature;
+
+		public MergingIterator() throws IOException {
+			for (int i = 0; i < runs.size(); i++) {
+				RunReader runReader = new RunReader(runs.get(i), i);
+				readers.add(runReader);
+				if (runReader.read()) {
+					queue.add(runReader);
+				}
+			}
+		}
+
+		@Override
+		public boolean next() throws IOException {
+			RunReader runReader = queue.poll();
+			if (runReader == null) {
+				return false;
+			}
+			target = runReader.target;
+			source = runReader.source;
+			feature = runReader.feature;
+			if (runReader.read()) {
+				queue.add(runReader);
+			}
+			return true;
+		}
+
+		@Override
+		public long getTargetOid() {
+			return target;
+		}
+
+		@Override
+		public long getSourceOid() {
+			return source;
+		}
+
+		@Override
+		public int getFeatureId() {
+			return feature;
+		}
+
+		@Override
+		public void close() throws IOException {
+			for (RunReader runReader : readers) {
+				runReader.inputStream.close();
+			}
+		}
+	}
+}
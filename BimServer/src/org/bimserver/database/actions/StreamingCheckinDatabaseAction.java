@@ -40,7 +40,6 @@ import org.bimserver.database.OperationType;
 import org.bimserver.database.PostCommitAction;
 import org.bimserver.database.Record;
 import org.bimserver.database.RecordIterator;
-import org.bimserver.database.queries.ConcreteRevisionStackFrame;
 import org.bimserver.database.queries.QueryObjectProvider;
 import org.bimserver.database.queries.om.Include;
 import org.bimserver.database.queries.om.Query;
@@ -215,6 +214,12 @@ public class StreamingCheckinDatabaseAction extends GenericCheckinDatabaseAction
 			
 			fixInverses(packageMetaData, newRoid, deserializer.getSummaryMap());
 
+			setProgress("Indexing properties and classifications...", -1);
+
+			writePropertyIndex(packageMetaData, newRoid, queryContext.getPid(), queryContext.getRid());
+			writeClassificationIndex(packageMetaData, newRoid, queryContext.getPid(), queryContext.getRid());
+			writeRevisionVisibility(queryContext.getPid(), queryContext.getRid(), eClasses, oidCounters);
+
 			ProgressListener progressListener = new ProgressListener() {
 				@Override
 				public void updateProgress(String state, int percentage) {
@@ -290,7 +295,7 @@ public class StreamingCheckinDatabaseAction extends GenericCheckinDatabaseAction
 			concreteRevision.setOidCounters(oidCounters.getBytes());
 			
 			// Clear the cache, we don't want it to cache incomplete oidcounters
-			ConcreteRevisionStackFrame.clearCache(concreteRevision.getOid());
+			getDatabaseSession().getRevisionMetaDataCache().invalidate(concreteRevision.getOid());
 			
 			result.getConcreteRevision().setSize(size);
 			for (Revision revision : result.getRevisions()) {
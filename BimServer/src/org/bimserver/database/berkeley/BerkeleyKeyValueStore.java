@@ -23,6 +23,8 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -41,10 +43,12 @@ import org.bimserver.database.KeyValueStore;
 import org.bimserver.database.Record;
 import org.bimserver.database.RecordIterator;
 import org.bimserver.database.SearchingRecordIterator;
+import org.bimserver.database.WriteBatch;
 import org.bimserver.utils.PathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.primitives.UnsignedBytes;
 import com.sleepycat.je.Cursor;
 import com.sleepycat.je.CursorConfig;
 import com.sleepycat.je.Database;
@@ -320,6 +324,23 @@ public class BerkeleyKeyValueStore implements KeyValueStore {
 		return null;
 	}
 
+	@Override
+	public byte[] getPartial(String tableName, byte[] keyBytes, int offset, int length, DatabaseSession databaseSession) throws BimserverDatabaseException {
+		DatabaseEntry key = new DatabaseEntry(keyBytes);
+		DatabaseEntry value = new DatabaseEntry();
+		value.setPartial(offset, length, true);
+		try {
+			TableWrapper tableWrapper = getTableWrapper(tableName);
+			OperationStatus operationStatus = tableWrapper.getDatabase().get(getTransaction(databaseSession, tableWrapper), key, value, getLockMode(tableWrapper));
+			if (operationStatus == OperationStatus.SUCCESS) {
+				return value.getData();
+			}
+		} catch (DatabaseException e) {
+			LOGGER.error("", e);
+		}
+		return null;
+	}
+
 	@Override
 	public List<byte[]> getDuplicates(String tableName, byte[] keyBytes, DatabaseSession databaseSession) throws BimserverDatabaseException {
 		DatabaseEntry key = new DatabaseEntry(keyBytes);
@@ -387,11 +408,16 @@ public class BerkeleyKeyValueStore implements KeyValueStore {
 
 	@Override
 	public SearchingRecordIterator getRecordIterator(String tableName, byte[] mustStartWith, byte[] startSearchingAt, DatabaseSession databaseSession, boolean keysOnly) throws BimserverLockConflictException, BimserverDatabaseException {
+		return getPartialRecordIterator(tableName, mustStartWith, startSearchingAt, keysOnly ? 0 : -1, databaseSession);
+	}
+
+	@Override
+	public SearchingRecordIterator getPartialRecordIterator(String tableName, byte[] mustStartWith, byte[] startSearchingAt, int valueLength, DatabaseSession databaseSession) throws BimserverLockConflictException, BimserverDatabaseException {
 		Cursor cursor = null;
 		try {
 			TableWrapper tableWrapper = getTableWrapper(tableName);
 			cursor = tableWrapper.getDatabase().openCursor(getTransaction(databaseSession, tableWrapper), getCursorConfig(tableWrapper));
-			BerkeleySearchingRecordIterator berkeleySearchingRecordIterator = new BerkeleySearchingRecordIterator(cursor, this, cursorCounter.incrementAndGet(), mustStartWith, startSearchingAt, keysOnly);
+			BerkeleySearchingRecordIterator berkeleySearchingRecordIterator = new BerkeleySearchingRecordIterator(cursor, this, cursorCounter.incrementAndGet(), mustStartWith, startSearchingAt, valueLength);
 			if (MONITOR_CURSOR_STACK_TRACES) {
 				openCursors.put(berkeleySearchingRecordIterator.getCursorId(), new Exception().getStackTrace());
 			}
@@ -551,22 +577,101 @@ public class BerkeleyKeyValueStore implements KeyValueStore {
 			if (putNoOverwrite == OperationStatus.KEYEXIST) {
 				// TODO temporary test
 				tableWrapper.getDatabase().put(getTransaction(databaseSession, tableWrapper), dbKey, dbValue);
-				ByteBuffer keyBuffer = ByteBuffer.wrap(key);
-				if (key.length == 16) {
-					int pid = keyBuffer.getInt();
-					long oid = keyBuffer.getLong();
-					int rid = -keyBuffer.getInt();
-//					LOGGER.warn("Key exists: pid: " + pid + ", oid: " + oid + ", rid: " + rid + ", " + databaseSession.getEClassForOid(oid).getName());
-					throw new BimserverConcurrentModificationDatabaseException("Key exists: pid: " + pid + ", oid: " + oid + ", rid: " + rid);
-				} else {
-					LOGGER.warn("Key exists");
-//					throw new BimserverConcurrentModificationDatabaseException("Key exists: " );
+				keyExists(key);
+			}
+		} catch (LockConflictException e) {
+			throw new BimserverLockConflictException(e);
+		} catch (DatabaseException e) {
+			throw new BimserverDatabaseException("", e);
+		}
+	}
+
+	private void keyExists(byte[] key) throws BimserverConcurrentModificationDatabaseException {
+		ByteBuffer keyBuffer = ByteBuffer.wrap(key);
+		if (key.length == 16) {
+			int pid = keyBuffer.getInt();
+			long oid = keyBuffer.getLong();
+			int rid = -keyBuffer.getInt();
+//			LOGGER.warn("Key exists: pid: " + pid + ", oid: " + oid + ", rid: " + rid + ", " + databaseSession.getEClassForOid(oid).getName());
+			throw new BimserverConcurrentModificationDatabaseException("Key exists: pid: " + pid + ", oid: " + oid + ", rid: " + rid);
+		} else {
+			LOGGER.warn("Key exists");
+//			throw new BimserverConcurrentModificationDatabaseException("Key exists: " );
+		}
+	}
+
+	@Override
+	public void storeBatch(WriteBatch writeBatch, DatabaseSession databaseSession) throws BimserverDatabaseException, BimserverLockConflictException {
+		for (String tableName : writeBatch.getTableNames()) {
+			TableWrapper tableWrapper = getTableWrapper(tableName);
+			Cursor cursor = null;
+			try {
+				cursor = tableWrapper.getDatabase().openCursor(getTransaction(databaseSession, tableWrapper), getCursorConfig(tableWrapper));
+				for (WriteBatch.Entry entry : writeBatch.getSortedEntries(tableName)) {
+					DatabaseEntry dbKey = new DatabaseEntry(entry.getKey());
+					DatabaseEntry dbValue = new DatabaseEntry(entry.getValue());
+					if (entry.isNoOverwrite()) {
+						if (cursor.putNoOverwrite(dbKey, dbValue) == OperationStatus.KEYEXIST) {
+							cursor.put(dbKey, dbValue);
+							keyExists(entry.getKey());
+						}
+					} else {
+						cursor.put(dbKey, dbValue);
+					}
+				}
+			} catch (LockConflictException e) {
+				throw new BimserverLockConflictException(e);
+			} catch (DatabaseException e) {
+				throw new BimserverDatabaseException("", e);
+			} finally {
+				closeCursor(cursor);
+			}
+		}
+	}
+
+	@Override
+	public List<byte[]> getBatch(String tableName, final List<byte[]> keys, DatabaseSession databaseSession) throws BimserverDatabaseException, BimserverLockConflictException {
+		// Reading in key order keeps the cursor moving forward through the btree
+		Integer[] order = new Integer[keys.size()];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		final Comparator<byte[]> comparator = UnsignedBytes.lexicographicalComparator();
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer o1, Integer o2) {
+				return comparator.compare(keys.get(o1), keys.get(o2));
+			}
+		});
+		byte[][] result = new byte[keys.size()][];
+		TableWrapper tableWrapper = getTableWrapper(tableName);
+		Cursor cursor = null;
+		try {
+			cursor = tableWrapper.getDatabase().openCursor(getTransaction(databaseSession, tableWrapper), getCursorConfig(tableWrapper));
+			for (int index : order) {
+				DatabaseEntry dbKey = new DatabaseEntry(keys.get(index));
+				DatabaseEntry dbValue = new DatabaseEntry();
+				if (cursor.getSearchKey(dbKey, dbValue, LockMode.DEFAULT) == OperationStatus.SUCCESS) {
+					result[index] = dbValue.getData();
 				}
 			}
 		} catch (LockConflictException e) {
 			throw new BimserverLockConflictException(e);
 		} catch (DatabaseException e) {
 			throw new BimserverDatabaseException("", e);
+		} finally {
+			closeCursor(cursor);
+		}
+		return Arrays.asList(result);
+	}
+
+	private void closeCursor(Cursor cursor) {
+		if (cursor != null) {
+			try {
+				cursor.close();
+			} catch (DatabaseException e) {
+				LOGGER.error("", e);
+			}
 		}
 	}
 	
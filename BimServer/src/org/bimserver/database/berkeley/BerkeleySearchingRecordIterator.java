@@ -40,15 +40,26 @@ public class BerkeleySearchingRecordIterator implements SearchingRecordIterator
 	private byte[] nextStartSearchingAt;
 	private long cursorId;
 	private BerkeleyKeyValueStore berkeleyKeyValueStore;
-	private boolean onlyKeys;
+	private int valueLength;
 
-	public BerkeleySearchingRecordIterator(Cursor cursor, BerkeleyKeyValueStore berkeleyKeyValueStore, long cursorId, byte[] mustStartWith, byte[] startSearchingAt, boolean onlyKeys) throws BimserverLockConflictException {
+	/**
+	 * @param valueLength The amount of bytes to read of every value, -1 reads the complete values, 0 only reads the keys
+	 */
+	public BerkeleySearchingRecordIterator(Cursor cursor, BerkeleyKeyValueStore berkeleyKeyValueStore, long cursorId, byte[] mustStartWith, byte[] startSearchingAt, int valueLength) throws BimserverLockConflictException {
 		this.cursor = cursor;
 		this.berkeleyKeyValueStore = berkeleyKeyValueStore;
 		this.cursorId = cursorId;
 		this.mustStartWith = mustStartWith;
 		this.nextStartSearchingAt = startSearchingAt;
-		this.onlyKeys = onlyKeys;
+		this.valueLength = valueLength;
+	}
+
+	private DatabaseEntry createValueEntry() {
+		DatabaseEntry value = new DatabaseEntry();
+		if (valueLength >= 0) {
+			value.setPartial(0, valueLength, true);
+		}
+		return value;
 	}
 
 	public long getCursorId() {
@@ -58,10 +69,7 @@ public class BerkeleySearchingRecordIterator implements SearchingRecordIterator
 	private Record getFirstNext(byte[] startSearchingAt) throws BimserverLockConflictException {
 		this.nextStartSearchingAt = null;
 		DatabaseEntry key = new DatabaseEntry(startSearchingAt);
-		DatabaseEntry value = new DatabaseEntry();
-		if (onlyKeys) {
-			value.setPartial(0, 0, true);
-		}
+		DatabaseEntry value = createValueEntry();
 		try {
 			OperationStatus next = cursor.getSearchKeyRange(key, value, LockMode.DEFAULT);
 			if (next == OperationStatus.SUCCESS) {
@@ -85,10 +93,7 @@ public class BerkeleySearchingRecordIterator implements SearchingRecordIterator
 			return getFirstNext(nextStartSearchingAt);
 		}
 		DatabaseEntry key = new DatabaseEntry();
-		DatabaseEntry value = new DatabaseEntry();
-		if (onlyKeys) {
-			value.setPartial(0, 0, true);
-		}
+		DatabaseEntry value = createValueEntry();
 		try {
 			OperationStatus next = cursor.getNext(key, value, LockMode.DEFAULT);
 			if (next == OperationStatus.SUCCESS) {
@@ -127,10 +132,7 @@ public class BerkeleySearchingRecordIterator implements SearchingRecordIterator
 			return getFirstNext(nextStartSearchingAt);
 		}
 		DatabaseEntry key = new DatabaseEntry();
-		DatabaseEntry value = new DatabaseEntry();
-		if (onlyKeys) {
-			value.setPartial(0, 0, true);
-		}
+		DatabaseEntry value = createValueEntry();
 		try {
 			OperationStatus next = cursor.getLast(key, value, LockMode.DEFAULT);
 			if (next == OperationStatus.SUCCESS) {
@@ -0,0 +1,127 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.KeyValueStore;
+import org.bimserver.database.WriteBatch;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+/**
+ * Classification codes of a concrete revision, written at check-in. The code is the ItemReference (IFC2x3) or
+ * Identification (IFC4) of an IfcClassificationReference, the oids are the RelatedObjects of all
+ * IfcRelAssociatesClassification objects that refer to a reference with that code.
+ *
+ * Key: pid (4), rid (4), flag (1), code (same scheme as {@link PropertyIndex})
+ * Value: sorted oids (8 each)
+ *
+ * Like the property index, every revision with an index has an entry with only pid and rid.
+ */
+public class ClassificationIndex {
+	public static final String CLASSIFICATION_INDEX_TABLE = "INT-ClassificationIndex";
+	private static final byte[] EMPTY = new byte[0];
+
+	private final KeyValueStore keyValueStore;
+
+	public ClassificationIndex(KeyValueStore keyValueStore) {
+		this.keyValueStore = keyValueStore;
+	}
+
+	public boolean hasIndex(DatabaseSession databaseSession, int pid, int rid) throws BimserverDatabaseException {
+		return keyValueStore.get(CLASSIFICATION_INDEX_TABLE, PropertyIndex.createKey(pid, rid), databaseSession) != null;
+	}
+
+	/**
+	 * @return The sorted oids of the objects that have at least one of the given codes, or null when this revision has no index
+	 */
+	public long[] get(DatabaseSession databaseSession, int pid, int rid, Set<String> codes) throws BimserverDatabaseException {
+		if (!hasIndex(databaseSession, pid, rid)) {
+			return null;
+		}
+		LongArrayList oids = new LongArrayList();
+		for (String code : codes) {
+			byte[] bytes = keyValueStore.get(CLASSIFICATION_INDEX_TABLE, PropertyIndex.createKey(pid, rid, code), databaseSession);
+			if (bytes != null) {
+				ByteBuffer buffer = ByteBuffer.wrap(bytes);
+				while (buffer.hasRemaining()) {
+					oids.add(buffer.getLong());
+				}
+			}
+		}
+		return PropertyIndex.sortUnique(oids);
+	}
+
+	public Builder createBuilder() {
+		return new Builder();
+	}
+
+	public class Builder {
+		private final Long2ObjectOpenHashMap<String> codes = new Long2ObjectOpenHashMap<>();
+		private final Long2ObjectOpenHashMap<LongArrayList> relatedObjects = new Long2ObjectOpenHashMap<>();
+
+		public void addClassificationReference(long oid, String code) {
+			if (code != null) {
+				codes.put(oid, code);
+			}
+		}
+
+		public void addRelation(long classificationOid, long[] relatedObjectOids) {
+			LongArrayList oids = relatedObjects.get(classificationOid);
+			if (oids == null) {
+				oids = new LongArrayList();
+				relatedObjects.put(classificationOid, oids);
+			}
+			oids.addElements(oids.size(), relatedObjectOids);
+		}
+
+		public void write(DatabaseSession databaseSession, int pid, int rid) throws BimserverDatabaseException {
+			Map<String, LongArrayList> entries = new HashMap<>();
+			for (Long2ObjectMap.Entry<LongArrayList> relation : relatedObjects.long2ObjectEntrySet()) {
+				String code = codes.get(relation.getLongKey());
+				if (code != null) {
+					LongArrayList oids = entries.get(code);
+					if (oids == null) {
+						entries.put(code, relation.getValue());
+					} else {
+						oids.addAll(relation.getValue());
+					}
+				}
+			}
+			WriteBatch writeBatch = new WriteBatch();
+			writeBatch.store(CLASSIFICATION_INDEX_TABLE, PropertyIndex.createKey(pid, rid), EMPTY);
+			for (Map.Entry<String, LongArrayList> entry : entries.entrySet()) {
+				long[] oids = PropertyIndex.sortUnique(entry.getValue());
+				ByteBuffer value = ByteBuffer.allocate(oids.length * 8);
+				for (long oid : oids) {
+					value.putLong(oid);
+				}
+				writeBatch.store(CLASSIFICATION_INDEX_TABLE, PropertyIndex.createKey(pid, rid, entry.getKey()), value.array());
+			}
+			keyValueStore.storeBatch(writeBatch, databaseSession);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.ByteBuffer;
+
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.KeyValueStore;
+
+/**
+ * Per project content addressed index of stored geometry. Maps the (128 bit) content hash of
+ * geometry to the oids of the objects holding the data (the buffers), so a later revision of the
+ * same project with the same geometry can refer to them instead of storing them again. The table is
+ * transactional, entries of a revision that is rolled back are removed with it.
+ *
+ * Key: pid (4), hash (16)
+ * Value: rid (4), oids of the parts (8 each, -1 when not set)
+ */
+public class GeometryDataIndex {
+	public static final String GEOMETRY_DATA_INDEX_TABLE = "INT-GeometryDataIndex";
+
+	private static final int HASH_LENGTH = 16;
+	private final KeyValueStore keyValueStore;
+
+	public GeometryDataIndex(KeyValueStore keyValueStore) {
+		this.keyValueStore = keyValueStore;
+	}
+
+	public void put(DatabaseSession databaseSession, int pid, int rid, byte[] hash, long[] parts) throws BimserverDatabaseException {
+		ByteBuffer value = ByteBuffer.allocate(4 + parts.length * 8);
+		value.putInt(rid);
+		for (long part : parts) {
+			value.putLong(part);
+		}
+		keyValueStore.store(GEOMETRY_DATA_INDEX_TABLE, createKey(pid, hash), value.array(), databaseSession);
+	}
+
+	/**
+	 * @return The oids of the parts, or null when there is no geometry with this hash that is visible from the given revision
+	 */
+	public long[] get(DatabaseSession databaseSession, int pid, int rid, byte[] hash) throws BimserverDatabaseException {
+		byte[] bytes = keyValueStore.get(GEOMETRY_DATA_INDEX_TABLE, createKey(pid, hash), databaseSession);
+		if (bytes == null) {
+			return null;
+		}
+		ByteBuffer value = ByteBuffer.wrap(bytes);
+		if (value.getInt() > rid) {
+			// Stored by a newer revision (when regenerating geometry of an older one), those objects cannot be read from this revision
+			return null;
+		}
+		long[] parts = new long[value.remaining() / 8];
+		for (int i = 0; i < parts.length; i++) {
+			parts[i] = value.getLong();
+		}
+		return parts;
+	}
+
+	private byte[] createKey(int pid, byte[] hash) {
+		if (hash.length != HASH_LENGTH) {
+			throw new IllegalArgumentException("Hash should be " + HASH_LENGTH + " bytes, not " + hash.length);
+		}
+		ByteBuffer key = ByteBuffer.allocate(4 + HASH_LENGTH);
+		key.putInt(pid);
+		key.put(hash);
+		return key.array();
+	}
+}
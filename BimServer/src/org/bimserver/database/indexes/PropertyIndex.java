@@ -0,0 +1,298 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.KeyValueStore;
+import org.bimserver.database.WriteBatch;
+import org.bimserver.database.queries.om.Properties;
+import org.eclipse.emf.common.util.Enumerator;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+
+/**
+ * Inverted index of the single value properties of a concrete revision, written at check-in. Finding all objects with a
+ * certain property value then takes a few reads instead of following IsDefinedBy for every object of a type.
+ *
+ * Key: pid (4), rid (4), flag (1), property set name, property name and normalized value, separated by 0 bytes. When
+ * this gets longer than MAX_PLAIN_KEY_LENGTH, the flag is 1 and a SHA-256 of the text is used instead.
+ * Value: sorted oids (8 each) of the objects that have this property, directly or through their type
+ *
+ * Every revision with an index also has an entry with only pid and rid, revisions that were checked in before this index
+ * existed don't have it and should be queried the old way.
+ */
+public class PropertyIndex {
+	public static final String PROPERTY_INDEX_TABLE = "INT-PropertyIndex";
+	private static final int MAX_PLAIN_KEY_LENGTH = 256;
+	private static final byte[] EMPTY = new byte[0];
+
+	private final KeyValueStore keyValueStore;
+
+	public PropertyIndex(KeyValueStore keyValueStore) {
+		this.keyValueStore = keyValueStore;
+	}
+
+	/**
+	 * Normalizes the wrapped value of an IfcPropertySingleValue in such a way that values that would be equal to a query
+	 * value end up with the same String. Values that can never be queried return null.
+	 */
+	public static String normalizeStoredValue(String valueType, Object wrappedValue) {
+		if (wrappedValue instanceof Enumerator) {
+			if (valueType.equals("IfcBoolean")) {
+				return "b:" + ((Enumerator)wrappedValue).getName().toLowerCase();
+			}
+		} else if (wrappedValue instanceof String) {
+			return "s:" + wrappedValue;
+		} else if (wrappedValue instanceof Double) {
+			return "d:" + wrappedValue;
+		}
+		return null;
+	}
+
+	/**
+	 * IfcBoolean values are compared with the String version of the query value, so a String can match two kinds of stored values
+	 */
+	private static List<String> normalizeQueryValue(Object queryValue) {
+		List<String> result = new ArrayList<>(2);
+		if (queryValue instanceof String) {
+			result.add("s:" + queryValue);
+			result.add("b:" + queryValue);
+		} else if (queryValue instanceof Boolean) {
+			result.add("b:" + queryValue);
+		} else if (queryValue instanceof Double) {
+			result.add("d:" + queryValue);
+		}
+		return result;
+	}
+
+	public boolean hasIndex(DatabaseSession databaseSession, int pid, int rid) throws BimserverDatabaseException {
+		return keyValueStore.get(PROPERTY_INDEX_TABLE, createKey(pid, rid), databaseSession) != null;
+	}
+
+	/**
+	 * All properties are combined with AND, like the query language does
+	 *
+	 * @return The sorted oids of the objects that have all given properties, or null when this revision has no index
+	 */
+	public long[] get(DatabaseSession databaseSession, int pid, int rid, Map<String, Properties> properties) throws BimserverDatabaseException {
+		if (!hasIndex(databaseSession, pid, rid)) {
+			return null;
+		}
+		long[] result = null;
+		for (String propertySetName : properties.keySet()) {
+			Properties propertiesObject = properties.get(propertySetName);
+			for (String propertyName : propertiesObject.keys()) {
+				LongArrayList oids = new LongArrayList();
+				for (String value : normalizeQueryValue(propertiesObject.get(propertyName))) {
+					byte[] bytes = keyValueStore.get(PROPERTY_INDEX_TABLE, createKey(pid, rid, createText(propertySetName, propertyName, value)), databaseSession);
+					if (bytes != null) {
+						ByteBuffer buffer = ByteBuffer.wrap(bytes);
+						while (buffer.hasRemaining()) {
+							oids.add(buffer.getLong());
+						}
+					}
+				}
+				long[] sorted = sortUnique(oids);
+				result = result == null ? sorted : intersect(result, sorted);
+				if (result.length == 0) {
+					return result;
+				}
+			}
+		}
+		return result == null ? new long[0] : result;
+	}
+
+	static long[] sortUnique(LongArrayList oids) {
+		long[] array = oids.toLongArray();
+		LongArrays.quickSort(array);
+		int size = 0;
+		for (int i = 0; i < array.length; i++) {
+			if (size == 0 || array[size - 1] != array[i]) {
+				array[size++] = array[i];
+			}
+		}
+		return size == array.length ? array : LongArrays.copy(array, 0, size);
+	}
+
+	private static long[] intersect(long[] a, long[] b) {
+		long[] result = new long[Math.min(a.length, b.length)];
+		int i = 0, j = 0, size = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j]) {
+				i++;
+			} else if (a[i] > b[j]) {
+				j++;
+			} else {
+				result[size++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return LongArrays.copy(result, 0, size);
+	}
+
+	static byte[] createKey(int pid, int rid) {
+		ByteBuffer key = ByteBuffer.allocate(8);
+		key.putInt(pid);
+		key.putInt(rid);
+		return key.array();
+	}
+
+	private static String createText(String propertySetName, String propertyName, String normalizedValue) {
+		return propertySetName + "\0" + propertyName + "\0" + normalizedValue;
+	}
+
+	static byte[] createKey(int pid, int rid, String keyText) {
+		byte[] text = keyText.getBytes(Charsets.UTF_8);
+		byte flag = 0;
+		if (text.length > MAX_PLAIN_KEY_LENGTH) {
+			text = Hashing.sha256().hashBytes(text).asBytes();
+			flag = 1;
+		}
+		ByteBuffer key = ByteBuffer.allocate(9 + text.length);
+		key.putInt(pid);
+		key.putInt(rid);
+		key.put(flag);
+		key.put(text);
+		return key.array();
+	}
+
+	public Builder createBuilder() {
+		return new Builder();
+	}
+
+	/**
+	 * Collects the property sets, type objects and relations of a revision in any order, the index is resolved and written
+	 * in one go by {@link #write(DatabaseSession, int, int)}.
+	 */
+	public class Builder {
+		private final Long2ObjectOpenHashMap<String[]> properties = new Long2ObjectOpenHashMap<>();
+		private final Long2ObjectOpenHashMap<PropertySet> propertySets = new Long2ObjectOpenHashMap<>();
+		private final Long2ObjectOpenHashMap<long[]> typeObjects = new Long2ObjectOpenHashMap<>();
+		private final List<Relation> relations = new ArrayList<>();
+
+		public void addProperty(long oid, String name, String valueType, Object wrappedValue) {
+			if (name == null || valueType == null || wrappedValue == null) {
+				return;
+			}
+			String normalizedValue = normalizeStoredValue(valueType, wrappedValue);
+			if (normalizedValue != null) {
+				properties.put(oid, new String[]{name, normalizedValue});
+			}
+		}
+
+		public void addPropertySet(long oid, String name, long[] propertyOids) {
+			if (name != null && propertyOids.length > 0) {
+				propertySets.put(oid, new PropertySet(name, propertyOids));
+			}
+		}
+
+		public void addTypeObject(long oid, long[] propertySetOids) {
+			if (propertySetOids.length > 0) {
+				typeObjects.put(oid, propertySetOids);
+			}
+		}
+
+		/**
+		 * @param definitionOid Either a property set (IfcRelDefinesByProperties) or a type object (IfcRelDefinesByType)
+		 */
+		public void addRelation(long definitionOid, long[] relatedObjectOids) {
+			if (relatedObjectOids.length > 0) {
+				relations.add(new Relation(definitionOid, relatedObjectOids));
+			}
+		}
+
+		public void write(DatabaseSession databaseSession, int pid, int rid) throws BimserverDatabaseException {
+			Map<String, LongArrayList> entries = new HashMap<>();
+			for (Relation relation : relations) {
+				PropertySet propertySet = propertySets.get(relation.definitionOid);
+				if (propertySet != null) {
+					addEntries(entries, propertySet, relation.relatedObjectOids);
+				} else {
+					long[] propertySetOids = typeObjects.get(relation.definitionOid);
+					if (propertySetOids != null) {
+						for (long propertySetOid : propertySetOids) {
+							propertySet = propertySets.get(propertySetOid);
+							if (propertySet != null) {
+								addEntries(entries, propertySet, relation.relatedObjectOids);
+							}
+						}
+					}
+				}
+			}
+			WriteBatch writeBatch = new WriteBatch();
+			writeBatch.store(PROPERTY_INDEX_TABLE, createKey(pid, rid), EMPTY);
+			for (Map.Entry<String, LongArrayList> entry : entries.entrySet()) {
+				long[] oids = sortUnique(entry.getValue());
+				ByteBuffer value = ByteBuffer.allocate(oids.length * 8);
+				for (long oid : oids) {
+					value.putLong(oid);
+				}
+				writeBatch.store(PROPERTY_INDEX_TABLE, createKey(pid, rid, entry.getKey()), value.array());
+			}
+			keyValueStore.storeBatch(writeBatch, databaseSession);
+		}
+
+		private void addEntries(Map<String, LongArrayList> entries, PropertySet propertySet, long[] relatedObjectOids) {
+			for (long propertyOid : propertySet.propertyOids) {
+				String[] property = properties.get(propertyOid);
+				if (property != null) {
+					String key = createText(propertySet.name, property[0], property[1]);
+					LongArrayList oids = entries.get(key);
+					if (oids == null) {
+						oids = new LongArrayList();
+						entries.put(key, oids);
+					}
+					oids.addElements(oids.size(), relatedObjectOids);
+				}
+			}
+		}
+	}
+
+	private static class PropertySet {
+		private final String name;
+		private final long[] propertyOids;
+
+		public PropertySet(String name, long[] propertyOids) {
+			this.name = name;
+			this.propertyOids = propertyOids;
+		}
+	}
+
+	private static class Relation {
+		private final long definitionOid;
+		private final long[] relatedObjectOids;
+
+		public Relation(long definitionOid, long[] relatedObjectOids) {
+			this.definitionOid = definitionOid;
+			this.relatedObjectOids = relatedObjectOids;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.KeyValueStore;
+import org.bimserver.database.Record;
+import org.bimserver.database.SearchingRecordIterator;
+import org.bimserver.database.WriteBatch;
+import org.bimserver.models.ifc2x3tc1.Ifc2x3tc1Package;
+import org.bimserver.models.ifc4.Ifc4Package;
+import org.eclipse.emf.ecore.EClass;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+/**
+ * The oids of the objects that are visible in a concrete revision, per class. Reading a revision normally means iterating
+ * over all versions of all objects of a class in the project and skipping the ones that are too new, too old or deleted.
+ * With this index only the visible objects are read, with one seek per object.
+ *
+ * Key: pid (4), rid (4), cid (2)
+ * Value: runs of consecutive oids of this class, first oid (8), amount (4)
+ *
+ * Only covers IFC classes, objects of other packages (for example geometry) can be added to existing revisions later on.
+ * Every revision with an index has an entry with only pid and rid, a covered class without an entry has no visible
+ * objects.
+ */
+public class RevisionVisibilityIndex {
+	public static final String REVISION_VISIBILITY_TABLE = "INT-RevisionVisibility";
+
+	// Oids of the same class are this far apart, see Database.newOid
+	private static final long OID_STRIDE = 65536;
+	private static final byte[] EMPTY = new byte[0];
+
+	private final KeyValueStore keyValueStore;
+
+	public RevisionVisibilityIndex(KeyValueStore keyValueStore) {
+		this.keyValueStore = keyValueStore;
+	}
+
+	public static boolean covers(EClass eClass) {
+		return eClass.getEPackage() == Ifc2x3tc1Package.eINSTANCE || eClass.getEPackage() == Ifc4Package.eINSTANCE;
+	}
+
+	/**
+	 * @param visibleOids The oids of all visible objects, classes that are not covered are ignored
+	 */
+	public void put(DatabaseSession databaseSession, int pid, int rid, Map<EClass, LongArrayList> visibleOids) throws BimserverDatabaseException {
+		WriteBatch writeBatch = new WriteBatch();
+		writeBatch.store(REVISION_VISIBILITY_TABLE, PropertyIndex.createKey(pid, rid), EMPTY);
+		for (Map.Entry<EClass, LongArrayList> entry : visibleOids.entrySet()) {
+			if (!covers(entry.getKey()) || entry.getValue().isEmpty()) {
+				continue;
+			}
+			long[] oids = PropertyIndex.sortUnique(entry.getValue());
+			writeBatch.store(REVISION_VISIBILITY_TABLE, createKey(pid, rid, databaseSession.getCid(entry.getKey())), encode(oids));
+		}
+		keyValueStore.storeBatch(writeBatch, databaseSession);
+	}
+
+	/**
+	 * Writes the index of a revision that is based on another revision of the same project, like revisions created by a transaction.
+	 * Objects that are created and deleted again in the same revision are not visible.
+	 *
+	 * @return Whether the index could be written, which is not the case when the previous revision has no index
+	 */
+	public boolean putChanges(DatabaseSession databaseSession, int pid, int previousRid, int rid, Map<EClass, LongArrayList> created, Map<EClass, LongArrayList> deleted) throws BimserverDatabaseException {
+		if (!hasIndex(databaseSession, pid, previousRid)) {
+			return false;
+		}
+		Map<EClass, LongArrayList> visibleOids = getAll(databaseSession, pid, previousRid);
+		for (Map.Entry<EClass, LongArrayList> entry : created.entrySet()) {
+			visibleOids.computeIfAbsent(entry.getKey(), eClass -> new LongArrayList()).addAll(entry.getValue());
+		}
+		for (Map.Entry<EClass, LongArrayList> entry : deleted.entrySet()) {
+			LongArrayList oids = visibleOids.get(entry.getKey());
+			if (oids != null) {
+				LongOpenHashSet deletedOids = new LongOpenHashSet(entry.getValue());
+				LongArrayList remaining = new LongArrayList(oids.size());
+				for (int i = 0; i < oids.size(); i++) {
+					if (!deletedOids.contains(oids.getLong(i))) {
+						remaining.add(oids.getLong(i));
+					}
+				}
+				visibleOids.put(entry.getKey(), remaining);
+			}
+		}
+		put(databaseSession, pid, rid, visibleOids);
+		return true;
+	}
+
+	public boolean hasIndex(DatabaseSession databaseSession, int pid, int rid) throws BimserverDatabaseException {
+		return keyValueStore.get(REVISION_VISIBILITY_TABLE, PropertyIndex.createKey(pid, rid), databaseSession) != null;
+	}
+
+	/**
+	 * @return The visible oids of the given class in ascending order, or null when the class is not covered or the revision has no index
+	 */
+	public VisibleOids get(DatabaseSession databaseSession, int pid, int rid, EClass eClass) throws BimserverDatabaseException {
+		if (!covers(eClass) || !hasIndex(databaseSession, pid, rid)) {
+			return null;
+		}
+		byte[] bytes = keyValueStore.get(REVISION_VISIBILITY_TABLE, createKey(pid, rid, databaseSession.getCid(eClass)), databaseSession);
+		return new VisibleOids(bytes == null ? EMPTY : bytes);
+	}
+
+	private Map<EClass, LongArrayList> getAll(DatabaseSession databaseSession, int pid, int rid) throws BimserverDatabaseException {
+		Map<EClass, LongArrayList> result = new HashMap<>();
+		byte[] prefix = PropertyIndex.createKey(pid, rid);
+		try (SearchingRecordIterator recordIterator = keyValueStore.getRecordIterator(REVISION_VISIBILITY_TABLE, prefix, prefix, databaseSession)) {
+			Record record = recordIterator.next();
+			while (record != null) {
+				if (record.getKey().length == prefix.length + 2) {
+					short cid = ByteBuffer.wrap(record.getKey()).getShort(prefix.length);
+					LongArrayList oids = new LongArrayList();
+					VisibleOids visibleOids = new VisibleOids(record.getValue());
+					while (visibleOids.hasNext()) {
+						oids.add(visibleOids.next());
+					}
+					result.put(databaseSession.getEClass(cid), oids);
+				}
+				record = recordIterator.next();
+			}
+		}
+		return result;
+	}
+
+	private byte[] encode(long[] oids) {
+		ByteBuffer buffer = ByteBuffer.allocate(oids.length * 12);
+		int i = 0;
+		while (i < oids.length) {
+			int count = 1;
+			while (i + count < oids.length && oids[i + count] == oids[i] + count * OID_STRIDE) {
+				count++;
+			}
+			buffer.putLong(oids[i]);
+			buffer.putInt(count);
+			i += count;
+		}
+		return Arrays.copyOf(buffer.array(), buffer.position());
+	}
+
+	private byte[] createKey(int pid, int rid, short cid) {
+		ByteBuffer key = ByteBuffer.allocate(10);
+		key.putInt(pid);
+		key.putInt(rid);
+		key.putShort(cid);
+		return key.array();
+	}
+
+	public static class VisibleOids {
+		private final ByteBuffer runs;
+		private long current;
+		private int remaining;
+
+		private VisibleOids(byte[] runs) {
+			this.runs = ByteBuffer.wrap(runs);
+		}
+
+		public boolean hasNext() {
+			return remaining > 0 || runs.hasRemaining();
+		}
+
+		public long next() {
+			if (remaining == 0) {
+				current = runs.getLong() - OID_STRIDE;
+				remaining = runs.getInt();
+			}
+			current += OID_STRIDE;
+			remaining--;
+			return current;
+		}
+
+		/**
+		 * @return The total amount of oids, independent of how many have been iterated already
+		 */
+		public int size() {
+			int size = 0;
+			for (int position = 8; position < runs.limit(); position += 12) {
+				size += runs.getInt(position);
+			}
+			return size;
+		}
+	}
+}
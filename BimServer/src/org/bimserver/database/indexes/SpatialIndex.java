@@ -0,0 +1,216 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.ByteBuffer;
+
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.BimserverLockConflictException;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.KeyValueStore;
+import org.bimserver.database.Record;
+import org.bimserver.database.SearchingRecordIterator;
+
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+/**
+ * Per revision spatial index of the (mm) bounds of all objects that have geometry.
+ *
+ * This is a loose octree flattened into a hierarchical grid. Every object is stored once, in the
+ * level where the cell size is at least the biggest dimension of the object, in the cell that
+ * contains the minimum corner of its bounds. Because of that an object never extends more than one
+ * cell beyond the cell it is stored in, so a query only has to look at a small range of cells per level.
+ *
+ * Key: pid (4), rid (4), cid (2), level (1), cell x (4), cell y (4), cell z (4), oid (8)
+ * Value: minX, minY, minZ, maxX, maxY, maxZ (doubles), density (float)
+ *
+ * All keys (including the marker that is written when the index of a revision is complete) have the
+ * same length, so prefix searches never end up on a shorter key.
+ *
+ * The table is transactional, the entries and the marker are written in the transaction that stores
+ * the revision, so an aborted check-in or geometry regeneration never leaves a complete index behind.
+ */
+public class SpatialIndex {
+	public static final String SPATIAL_INDEX_TABLE = "INT-SpatialIndex";
+
+	static final int KEY_LENGTH = 31;
+	static final int LEVEL_OFFSET = 10;
+	static final int CELL_OFFSET = 11;
+	static final int NR_LEVELS = 21;
+	static final double SMALLEST_CELL_SIZE = 1024; // mm
+
+	// Keeps the cell coordinates far away from overflowing when seeking to the next cell
+	static final int MAX_CELL = 1 << 30;
+
+	private static final short COMPLETE_MARKER_CID = -1;
+	private final KeyValueStore keyValueStore;
+
+	public SpatialIndex(KeyValueStore keyValueStore) {
+		this.keyValueStore = keyValueStore;
+	}
+
+	public void add(DatabaseSession databaseSession, int pid, int rid, short cid, long oid, double minX, double minY, double minZ, double maxX, double maxY, double maxZ, float density) throws BimserverDatabaseException {
+		int level = getLevel(minX, minY, minZ, maxX, maxY, maxZ);
+		double cellSize = getCellSize(level);
+		ByteBuffer key = ByteBuffer.allocate(KEY_LENGTH);
+		key.putInt(pid);
+		key.putInt(rid);
+		key.putShort(cid);
+		key.put((byte) level);
+		key.putInt(encodeCell(getCell(minX, cellSize)));
+		key.putInt(encodeCell(getCell(minY, cellSize)));
+		key.putInt(encodeCell(getCell(minZ, cellSize)));
+		key.putLong(oid);
+
+		ByteBuffer value = ByteBuffer.allocate(52);
+		value.putDouble(minX);
+		value.putDouble(minY);
+		value.putDouble(minZ);
+		value.putDouble(maxX);
+		value.putDouble(maxY);
+		value.putDouble(maxZ);
+		value.putFloat(density);
+		keyValueStore.store(SPATIAL_INDEX_TABLE, key.array(), value.array(), databaseSession);
+	}
+
+	/**
+	 * Marks the index of the given revision as complete, only complete indices are used for querying
+	 */
+	public void markComplete(DatabaseSession databaseSession, int pid, int rid) throws BimserverDatabaseException {
+		keyValueStore.store(SPATIAL_INDEX_TABLE, createMarkerKey(pid, rid), new byte[] { 1 }, databaseSession);
+	}
+
+	public boolean isComplete(DatabaseSession databaseSession, int pid, int rid) throws BimserverDatabaseException {
+		return keyValueStore.get(SPATIAL_INDEX_TABLE, createMarkerKey(pid, rid), databaseSession) != null;
+	}
+
+	/**
+	 * Removes all entries (including the marker) of the given revision, used before regenerating the geometry of a revision
+	 */
+	public int clear(DatabaseSession databaseSession, int pid, int rid) throws BimserverLockConflictException, BimserverDatabaseException {
+		ByteBuffer prefix = ByteBuffer.allocate(8);
+		prefix.putInt(pid);
+		prefix.putInt(rid);
+		int deleted = 0;
+		try (SearchingRecordIterator recordIterator = keyValueStore.getRecordIterator(SPATIAL_INDEX_TABLE, prefix.array(), prefix.array(), databaseSession, true)) {
+			Record record = recordIterator.next();
+			while (record != null) {
+				keyValueStore.delete(SPATIAL_INDEX_TABLE, record.getKey(), databaseSession);
+				deleted++;
+				record = recordIterator.next();
+			}
+		}
+		return deleted;
+	}
+
+	/**
+	 * Copies the entries of one revision to another revision of the same project, except the ones of the given objects. Used
+	 * when only the geometry of some objects is regenerated, the copy is only marked as complete when the original is.
+	 *
+	 * @return The number of copied entries
+	 */
+	public int copy(DatabaseSession databaseSession, int pid, int fromRid, int toRid, LongSet excludedOids) throws BimserverDatabaseException {
+		ByteBuffer prefix = ByteBuffer.allocate(8);
+		prefix.putInt(pid);
+		prefix.putInt(fromRid);
+		int copied = 0;
+		try (SearchingRecordIterator recordIterator = keyValueStore.getRecordIterator(SPATIAL_INDEX_TABLE, prefix.array(), prefix.array(), databaseSession)) {
+			Record record = recordIterator.next();
+			while (record != null) {
+				ByteBuffer key = ByteBuffer.wrap(record.getKey().clone());
+				if (key.getShort(8) != COMPLETE_MARKER_CID && !excludedOids.contains(key.getLong(KEY_LENGTH - 8))) {
+					key.putInt(4, toRid);
+					keyValueStore.store(SPATIAL_INDEX_TABLE, key.array(), record.getValue(), databaseSession);
+					copied++;
+				}
+				record = recordIterator.next();
+			}
+		}
+		if (isComplete(databaseSession, pid, fromRid)) {
+			markComplete(databaseSession, pid, toRid);
+		}
+		return copied;
+	}
+
+	/**
+	 * Returns all entries of the given class of which the bounds intersect the given (closed) box, or
+	 * all entries of the given class when the box is not usable (NaN or negative sizes)
+	 */
+	public SpatialIndexIterator query(DatabaseSession databaseSession, int pid, int rid, short cid, double x, double y, double z, double width, double height, double depth) throws BimserverDatabaseException {
+		boolean fullScan = Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z) || Double.isNaN(width) || Double.isNaN(height) || Double.isNaN(depth) || width < 0 || height < 0 || depth < 0;
+		ByteBuffer prefix = ByteBuffer.allocate(10);
+		prefix.putInt(pid);
+		prefix.putInt(rid);
+		prefix.putShort(cid);
+		SearchingRecordIterator recordIterator = keyValueStore.getRecordIterator(SPATIAL_INDEX_TABLE, prefix.array(), prefix.array(), databaseSession);
+		if (fullScan) {
+			return new SpatialIndexIterator(recordIterator, prefix.array());
+		}
+		return new SpatialIndexIterator(recordIterator, prefix.array(), x, y, z, x + width, y + height, z + depth);
+	}
+
+	private byte[] createMarkerKey(int pid, int rid) {
+		ByteBuffer key = ByteBuffer.allocate(KEY_LENGTH);
+		key.putInt(pid);
+		key.putInt(rid);
+		key.putShort(COMPLETE_MARKER_CID);
+		return key.array();
+	}
+
+	static int getLevel(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+		double size = Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ));
+		if (Double.isNaN(size)) {
+			return NR_LEVELS - 1;
+		}
+		int level = 0;
+		double cellSize = SMALLEST_CELL_SIZE;
+		while (cellSize < size && level < NR_LEVELS - 1) {
+			cellSize *= 2;
+			level++;
+		}
+		return level;
+	}
+
+	static double getCellSize(int level) {
+		return SMALLEST_CELL_SIZE * (1L << level);
+	}
+
+	static int getCell(double coordinate, double cellSize) {
+		if (Double.isNaN(coordinate)) {
+			return 0;
+		}
+		double cell = Math.floor(coordinate / cellSize);
+		if (cell < -MAX_CELL) {
+			return -MAX_CELL;
+		} else if (cell > MAX_CELL) {
+			return MAX_CELL;
+		}
+		return (int) cell;
+	}
+
+	/**
+	 * Flips the sign bit, so the unsigned byte order of the keys is the same as the numerical order of the cells
+	 */
+	static int encodeCell(int cell) {
+		return cell ^ Integer.MIN_VALUE;
+	}
+
+	static int decodeCell(int encoded) {
+		return encoded ^ Integer.MIN_VALUE;
+	}
+}
@@ -0,0 +1,189 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.ByteBuffer;
+
+import org.bimserver.database.BimserverLockConflictException;
+import org.bimserver.database.Record;
+import org.bimserver.database.SearchingRecordIterator;
+
+/**
+ * Iterates over the entries of one class in the spatial index. Within a level the cursor skips over
+ * the cells that cannot contain any candidates by seeking to the next interesting cell, so only
+ * cells that are populated and in range are actually read.
+ */
+public class SpatialIndexIterator implements AutoCloseable {
+	private final SearchingRecordIterator recordIterator;
+	private final byte[] prefix;
+	private final boolean fullScan;
+	private final double[] queryMin;
+	private final double[] queryMax;
+	private final int[] minCell = new int[3];
+	private final int[] maxCell = new int[3];
+	private Record record;
+	private int level = -1;
+	private boolean fullScanLevel;
+
+	private long oid;
+	private double minX;
+	private double minY;
+	private double minZ;
+	private double maxX;
+	private double maxY;
+	private double maxZ;
+	private float density;
+
+	SpatialIndexIterator(SearchingRecordIterator recordIterator, byte[] prefix) throws BimserverLockConflictException {
+		this.recordIterator = recordIterator;
+		this.prefix = prefix;
+		this.fullScan = true;
+		this.queryMin = null;
+		this.queryMax = null;
+		this.record = recordIterator.next();
+	}
+
+	SpatialIndexIterator(SearchingRecordIterator recordIterator, byte[] prefix, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) throws BimserverLockConflictException {
+		this.recordIterator = recordIterator;
+		this.prefix = prefix;
+		this.fullScan = false;
+		this.queryMin = new double[] { minX, minY, minZ };
+		this.queryMax = new double[] { maxX, maxY, maxZ };
+		this.record = recordIterator.next();
+	}
+
+	/**
+	 * Moves to the next candidate, the bounds of the candidate still have to be tested by the caller
+	 */
+	public boolean next() throws BimserverLockConflictException {
+		while (record != null) {
+			ByteBuffer keyBuffer = ByteBuffer.wrap(record.getKey());
+			int keyLevel = keyBuffer.get(SpatialIndex.LEVEL_OFFSET);
+			if (keyLevel != level) {
+				startLevel(keyLevel);
+			}
+			if (!fullScan && !fullScanLevel) {
+				keyBuffer.position(SpatialIndex.CELL_OFFSET);
+				int cellX = SpatialIndex.decodeCell(keyBuffer.getInt());
+				int cellY = SpatialIndex.decodeCell(keyBuffer.getInt());
+				int cellZ = SpatialIndex.decodeCell(keyBuffer.getInt());
+				if (cellX < minCell[0]) {
+					record = seek(level, minCell[0], minCell[1], minCell[2]);
+					continue;
+				} else if (cellX > maxCell[0]) {
+					record = seekNextLevel();
+					continue;
+				} else if (cellY < minCell[1]) {
+					record = seek(level, cellX, minCell[1], minCell[2]);
+					continue;
+				} else if (cellY > maxCell[1]) {
+					record = seek(level, cellX + 1, minCell[1], minCell[2]);
+					continue;
+				} else if (cellZ < minCell[2]) {
+					record = seek(level, cellX, cellY, minCell[2]);
+					continue;
+				} else if (cellZ > maxCell[2]) {
+					record = seek(level, cellX, cellY + 1, minCell[2]);
+					continue;
+				}
+			}
+			keyBuffer.position(SpatialIndex.KEY_LENGTH - 8);
+			oid = keyBuffer.getLong();
+			ByteBuffer valueBuffer = ByteBuffer.wrap(record.getValue());
+			minX = valueBuffer.getDouble();
+			minY = valueBuffer.getDouble();
+			minZ = valueBuffer.getDouble();
+			maxX = valueBuffer.getDouble();
+			maxY = valueBuffer.getDouble();
+			maxZ = valueBuffer.getDouble();
+			density = valueBuffer.getFloat();
+			record = recordIterator.next();
+			return true;
+		}
+		return false;
+	}
+
+	private void startLevel(int newLevel) {
+		level = newLevel;
+		// The biggest level also contains everything that is bigger than its cell size
+		fullScanLevel = level >= SpatialIndex.NR_LEVELS - 1;
+		if (!fullScan) {
+			double cellSize = SpatialIndex.getCellSize(level);
+			for (int i = 0; i < 3; i++) {
+				// Objects never extend more than one cell beyond the cell of their minimum, one extra cell for rounding
+				minCell[i] = SpatialIndex.getCell(queryMin[i], cellSize) - 2;
+				maxCell[i] = SpatialIndex.getCell(queryMax[i], cellSize);
+			}
+		}
+	}
+
+	private Record seekNextLevel() throws BimserverLockConflictException {
+		if (level + 1 >= SpatialIndex.NR_LEVELS) {
+			return null;
+		}
+		startLevel(level + 1);
+		return seek(level, minCell[0], minCell[1], minCell[2]);
+	}
+
+	private Record seek(int level, int cellX, int cellY, int cellZ) throws BimserverLockConflictException {
+		ByteBuffer seekKey = ByteBuffer.allocate(SpatialIndex.CELL_OFFSET + 12);
+		seekKey.put(prefix);
+		seekKey.put((byte) level);
+		seekKey.putInt(SpatialIndex.encodeCell(cellX));
+		seekKey.putInt(SpatialIndex.encodeCell(cellY));
+		seekKey.putInt(SpatialIndex.encodeCell(cellZ));
+		return recordIterator.next(seekKey.array());
+	}
+
+	public long getOid() {
+		return oid;
+	}
+
+	public double getMinX() {
+		return minX;
+	}
+
+	public double getMinY() {
+		return minY;
+	}
+
+	public double getMinZ() {
+		return minZ;
+	}
+
+	public double getMaxX() {
+		return maxX;
+	}
+
+	public double getMaxY() {
+		return maxY;
+	}
+
+	public double getMaxZ() {
+		return maxZ;
+	}
+
+	public float getDensity() {
+		return density;
+	}
+
+	@Override
+	public void close() {
+		recordIterator.close();
+	}
+}
@@ -42,6 +42,7 @@ import org.bimserver.tools.generators.AdaptorGeneratorWrapper;
 import org.bimserver.tools.generators.AsyncServiceGeneratorWrapper;
 import org.bimserver.tools.generators.DataObjectGeneratorWrapper;
 import org.bimserver.tools.generators.ProtocolBuffersGenerator;
+import org.bimserver.tools.generators.ReflectorGenerator;
 import org.bimserver.tools.generators.SConverterGeneratorWrapper;
 import org.bimserver.tools.generators.SPackageGeneratorWrapper;
 import org.bimserver.tools.generators.SServiceGeneratorWrapper;
@@ -184,8 +185,8 @@ public class CodeMigrator {
 
 		LOGGER.info("Protocol buffers file and classes generated");
 
-//		RealtimeReflectorFactoryBuilder reflectorBuilder = new RealtimeReflectorFactoryBuilder(InterfaceList.createSServicesMap(), new File("../PluginBase/genclasses"));
-//		reflectorBuilder.newReflectorFactory();
+		new ReflectorGenerator(new File("../PluginBase/generated")).generate(servicesMap);
+		LOGGER.info("Reflectors generated");
 		
 		LOGGER.info("");
 		LOGGER.info("Migration successfull");
@@ -18,62 +18,49 @@ package org.bimserver.database.queries;
  *****************************************************************************/
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.bimserver.BimserverDatabaseException;
 import org.bimserver.database.DatabaseSession;
-import org.bimserver.database.OidCounters;
+import org.bimserver.database.RevisionMetaDataCache.RevisionMetaData;
 import org.bimserver.database.actions.AbstractDownloadDatabaseAction;
 import org.bimserver.emf.PackageMetaData;
 import org.bimserver.models.store.ConcreteRevision;
 import org.bimserver.shared.QueryContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 
 public class ConcreteRevisionStackFrame extends StackFrame {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ConcreteRevisionStackFrame.class);
 
 	private final QueryObjectProvider queryObjectProvider;
 	private final PackageMetaData packageMetaData;
 	private final QueryContext queryContext;
-	
-	// TODO make not static (use factory somewhere), and check concurrency
-	private static final Map<Long, OidCounters> reusableQueryContexts = new HashMap<>();
 
 	public ConcreteRevisionStackFrame(QueryObjectProvider queryObjectProvider, ConcreteRevision concreteRevision, long roid) {
 		this.queryObjectProvider = queryObjectProvider;
-		int highestStopId = AbstractDownloadDatabaseAction.findHighestStopRid(concreteRevision.getProject(), concreteRevision);
-		packageMetaData = queryObjectProvider.getMetaDataManager().getPackageMetaData(concreteRevision.getProject().getSchema());
-
-		queryContext = new QueryContext(queryObjectProvider.getDatabaseSession(), packageMetaData, concreteRevision.getProject().getId(), concreteRevision.getId(), roid, concreteRevision.getOid(), highestStopId);
-		if (concreteRevision.getOidCounters() != null) {
-			synchronized (getClass()) {
-				if (reusableQueryContexts.containsKey(concreteRevision.getOid())) {
-					queryContext.setOidCounters(reusableQueryContexts.get(concreteRevision.getOid()));
-				} else {
-					try {
-						OidCounters updateOidCounters = updateOidCounters(concreteRevision, queryObjectProvider.getDatabaseSession());
-						queryContext.setOidCounters(updateOidCounters);
-						reusableQueryContexts.put(concreteRevision.getOid(), updateOidCounters);
-					} catch (BimserverDatabaseException e) {
-						e.printStackTrace();
-					}
-				}
+		DatabaseSession databaseSession = queryObjectProvider.getDatabaseSession();
+		RevisionMetaData revisionMetaData = null;
+		try {
+			revisionMetaData = databaseSession.getRevisionMetaDataCache().get(concreteRevision, databaseSession);
+		} catch (BimserverDatabaseException e) {
+			// Falls back to reading the project below
+			LOGGER.error("", e);
+		}
+		if (revisionMetaData != null) {
+			packageMetaData = revisionMetaData.getPackageMetaData();
+			queryContext = new QueryContext(databaseSession, packageMetaData, concreteRevision.getProject().getId(), concreteRevision.getId(), roid, concreteRevision.getOid(), revisionMetaData.getHighestStopRid());
+			if (revisionMetaData.getOidCounters() != null) {
+				queryContext.setOidCounters(revisionMetaData.getOidCounters());
 			}
+		} else {
+			int highestStopId = AbstractDownloadDatabaseAction.findHighestStopRid(concreteRevision.getProject(), concreteRevision);
+			packageMetaData = queryObjectProvider.getMetaDataManager().getPackageMetaData(concreteRevision.getProject().getSchema());
+			queryContext = new QueryContext(databaseSession, packageMetaData, concreteRevision.getProject().getId(), concreteRevision.getId(), roid, concreteRevision.getOid(), highestStopId);
 		}
 	}
-	
-	public static void clearCache(long croid) {
-		reusableQueryContexts.remove(croid);
-	}
-	
-	private OidCounters updateOidCounters(ConcreteRevision subRevision, DatabaseSession databaseSession) throws BimserverDatabaseException {
-		if (subRevision.getOidCounters() != null) {
-			return new OidCounters(databaseSession, subRevision.getOidCounters());
-		}
-		return null;
-	}
 
 	@Override
 	public boolean process() throws BimserverDatabaseException, JsonParseException, JsonMappingException, IOException {
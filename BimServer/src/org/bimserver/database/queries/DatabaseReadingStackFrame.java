@@ -488,7 +488,7 @@ public abstract class DatabaseReadingStackFrame extends StackFrame implements Ob
 	}
 	
 	public HashMapVirtualObject getByOid(long oid, boolean useCache) throws BimserverDatabaseException {
-		HashMapVirtualObject byOid = getQueryObjectProvider().getFromCache((long)oid);
+		HashMapVirtualObject byOid = getQueryObjectProvider().getFromCache(oid, reusable.getRid());
 		if (byOid != null) {
 			return byOid;
 		}
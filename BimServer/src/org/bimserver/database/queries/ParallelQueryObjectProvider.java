@@ -0,0 +1,355 @@
+package org.bimserver.database.queries;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.bimserver.BimServer;
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.OperationType;
+import org.bimserver.database.queries.om.JsonQueryObjectModelConverter;
+import org.bimserver.database.queries.om.Query;
+import org.bimserver.database.queries.om.QueryException;
+import org.bimserver.database.queries.om.QueryPart;
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.plugins.serializers.ObjectProvider;
+import org.bimserver.shared.HashMapVirtualObject;
+import org.eclipse.emf.ecore.EClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+/**
+ * Runs a query over multiple revisions with one partition per revision. The first partition runs on the calling thread
+ * with the session of the caller, the others run ahead on the query pool of the server, each with its own read only
+ * session, and hand their objects over through a bounded queue.
+ *
+ * Objects are returned in the order of the revisions, an object that has already been returned by an earlier partition is
+ * skipped. The result is therefore the same as the one of a {@link QueryObjectProvider} over the same revisions.
+ *
+ * A consumer that stops before all objects have been read has to call {@link #close()}, so the partitions that are still
+ * running stop and close their sessions.
+ */
+public class ParallelQueryObjectProvider implements ObjectProvider {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ParallelQueryObjectProvider.class);
+	private static final int QUEUE_SIZE = 10000;
+	// A partition that has not been able to hand over an object for this long assumes the consumer has gone away
+	private static final long ABANDON_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(10);
+	private static final Object END = new Object();
+
+	private final DatabaseSession databaseSession;
+	private final BimServer bimServer;
+	private final Query query;
+	private final Set<Long> roids;
+	private final PackageMetaData packageMetaData;
+	private final List<Partition> partitions = new ArrayList<>();
+	private final LongOpenHashSet oidsRead = new LongOpenHashSet();
+	private int current;
+	private int submitted;
+
+	private ParallelQueryObjectProvider(DatabaseSession databaseSession, BimServer bimServer, Query query, Set<Long> roids, PackageMetaData packageMetaData) {
+		this.databaseSession = databaseSession;
+		this.bimServer = bimServer;
+		this.query = query;
+		this.roids = roids;
+		this.packageMetaData = packageMetaData;
+		for (long roid : roids) {
+			partitions.add(new Partition(roid));
+		}
+	}
+
+	/**
+	 * @return A parallel provider when the query spans multiple revisions and can be partitioned, a {@link QueryObjectProvider} otherwise
+	 */
+	public static ObjectProvider create(DatabaseSession databaseSession, BimServer bimServer, Query query, Set<Long> roids, PackageMetaData packageMetaData) throws IOException, QueryException {
+		if (roids.size() > 1 && canPartition(query)) {
+			return new ParallelQueryObjectProvider(databaseSession, bimServer, query, roids, packageMetaData);
+		}
+		return new QueryObjectProvider(databaseSession, bimServer, query, roids, packageMetaData);
+	}
+
+	/**
+	 * The octree of a query with tiles is built from all revisions together
+	 */
+	private static boolean canPartition(Query query) {
+		for (QueryPart queryPart : query.getQueryParts()) {
+			if (queryPart.getTiles() != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public HashMapVirtualObject next() throws BimserverDatabaseException {
+		if (submitted == 0) {
+			// The first partition is never submitted, so the consumer runs it itself
+			submitted = 1;
+			submitAhead();
+		}
+		while (current < partitions.size()) {
+			Partition partition = partitions.get(current);
+			Object next = partition.take();
+			if (next == END) {
+				partition.close();
+				current++;
+				submitAhead();
+				continue;
+			}
+			HashMapVirtualObject object = (HashMapVirtualObject) next;
+			if (oidsRead.add(object.getOid())) {
+				return object;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Keeps at most as many partitions running ahead of the current one as the query pool has threads
+	 */
+	private void submitAhead() {
+		ForkJoinPool queryPool = bimServer.getQueryPool();
+		while (submitted < partitions.size() && submitted - current <= queryPool.getParallelism()) {
+			queryPool.execute(partitions.get(submitted));
+			submitted++;
+		}
+	}
+
+	private QueryObjectProvider createQueryObjectProvider(DatabaseSession databaseSession, long roid) throws IOException, QueryException {
+		return new QueryObjectProvider(databaseSession, bimServer, query, Collections.singleton(roid), packageMetaData);
+	}
+
+	/**
+	 * Cancels the partitions that have not been read completely, partitions that are running stop at their next object
+	 */
+	public void close() {
+		for (int i = current; i < partitions.size(); i++) {
+			partitions.get(i).cancel();
+		}
+	}
+
+	@Override
+	public ObjectProvider copy() throws IOException, QueryException {
+		return new ParallelQueryObjectProvider(databaseSession, bimServer, query, roids, packageMetaData);
+	}
+
+	/**
+	 * Objects read by the partition that is currently being returned are found as well
+	 */
+	@Override
+	public HashMapVirtualObject getByOid(long oid) {
+		HashMapVirtualObject object = databaseSession.getFromCache(oid);
+		if (object == null && current < partitions.size()) {
+			DatabaseSession partitionSession = partitions.get(current).session;
+			if (partitionSession != null) {
+				object = partitionSession.getFromCache(oid);
+			}
+		}
+		return object;
+	}
+
+	@Override
+	public EClass getEClassForOid(long oid) {
+		try {
+			return databaseSession.getEClassForOid(oid);
+		} catch (BimserverDatabaseException e) {
+			LOGGER.error("", e);
+		}
+		return null;
+	}
+
+	@Override
+	public EClass getEClassForCid(short cid) {
+		try {
+			return databaseSession.getEClass(cid);
+		} catch (BimserverDatabaseException e) {
+			LOGGER.error("", e);
+		}
+		return null;
+	}
+
+	@Override
+	public ObjectNode getQueryNode() {
+		if (query.getOriginalJson() != null) {
+			return query.getOriginalJson();
+		}
+		return new JsonQueryObjectModelConverter(packageMetaData).toJson(query);
+	}
+
+	@Override
+	public void cache(HashMapVirtualObject object) {
+		databaseSession.cache(object);
+	}
+
+	private class Partition implements Runnable {
+		private final long roid;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+		private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+		private volatile DatabaseSession session;
+		private volatile Throwable error;
+		private volatile boolean cancelled;
+		private volatile boolean done;
+		private boolean closed;
+		private QueryObjectProvider inline;
+
+		public Partition(long roid) {
+			this.roid = roid;
+		}
+
+		@Override
+		public void run() {
+			if (!claimed.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				session = bimServer.getDatabase().createSession(OperationType.READ_ONLY);
+				QueryObjectProvider queryObjectProvider = createQueryObjectProvider(session, roid);
+				HashMapVirtualObject next = queryObjectProvider.next();
+				while (next != null) {
+					if (!handOver(next)) {
+						return;
+					}
+					next = queryObjectProvider.next();
+				}
+			} catch (Throwable e) {
+				error = e;
+			}
+			if (handOver(END)) {
+				// The session stays open for getByOid until the consumer has read this partition, or until it is cancelled
+				done = true;
+				if (cancelled) {
+					close();
+				}
+			}
+		}
+
+		/**
+		 * Waits for space in the queue. The pool is told this thread is blocked, so it can compensate with another thread.
+		 * 
+		 * @return Whether the object has been handed over, when not the session has been closed
+		 */
+		private boolean handOver(Object object) {
+			HandOver handOver = new HandOver(object);
+			try {
+				ForkJoinPool.managedBlock(handOver);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (!handOver.handedOver) {
+				close();
+			}
+			return handOver.handedOver;
+		}
+
+		public void cancel() {
+			cancelled = true;
+			if (claimed.compareAndSet(false, true)) {
+				// Never started, there is no session
+				return;
+			}
+			// Wakes up a partition that is waiting for space, it then sees it has been cancelled
+			queue.clear();
+			if (done) {
+				close();
+			}
+		}
+
+		/**
+		 * Runs the partition on the calling thread when the pool has not started it yet
+		 */
+		public Object take() throws BimserverDatabaseException {
+			if (inline == null && claimed.compareAndSet(false, true)) {
+				try {
+					inline = createQueryObjectProvider(databaseSession, roid);
+				} catch (IOException | QueryException e) {
+					throw new BimserverDatabaseException(e);
+				}
+			}
+			if (inline != null) {
+				HashMapVirtualObject next = inline.next();
+				return next == null ? END : next;
+			}
+			try {
+				Object next = queue.take();
+				if (next == END && error != null) {
+					// The consumer does not get to read this partition, so it does not close it either
+					close();
+					if (error instanceof BimserverDatabaseException) {
+						throw (BimserverDatabaseException) error;
+					}
+					throw new BimserverDatabaseException(error);
+				}
+				return next;
+			} catch (InterruptedException e) {
+				throw new BimserverDatabaseException(e);
+			}
+		}
+
+		public synchronized void close() {
+			if (session != null && !closed) {
+				closed = true;
+				session.close();
+			}
+		}
+
+		private class HandOver implements ForkJoinPool.ManagedBlocker {
+			private final Object object;
+			private final long start = System.nanoTime();
+			private boolean handedOver;
+			private boolean abandoned;
+
+			public HandOver(Object object) {
+				this.object = object;
+			}
+
+			@Override
+			public boolean block() throws InterruptedException {
+				while (!isReleasable()) {
+					if (queue.offer(object, 1, TimeUnit.SECONDS)) {
+						handedOver = true;
+					} else if (System.nanoTime() - start > ABANDON_TIMEOUT_NANOS) {
+						LOGGER.warn("Query " + query.getName() + " on revision " + roid + " abandoned, the results are not being read");
+						abandoned = true;
+					}
+				}
+				return true;
+			}
+
+			@Override
+			public boolean isReleasable() {
+				if (!handedOver && !abandoned && !cancelled) {
+					handedOver = queue.offer(object);
+				}
+				return handedOver || abandoned || cancelled;
+			}
+		}
+	}
+}
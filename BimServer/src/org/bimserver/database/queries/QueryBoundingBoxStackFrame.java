@@ -20,9 +20,12 @@ package org.bimserver.database.queries;
 import java.nio.ByteBuffer;
 
 import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.DatabaseSession;
 import org.bimserver.database.DatabaseSession.GetResult;
 import org.bimserver.database.Record;
 import org.bimserver.database.SearchingRecordIterator;
+import org.bimserver.database.indexes.SpatialIndex;
+import org.bimserver.database.indexes.SpatialIndexIterator;
 import org.bimserver.database.queries.om.InBoundingBox;
 import org.bimserver.database.queries.om.QueryException;
 import org.bimserver.database.queries.om.QueryPart;
@@ -37,17 +40,35 @@ public class QueryBoundingBoxStackFrame extends DatabaseReadingStackFrame implem
 	private SearchingRecordIterator typeRecordIterator;
 	private Record record;
 	private InBoundingBox inBoundingBox;
+	private SpatialIndexIterator spatialIndexIterator;
+	private VisibleRecordIterator visibleRecordIterator;
+	private final boolean hasAny;
 
 	public QueryBoundingBoxStackFrame(QueryObjectProvider queryObjectProvider, EClass eClass, QueryPart queryPart, QueryContext reusable, InBoundingBox inBoundingBox) throws BimserverDatabaseException {
 		super(reusable, queryObjectProvider, queryPart);
 		this.eClass = eClass;
 		this.inBoundingBox = inBoundingBox;
+		this.hasAny = !Double.isNaN(inBoundingBox.getX()) || !Double.isNaN(inBoundingBox.getY()) || !Double.isNaN(inBoundingBox.getZ()) || !Double.isNaN(inBoundingBox.getWidth()) || !Double.isNaN(inBoundingBox.getHeight()) || !Double.isNaN(inBoundingBox.getDepth());
 
 		String tableName = eClass.getEPackage().getName() + "_" + eClass.getName();
 		if (reusable.getOidCounters() != null) {
 			if (!reusable.getOidCounters().containsKey(eClass)) {
 				return; // will skip to next one
 			}
+		}
+		DatabaseSession databaseSession = queryObjectProvider.getDatabaseSession();
+		SpatialIndex spatialIndex = databaseSession.getSpatialIndex();
+		if (spatialIndex.isComplete(databaseSession, reusable.getPid(), reusable.getRid())) {
+			// Only the candidates from the index are read from the class table, without a usable box all entries of this class are candidates
+			spatialIndexIterator = spatialIndex.query(databaseSession, reusable.getPid(), reusable.getRid(), databaseSession.getCid(eClass), inBoundingBox.getX(), inBoundingBox.getY(), inBoundingBox.getZ(), inBoundingBox.getWidth(), inBoundingBox.getHeight(), inBoundingBox.getDepth());
+			return;
+		}
+		visibleRecordIterator = VisibleRecordIterator.create(databaseSession, reusable, eClass);
+		if (visibleRecordIterator != null) {
+			record = visibleRecordIterator.next();
+			return;
+		}
+		if (reusable.getOidCounters() != null) {
 			long startOid = reusable.getOidCounters().get(eClass);
 			ByteBuffer tmp = ByteBuffer.allocate(12);
 			tmp.putInt(reusable.getPid());
@@ -63,12 +84,19 @@ public class QueryBoundingBoxStackFrame extends DatabaseReadingStackFrame implem
 	
 	@Override
 	public boolean process() throws BimserverDatabaseException, QueryException {
-		if (typeRecordIterator == null) {
+		if (spatialIndexIterator != null) {
+			return processFromIndex();
+		}
+		if (typeRecordIterator == null && visibleRecordIterator == null) {
 			return true;
 		}
 		if (record == null) {
 			currentObject = null;
-			typeRecordIterator.close();
+			if (visibleRecordIterator != null) {
+				visibleRecordIterator.close();
+			} else {
+				typeRecordIterator.close();
+			}
 			return true;
 		}
 
@@ -82,7 +110,9 @@ public class QueryBoundingBoxStackFrame extends DatabaseReadingStackFrame implem
 		int keyRid = -keyBuffer.getInt();
 		ByteBuffer valueBuffer = ByteBuffer.wrap(record.getValue());
 		GetResult map = getMap(eClass, eClass, valueBuffer, keyPid, keyOid, keyRid);
-		if (map == GetResult.CONTINUE_WITH_NEXT_OID) {
+		if (visibleRecordIterator != null) {
+			record = visibleRecordIterator.next();
+		} else if (map == GetResult.CONTINUE_WITH_NEXT_OID) {
 			nextKeyStart.position(0);
 			nextKeyStart.putInt(getReusable().getPid());
 			nextKeyStart.putLong(keyOid + 1);
@@ -97,113 +127,13 @@ public class QueryBoundingBoxStackFrame extends DatabaseReadingStackFrame implem
 				HashMapVirtualObject geometryInfo = getByOid(geometryInfoId);
 				
 				// TODO the querying party should be able to force the units used
-				// TODO use some spatial indexing, this is getting slow now that it's actually used
 
-				boolean hasAny = !Double.isNaN(inBoundingBox.getX()) || !Double.isNaN(inBoundingBox.getY()) || !Double.isNaN(inBoundingBox.getZ()) || !Double.isNaN(inBoundingBox.getWidth()) || !Double.isNaN(inBoundingBox.getHeight()) || !Double.isNaN(inBoundingBox.getDepth());
-				
-				if (inBoundingBox.getDensityLowerThreshold() != null) {
-					float density = (float) geometryInfo.get("density");
-					if (density > inBoundingBox.getDensityLowerThreshold()) {
-						currentObject = null;
-						return false;
-					}
-				}
-				if (inBoundingBox.getDensityUpperThreshold() != null) {
-					float density = (float) geometryInfo.get("density");
-					if (density <= inBoundingBox.getDensityUpperThreshold()) {
-						currentObject = null;
-						return false;
-					}
-				}
-				if (hasAny) {
-					HashMapWrappedVirtualObject bounds = (HashMapWrappedVirtualObject) geometryInfo.get("boundsMm");
-					HashMapWrappedVirtualObject minBounds = (HashMapWrappedVirtualObject) bounds.eGet("min");
-					HashMapWrappedVirtualObject maxBounds = (HashMapWrappedVirtualObject) bounds.eGet("max");
-					double minX = (double) minBounds.eGet("x");
-					double minY = (double) minBounds.eGet("y");
-					double minZ = (double) minBounds.eGet("z");
-					double maxX = (double) maxBounds.eGet("x");
-					double maxY = (double) maxBounds.eGet("y");
-					double maxZ = (double) maxBounds.eGet("z");
-					
-					if (inBoundingBox.isPartial()) {
-//						if ((maxX >= inBoundingBox.getX() && inBoundingBox.getX() + inBoundingBox.getWidth() >= minX) &&
-//							(maxY >= inBoundingBox.getY() && inBoundingBox.getY() + inBoundingBox.getHeight() >= minY) &&
-//							(maxZ >= inBoundingBox.getZ() && inBoundingBox.getZ() + inBoundingBox.getDepth() >= minZ)) {
-//							
-//						} else {
-//							currentObject = null;
-//						}
-						if (minX >= inBoundingBox.getX() &&
-						minY >= inBoundingBox.getY() &&
-						minZ >= inBoundingBox.getZ() &&
-						maxX <= inBoundingBox.getX() + inBoundingBox.getWidth() &&
-						maxY <= inBoundingBox.getY() + inBoundingBox.getHeight() &&
-						maxZ <= inBoundingBox.getZ() + inBoundingBox.getDepth()) {
-							// OK
-						} else if (minX <= inBoundingBox.getX() &&
-								minY <= inBoundingBox.getY() &&
-								minZ <= inBoundingBox.getZ() &&
-								maxX >= inBoundingBox.getX() + inBoundingBox.getWidth() &&
-								maxY >= inBoundingBox.getY() + inBoundingBox.getHeight() &&
-								maxZ >= inBoundingBox.getZ() + inBoundingBox.getDepth()) {
-							// OK
-						} else {
-							if (
-								(minX <= inBoundingBox.getX() + inBoundingBox.getWidth() && maxX >= inBoundingBox.getX()) &&
-								(minY <= inBoundingBox.getY() + inBoundingBox.getHeight() && maxY >= inBoundingBox.getY()) &&
-								(minZ <= inBoundingBox.getZ() + inBoundingBox.getDepth() && maxZ >= inBoundingBox.getZ())) {
-								// OK
-							} else {
-								currentObject = null;
-							}
-						}
-					} else if (inBoundingBox.isUseCenterPoint()) {
-						double centerX = (minX + maxX) / 2f;
-						double centerY = (minY + maxY) / 2f;
-						double centerZ = (minZ + maxZ) / 2f;
-						if (
-								centerX > inBoundingBox.getX() &&
-								centerY > inBoundingBox.getY() &&
-								centerZ > inBoundingBox.getZ() &&
-								centerX <= inBoundingBox.getX() + inBoundingBox.getWidth() &&
-								centerY <= inBoundingBox.getY() + inBoundingBox.getHeight() &&
-								centerZ <= inBoundingBox.getZ() + inBoundingBox.getDepth()) {
-						} else {
-							currentObject = null;
-						}
-					} else {
-						if (
-							minX > inBoundingBox.getX() &&
-							minY > inBoundingBox.getY() &&
-							minZ > inBoundingBox.getZ() &&
-							maxX <= inBoundingBox.getX() + inBoundingBox.getWidth() &&
-							maxY <= inBoundingBox.getY() + inBoundingBox.getHeight() &&
-							maxZ <= inBoundingBox.getZ() + inBoundingBox.getDepth()) {
-							if (inBoundingBox.isExcludeOctants()) {
-								for (int x=0; x<2; x++) {
-									for (int y=0; y<2; y++) {
-										for (int z=0; z<2; z++) {
-											if (
-												minX > inBoundingBox.getX() + (x * inBoundingBox.getWidth() / 2) &&
-												minY > inBoundingBox.getY() + (y * inBoundingBox.getHeight() / 2) &&
-												minZ > inBoundingBox.getZ() + (z * inBoundingBox.getDepth() / 2) &&
-												maxX < inBoundingBox.getX() + ((x == 0 ? 0.5f : 1f) * inBoundingBox.getWidth()) &&
-												maxY < inBoundingBox.getY() + ((y == 0 ? 0.5f : 1f) * inBoundingBox.getHeight()) &&
-												maxZ < inBoundingBox.getZ() + ((z == 0 ? 0.5f : 1f) * inBoundingBox.getDepth())) {
-												currentObject = null;
-												break;
-											}
-										}
-									}
-								}
-							} else {
-								// OK
-							}
-						} else {
-							currentObject = null;
-						}
-					}
+				Object density = geometryInfo.get("density");
+				HashMapWrappedVirtualObject bounds = (HashMapWrappedVirtualObject) geometryInfo.get("boundsMm");
+				HashMapWrappedVirtualObject minBounds = (HashMapWrappedVirtualObject) bounds.eGet("min");
+				HashMapWrappedVirtualObject maxBounds = (HashMapWrappedVirtualObject) bounds.eGet("max");
+				if (!matches((double) minBounds.eGet("x"), (double) minBounds.eGet("y"), (double) minBounds.eGet("z"), (double) maxBounds.eGet("x"), (double) maxBounds.eGet("y"), (double) maxBounds.eGet("z"), density == null ? Float.NaN : (float) density)) {
+					currentObject = null;
 				}
 			} else {
 				currentObject = null;
@@ -215,6 +145,96 @@ public class QueryBoundingBoxStackFrame extends DatabaseReadingStackFrame implem
 		return false;
 	}
 	
+	private boolean processFromIndex() throws BimserverDatabaseException, QueryException {
+		currentObject = null;
+		if (!spatialIndexIterator.next()) {
+			spatialIndexIterator.close();
+			return true;
+		}
+		long oid = spatialIndexIterator.getOid();
+		if (!getQueryObjectProvider().hasRead(oid) && matches(spatialIndexIterator.getMinX(), spatialIndexIterator.getMinY(), spatialIndexIterator.getMinZ(), spatialIndexIterator.getMaxX(), spatialIndexIterator.getMaxY(), spatialIndexIterator.getMaxZ(), spatialIndexIterator.getDensity())) {
+			currentObject = getByOid(oid);
+		}
+		
+		processPossibleIncludes(currentObject, eClass, getQueryPart());
+		
+		return false;
+	}
+
+	private boolean matches(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, float density) {
+		if (inBoundingBox.getDensityLowerThreshold() != null) {
+			if (density > inBoundingBox.getDensityLowerThreshold()) {
+				return false;
+			}
+		}
+		if (inBoundingBox.getDensityUpperThreshold() != null) {
+			if (density <= inBoundingBox.getDensityUpperThreshold()) {
+				return false;
+			}
+		}
+		if (!hasAny) {
+			return true;
+		}
+		if (inBoundingBox.isPartial()) {
+			if (minX >= inBoundingBox.getX() &&
+				minY >= inBoundingBox.getY() &&
+				minZ >= inBoundingBox.getZ() &&
+				maxX <= inBoundingBox.getX() + inBoundingBox.getWidth() &&
+				maxY <= inBoundingBox.getY() + inBoundingBox.getHeight() &&
+				maxZ <= inBoundingBox.getZ() + inBoundingBox.getDepth()) {
+				return true;
+			} else if (minX <= inBoundingBox.getX() &&
+				minY <= inBoundingBox.getY() &&
+				minZ <= inBoundingBox.getZ() &&
+				maxX >= inBoundingBox.getX() + inBoundingBox.getWidth() &&
+				maxY >= inBoundingBox.getY() + inBoundingBox.getHeight() &&
+				maxZ >= inBoundingBox.getZ() + inBoundingBox.getDepth()) {
+				return true;
+			}
+			return (minX <= inBoundingBox.getX() + inBoundingBox.getWidth() && maxX >= inBoundingBox.getX()) &&
+				(minY <= inBoundingBox.getY() + inBoundingBox.getHeight() && maxY >= inBoundingBox.getY()) &&
+				(minZ <= inBoundingBox.getZ() + inBoundingBox.getDepth() && maxZ >= inBoundingBox.getZ());
+		} else if (inBoundingBox.isUseCenterPoint()) {
+			double centerX = (minX + maxX) / 2f;
+			double centerY = (minY + maxY) / 2f;
+			double centerZ = (minZ + maxZ) / 2f;
+			return centerX > inBoundingBox.getX() &&
+				centerY > inBoundingBox.getY() &&
+				centerZ > inBoundingBox.getZ() &&
+				centerX <= inBoundingBox.getX() + inBoundingBox.getWidth() &&
+				centerY <= inBoundingBox.getY() + inBoundingBox.getHeight() &&
+				centerZ <= inBoundingBox.getZ() + inBoundingBox.getDepth();
+		} else {
+			if (
+				minX > inBoundingBox.getX() &&
+				minY > inBoundingBox.getY() &&
+				minZ > inBoundingBox.getZ() &&
+				maxX <= inBoundingBox.getX() + inBoundingBox.getWidth() &&
+				maxY <= inBoundingBox.getY() + inBoundingBox.getHeight() &&
+				maxZ <= inBoundingBox.getZ() + inBoundingBox.getDepth()) {
+				if (inBoundingBox.isExcludeOctants()) {
+					for (int x=0; x<2; x++) {
+						for (int y=0; y<2; y++) {
+							for (int z=0; z<2; z++) {
+								if (
+									minX > inBoundingBox.getX() + (x * inBoundingBox.getWidth() / 2) &&
+									minY > inBoundingBox.getY() + (y * inBoundingBox.getHeight() / 2) &&
+									minZ > inBoundingBox.getZ() + (z * inBoundingBox.getDepth() / 2) &&
+									maxX < inBoundingBox.getX() + ((x == 0 ? 0.5f : 1f) * inBoundingBox.getWidth()) &&
+									maxY < inBoundingBox.getY() + ((y == 0 ? 0.5f : 1f) * inBoundingBox.getHeight()) &&
+									maxZ < inBoundingBox.getZ() + ((z == 0 ? 0.5f : 1f) * inBoundingBox.getDepth())) {
+									return false;
+								}
+							}
+						}
+					}
+				}
+				return true;
+			}
+			return false;
+		}
+	}
+	
 	public HashMapVirtualObject getCurrentObject() {
 		return currentObject;
 	}
@@ -50,6 +50,8 @@ public class QueryClassificationsAndTypesStackFrame extends DatabaseReadingStack
 	private SearchingRecordIterator typeRecordIterator;
 	private Record record;
 	private Set<Long> allowedOids = new HashSet<>();
+	private List<Long> indexedOids;
+	private boolean indexed;
 
 	@SuppressWarnings("unchecked")
 	public QueryClassificationsAndTypesStackFrame(QueryObjectProvider queryObjectProvider, EClass eClass, QueryPart partialQuery, QueryContext reusable, Set<String> classifications) throws BimserverDatabaseException {
@@ -57,6 +59,9 @@ public class QueryClassificationsAndTypesStackFrame extends DatabaseReadingStack
 		this.eClass = eClass;
 
 		DatabaseSession databaseSession = getQueryObjectProvider().getDatabaseSession();
+		if (useIndex(databaseSession, classifications)) {
+			return;
+		}
 		String schemaName = eClass.getEPackage().getName();
 		EClass classificationReferenceClass = databaseSession.getEClass(schemaName, "IfcClassificationReference");
 		EClass relAssociatesClassificationReferenceClass = databaseSession.getEClass(schemaName, "IfcRelAssociatesClassification");
@@ -94,6 +99,26 @@ public class QueryClassificationsAndTypesStackFrame extends DatabaseReadingStack
 		}
 	}
 
+	/**
+	 * Revisions that have a classification index don't need the lookups below and a scan over all objects of this type
+	 * 
+	 * @return Whether the index could be used
+	 */
+	private boolean useIndex(DatabaseSession databaseSession, Set<String> classifications) throws BimserverDatabaseException {
+		long[] oids = databaseSession.getClassificationIndex().get(databaseSession, getReusable().getPid(), getReusable().getRid(), classifications);
+		if (oids == null) {
+			return false;
+		}
+		indexed = true;
+		indexedOids = new ArrayList<>();
+		for (long oid : oids) {
+			if (databaseSession.getEClassForOid(oid) == eClass) {
+				indexedOids.add(oid);
+			}
+		}
+		return true;
+	}
+
 	public ObjectIdentifier getOid(EClass eClass, EAttribute attribute, Object value, DatabaseInterface databaseInterface, int pid, int rid) throws BimserverDatabaseException {
 		if (attribute.getEAnnotation("singleindex") != null) {
 			String indexTableName = attribute.getEContainingClass().getEPackage().getName() + "_" + eClass.getName() + "_" + attribute.getName();
@@ -157,6 +182,15 @@ public class QueryClassificationsAndTypesStackFrame extends DatabaseReadingStack
 	
 	@Override
 	boolean process() throws BimserverDatabaseException, QueryException, JsonParseException, JsonMappingException, IOException {
+		if (indexed) {
+			if (indexedOids.isEmpty()) {
+				return true;
+			}
+			// Sorted, because the index returns sorted oids
+			getQueryObjectProvider().push(new QueryOidsAndTypesStackFrame(getQueryObjectProvider(), eClass, getQueryPart(), getReusable(), indexedOids));
+			indexedOids = new ArrayList<>();
+			return false;
+		}
 		if (typeRecordIterator == null) {
 			return true;
 		}
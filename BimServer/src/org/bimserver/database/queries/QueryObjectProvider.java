@@ -97,6 +97,10 @@ public class QueryObjectProvider implements ObjectProvider {
 	public HashMapVirtualObject getFromCache(long oid) {
 		return databaseSession.getFromCache(oid);
 	}
+
+	public HashMapVirtualObject getFromCache(long oid, int rid) {
+		return databaseSession.getFromCache(oid, rid);
+	}
 	
 	@Override
 	public HashMapVirtualObject getByOid(long oid) {
@@ -18,6 +18,7 @@ package org.bimserver.database.queries;
  *****************************************************************************/
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -47,12 +48,18 @@ public class QueryPropertiesAndTypesStackFrame extends DatabaseReadingStackFrame
 	private SearchingRecordIterator typeRecordIterator;
 	private Record record;
 	private Map<String, Properties> properties;
+	private List<Long> indexedOids;
+	private boolean indexed;
 
 	public QueryPropertiesAndTypesStackFrame(QueryObjectProvider queryObjectProvider, EClass eClass, QueryPart queryPart, QueryContext reusable, Map<String, Properties> properties) throws BimserverDatabaseException {
 		super(reusable, queryObjectProvider, queryPart);
 		this.eClass = eClass;
 		this.properties = properties;
 
+		if (useIndex(queryObjectProvider.getDatabaseSession())) {
+			return;
+		}
+
 		String tableName = eClass.getEPackage().getName() + "_" + eClass.getName();
 		if (getReusable().getOidCounters() != null) {
 			if (!getReusable().getOidCounters().containsKey(eClass)) {
@@ -71,9 +78,44 @@ public class QueryPropertiesAndTypesStackFrame extends DatabaseReadingStackFrame
 		}
 	}
 	
+	/**
+	 * Revisions that have a property index don't need a scan over all objects of this type, the matching oids are read from the index
+	 * 
+	 * @return Whether the index could be used
+	 */
+	private boolean useIndex(DatabaseSession databaseSession) throws BimserverDatabaseException {
+		for (String key : properties.keySet()) {
+			if (getPackageMetaData().getEClass(key) != null) {
+				// Attributes of other property set definitions are not indexed
+				return false;
+			}
+		}
+		long[] oids = databaseSession.getPropertyIndex().get(databaseSession, getReusable().getPid(), getReusable().getRid(), properties);
+		if (oids == null) {
+			return false;
+		}
+		indexed = true;
+		indexedOids = new ArrayList<>();
+		for (long oid : oids) {
+			if (databaseSession.getEClassForOid(oid) == eClass) {
+				indexedOids.add(oid);
+			}
+		}
+		return true;
+	}
+	
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean process() throws BimserverDatabaseException, QueryException {
+		if (indexed) {
+			if (indexedOids.isEmpty()) {
+				return true;
+			}
+			// Sorted, because the index returns sorted oids
+			getQueryObjectProvider().push(new QueryOidsAndTypesStackFrame(getQueryObjectProvider(), eClass, getQueryPart(), getReusable(), indexedOids));
+			indexedOids = new ArrayList<>();
+			return false;
+		}
 		if (typeRecordIterator == null) {
 			return true;
 		}
@@ -36,11 +36,18 @@ public class QueryTypeStackFrame extends DatabaseReadingStackFrame implements Ob
 	private EClass eClass;
 	private SearchingRecordIterator typeRecordIterator;
 	private Record record;
+	private VisibleRecordIterator visibleRecordIterator;
 
 	public QueryTypeStackFrame(QueryObjectProvider queryObjectProvider, EClass eClass, QueryContext reusable, QueryPart queryPart) throws BimserverLockConflictException, BimserverDatabaseException {
 		super(reusable, queryObjectProvider, queryPart);
 		this.eClass = eClass;
 		
+		visibleRecordIterator = VisibleRecordIterator.create(queryObjectProvider.getDatabaseSession(), reusable, eClass);
+		if (visibleRecordIterator != null) {
+			record = visibleRecordIterator.next();
+			return;
+		}
+
 		String tableName = eClass.getEPackage().getName() + "_" + eClass.getName();
 		if (getReusable().getOidCounters() != null) {
 			if (!getReusable().getOidCounters().containsKey(eClass)) {
@@ -61,12 +68,12 @@ public class QueryTypeStackFrame extends DatabaseReadingStackFrame implements Ob
 
 	@Override
 	public boolean process() throws BimserverDatabaseException, QueryException {
-		if (typeRecordIterator == null) {
+		if (typeRecordIterator == null && visibleRecordIterator == null) {
 			return true;
 		}
 		if (record == null) {
 			currentObject = null;
-			typeRecordIterator.close();
+			closeIterator();
 			return true;
 		}
 
@@ -80,7 +87,9 @@ public class QueryTypeStackFrame extends DatabaseReadingStackFrame implements Ob
 		int keyRid = -keyBuffer.getInt();
 		ByteBuffer valueBuffer = ByteBuffer.wrap(record.getValue());
 		GetResult map = getMap(eClass, eClass, valueBuffer, keyPid, keyOid, keyRid);
-		if (map == GetResult.CONTINUE_WITH_NEXT_OID) {
+		if (visibleRecordIterator != null) {
+			record = visibleRecordIterator.next();
+		} else if (map == GetResult.CONTINUE_WITH_NEXT_OID) {
 			nextKeyStart.position(0);
 			nextKeyStart.putInt(getReusable().getPid());
 			nextKeyStart.putLong(keyOid + 1);
@@ -105,4 +114,12 @@ public class QueryTypeStackFrame extends DatabaseReadingStackFrame implements Ob
 		
 		return false;
 	}
+
+	private void closeIterator() {
+		if (visibleRecordIterator != null) {
+			visibleRecordIterator.close();
+		} else {
+			typeRecordIterator.close();
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package org.bimserver.database.queries;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.ByteBuffer;
+
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.Record;
+import org.bimserver.database.SearchingRecordIterator;
+import org.bimserver.database.indexes.RevisionVisibilityIndex.VisibleOids;
+import org.bimserver.shared.QueryContext;
+import org.bimserver.utils.BinUtils;
+import org.eclipse.emf.ecore.EClass;
+
+/**
+ * Iterates over the records of the objects of one class that are visible in a revision, using the revision visibility
+ * index. Keys are sorted on pid, oid and then on -rid, so seeking to (pid, oid, -rid) ends up at the newest version that is
+ * not newer than the revision, without reading any of the other versions.
+ */
+public class VisibleRecordIterator implements AutoCloseable {
+	private final SearchingRecordIterator recordIterator;
+	private final VisibleOids visibleOids;
+	private final int pid;
+	private final int rid;
+
+	private VisibleRecordIterator(SearchingRecordIterator recordIterator, VisibleOids visibleOids, int pid, int rid) {
+		this.recordIterator = recordIterator;
+		this.visibleOids = visibleOids;
+		this.pid = pid;
+		this.rid = rid;
+	}
+
+	/**
+	 * @return An iterator, or null when the revision has no visibility index for this class and the class table has to be scanned
+	 */
+	public static VisibleRecordIterator create(DatabaseSession databaseSession, QueryContext reusable, EClass eClass) throws BimserverDatabaseException {
+		VisibleOids visibleOids = databaseSession.getRevisionVisibilityIndex().get(databaseSession, reusable.getPid(), reusable.getRid(), eClass);
+		if (visibleOids == null) {
+			return null;
+		}
+		String tableName = eClass.getEPackage().getName() + "_" + eClass.getName();
+		byte[] pidBytes = BinUtils.intToByteArray(reusable.getPid());
+		SearchingRecordIterator recordIterator = databaseSession.getKeyValueStore().getRecordIterator(tableName, pidBytes, pidBytes, databaseSession);
+		return new VisibleRecordIterator(recordIterator, visibleOids, reusable.getPid(), reusable.getRid());
+	}
+
+	/**
+	 * @return The record of the next visible object, or null when there are no more
+	 */
+	public Record next() throws BimserverDatabaseException {
+		while (visibleOids.hasNext()) {
+			long oid = visibleOids.next();
+			ByteBuffer key = ByteBuffer.allocate(16);
+			key.putInt(pid);
+			key.putLong(oid);
+			key.putInt(-rid);
+			Record record = recordIterator.next(key.array());
+			if (record == null) {
+				return null;
+			}
+			if (ByteBuffer.wrap(record.getKey()).getLong(4) == oid) {
+				return record;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void close() {
+		recordIterator.close();
+	}
+}
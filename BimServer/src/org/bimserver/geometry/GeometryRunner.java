@@ -17,11 +17,10 @@ package org.bimserver.geometry;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
@@ -29,17 +28,19 @@ import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.bimserver.BimserverDatabaseException;
 import org.bimserver.Color4f;
 import org.bimserver.GenerateGeometryResult;
@@ -78,6 +79,7 @@ import org.eclipse.emf.ecore.EClass;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.HashCode;
 import com.google.common.primitives.UnsignedBytes;
 
 public class GeometryRunner implements Runnable {
@@ -147,9 +149,17 @@ public class GeometryRunner implements Runnable {
 			HashMapVirtualObject next = objectProvider.next();
 			Query query = new Query("Double buffer query " + eClass.getName(), this.streamingGeometryGenerator.packageMetaData);
 			QueryPart queryPart = query.createQueryPart();
+			SharedContextCache sharedContextCache = this.streamingGeometryGenerator.sharedContextCache;
+			// Objects of the shared context that an earlier job has already read are not read again
+			Map<Long, HashMapVirtualObject> sharedObjects = new LinkedHashMap<>();
 			while (next != null) {
 				long oid = next.getOid();
-				queryPart.addOid(oid);
+				HashMapVirtualObject shared = sharedContextCache.get(oid);
+				if (shared != null) {
+					sharedObjects.put(oid, shared);
+				} else {
+					queryPart.addOid(oid);
+				}
 				if (eClass.isSuperTypeOf(next.eClass())) {
 					for (QueryPart qp : originalQuery.getQueryParts()) {
 						if (qp.getOids().contains(oid)) {
@@ -160,11 +170,15 @@ public class GeometryRunner implements Runnable {
 				next = objectProvider.next();
 			}
 
-			objectProvider = new QueryObjectProvider(databaseSession, this.streamingGeometryGenerator.bimServer, query, Collections.singleton(queryContext.getRoid()), this.streamingGeometryGenerator.packageMetaData);
+			ObjectProvider queryObjectProvider = null;
+			if (queryPart.hasOids()) {
+				queryObjectProvider = new QueryObjectProvider(databaseSession, this.streamingGeometryGenerator.bimServer, query, Collections.singleton(queryContext.getRoid()), this.streamingGeometryGenerator.packageMetaData);
+			}
+			objectProvider = new SharedContextObjectProvider(sharedObjects.values(), queryObjectProvider, sharedContextCache, databaseSession);
 
 			StreamingSerializer serializer = ifcSerializerPlugin.createSerializer(new PluginConfiguration());
 			RenderEngine renderEngine = null;
-			byte[] bytes = null;
+			ByteArrayOutputStream buffer = null;
 			try {
 				final Set<HashMapVirtualObject> objects = new LinkedHashSet<>();
 				ObjectProviderProxy proxy = new ObjectProviderProxy(objectProvider, new ObjectListener() {
@@ -182,19 +196,23 @@ public class GeometryRunner implements Runnable {
 					}
 				});
 				serializer.init(proxy, null, null, this.streamingGeometryGenerator.bimServer.getPluginManager(), this.streamingGeometryGenerator.packageMetaData);
-				ByteArrayOutputStream baos = new ByteArrayOutputStream();
-				IOUtils.copy(serializer.getInputStream(), baos);
-				bytes = baos.toByteArray();
-				InputStream in = new ByteArrayInputStream(bytes);
+				// The render engine needs to know the size up front, the chunked buffer does not copy the data when it grows or when it is read
+				buffer = new ByteArrayOutputStream();
+				buffer.write(serializer.getInputStream());
+				long modelSize = buffer.size();
+				InputStream in = buffer.toInputStream();
 				Map<Long, HashMapVirtualObject> notFoundObjects = new HashMap<>();
 
 				Set<Range> reusableGeometryData = new HashSet<>();
 
 				Map<Long, TemporaryGeometryData> productToData = new HashMap<>();
+				// GeometryData of mapped items, only the products of this job refer to it
+				List<Long> pinnedGeometryData = new ArrayList<>();
+				boolean renderEngineFailed = false;
 				try {
 					if (!objects.isEmpty()) {
 						renderEngine = renderEnginePool.borrowObject();
-						try (RenderEngineModel renderEngineModel = renderEngine.openModel(in, bytes.length)) {
+						try (RenderEngineModel renderEngineModel = renderEngine.openModel(in, modelSize)) {
 							renderEngineModel.setSettings(renderEngineSettings);
 							renderEngineModel.setFilter(renderEngineFilter);
 
@@ -202,6 +220,8 @@ public class GeometryRunner implements Runnable {
 								renderEngineModel.generateGeneralGeometry();
 							} catch (RenderEngineException e) {
 								if (e.getCause() instanceof java.io.EOFException) {
+									// The render engine process has gone away
+									renderEngineFailed = true;
 									if (objects.isEmpty() || eClass.getName().equals("IfcAnnotation")) {
 										// SKIP
 									} else {
@@ -271,6 +291,8 @@ public class GeometryRunner implements Runnable {
 										HashMapVirtualObject geometryData = new HashMapVirtualObject(queryContext, GeometryPackage.eINSTANCE.getGeometryData());
 										
 										geometryData.set("type", databaseSession.getCid(eClass));
+										// Buffers and color packs are only saved when this GeometryData is actually stored, and not when geometry with the same content is reused
+										List<HashMapVirtualObject> geometryDataParts = new ArrayList<>();
 
 										ByteBuffer indices = geometry.getIndices();
 										ByteBuffer vertices = geometry.getVertices();
@@ -297,9 +319,9 @@ public class GeometryRunner implements Runnable {
 										}
 
 										geometryData.setAttribute(GeometryPackage.eINSTANCE.getGeometryData_Reused(), 1);
-										geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_Indices(), createBuffer(queryContext, indices));
-										geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_Vertices(), createBuffer(queryContext, vertices));
-										geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_Normals(), createBuffer(queryContext, normals));
+										geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_Indices(), createBuffer(queryContext, indices, geometryDataParts));
+										geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_Vertices(), createBuffer(queryContext, vertices, geometryDataParts));
+										geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_Normals(), createBuffer(queryContext, normals, geometryDataParts));
 										
 										geometryData.set("nrIndices", indicesAsInt.capacity());
 										geometryData.set("nrVertices", verticesAsDouble.capacity());
@@ -307,7 +329,7 @@ public class GeometryRunner implements Runnable {
 										
 										ByteBuffer lineIndices = generateLineRendering(ifcProduct, indicesAsInt, verticesAsDouble, normalsAsFloat, 0.001f);
 										geometryData.set("nrLineIndices", lineIndices.capacity() / 4);
-										geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_LineIndices(), createBuffer(queryContext, lineIndices));
+										geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_LineIndices(), createBuffer(queryContext, lineIndices, geometryDataParts));
 										
 										geometryInfo.setAttribute(GeometryPackage.eINSTANCE.getGeometryInfo_PrimitiveCount(), indicesAsInt.capacity() / 3);
 										
@@ -362,7 +384,7 @@ public class GeometryRunner implements Runnable {
 												
 												HashMapVirtualObject colorPack = new HashMapVirtualObject(queryContext, GeometryPackage.eINSTANCE.getColorPack());
 												colorPack.setAttribute(GeometryPackage.eINSTANCE.getColorPack_Data(), colorMap2.toByteArray());
-												colorPack.save();
+												geometryDataParts.add(colorPack);
 												geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_ColorPack(), colorPack.getOid(), 0);
 											}
 											if (colorMap.usedColors() == 0) {
@@ -396,7 +418,7 @@ public class GeometryRunner implements Runnable {
 											}
 											if (hasMaterial) {
 												geometryData.set("nrColors", colors.capacity());
-												geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_ColorsQuantized(), createBuffer(queryContext, colors), -1);
+												geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_ColorsQuantized(), createBuffer(queryContext, colors, geometryDataParts), -1);
 											} else {
 												geometryData.set("nrColors", 0);
 											}
@@ -432,7 +454,7 @@ public class GeometryRunner implements Runnable {
 										geometryInfo.set("boundsMm", boundsMm);
 
 										ByteBuffer normalsQuantized = quantizeNormals(normalsAsFloat);
-										geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_NormalsQuantized(), createBuffer(queryContext, normalsQuantized));
+										geometryData.setReference(GeometryPackage.eINSTANCE.getGeometryData_NormalsQuantized(), createBuffer(queryContext, normalsQuantized, geometryDataParts));
 										
 										HashMapWrappedVirtualObject geometryDataBounds = new HashMapWrappedVirtualObject(GeometryPackage.eINSTANCE.getBounds());
 										WrappedVirtualObject geometryDataBoundsMin = new HashMapWrappedVirtualObject(GeometryPackage.eINSTANCE.getVector3f());
@@ -467,17 +489,26 @@ public class GeometryRunner implements Runnable {
 												(double) maxBoundsUntranslated.eGet(GeometryPackage.eINSTANCE.getVector3f_Z()), 1d };
 
 										if (reuseGeometry) {
-											/* TODO It still happens that geometry that should be reused is not reused, one of the reasons is still concurrency:
-											 * 	- When the same geometry is processed concurrently they could both do the hash check at a time when there is no cached version, then they both think it's non-reused geometry
-											*/
-											int hash = this.streamingGeometryGenerator.hash(indices, vertices, normals, colors);
+											HashCode hash = this.streamingGeometryGenerator.hash(indices, vertices, normals, colors);
 											int firstIndex = indicesAsInt.get(0);
 											int lastIndex = indicesAsInt.get(indicesAsInt.capacity() - 1);
 											double[] firstVertex = new double[] { verticesAsDouble.get(firstIndex), verticesAsDouble.get(firstIndex + 1), verticesAsDouble.get(firstIndex + 2) };
 											double[] lastVertex = new double[] { verticesAsDouble.get(lastIndex * 3), verticesAsDouble.get(lastIndex * 3 + 1), verticesAsDouble.get(lastIndex * 3 + 2) };
 											Range range = new Range(firstVertex, lastVertex);
-											Long referenceOid = this.streamingGeometryGenerator.hashes.get(hash);
-											if (referenceOid != null) {
+											Long referenceOid = this.streamingGeometryGenerator.getClaimedGeometryData(hash);
+											boolean claimed = false;
+											if (referenceOid == null && !geometryReused) {
+												// Either stores this GeometryData (and its parts), or returns the GeometryData another worker stored in the meantime
+												long claimedOid = this.streamingGeometryGenerator.claimGeometryData(databaseSession, queryContext, hash, geometryData, geometryDataParts);
+												if (claimedOid == geometryData.getOid()) {
+													claimed = true;
+												} else {
+													referenceOid = claimedOid;
+												}
+											}
+											if (claimed) {
+												// Stored, nothing left to do
+											} else if (referenceOid != null) {
 												HashMapVirtualObject referencedData = databaseSession.getFromCache(referenceOid);
 												if (referencedData == null) {
 													LOGGER.error("Object not found in cache: " + referenceOid + " (hash: " + hash + ")");
@@ -491,6 +522,7 @@ public class GeometryRunner implements Runnable {
 												referencedData.saveOverwrite();
 												geometryInfo.setReference(GeometryPackage.eINSTANCE.getGeometryInfo_Data(), referenceOid, 0);
 												this.streamingGeometryGenerator.bytesSavedByHash.addAndGet(size);
+												this.streamingGeometryGenerator.uncacheGeometryData(geometryData);
 											} else if (geometryReused) {
 												// This is true when this geometry is part of a mapped item mapping (and used more than once)
 												
@@ -538,38 +570,14 @@ public class GeometryRunner implements Runnable {
 													geometryInfo.setAttribute(GeometryPackage.eINSTANCE.getGeometryInfo_PrimitiveCount(), indicesAsInt.capacity() / 3);
 
 													productToData.put(ifcProduct.getOid(), new TemporaryGeometryData(geometryData.getOid(), renderEngineInstance.getAdditionalData(), indicesAsInt.capacity() / 3, size, mibu, mabu, indicesAsInt, verticesAsDouble, hasTransparency, colors.capacity()));
+													saveParts(geometryDataParts);
 													geometryData.save();
-													databaseSession.cache((HashMapVirtualObject) geometryData);
+													databaseSession.cachePinned((HashMapVirtualObject) geometryData);
+													pinnedGeometryData.add(geometryData.getOid());
 												}
-											} else {
-												// if (sizes.containsKey(size)
-												// && sizes.get(size).eClass()
-												// == ifcProduct.eClass()) {
-												// LOGGER.info("More reuse might
-												// be possible " + size + " " +
-												// ifcProduct.eClass().getName()
-												// + ":" + ifcProduct.getOid() +
-												// " / " +
-												// sizes.get(size).eClass().getName()
-												// + ":" +
-												// sizes.get(size).getOid());
-												// }
-//												if (geometryReused) {
-//													range.setGeometryDataOid(geometryData.getOid());
-//													reusableGeometryData.add(range);
-//													productToData.put(ifcProduct.getOid(), new TemporaryGeometryData(geometryData.getOid(), renderEngineInstance.getArea(), renderEngineInstance.getVolume(), indices.length / 3, size, mibu, mabu, indices, vertices));
-//												} // TODO else??
-												
-												// So reuse is on, the data was not found by hash, and this item is not in a mapped item
-												
-												// By saving it before putting it in the cache/hashmap, we make sure we won't get a BimserverConcurrentModificationException
-												geometryData.save(); // TODO Why??
-
-												databaseSession.cache((HashMapVirtualObject) geometryData);
-												this.streamingGeometryGenerator.hashes.put(hash, geometryData.getOid());
-												// sizes.put(size, ifcProduct);
 											}
 										} else {
+											saveParts(geometryDataParts);
 											geometryData.save();
 											databaseSession.cache((HashMapVirtualObject) geometryData);
 										}
@@ -578,6 +586,7 @@ public class GeometryRunner implements Runnable {
 										debuggingInfo.put(ifcProduct.getOid(), new DebuggingInfo(productTranformationMatrix, indices.asIntBuffer(), vertices.asFloatBuffer()));
 
 										geometryInfo.save();
+										addToSpatialIndex(ifcProduct, geometryInfo);
 										this.streamingGeometryGenerator.totalBytes.addAndGet(size);
 
 										ifcProduct.setReference(this.streamingGeometryGenerator.geometryFeature, geometryInfo.getOid(), 0);
@@ -799,6 +808,7 @@ public class GeometryRunner implements Runnable {
 											this.streamingGeometryGenerator.setTransformationMatrix(geometryInfo, totalTranformationMatrix);
 
 											geometryInfo.save();
+											addToSpatialIndex(ifcProduct, geometryInfo);
 											// totalBytes.addAndGet(size);
 
 											ifcProduct.setReference(this.streamingGeometryGenerator.geometryFeature, geometryInfo.getOid(), 0);
@@ -809,14 +819,24 @@ public class GeometryRunner implements Runnable {
 							}
 						}
 					}
+				} catch (Throwable e) {
+					renderEngineFailed = true;
+					throw e;
 				} finally {
+					for (long oid : pinnedGeometryData) {
+						databaseSession.uncache(oid);
+					}
 					if (renderEngine != null) {
 						Metrics metrics = renderEngine.getMetrics();
 						if (metrics != null) {
 							job.setCpuTimeMs(metrics.getCpuTimeMs());
 							job.setMaxMemoryBytes(metrics.getMaxMemoryBytes());
 						}
-						renderEnginePool.returnObject(renderEngine);
+						if (renderEngineFailed) {
+							renderEnginePool.invalidateObject(renderEngine);
+						} else {
+							renderEnginePool.returnObject(renderEngine);
+						}
 					}
 					try {
 						if (!notFoundObjects.isEmpty()) {
@@ -827,9 +847,9 @@ public class GeometryRunner implements Runnable {
 							}
 							sb.delete(sb.length() - 2, sb.length());
 							job.setException(new Exception("Missing objects in model (" + sb.toString() + ")"));
-							writeDebugFile(bytes, false, notFoundObjects);
+							writeDebugFile(buffer, false, notFoundObjects);
 						} else if (writeOutputFiles) {
-							writeDebugFile(bytes, false, null);
+							writeDebugFile(buffer, false, null);
 						}
 						in.close();
 					} catch (Throwable e) {
@@ -840,7 +860,7 @@ public class GeometryRunner implements Runnable {
 				}
 			} catch (Throwable e) {
 				StreamingGeometryGenerator.LOGGER.error("", e);
-				if(bytes!=null) writeDebugFile(bytes, true, null);
+				if(buffer!=null) writeDebugFile(buffer, true, null);
 				job.setException(e);
 				// LOGGER.error("Original query: " + originalQuery, e);
 			}
@@ -1028,13 +1048,28 @@ public class GeometryRunner implements Runnable {
 		return 0.5f;
 	}
 	
-	private long createBuffer(QueryContext queryContext, ByteBuffer data) throws BimserverDatabaseException {
+	private void addToSpatialIndex(HashMapVirtualObject ifcProduct, HashMapVirtualObject geometryInfo) throws BimserverDatabaseException {
+		HashMapWrappedVirtualObject boundsMm = (HashMapWrappedVirtualObject) geometryInfo.get("boundsMm");
+		HashMapWrappedVirtualObject min = (HashMapWrappedVirtualObject) boundsMm.get("min");
+		HashMapWrappedVirtualObject max = (HashMapWrappedVirtualObject) boundsMm.get("max");
+		Object density = geometryInfo.get("density");
+		databaseSession.getSpatialIndex().add(databaseSession, queryContext.getPid(), queryContext.getRid(), databaseSession.getCid(ifcProduct.eClass()), ifcProduct.getOid(),
+				(double) min.get("x"), (double) min.get("y"), (double) min.get("z"), (double) max.get("x"), (double) max.get("y"), (double) max.get("z"), density == null ? Float.NaN : (float) density);
+	}
+
+	private long createBuffer(QueryContext queryContext, ByteBuffer data, List<HashMapVirtualObject> geometryDataParts) throws BimserverDatabaseException {
 		HashMapVirtualObject buffer = new HashMapVirtualObject(queryContext, GeometryPackage.eINSTANCE.getBuffer());
 		buffer.set("data", data.array());
-		buffer.save();
+		geometryDataParts.add(buffer);
 		return buffer.getOid();
 	}
 
+	private void saveParts(List<HashMapVirtualObject> geometryDataParts) throws BimserverDatabaseException {
+		for (HashMapVirtualObject part : geometryDataParts) {
+			part.save();
+		}
+	}
+
 	private ByteBuffer quantizeColors(byte[] vertex_colors) {
 		ByteBuffer quantizedColors = ByteBuffer.wrap(new byte[vertex_colors.length]);
 		for (int i=0; i<vertex_colors.length; i++) {
@@ -1234,7 +1269,7 @@ public class GeometryRunner implements Runnable {
 		return true;
 	}
 	
-	private synchronized void writeDebugFile(byte[] bytes, boolean error, Map<Long, HashMapVirtualObject> notFoundObjects) throws FileNotFoundException, IOException {
+	private synchronized void writeDebugFile(ByteArrayOutputStream buffer, boolean error, Map<Long, HashMapVirtualObject> notFoundObjects) throws FileNotFoundException, IOException {
 		boolean debug = true;
 		if (debug) {
 			Path debugPath = this.streamingGeometryGenerator.bimServer.getHomeDir().resolve("debug");
@@ -1267,7 +1302,9 @@ public class GeometryRunner implements Runnable {
 //			}
 
 //			StreamingGeometryGenerator.LOGGER.info("Writing debug file to " + file.toAbsolutePath().toString());
-			FileUtils.writeByteArrayToFile(file.toFile(), bytes);
+			try (OutputStream outputStream = Files.newOutputStream(file)) {
+				buffer.writeTo(outputStream);
+			}
 		}
 	}
 }
\ No newline at end of file
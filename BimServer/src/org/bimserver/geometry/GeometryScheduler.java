@@ -0,0 +1,325 @@
+package org.bimserver.geometry;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Server wide scheduler for geometry generation tasks. All concurrent geometry generation jobs (check-ins, regenerations)
+ * share the same worker threads, so together they never use more threads than there are render engine processes.
+ *
+ * Workers take tasks from the jobs in a round robin fashion, so a big check-in does not starve a small one that arrives
+ * later. Every job has a bounded queue, submitting to a full queue blocks, which slows down the producer of the tasks.
+ */
+public class GeometryScheduler {
+	private static final Logger LOGGER = LoggerFactory.getLogger(GeometryScheduler.class);
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition workAvailable = lock.newCondition();
+	private final ArrayDeque<Job> jobsWithWork = new ArrayDeque<>();
+	private final Set<Job> jobs = new HashSet<>();
+	private final Set<Thread> workers = new HashSet<>();
+	private final AtomicInteger workerCounter = new AtomicInteger();
+	private int nrThreads;
+	private boolean shutdown;
+
+	public GeometryScheduler(int nrThreads) {
+		setThreads(nrThreads);
+	}
+
+	/**
+	 * Changes the amount of worker threads, when there are too many workers they stop after finishing their current task. The
+	 * amount is capped by the amount of available processors.
+	 */
+	public void setThreads(int nrThreads) {
+		nrThreads = Math.max(1, Math.min(nrThreads, Runtime.getRuntime().availableProcessors()));
+		lock.lock();
+		try {
+			if (shutdown) {
+				return;
+			}
+			this.nrThreads = nrThreads;
+			while (workers.size() < nrThreads) {
+				Thread worker = new Thread(this::work, "GeometryWorker-" + workerCounter.incrementAndGet());
+				worker.setDaemon(true);
+				workers.add(worker);
+				worker.start();
+			}
+			// Wakes up idle workers, so superfluous ones can stop
+			workAvailable.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getThreads() {
+		lock.lock();
+		try {
+			return nrThreads;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @param name Used for logging and statistics
+	 * @param queueSize The maximum amount of tasks of this job that can be waiting
+	 */
+	public Job createJob(String name, int queueSize) {
+		lock.lock();
+		try {
+			if (shutdown) {
+				throw new IllegalStateException("Geometry scheduler has been shut down");
+			}
+			Job job = new Job(name, queueSize);
+			jobs.add(job);
+			return job;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void work() {
+		Thread currentThread = Thread.currentThread();
+		while (true) {
+			Job job;
+			Runnable task;
+			lock.lock();
+			try {
+				job = null;
+				while (job == null) {
+					if (shutdown || workers.size() > nrThreads) {
+						workers.remove(currentThread);
+						return;
+					}
+					job = jobsWithWork.poll();
+					if (job == null) {
+						workAvailable.awaitUninterruptibly();
+					}
+				}
+				task = job.queue.poll();
+				job.running++;
+				if (!job.queue.isEmpty()) {
+					// Back of the line, other jobs go first
+					jobsWithWork.addLast(job);
+				}
+				job.notFull.signal();
+			} finally {
+				lock.unlock();
+			}
+			long start = System.nanoTime();
+			boolean failed = false;
+			try {
+				task.run();
+			} catch (Throwable e) {
+				failed = true;
+				LOGGER.error("Error in geometry task of " + job.name, e);
+			}
+			long duration = System.nanoTime() - start;
+			lock.lock();
+			try {
+				job.running--;
+				job.busyNanos += duration;
+				if (failed) {
+					job.failed++;
+				} else {
+					job.completed++;
+				}
+				if (job.running == 0 && job.queue.isEmpty()) {
+					job.idle.signalAll();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	public ObjectNode getStatistics() {
+		lock.lock();
+		try {
+			ObjectNode result = OBJECT_MAPPER.createObjectNode();
+			result.put("threads", nrThreads);
+			result.put("workers", workers.size());
+			ArrayNode jobsNode = result.putArray("jobs");
+			for (Job job : jobs) {
+				jobsNode.add(job.getStatistics());
+			}
+			return result;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops all workers, tasks that are still waiting are not executed
+	 */
+	public void shutdown() {
+		lock.lock();
+		try {
+			shutdown = true;
+			for (Job job : jobs) {
+				job.queue.clear();
+				job.closed = true;
+				job.notFull.signalAll();
+				job.idle.signalAll();
+			}
+			jobs.clear();
+			jobsWithWork.clear();
+			workAvailable.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public class Job implements AutoCloseable {
+		private final String name;
+		private final int queueSize;
+		private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+		private final Condition notFull = lock.newCondition();
+		private final Condition idle = lock.newCondition();
+		private final long created = System.nanoTime();
+		private int running;
+		private long submitted;
+		private long completed;
+		private long failed;
+		private long busyNanos;
+		private long waitedNanos;
+		private boolean closed;
+
+		private Job(String name, int queueSize) {
+			this.name = name;
+			this.queueSize = Math.max(1, queueSize);
+		}
+
+		/**
+		 * Adds a task, blocks while the queue of this job is full
+		 */
+		public void submit(Runnable task) throws InterruptedException {
+			lock.lockInterruptibly();
+			try {
+				long start = System.nanoTime();
+				while (queue.size() >= queueSize && !closed) {
+					notFull.await();
+				}
+				waitedNanos += System.nanoTime() - start;
+				if (closed) {
+					throw new IllegalStateException("Job " + name + " has been closed");
+				}
+				if (!jobsWithWork.contains(this)) {
+					jobsWithWork.addLast(this);
+				}
+				queue.add(task);
+				submitted++;
+				workAvailable.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Waits until all submitted tasks have been executed
+		 *
+		 * @return false when the timeout expired first
+		 */
+		public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+			long nanos = unit.toNanos(timeout);
+			lock.lockInterruptibly();
+			try {
+				while ((!queue.isEmpty() || running > 0) && !closed) {
+					if (nanos <= 0) {
+						return false;
+					}
+					nanos = idle.awaitNanos(nanos);
+				}
+				return true;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Removes the job from the scheduler, tasks that are still waiting are not executed
+		 */
+		@Override
+		public void close() {
+			lock.lock();
+			try {
+				closed = true;
+				queue.clear();
+				jobsWithWork.remove(this);
+				jobs.remove(this);
+				notFull.signalAll();
+				idle.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public long getSubmitted() {
+			lock.lock();
+			try {
+				return submitted;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public long getCompleted() {
+			lock.lock();
+			try {
+				return completed;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public ObjectNode getStatistics() {
+			lock.lock();
+			try {
+				ObjectNode result = OBJECT_MAPPER.createObjectNode();
+				long elapsedNanos = System.nanoTime() - created;
+				result.put("name", name);
+				result.put("submitted", submitted);
+				result.put("queued", queue.size());
+				result.put("running", running);
+				result.put("completed", completed);
+				result.put("failed", failed);
+				result.put("busyMs", TimeUnit.NANOSECONDS.toMillis(busyNanos));
+				result.put("producerWaitedMs", TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+				result.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+				result.put("tasksPerSecond", elapsedNanos == 0 ? 0 : (completed + failed) * 1000000000.0 / elapsedNanos);
+				return result;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package org.bimserver.geometry;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.shared.HashMapVirtualObject;
+import org.eclipse.emf.ecore.EClass;
+
+/**
+ * The objects that most geometry jobs of one geometry generation run have in common: the project with its units and
+ * representation contexts, the owner history, placements and mapped representations. The first job that reads one of them
+ * adds it here, the other jobs serialize the cached object instead of reading it again. Cached objects must never be changed
+ * by the jobs, so they can be serialized by multiple jobs at the same time. Products (including the spatial structure) get
+ * their geometry set by the jobs, so they are never cached.
+ */
+public class SharedContextCache {
+	// Placements are also cached for single products, this keeps the memory used for those bounded
+	private static final int MAX_OBJECTS = 100000;
+	private static final String[] SHARED_CLASSES = new String[] {
+		"IfcProject",
+		"IfcOwnerHistory",
+		"IfcPersonAndOrganization",
+		"IfcPerson",
+		"IfcOrganization",
+		"IfcApplication",
+		"IfcUnitAssignment",
+		"IfcNamedUnit",
+		"IfcDerivedUnit",
+		"IfcDerivedUnitElement",
+		"IfcDimensionalExponents",
+		"IfcMeasureWithUnit",
+		"IfcRepresentationContext",
+		"IfcObjectPlacement",
+		"IfcRepresentationMap"
+	};
+
+	private final Set<EClass> sharedClasses = new HashSet<>();
+	private final Map<Long, HashMapVirtualObject> objects = new ConcurrentHashMap<>();
+
+	public SharedContextCache(PackageMetaData packageMetaData) {
+		for (String name : SHARED_CLASSES) {
+			EClass eClass = packageMetaData.getEClass(name);
+			if (eClass != null) {
+				sharedClasses.addAll(packageMetaData.getAllSubClassesIncludingSelf(eClass));
+			}
+		}
+		EClass product = packageMetaData.getEClass("IfcProduct");
+		if (product != null) {
+			sharedClasses.removeAll(packageMetaData.getAllSubClassesIncludingSelf(product));
+		}
+	}
+
+	public HashMapVirtualObject get(long oid) {
+		return objects.get(oid);
+	}
+
+	public void add(HashMapVirtualObject object) {
+		if (sharedClasses.contains(object.eClass()) && objects.size() < MAX_OBJECTS) {
+			objects.putIfAbsent(object.getOid(), object);
+		}
+	}
+
+	public int size() {
+		return objects.size();
+	}
+}
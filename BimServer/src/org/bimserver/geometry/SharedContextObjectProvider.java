@@ -0,0 +1,119 @@
+package org.bimserver.geometry;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.queries.om.QueryException;
+import org.bimserver.plugins.serializers.ObjectProvider;
+import org.bimserver.shared.HashMapVirtualObject;
+import org.eclipse.emf.ecore.EClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Returns the objects that were found in the {@link SharedContextCache} first, followed by the objects of the query for all
+ * other objects. The shared objects the query reads are added to the cache for the next jobs.
+ */
+public class SharedContextObjectProvider implements ObjectProvider {
+	private static final Logger LOGGER = LoggerFactory.getLogger(SharedContextObjectProvider.class);
+
+	private final Collection<HashMapVirtualObject> cachedObjects;
+	private final Iterator<HashMapVirtualObject> cachedIterator;
+	private final ObjectProvider objectProvider;
+	private final SharedContextCache sharedContextCache;
+	private final DatabaseSession databaseSession;
+
+	/**
+	 * @param objectProvider The provider of the objects that were not cached, or null when all objects were cached
+	 */
+	public SharedContextObjectProvider(Collection<HashMapVirtualObject> cachedObjects, ObjectProvider objectProvider, SharedContextCache sharedContextCache, DatabaseSession databaseSession) {
+		this.cachedObjects = cachedObjects;
+		this.cachedIterator = cachedObjects.iterator();
+		this.objectProvider = objectProvider;
+		this.sharedContextCache = sharedContextCache;
+		this.databaseSession = databaseSession;
+	}
+
+	@Override
+	public HashMapVirtualObject next() throws BimserverDatabaseException {
+		if (cachedIterator.hasNext()) {
+			return cachedIterator.next();
+		}
+		if (objectProvider == null) {
+			return null;
+		}
+		HashMapVirtualObject next = objectProvider.next();
+		if (next != null) {
+			sharedContextCache.add(next);
+		}
+		return next;
+	}
+
+	@Override
+	public ObjectProvider copy() throws IOException, QueryException {
+		return new SharedContextObjectProvider(cachedObjects, objectProvider == null ? null : objectProvider.copy(), sharedContextCache, databaseSession);
+	}
+
+	@Override
+	public HashMapVirtualObject getByOid(long oid) {
+		HashMapVirtualObject object = sharedContextCache.get(oid);
+		if (object == null && objectProvider != null) {
+			object = objectProvider.getByOid(oid);
+		}
+		return object;
+	}
+
+	@Override
+	public EClass getEClassForOid(long oid) {
+		try {
+			return databaseSession.getEClassForOid(oid);
+		} catch (BimserverDatabaseException e) {
+			LOGGER.error("", e);
+		}
+		return null;
+	}
+
+	@Override
+	public EClass getEClassForCid(short cid) {
+		try {
+			return databaseSession.getEClass(cid);
+		} catch (BimserverDatabaseException e) {
+			LOGGER.error("", e);
+		}
+		return null;
+	}
+
+	@Override
+	public ObjectNode getQueryNode() {
+		return objectProvider == null ? null : objectProvider.getQueryNode();
+	}
+
+	@Override
+	public void cache(HashMapVirtualObject object) {
+		if (objectProvider != null) {
+			objectProvider.cache(object);
+		}
+	}
+}
@@ -35,9 +35,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -52,6 +51,7 @@ import org.bimserver.ProductDef;
 import org.bimserver.database.DatabaseSession;
 import org.bimserver.database.OldQuery;
 import org.bimserver.database.actions.ProgressListener;
+import org.bimserver.database.indexes.GeometryDataIndex;
 import org.bimserver.database.queries.QueryObjectProvider;
 import org.bimserver.database.queries.om.Include;
 import org.bimserver.database.queries.om.JsonQueryObjectModelConverter;
@@ -88,17 +88,34 @@ import org.eclipse.emf.ecore.EStructuralFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
 
 public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 	static final Logger LOGGER = LoggerFactory.getLogger(StreamingGeometryGenerator.class);
 	
 	final BimServer bimServer;
-	final Map<Integer, Long> hashes = new ConcurrentHashMap<>();
+	// Completed with the oid of the GeometryData once it has been stored, or with null when storing failed
+	private final Map<HashCode, CompletableFuture<Long>> hashes = new ConcurrentHashMap<>();
+
+	// The parts of GeometryData that are shared with earlier revisions through the GeometryDataIndex, verticesQuantized depends on the bounds of the revision so is always generated
+	private static final EReference[] SHAREABLE_PARTS = new EReference[] {
+		GeometryPackage.eINSTANCE.getGeometryData_Indices(),
+		GeometryPackage.eINSTANCE.getGeometryData_Vertices(),
+		GeometryPackage.eINSTANCE.getGeometryData_Normals(),
+		GeometryPackage.eINSTANCE.getGeometryData_LineIndices(),
+		GeometryPackage.eINSTANCE.getGeometryData_ColorsQuantized(),
+		GeometryPackage.eINSTANCE.getGeometryData_NormalsQuantized(),
+		GeometryPackage.eINSTANCE.getGeometryData_ColorPack()
+	};
 
 	private EClass productClass;
 	EReference geometryFeature;
 	EStructuralFeature representationFeature;
 	PackageMetaData packageMetaData;
+	SharedContextCache sharedContextCache;
 
 	AtomicLong bytesSavedByHash = new AtomicLong();
 	private final AtomicLong bytesSavedByTransformation = new AtomicLong();
@@ -108,6 +125,9 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 	AtomicInteger jobsDone = new AtomicInteger();
 	private final AtomicInteger jobsTotal = new AtomicInteger();
 
+	// Enough to keep the workers busy, while not having the queries of the whole model in memory
+	private static final int JOB_QUEUE_SIZE_PER_THREAD = 8;
+
 	private final ProgressListener progressListener;
 
 	private volatile boolean allJobsPushed;
@@ -138,6 +158,11 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 
 	private boolean calculateQuantities;
 
+	// When not null, only the geometry of these products is generated, per class
+	private Map<EClass, Set<Long>> incrementalProducts;
+	private Bounds previousBounds;
+	private Bounds previousBoundsUntransformed;
+
 	public StreamingGeometryGenerator(final BimServer bimServer, ProgressListener progressListener, Long eoid, GeometryGenerationReport report) {
 		this.bimServer = bimServer;
 		this.progressListener = progressListener;
@@ -145,6 +170,24 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 		this.report = report;
 	}
 	
+	/**
+	 * Only generates the geometry of the given products, all other products keep the geometry they already reference. The
+	 * bounds of the result start out as the given bounds of the previous revision, so they also cover the geometry that is
+	 * kept. The spatial index of the revision will only contain the given products and is not marked as complete.
+	 */
+	public void setIncremental(DatabaseSession databaseSession, Set<Long> productOids, Bounds previousBounds, Bounds previousBoundsUntransformed) throws BimserverDatabaseException {
+		this.incrementalProducts = new HashMap<>();
+		for (long oid : productOids) {
+			incrementalProducts.computeIfAbsent(databaseSession.getEClassForOid(oid), eClass -> new HashSet<>()).add(oid);
+		}
+		this.previousBounds = previousBounds;
+		this.previousBoundsUntransformed = previousBoundsUntransformed;
+	}
+
+	private boolean isIncluded(HashMapVirtualObject product) {
+		return incrementalProducts == null || incrementalProducts.getOrDefault(product.eClass(), Collections.emptySet()).contains(product.getOid());
+	}
+
 	void updateProgress() {
 		if (allJobsPushed) {
 			if (progressListener != null) {
@@ -161,7 +204,11 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 	@SuppressWarnings("unchecked")
 	public GenerateGeometryResult generateGeometry(long uoid, final DatabaseSession databaseSession, QueryContext queryContext, long nrObjects) throws BimserverDatabaseException, GeometryGeneratingException {
 		GenerateGeometryResult generateGeometryResult = new GenerateGeometryResult();
+		if (incrementalProducts != null) {
+			generateGeometryResult.include(previousBounds, previousBoundsUntransformed);
+		}
 		packageMetaData = queryContext.getPackageMetaData();
+		sharedContextCache = new SharedContextCache(packageMetaData);
 		productClass = packageMetaData.getEClass("IfcProduct");
 		geometryFeature = (EReference) productClass.getEStructuralFeature("geometry");
 		representationFeature = productClass.getEStructuralFeature("Representation");
@@ -191,12 +238,16 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 		report.setUseMappingOptimization(optimizeMappedItems);
 		report.setReuseGeometry(reuseGeometry);
 
+		GeometryScheduler.Job geometryJob = null;
 		try {
 			final StreamingSerializerPlugin ifcSerializerPlugin = (StreamingSerializerPlugin) bimServer.getPluginManager().getPlugin(pluginName, true);
 			if (ifcSerializerPlugin == null) {
 				throw new UserException("No IFC serializer found");
 			}
 
+			// Entries of a previous run of this revision (when regenerating) would otherwise stay behind
+			databaseSession.getSpatialIndex().clear(databaseSession, queryContext.getPid(), queryContext.getRid());
+
 			User user = (User) databaseSession.get(uoid, org.bimserver.database.OldQuery.getDefault());
 			UserSettings userSettings = user.getUserSettings();
 			
@@ -255,9 +306,10 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 				renderEnginePool.returnObject(engine);
 			}
 			
-			// TODO reuse, pool the pools :) Or something smarter
-			// TODO reuse queue, or try to determine a realistic size, or don't use a fixed-size queue
-			ThreadPoolExecutor executor = new ThreadPoolExecutor(maxSimultanousThreads, maxSimultanousThreads, 24, TimeUnit.HOURS, new ArrayBlockingQueue<Runnable>(10000000));
+			// The workers are shared with all other geometry generation that is running, the settings might have changed since the last job
+			GeometryScheduler geometryScheduler = bimServer.getGeometryScheduler();
+			geometryScheduler.setThreads(maxSimultanousThreads);
+			geometryJob = geometryScheduler.createJob(report.getOriginalIfcFileName() + " (" + queryContext.getRoid() + ")", maxSimultanousThreads * JOB_QUEUE_SIZE_PER_THREAD);
 
 			JsonQueryObjectModelConverter jsonQueryObjectModelConverter = new JsonQueryObjectModelConverter(packageMetaData);
 			String queryNameSpace = packageMetaData.getSchema().name().toLowerCase() + "-stdlib";
@@ -266,7 +318,9 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 			Include objectPlacement = jsonQueryObjectModelConverter.getDefineFromFile(queryNameSpace + ":ObjectPlacement", true);
 			
 			Set<EClass> classes = null;
-			if (queryContext.getOidCounters() != null) {
+			if (incrementalProducts != null) {
+				classes = incrementalProducts.keySet();
+			} else if (queryContext.getOidCounters() != null) {
 				classes = queryContext.getOidCounters().keySet();
 			} else {
 				classes = packageMetaData.getEClasses();
@@ -293,6 +347,9 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 					Query query2 = new Query(eClass.getName() + "Main query", packageMetaData);
 					QueryPart queryPart2 = query2.createQueryPart();
 					queryPart2.addType(eClass, false);
+					if (incrementalProducts != null) {
+						queryPart2.addOids(incrementalProducts.get(eClass));
+					}
 					Include representationInclude = queryPart2.createInclude();
 					representationInclude.addType(eClass, false);
 					representationInclude.addFieldDirect("Representation");
@@ -327,7 +384,7 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 					QueryObjectProvider queryObjectProvider2 = new QueryObjectProvider(databaseSession, bimServer, query2, Collections.singleton(queryContext.getRoid()), packageMetaData);
 					HashMapVirtualObject next = queryObjectProvider2.next();
 					while (next != null) {
-						if (next.eClass() == eClass) {
+						if (next.eClass() == eClass && isIncluded(next)) {
 							AbstractHashMapVirtualObject representation = next.getDirectFeature(representationFeature);
 							if (representation != null) {
 								Set<HashMapVirtualObject> representations = representation.getDirectListFeature(representationsFeature);
@@ -539,7 +596,7 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 
 //							queryPart3.addInclude(jsonQueryObjectModelConverter.getDefineFromFile("ifc2x3tc1-stdlib:IfcMappedItem"));
 							
-							processQuery(databaseSession, queryContext, generateGeometryResult, ifcSerializerPlugin, settings, renderEngineFilter, renderEnginePool, executor, eClass, query, queryPart, true, map, map.size(), representationOids);
+							processQuery(databaseSession, queryContext, generateGeometryResult, ifcSerializerPlugin, settings, renderEngineFilter, renderEnginePool, geometryJob, eClass, query, queryPart, true, map, map.size(), representationOids);
 						}
 					}
 					
@@ -567,6 +624,9 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 				Query query3 = new Query("Remaining " + eClass.getName(), packageMetaData);
 				QueryPart queryPart3 = query3.createQueryPart();
 				queryPart3.addType(eClass, false);
+				if (incrementalProducts != null) {
+					queryPart3.addOids(incrementalProducts.get(eClass));
+				}
 				Include include3 = queryPart3.createInclude();
 				include3.addType(eClass, false);
 				include3.addFieldDirect("Representation");
@@ -588,7 +648,7 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 				Set<Long> representationOids = new HashSet<>();
 				while (next != null) {
 					// Not sure why the duplicate code in the next 20 lines
-					if (next.eClass() == eClass && !done.contains(next.getOid()) && !toSkip.contains(next.getOid())) {
+					if (next.eClass() == eClass && isIncluded(next) && !done.contains(next.getOid()) && !toSkip.contains(next.getOid())) {
 						AbstractHashMapVirtualObject representation = next.getDirectFeature(representationFeature);
 						if (representation != null) {
 							Set<HashMapVirtualObject> list = representation.getDirectListFeature(packageMetaData.getEReference("IfcProductRepresentation", "Representations"));
@@ -604,7 +664,7 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 											representationOids.addAll(goForIt2);
 											written++;
 											if (written >= maxObjectsPerFile) {
-												processQuery(databaseSession, queryContext, generateGeometryResult, ifcSerializerPlugin, settings, renderEngineFilter, renderEnginePool, executor, eClass, query, queryPart, false, null, written, representationOids);
+												processQuery(databaseSession, queryContext, generateGeometryResult, ifcSerializerPlugin, settings, renderEngineFilter, renderEnginePool, geometryJob, eClass, query, queryPart, false, null, written, representationOids);
 												query = new Query("Main " + eClass.getName(), packageMetaData);
 												query.setDoubleBuffer(true);
 												queryPart = query.createQueryPart();
@@ -620,16 +680,14 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 					next = queryObjectProvider2.next();
 				}
 				if (written > 0) {
-					processQuery(databaseSession, queryContext, generateGeometryResult, ifcSerializerPlugin, settings, renderEngineFilter, renderEnginePool, executor, eClass, query, queryPart, false, null, written, representationOids);
+					processQuery(databaseSession, queryContext, generateGeometryResult, ifcSerializerPlugin, settings, renderEngineFilter, renderEnginePool, geometryJob, eClass, query, queryPart, false, null, written, representationOids);
 				}
 			}
 			
 			allJobsPushed = true;
 			
-			executor.shutdown();
-			boolean terminated = executor.awaitTermination(24, TimeUnit.HOURS);
-			LOGGER.info(executor.getCompletedTaskCount() +"/"+executor.getTaskCount()+" jobs executed and " + (terminated ? "shutdown" : "timeout"));
-//			LOGGER.info(executor.getCompletedTaskCount() + " jobs executed");
+			boolean terminated = geometryJob.awaitCompletion(24, TimeUnit.HOURS);
+			LOGGER.info(geometryJob.getCompleted() + "/" + geometryJob.getSubmitted() + " jobs executed and " + (terminated ? "shutdown" : "timeout") + ", " + geometryJob.getStatistics());
 			
 			// Need total bounds
 //			float[] quantizationMatrix = createQuantizationMatrixFromBounds(boundsMm);
@@ -663,9 +721,15 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 				}
 			}
 
+			releaseGeometryData(databaseSession);
+
+			if (incrementalProducts == null) {
+				databaseSession.getSpatialIndex().markComplete(databaseSession, queryContext.getPid(), queryContext.getRid());
+			}
+
 			long end = System.nanoTime();
 			long total = totalBytes.get() - (bytesSavedByHash.get() + bytesSavedByTransformation.get() + bytesSavedByMapping.get());
-			LOGGER.info("Rendertime: " + Formatters.nanosToString(end - start) + ", " + "Reused (by hash): " + Formatters.bytesToString(bytesSavedByHash.get()) + ", Reused (by transformation): " + Formatters.bytesToString(bytesSavedByTransformation.get()) + ", Reused (by mapping): " + Formatters.bytesToString(bytesSavedByMapping.get()) + ", Total: " + Formatters.bytesToString(totalBytes.get()) + ", Final: " + Formatters.bytesToString(total));
+			LOGGER.info("Rendertime: " + Formatters.nanosToString(end - start) + ", " + "Reused (by hash): " + Formatters.bytesToString(bytesSavedByHash.get()) + ", Reused (by transformation): " + Formatters.bytesToString(bytesSavedByTransformation.get()) + ", Reused (by mapping): " + Formatters.bytesToString(bytesSavedByMapping.get()) + ", Total: " + Formatters.bytesToString(totalBytes.get()) + ", Final: " + Formatters.bytesToString(total) + ", Cache: " + databaseSession.getCacheStatistics());
 			if (report.getNumberOfDebugFiles() > 0) {
 				LOGGER.error("[" + report.getOriginalIfcFileName() + "] Number of erroneous files: " + report.getNumberOfDebugFiles());
 			}
@@ -685,6 +749,10 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 			LOGGER.error("", e);
 			report.setEnd(new GregorianCalendar());
 			throw new GeometryGeneratingException(e);
+		} finally {
+			if (geometryJob != null) {
+				geometryJob.close();
+			}
 		}
 		report.setEnd(new GregorianCalendar());
 		try {
@@ -913,7 +981,7 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 	}
 
 	private void processQuery(final DatabaseSession databaseSession, QueryContext queryContext, GenerateGeometryResult generateGeometryResult, final StreamingSerializerPlugin ifcSerializerPlugin, final RenderEngineSettings settings,
-			final RenderEngineFilter renderEngineFilter, RenderEnginePool renderEnginePool, ThreadPoolExecutor executor, EClass eClass, Query query, QueryPart queryPart, boolean geometryReused, Map<Long, ProductDef> map, int nrObjects, Set<Long> representationOids) throws QueryException, IOException {
+			final RenderEngineFilter renderEngineFilter, RenderEnginePool renderEnginePool, GeometryScheduler.Job geometryJob, EClass eClass, Query query, QueryPart queryPart, boolean geometryReused, Map<Long, ProductDef> map, int nrObjects, Set<Long> representationOids) throws QueryException, IOException, InterruptedException {
 		JsonQueryObjectModelConverter jsonQueryObjectModelConverter = new JsonQueryObjectModelConverter(packageMetaData);
 		
 		String lowerCasePackage = packageMetaData.getSchema().name().toLowerCase();
@@ -1042,12 +1110,12 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 		
 		ReportJob job = report.newJob(eClass.getName(), nrObjects);
 		GeometryRunner runner = new GeometryRunner(this, eClass, renderEnginePool, databaseSession, settings, queryObjectProvider, ifcSerializerPlugin, renderEngineFilter, generateGeometryResult, queryContext, geometryReused, map, job, reuseGeometry, geometryGenerationDebugger, query);
-		executor.submit(runner);
+		geometryJob.submit(runner);
 		jobsTotal.incrementAndGet();
 	}
 
 	private void processMappingQuery(final DatabaseSession databaseSession, QueryContext queryContext, GenerateGeometryResult generateGeometryResult, final StreamingSerializerPlugin ifcSerializerPlugin, final RenderEngineSettings settings,
-			final RenderEngineFilter renderEngineFilter, RenderEnginePool renderEnginePool, ThreadPoolExecutor executor, EClass eClass, Query query, QueryPart queryPart, boolean geometryReused, Map<Long, ProductDef> map, int nrObjects) throws QueryException, IOException {
+			final RenderEngineFilter renderEngineFilter, RenderEnginePool renderEnginePool, GeometryScheduler.Job geometryJob, EClass eClass, Query query, QueryPart queryPart, boolean geometryReused, Map<Long, ProductDef> map, int nrObjects) throws QueryException, IOException, InterruptedException {
 		JsonQueryObjectModelConverter jsonQueryObjectModelConverter = new JsonQueryObjectModelConverter(packageMetaData);
 		
 		String queryNameSpace = packageMetaData.getSchema().name().toLowerCase() + "-stdlib";
@@ -1087,7 +1155,7 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 		
 		ReportJob job = report.newJob(eClass.getName(), nrObjects);
 		GeometryRunner runner = new GeometryRunner(this, eClass, renderEnginePool, databaseSession, settings, queryObjectProvider, ifcSerializerPlugin, renderEngineFilter, generateGeometryResult, queryContext, geometryReused, map, job, reuseGeometry, geometryGenerationDebugger, query);
-		executor.submit(runner);
+		geometryJob.submit(runner);
 		jobsTotal.incrementAndGet();
 	}
 	
@@ -1140,15 +1208,123 @@ public class StreamingGeometryGenerator extends GenericGeometryGenerator {
 		return size;
 	}
 
-	int hash(ByteBuffer indices, ByteBuffer vertices, ByteBuffer normals, ByteBuffer colors) {
+	HashCode hash(ByteBuffer indices, ByteBuffer vertices, ByteBuffer normals, ByteBuffer colors) {
 		// TODO: Color might be excluded from reuse and allowed to change even for the same geometry. However, this
 		//  would require changed geometry data structure and it is not clear how often this case actually appears.
-		int hashCode = 0;
-		hashCode += Arrays.hashCode(indices.array());
-		hashCode += Arrays.hashCode(vertices.array());
-		hashCode += Arrays.hashCode(normals.array());
-		hashCode += Arrays.hashCode(colors.array());
-		return hashCode;
+		Hasher hasher = Hashing.murmur3_128().newHasher();
+		putBuffer(hasher, indices);
+		putBuffer(hasher, vertices);
+		putBuffer(hasher, normals);
+		putBuffer(hasher, colors);
+		return hasher.hash();
+	}
+
+	private void putBuffer(Hasher hasher, ByteBuffer buffer) {
+		// The length is included so the boundaries between the buffers are part of the hash as well
+		byte[] array = buffer.array();
+		hasher.putInt(array.length);
+		hasher.putBytes(array);
+	}
+
+	/**
+	 * Stores the given GeometryData and its (not yet saved) parts, unless GeometryData with the same content has already been stored
+	 * during this run. Claiming is atomic, so concurrent workers generating the same geometry always end up with one GeometryData.
+	 * When an earlier revision of this project already stored the same content, the GeometryData refers to those parts instead
+	 * of storing them again.
+	 * 
+	 * @return The oid of the GeometryData to use, when this is not the oid of the given GeometryData the caller should refer to the returned one
+	 */
+	long claimGeometryData(DatabaseSession databaseSession, QueryContext queryContext, HashCode hash, HashMapVirtualObject geometryData, List<HashMapVirtualObject> parts) throws BimserverDatabaseException {
+		while (true) {
+			CompletableFuture<Long> claim = new CompletableFuture<>();
+			CompletableFuture<Long> existing = hashes.putIfAbsent(hash, claim);
+			if (existing == null) {
+				// Stored outside of the map, so other hashes can be claimed in the meantime
+				try {
+					storeGeometryData(databaseSession, queryContext, hash, geometryData, parts);
+				} catch (BimserverDatabaseException | RuntimeException e) {
+					hashes.remove(hash, claim);
+					claim.complete(null);
+					throw e;
+				}
+				claim.complete(geometryData.getOid());
+				return geometryData.getOid();
+			}
+			// Waits until the other worker has stored its GeometryData, when that failed this one tries again
+			Long oid = existing.join();
+			if (oid != null) {
+				return oid;
+			}
+		}
+	}
+
+	/**
+	 * @return The oid of the GeometryData with the given hash that has been stored during this run, or null when there is none (yet)
+	 */
+	Long getClaimedGeometryData(HashCode hash) {
+		CompletableFuture<Long> claim = hashes.get(hash);
+		if (claim == null || !claim.isDone()) {
+			return null;
+		}
+		return claim.join();
+	}
+
+	private void storeGeometryData(DatabaseSession databaseSession, QueryContext queryContext, HashCode hash, HashMapVirtualObject geometryData, List<HashMapVirtualObject> parts) throws BimserverDatabaseException {
+		GeometryDataIndex geometryDataIndex = databaseSession.getGeometryDataIndex();
+		long[] ownParts = new long[SHAREABLE_PARTS.length];
+		for (int i = 0; i < SHAREABLE_PARTS.length; i++) {
+			Object value = geometryData.eGet(SHAREABLE_PARTS[i]);
+			ownParts[i] = value == null ? -1 : (Long) value;
+		}
+		long[] existingParts = geometryDataIndex.get(databaseSession, queryContext.getPid(), queryContext.getRid(), hash.asBytes());
+		if (existingParts != null && existingParts.length == ownParts.length && sameParts(ownParts, existingParts)) {
+			for (int i = 0; i < SHAREABLE_PARTS.length; i++) {
+				if (existingParts[i] != -1) {
+					geometryData.setReference(SHAREABLE_PARTS[i], existingParts[i], 0);
+				}
+			}
+			bytesSavedByHash.addAndGet(getSize(geometryData));
+		} else {
+			for (HashMapVirtualObject part : parts) {
+				part.save();
+			}
+			geometryDataIndex.put(databaseSession, queryContext.getPid(), queryContext.getRid(), hash.asBytes(), ownParts);
+		}
+		geometryData.save();
+		// The reuse counter and bounds are updated later by other workers, they must all see this instance
+		databaseSession.cachePinned(geometryData);
+	}
+
+	/**
+	 * Makes the GeometryData that was stored by hash evictable again, all workers are done updating it. It is not removed, workers that
+	 * timed out may still be reading it.
+	 */
+	private void releaseGeometryData(DatabaseSession databaseSession) {
+		for (CompletableFuture<Long> claim : hashes.values()) {
+			Long oid = claim.getNow(null);
+			if (oid != null) {
+				databaseSession.unpin(oid);
+			}
+		}
+	}
+
+	/**
+	 * Whether the same parts are set, the content is the same when the hashes are the same
+	 */
+	private boolean sameParts(long[] ownParts, long[] existingParts) {
+		for (int i = 0; i < ownParts.length; i++) {
+			if ((ownParts[i] == -1) != (existingParts[i] == -1)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Removes GeometryData that will not be stored because other GeometryData with the same content is used instead
+	 */
+	void uncacheGeometryData(HashMapVirtualObject geometryData) {
+		geometryDataMap.remove(geometryData.getOid());
 	}
 	
 	int hash(VirtualObject geometryData) {
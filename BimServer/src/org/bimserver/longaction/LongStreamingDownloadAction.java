@@ -17,6 +17,7 @@ package org.bimserver.longaction;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 /******************************************************************************
@@ -51,7 +52,7 @@ import org.bimserver.cache.NewDiskCacheOutputStream;
 import org.bimserver.database.DatabaseSession;
 import org.bimserver.database.OldQuery;
 import org.bimserver.database.OperationType;
-import org.bimserver.database.queries.QueryObjectProvider;
+import org.bimserver.database.queries.ParallelQueryObjectProvider;
 import org.bimserver.database.queries.om.JsonQueryObjectModelConverter;
 import org.bimserver.database.queries.om.Query;
 import org.bimserver.database.queries.om.QueryPart;
@@ -69,6 +70,7 @@ import org.bimserver.plugins.serializers.CacheStoringStreamingSerializerDataSour
 import org.bimserver.plugins.serializers.DoneListener;
 import org.bimserver.plugins.serializers.MessagingStreamingSerializer;
 import org.bimserver.plugins.serializers.MessagingStreamingSerializerPlugin;
+import org.bimserver.plugins.serializers.ObjectProvider;
 import org.bimserver.plugins.serializers.ProjectInfo;
 import org.bimserver.plugins.serializers.SerializerException;
 import org.bimserver.plugins.serializers.StreamingSerializer;
@@ -94,6 +96,9 @@ public class LongStreamingDownloadAction extends LongAction {
 	private SCheckoutResult checkoutResult = new SCheckoutResult();
 	private DownloadDescriptor downloadDescriptor;
 	private Path cacheFile;
+	// Reads the data another download is caching at this moment, no serializer is prepared then
+	private FileCacheReadingWriter cacheReadingWriter;
+	private ObjectProvider objectProvider;
 	private String jsonQuery;
 	private DatabaseSession databaseSession;
 
@@ -149,7 +154,7 @@ public class LongStreamingDownloadAction extends LongAction {
 				
 				downloadDescriptor = new DownloadDescriptor(packageMetaData, jsonQuery, roids, query, serializerOid, this.filename);
 				
-				if (getBimServer().getNewDiskCacheManager().contains(downloadDescriptor)) {
+				if (getBimServer().getNewDiskCacheManager().isCached(downloadDescriptor)) {
 					// TODO That has already been cecked in preparation?
 					cacheFile = getBimServer().getNewDiskCacheManager().get(downloadDescriptor);
 					FileInputStreamDataSource fileInputStreamDataSource = new FileInputStreamDataSource(cacheFile, () -> changeActionState(ActionState.FINISHED, "Done", 100));
@@ -170,16 +175,23 @@ public class LongStreamingDownloadAction extends LongAction {
 //						streamer = true;
 //					}
 					
+					changeActionState(ActionState.STARTED, "Done preparing", -1);
+				} else if (plugin instanceof MessagingStreamingSerializerPlugin && (cacheReadingWriter = getBimServer().getNewDiskCacheManager().getReadingWriter(downloadDescriptor)) != null) {
+					// Another download is caching the same data at this moment, it is read while it is written
 					changeActionState(ActionState.STARTED, "Done preparing", -1);
 				} else {
 					if (query.isDoubleBuffer()) {
 						Query newQuery = new Query(packageMetaData);
 						QueryPart newQueryPart = newQuery.createQueryPart();
-						QueryObjectProvider queryObjectProvider = new QueryObjectProvider(databaseSession, getBimServer(), query, roids, packageMetaData);
-						HashMapVirtualObject next = queryObjectProvider.next();
-						while (next != null) {
-							newQueryPart.addOid(next.getOid());
-							next = queryObjectProvider.next();
+						ObjectProvider oidProvider = ParallelQueryObjectProvider.create(databaseSession, getBimServer(), query, roids, packageMetaData);
+						try {
+							HashMapVirtualObject next = oidProvider.next();
+							while (next != null) {
+								newQueryPart.addOid(next.getOid());
+								next = oidProvider.next();
+							}
+						} finally {
+							closeObjectProvider(oidProvider);
 						}
 						if (!newQueryPart.hasOids()) {
 							// When the original query has not returned any objects, we need to make sure the resulting new query is not interpreted to return all objects
@@ -190,14 +202,14 @@ public class LongStreamingDownloadAction extends LongAction {
 						}
 					}
 					// TODO passing a databasesession here, make sure it will be closed!!
-					QueryObjectProvider queryObjectProvider = new QueryObjectProvider(databaseSession, getBimServer(), query, roids, packageMetaData);
+					objectProvider = ParallelQueryObjectProvider.create(databaseSession, getBimServer(), query, roids, packageMetaData);
 					if (plugin instanceof MessagingStreamingSerializerPlugin) {
 						MessagingStreamingSerializerPlugin serializerPlugin = (MessagingStreamingSerializerPlugin)plugin;
 						if(!serializerPlugin.getSupportedSchemas().contains(packageMetaData.getSchema())){
 							throw new SerializerException("Schema conversion not supported for streaming serializers.");
 						}
 						messagingStreamingSerializer = serializerPlugin.createSerializer(pluginConfiguration);
-						messagingStreamingSerializer.init(queryObjectProvider, projectInfo, getBimServer().getPluginManager(), packageMetaData);
+						messagingStreamingSerializer.init(objectProvider, projectInfo, getBimServer().getPluginManager(), packageMetaData);
 						changeActionState(ActionState.STARTED, "Done preparing", -1);
 					} else if (plugin instanceof StreamingSerializerPlugin) {
 						StreamingSerializerPlugin streamingSerializerPlugin = (StreamingSerializerPlugin)plugin;
@@ -205,7 +217,7 @@ public class LongStreamingDownloadAction extends LongAction {
 							throw new SerializerException("Schema conversion not supported for streaming serializers.");
 						}
 						serializer = streamingSerializerPlugin.createSerializer(pluginConfiguration);
-						serializer.init(queryObjectProvider, projectInfo, ifcHeader, getBimServer().getPluginManager(), packageMetaData);
+						serializer.init(objectProvider, projectInfo, ifcHeader, getBimServer().getPluginManager(), packageMetaData);
 						changeActionState(ActionState.STARTED, "Done preparing", -1);
 					} else {
 						LOGGER.error("Unimplemented " + plugin);
@@ -235,7 +247,9 @@ public class LongStreamingDownloadAction extends LongAction {
 			// already populated by cached file
 			return checkoutResult;
 		}
-		if (serializer == null) {
+		if (cacheReadingWriter != null) {
+			checkoutResult.setFile(new DataHandler(new MessagingStreamingDataSource(cacheReadingWriter)));
+		} else if (serializer == null) {
 			if (messagingStreamingSerializer == null) {
 				throw new SerializerException("No serializer");
 			} else {
@@ -267,21 +281,46 @@ public class LongStreamingDownloadAction extends LongAction {
 	}
 
 	public Writer getMessagingStreamingSerializer() {
+		if (cacheFile != null) {
+			// Found in the cache while preparing, so no serializer has been created
+			FileCacheReadingWriter fileCacheReadingWriter = new FileCacheReadingWriter(cacheFile);
+			fileCacheReadingWriter.setName(downloadDescriptor.getFileNameWithoutExtension());
+			return fileCacheReadingWriter;
+		}
+		if (cacheReadingWriter != null) {
+			return cacheReadingWriter;
+		}
 		if (getBimServer().getNewDiskCacheManager().isEnabled()) {
-			if (getBimServer().getNewDiskCacheManager().contains(downloadDescriptor)) {
-				FileCacheReadingWriter fileCacheReadingWriter = new FileCacheReadingWriter(getBimServer().getNewDiskCacheManager().get(downloadDescriptor));
-				fileCacheReadingWriter.setName(downloadDescriptor.getFileNameWithoutExtension());
-				return fileCacheReadingWriter;
-			} else {
-				return getBimServer().getNewDiskCacheManager().startCachingWriter(downloadDescriptor, messagingStreamingSerializer);
-			}
+			return getBimServer().getNewDiskCacheManager().getCachingWriter(downloadDescriptor, messagingStreamingSerializer);
 		}
 		return messagingStreamingSerializer;
 	}
 	
+	/**
+	 * Stops the query of the download, called when streaming has ended, also when it ended early
+	 */
+	public void closeObjectProvider() {
+		closeObjectProvider(objectProvider);
+	}
+
+	private void closeObjectProvider(ObjectProvider objectProvider) {
+		if (objectProvider instanceof ParallelQueryObjectProvider) {
+			((ParallelQueryObjectProvider) objectProvider).close();
+		}
+	}
+
 	@Override
 	public void stop() {
 		super.stop();
+		closeObjectProvider();
+		if (cacheReadingWriter != null) {
+			// Detaches from the download that is caching, also when the data has never been requested
+			try {
+				cacheReadingWriter.close();
+			} catch (IOException e) {
+				LOGGER.error("", e);
+			}
+		}
 		databaseSession.close();
 	}
 }
\ No newline at end of file
@@ -28,15 +28,10 @@ import org.bimserver.models.store.Project;
 import org.bimserver.models.store.Service;
 import org.bimserver.models.store.StorePackage;
 import org.bimserver.models.store.Trigger;
-import org.bimserver.shared.ChannelConnectionException;
-import org.bimserver.shared.exceptions.PublicInterfaceNotFoundException;
 import org.bimserver.shared.exceptions.ServerException;
 import org.bimserver.shared.exceptions.UserException;
 import org.bimserver.shared.interfaces.RemoteServiceInterface;
 import org.bimserver.shared.interfaces.ServiceInterface;
-import org.bimserver.shared.interfaces.async.AsyncRemoteServiceInterface;
-import org.bimserver.shared.interfaces.async.AsyncRemoteServiceInterface.NewExtendedDataOnRevisionCallback;
-import org.bimserver.shared.interfaces.async.AsyncRemoteServiceInterface.NewRevisionCallback;
 import org.bimserver.webservices.authorization.ExplicitRightsAuthorization;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,6 +64,11 @@ public class NewExtendedDataOnRevisionNotification extends Notification {
 		return poid;
 	}
 
+	@Override
+	public Object getOrderingKey() {
+		return poid;
+	}
+
 	@Override
 	public void process() throws BimserverDatabaseException, UserException, ServerException {
 		DatabaseSession session = getBimServer().getDatabase().createSession(OperationType.READ_ONLY);
@@ -93,46 +93,36 @@ public class NewExtendedDataOnRevisionNotification extends Notification {
 	
 	public void triggerNewExtendedData(DatabaseSession session, NotificationsManager notificationsManager, final BimServer bimServer, String siteAddress, Project project, final long roid, Trigger trigger, final Service service) throws UserException, ServerException {
 		if (service.getTrigger() == trigger) {
-			Channel channel = null;
-			try {
-				channel = notificationsManager.getChannel(service);
-				final RemoteServiceInterface remoteServiceInterface = channel.get(RemoteServiceInterface.class);
-				long writeProjectPoid = service.getWriteRevision() == null ? -1 : service.getWriteRevision().getOid();
-				long writeExtendedDataRoid = service.getWriteExtendedData() != null ? roid : -1;
-				long readRevisionRoid = service.isReadRevision() ? roid : -1;
-				long readExtendedDataRoid = service.getReadExtendedData() != null ? roid : -1;
-				final ExplicitRightsAuthorization authorization = new ExplicitRightsAuthorization(bimServer, service.getUser().getOid(), service.getOid(), new long[]{readRevisionRoid}, writeProjectPoid, readExtendedDataRoid, writeExtendedDataRoid);
-				ServiceInterface newService = bimServer.getServiceFactory().get(authorization, AccessMethod.INTERNAL).get(ServiceInterface.class);
-				((org.bimserver.webservices.impl.ServiceImpl)newService).setAuthorization(authorization); // TODO redundant?
-				
-				AsyncRemoteServiceInterface asyncRemoteServiceInterface = new AsyncRemoteServiceInterface(remoteServiceInterface, bimServer.getExecutorService());
-				asyncRemoteServiceInterface.newExtendedDataOnRevision(poid, roid, edid, soid, service.getServiceIdentifier(), service.getProfileIdentifier(), service.getToken(), authorization.asHexToken(bimServer.getEncryptionKey()), bimServer.getServerSettingsCache().getServerSettings().getSiteAddress(), new NewExtendedDataOnRevisionCallback(){
-					@Override
-					public void success() {
+			long writeProjectPoid = service.getWriteRevision() == null ? -1 : service.getWriteRevision().getOid();
+			long writeExtendedDataRoid = service.getWriteExtendedData() != null ? roid : -1;
+			long readRevisionRoid = service.isReadRevision() ? roid : -1;
+			long readExtendedDataRoid = service.getReadExtendedData() != null ? roid : -1;
+			final ExplicitRightsAuthorization authorization = new ExplicitRightsAuthorization(bimServer, service.getUser().getOid(), service.getOid(), new long[]{readRevisionRoid}, writeProjectPoid, readExtendedDataRoid, writeExtendedDataRoid);
+			ServiceInterface newService = bimServer.getServiceFactory().get(authorization, AccessMethod.INTERNAL).get(ServiceInterface.class);
+			((org.bimserver.webservices.impl.ServiceImpl)newService).setAuthorization(authorization); // TODO redundant?
+			
+			String serviceIdentifier = service.getServiceIdentifier();
+			String profileIdentifier = service.getProfileIdentifier();
+			String userToken = service.getToken();
+			String token = authorization.asHexToken(bimServer.getEncryptionKey());
+			String apiUrl = bimServer.getServerSettingsCache().getServerSettings().getSiteAddress();
+			long serviceOid = service.getOid();
+			// Connecting and calling happens outside of the notification workers, the channel stays connected until the calls are done
+			notificationsManager.getServiceDispatcher().dispatch(ServiceDispatcher.getEndpoint(service), "new extended data " + edid + " for " + service.getName(), () -> {
+				Channel channel = null;
+				try {
+					channel = notificationsManager.getChannel(service);
+					RemoteServiceInterface remoteServiceInterface = channel.get(RemoteServiceInterface.class);
+					remoteServiceInterface.newExtendedDataOnRevision(poid, roid, edid, soid, serviceIdentifier, profileIdentifier, userToken, token, apiUrl);
+					remoteServiceInterface.newRevision(poid, roid, serviceOid, serviceIdentifier, profileIdentifier, userToken, token, apiUrl);
+				} catch (Exception e) {
+					LOGGER.error("", e);
+				} finally {
+					if (channel != null) {
+						channel.disconnect();
 					}
-
-					@Override
-					public void error(Throwable e) {
-						LOGGER.error("", e);
-					}});
-				asyncRemoteServiceInterface.newRevision(poid, roid, service.getOid(), service.getServiceIdentifier(), service.getProfileIdentifier(), service.getToken(), authorization.asHexToken(bimServer.getEncryptionKey()), bimServer.getServerSettingsCache().getServerSettings().getSiteAddress(), new NewRevisionCallback(){
-					@Override
-					public void success() {
-					}
-
-					@Override
-					public void error(Throwable e) {
-						LOGGER.error("", e);
-					}});
-			} catch (ChannelConnectionException e) {
-				LOGGER.error("", e);
-			} catch (PublicInterfaceNotFoundException e) {
-				LOGGER.error("", e);
-			} finally {
-				if (channel != null) {
-					channel.disconnect(); // TODO This is interesting, when sending async, is this not going to break?
 				}
-			}
+			});
 		}
 	}
 }
@@ -44,6 +44,11 @@ public class NewProgressTopicOnProjectNotification extends Notification {
 		return poid;
 	}
 	
+	@Override
+	public Object getOrderingKey() {
+		return poid;
+	}
+
 	public void process() {
 		ChangeProgressTopicOnProjectTopic changeProgressOnProjectTopic = getBimServer().getNotificationsManager().getChangeProgressOnProjectTopic(poid);
 		try {
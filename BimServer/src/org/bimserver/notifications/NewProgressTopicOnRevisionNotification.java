@@ -47,6 +47,11 @@ public class NewProgressTopicOnRevisionNotification extends Notification {
 		return roid;
 	}
 	
+	@Override
+	public Object getOrderingKey() {
+		return poid;
+	}
+
 	@Override
 	public void process() throws UserException, ServerException, BimserverDatabaseException {
 		ChangeProgressTopicOnRevisionTopic changeProgressOnRevisionTopic = getBimServer().getNotificationsManager().getChangeProgressOnRevisionTopic(poid, roid);
@@ -33,6 +33,11 @@ public class NewProjectNotification extends Notification {
 		this.poid = poid;
 	}
 	
+	@Override
+	public Object getOrderingKey() {
+		return poid;
+	}
+
 	@Override
 	public void process() throws UserException, ServerException, BimserverDatabaseException {
 		NewProjectTopic newProjectTopic = getBimServer().getNotificationsManager().getNewProjectTopic();
@@ -55,14 +55,10 @@ import org.bimserver.models.store.UserType;
 import org.bimserver.plugins.modelchecker.ModelCheckException;
 import org.bimserver.plugins.modelchecker.ModelChecker;
 import org.bimserver.plugins.modelchecker.ModelCheckerPlugin;
-import org.bimserver.shared.ChannelConnectionException;
-import org.bimserver.shared.exceptions.PublicInterfaceNotFoundException;
 import org.bimserver.shared.exceptions.ServerException;
 import org.bimserver.shared.exceptions.UserException;
 import org.bimserver.shared.interfaces.RemoteServiceInterface;
 import org.bimserver.shared.interfaces.ServiceInterface;
-import org.bimserver.shared.interfaces.async.AsyncRemoteServiceInterface;
-import org.bimserver.shared.interfaces.async.AsyncRemoteServiceInterface.NewRevisionCallback;
 import org.bimserver.templating.TemplateIdentifier;
 import org.bimserver.webservices.ServiceMap;
 import org.bimserver.webservices.authorization.AdminAuthorization;
@@ -104,6 +100,11 @@ public class NewRevisionNotification extends Notification {
 		this.soid = -1;
 	}
 
+	@Override
+	public Object getOrderingKey() {
+		return poid;
+	}
+
 	@Override
 	public void process() throws BimserverDatabaseException, UserException, ServerException {
 		DatabaseSession session = getBimServer().getDatabase().createSession(OperationType.READ_ONLY);
@@ -200,9 +201,15 @@ public class NewRevisionNotification extends Notification {
 					message.setContent(body, "text/html");
 					message.setSubject(subject.trim());
 					
-					LOGGER.info("Sending new revision e-mail to " + user.getUsername());
-					
-					message.send();
+					String username = user.getUsername();
+					getBimServer().getNotificationsManager().getServiceDispatcher().dispatch(ServiceDispatcher.MAIL_ENDPOINT, "new revision e-mail to " + username, () -> {
+						LOGGER.info("Sending new revision e-mail to " + username);
+						try {
+							message.send();
+						} catch (Exception e) {
+							LOGGER.error("", e);
+						}
+					});
 				}
 			} catch (Exception e) {
 				LOGGER.error(body);
@@ -246,22 +253,18 @@ public class NewRevisionNotification extends Notification {
 
 	public void triggerNewRevision(DatabaseSession session, NotificationsManager notificationsManager, final BimServer bimServer, String siteAddress, Project project, final long roid, Trigger trigger, final NewService service) throws UserException, ServerException {
 		ServiceMap serviceMap = bimServer.getServiceFactory().get(authorization, AccessMethod.INTERNAL);
-		Thread thread = new Thread(){
-			@Override
-			public void run() {
-				try {
-					serviceMap.get(ServiceInterface.class).triggerRevisionService(roid, service.getOid());
-				} catch (Exception e) {
-					LOGGER.error("", e);
-				}
+		long soid = service.getOid();
+		notificationsManager.getServiceDispatcher().dispatch(ServiceDispatcher.getEndpoint(service), "new revision " + roid + " for " + service.getName(), () -> {
+			try {
+				serviceMap.get(ServiceInterface.class).triggerRevisionService(roid, soid);
+			} catch (Exception e) {
+				LOGGER.error("", e);
 			}
-		};
-		thread.start();
+		});
 	}
 	
 	public void triggerNewRevision(DatabaseSession session, NotificationsManager notificationsManager, final BimServer bimServer, String siteAddress, Project project, final long roid, Trigger trigger, final Service service) throws UserException, ServerException {
 		if (service.getTrigger() == trigger) {
-			Channel channel = null;
 			try {
 				IfcModelInterface model = null;
 				for (ModelCheckerInstance modelCheckerInstance : service.getModelCheckers()) {
@@ -294,8 +297,6 @@ public class NewRevisionNotification extends Notification {
 						}
 					}
 				}
-				channel = notificationsManager.getChannel(service);
-				final RemoteServiceInterface remoteServiceInterface = channel.get(RemoteServiceInterface.class);
 				long writeProjectPoid = service.getWriteRevision() == null ? -1 : service.getWriteRevision().getOid();
 				long writeExtendedDataRoid = roid;
 				if (writeExtendedDataRoid == -1) {
@@ -321,24 +322,28 @@ public class NewRevisionNotification extends Notification {
 				ServiceInterface newService = bimServer.getServiceFactory().get(authorization, AccessMethod.INTERNAL).get(ServiceInterface.class);
 				((org.bimserver.webservices.impl.ServiceImpl)newService).setAuthorization(authorization); // TODO redundant?
 				
-				AsyncRemoteServiceInterface asyncRemoteServiceInterface = new AsyncRemoteServiceInterface(remoteServiceInterface, bimServer.getExecutorService());
-				asyncRemoteServiceInterface.newRevision(poid, roid, service.getOid(), service.getServiceIdentifier(), service.getProfileIdentifier(), service.getToken(), authorization.asHexToken(bimServer.getEncryptionKey()), bimServer.getServerSettingsCache().getServerSettings().getSiteAddress(), new NewRevisionCallback(){
-					@Override
-					public void success() {
-					}
-
-					@Override
-					public void error(Throwable e) {
+				long soid = service.getOid();
+				String serviceIdentifier = service.getServiceIdentifier();
+				String profileIdentifier = service.getProfileIdentifier();
+				String userToken = service.getToken();
+				String token = authorization.asHexToken(bimServer.getEncryptionKey());
+				String apiUrl = bimServer.getServerSettingsCache().getServerSettings().getSiteAddress();
+				// Connecting and calling happens outside of the notification workers, the channel stays connected until the call is done
+				notificationsManager.getServiceDispatcher().dispatch(ServiceDispatcher.getEndpoint(service), "new revision " + roid + " for " + service.getName(), () -> {
+					Channel channel = null;
+					try {
+						channel = notificationsManager.getChannel(service);
+						channel.get(RemoteServiceInterface.class).newRevision(poid, roid, soid, serviceIdentifier, profileIdentifier, userToken, token, apiUrl);
+					} catch (Exception e) {
 						LOGGER.error("", e);
-					}});
-			} catch (ChannelConnectionException e) {
-				LOGGER.error("", e);
-			} catch (PublicInterfaceNotFoundException e) {
+					} finally {
+						if (channel != null) {
+							channel.disconnect();
+						}
+					}
+				});
+			} catch (Exception e) {
 				LOGGER.error("", e);
-			} finally {
-				if (channel != null) {
-					channel.disconnect(); // TODO This is interesting, when sending async, is this not going to break?
-				}
 			}
 		}
 	}
@@ -27,6 +27,7 @@ import org.slf4j.LoggerFactory;
 public abstract class Notification implements Runnable {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(Notification.class);
+	private static final Object SERVER_ORDERING_KEY = new Object();
 	private BimServer bimServer;
 
 	public Notification(BimServer bimServer) {
@@ -38,6 +39,14 @@ public abstract class Notification implements Runnable {
 	}
 	
 	public abstract void process() throws BimserverDatabaseException, UserException, ServerException;
+
+	/**
+	 * Notifications with the same key are processed one after the other, in the order they were queued. By default all
+	 * notifications share one key.
+	 */
+	public Object getOrderingKey() {
+		return SERVER_ORDERING_KEY;
+	}
 	
 	@Override
 	public void run() {
@@ -118,6 +118,14 @@ public class NotificationsManager {
 		notificationsProcessor.termintate();
 	}
 
+	public NotificationsProcessor getNotificationsProcessor() {
+		return notificationsProcessor;
+	}
+
+	public ServiceDispatcher getServiceDispatcher() {
+		return notificationsProcessor.getServiceDispatcher();
+	}
+
 	public NewRevisionTopic getNewRevisionTopic() {
 		return newRevisionTopic;
 	}
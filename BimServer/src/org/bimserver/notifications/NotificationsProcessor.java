@@ -17,42 +17,191 @@ package org.bimserver.notifications;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bimserver.BimServer;
+import org.bimserver.LatencyHistogram;
+import org.bimserver.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class NotificationsProcessor extends Thread {
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Processes notifications with a pool of workers. Notifications with the same ordering key (usually the project) are
+ * processed one after the other in the order they were queued, notifications with different keys run in parallel.
+ *
+ * Calls to external services are handed to the {@link ServiceDispatcher}, so a slow service does not keep a worker busy.
+ */
+public class NotificationsProcessor {
 	private static final Logger LOGGER = LoggerFactory.getLogger(NotificationsProcessor.class);
-	private final LinkedBlockingQueue<Notification> queue = new LinkedBlockingQueue<>(1000000);
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final int MAX_QUEUED = 1000000;
+	// After this amount of notifications a lane goes to the back of the line, so busy projects do not starve the others
+	private static final int MAX_PER_TURN = 16;
+	private static final long SLOW_NOTIFICATION_NANOS = TimeUnit.SECONDS.toNanos(10);
+	private final Map<Object, Lane> lanes = new HashMap<>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final LatencyHistogram waitLatency = new LatencyHistogram();
+	private final LatencyHistogram processLatency = new LatencyHistogram();
+	private final int nrWorkers;
+	private final ServiceDispatcher serviceDispatcher;
+	private ThreadPoolExecutor executor;
 	private volatile boolean running = true;
 
 	public NotificationsProcessor(BimServer bimServer) {
-		setName("Notifications processor");
+		nrWorkers = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+		serviceDispatcher = new ServiceDispatcher(4, 32, 10, TimeUnit.MINUTES);
 	}
 
-	@Override
-	public void run() {
-		try {
-			while (running) {
-				queue.take().run();
-			}
-		} catch (InterruptedException e) {
-			if (running) {
-				LOGGER.error("Unexpected interruption");
-			}
-		}
+	public void start() {
+		executor = new ThreadPoolExecutor(nrWorkers, nrWorkers, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ServiceDispatcher.NamedThreadFactory("Notifications processor"));
 	}
 
 	public void termintate() {
 		running = false;
-		interrupt();
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+		serviceDispatcher.shutdown();
+		LOGGER.debug("Notifications processor stopped " + getStatistics());
 	}
 
 	public void queue(Notification notification) {
-		if (!queue.offer(notification)) {
+		if (!running) {
+			return;
+		}
+		if (queued.incrementAndGet() > MAX_QUEUED) {
+			queued.decrementAndGet();
 			LOGGER.error("Notification queue is full!");
+			return;
+		}
+		Object key = notification.getOrderingKey();
+		Lane lane;
+		synchronized (lanes) {
+			lane = lanes.get(key);
+			if (lane == null) {
+				lane = new Lane(key);
+				lanes.put(key, lane);
+			}
+			lane.notifications.add(new QueuedNotification(notification));
+			if (lane.scheduled) {
+				return;
+			}
+			lane.scheduled = true;
+		}
+		schedule(lane);
+	}
+
+	private void schedule(Lane lane) {
+		executor.execute(() -> process(lane));
+	}
+
+	private void process(Lane lane) {
+		for (int i = 0; i < MAX_PER_TURN && running; i++) {
+			QueuedNotification queuedNotification;
+			synchronized (lanes) {
+				queuedNotification = lane.notifications.poll();
+				if (queuedNotification == null) {
+					lane.scheduled = false;
+					lanes.remove(lane.key);
+					return;
+				}
+			}
+			queued.decrementAndGet();
+			long start = System.nanoTime();
+			long waited = start - queuedNotification.queuedNanos;
+			queuedNotification.notification.run();
+			long took = System.nanoTime() - start;
+			waitLatency.record(TimeUnit.NANOSECONDS.toMicros(waited));
+			processLatency.record(TimeUnit.NANOSECONDS.toMicros(took));
+			if (took > SLOW_NOTIFICATION_NANOS) {
+				LOGGER.warn(queuedNotification.notification.getClass().getSimpleName() + " took " + TimeUnit.NANOSECONDS.toMillis(took) + " ms");
+			}
+		}
+		synchronized (lanes) {
+			if (lane.notifications.isEmpty()) {
+				lane.scheduled = false;
+				lanes.remove(lane.key);
+				return;
+			}
+		}
+		if (running) {
+			schedule(lane);
+		}
+	}
+
+	public ServiceDispatcher getServiceDispatcher() {
+		return serviceDispatcher;
+	}
+
+	public ObjectNode getStatistics() {
+		ObjectNode result = OBJECT_MAPPER.createObjectNode();
+		result.put("workers", nrWorkers);
+		result.put("queued", queued.get());
+		synchronized (lanes) {
+			result.put("activeLanes", lanes.size());
+		}
+		result.put("processed", processLatency.getCount());
+		result.put("averageWaitMs", TimeUnit.MICROSECONDS.toMillis(waitLatency.getAverage()));
+		result.put("p99WaitMs", TimeUnit.MICROSECONDS.toMillis(waitLatency.getPercentile(99)));
+		result.put("maxWaitMs", TimeUnit.MICROSECONDS.toMillis(waitLatency.getMax()));
+		result.put("averageProcessMs", TimeUnit.MICROSECONDS.toMillis(processLatency.getAverage()));
+		result.put("p99ProcessMs", TimeUnit.MICROSECONDS.toMillis(processLatency.getPercentile(99)));
+		result.put("maxProcessMs", TimeUnit.MICROSECONDS.toMillis(processLatency.getMax()));
+		result.set("serviceDispatcher", serviceDispatcher.getStatistics());
+		return result;
+	}
+
+	/**
+	 * Writes the queue and latency statistics, and those of the {@link ServiceDispatcher}, in the Prometheus text exposition
+	 * format (version 0.0.4)
+	 */
+	public void writeTextExposition(Writer writer) throws IOException {
+		int activeLanes;
+		synchronized (lanes) {
+			activeLanes = lanes.size();
+		}
+		writer.write("# HELP bimserver_notifications_queued Notifications that wait to be processed\n");
+		writer.write("# TYPE bimserver_notifications_queued gauge\n");
+		writer.write("bimserver_notifications_queued " + queued.get() + "\n");
+		writer.write("# HELP bimserver_notifications_active_lanes Ordering keys (usually projects) with queued notifications\n");
+		writer.write("# TYPE bimserver_notifications_active_lanes gauge\n");
+		writer.write("bimserver_notifications_active_lanes " + activeLanes + "\n");
+		writer.write("# HELP bimserver_notification_wait_seconds Time between queueing and processing a notification\n");
+		writer.write("# TYPE bimserver_notification_wait_seconds summary\n");
+		MetricsRegistry.writeSummary(writer, "bimserver_notification_wait_seconds", "", waitLatency);
+		writer.write("# HELP bimserver_notification_process_seconds Time spent processing a notification\n");
+		writer.write("# TYPE bimserver_notification_process_seconds summary\n");
+		MetricsRegistry.writeSummary(writer, "bimserver_notification_process_seconds", "", processLatency);
+		serviceDispatcher.writeTextExposition(writer);
+	}
+
+	private static class Lane {
+		private final Object key;
+		private final ArrayDeque<QueuedNotification> notifications = new ArrayDeque<>();
+		private boolean scheduled;
+
+		public Lane(Object key) {
+			this.key = key;
+		}
+	}
+
+	private static class QueuedNotification {
+		private final Notification notification;
+		private final long queuedNanos = System.nanoTime();
+
+		public QueuedNotification(Notification notification) {
+			this.notification = notification;
 		}
 	}
 }
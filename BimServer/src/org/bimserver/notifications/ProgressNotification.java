@@ -31,6 +31,11 @@ public class ProgressNotification extends Notification {
 		this.state = state;
 	}
 
+	@Override
+	public Object getOrderingKey() {
+		return topic;
+	}
+
 	@Override
 	public void process() {
 		topic.updateProgress(state);
@@ -0,0 +1,306 @@
+package org.bimserver.notifications;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bimserver.models.store.NewService;
+import org.bimserver.models.store.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Executes calls to external endpoints (services, BIMbots, the mail server) outside of the notification workers.
+ *
+ * Every endpoint gets at most a fixed amount of concurrent calls, more calls wait for their turn. A call that takes too long
+ * is interrupted and no longer counts towards the limit, so one endpoint that does not respond only delays its own calls.
+ *
+ * All calls share a bounded amount of threads. A call that ignores the interrupt keeps its thread, the pool gets an extra
+ * thread for every such stuck call (up to twice the bound), so stuck calls do not slowly take over the pool.
+ */
+public class ServiceDispatcher {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ServiceDispatcher.class);
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	public static final String MAIL_ENDPOINT = "mail";
+	private final Map<String, Endpoint> endpoints = new HashMap<>();
+	private final ThreadPoolExecutor executor;
+	private final ScheduledExecutorService timeoutExecutor;
+	private final int maxConcurrentPerEndpoint;
+	private final int maxThreads;
+	private final long timeoutMillis;
+	// Calls that have timed out, but whose thread has not returned yet
+	private final AtomicInteger stuck = new AtomicInteger();
+
+	public ServiceDispatcher(int maxConcurrentPerEndpoint, int maxThreads, long timeout, TimeUnit unit) {
+		this.maxConcurrentPerEndpoint = maxConcurrentPerEndpoint;
+		this.maxThreads = maxThreads;
+		this.timeoutMillis = unit.toMillis(timeout);
+		// Calls that do not get a thread right away wait in the queue, their timeout starts when they run
+		this.executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new NamedThreadFactory("ServiceDispatcher"));
+		this.executor.allowCoreThreadTimeOut(true);
+		this.timeoutExecutor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("ServiceDispatcherTimeout"));
+	}
+
+	public static String getEndpoint(Service service) {
+		if (service.getUrl() != null && !service.getUrl().isEmpty()) {
+			return service.getUrl();
+		}
+		return "service-" + service.getOid();
+	}
+
+	public static String getEndpoint(NewService newService) {
+		if (newService.getResourceUrl() != null && !newService.getResourceUrl().isEmpty()) {
+			return newService.getResourceUrl();
+		}
+		return "newservice-" + newService.getOid();
+	}
+
+	/**
+	 * @param endpoint Calls with the same endpoint share the concurrency limit
+	 * @param description Used for logging
+	 */
+	public void dispatch(String endpoint, String description, Runnable task) {
+		Endpoint target;
+		synchronized (endpoints) {
+			target = endpoints.computeIfAbsent(endpoint, Endpoint::new);
+		}
+		Call call = new Call(target, description, task);
+		synchronized (target) {
+			target.dispatched++;
+			if (target.running >= maxConcurrentPerEndpoint) {
+				target.waiting.add(call);
+				return;
+			}
+			target.running++;
+		}
+		start(call);
+	}
+
+	private void start(Call call) {
+		call.future = executor.submit(() -> {
+			call.timeout = timeoutExecutor.schedule(() -> timeout(call), timeoutMillis, TimeUnit.MILLISECONDS);
+			boolean failed = false;
+			try {
+				call.task.run();
+			} catch (Throwable e) {
+				failed = true;
+				LOGGER.error("Call to " + call.endpoint.name + " (" + call.description + ") failed", e);
+			}
+			if (call.done.compareAndSet(false, true)) {
+				call.timeout.cancel(false);
+				synchronized (call.endpoint) {
+					if (failed) {
+						call.endpoint.failed++;
+					} else {
+						call.endpoint.completed++;
+					}
+				}
+				finish(call.endpoint);
+			} else {
+				LOGGER.info("Call to " + call.endpoint.name + " (" + call.description + ") returned after timing out");
+				stuck.decrementAndGet();
+				resizePool();
+			}
+		});
+	}
+
+	private void timeout(Call call) {
+		if (call.done.compareAndSet(false, true)) {
+			LOGGER.warn("Call to " + call.endpoint.name + " (" + call.description + ") did not finish within " + timeoutMillis + " ms, interrupting");
+			// Until the task returns its thread is not available for other calls
+			stuck.incrementAndGet();
+			resizePool();
+			Future<?> future = call.future;
+			if (future != null) {
+				future.cancel(true);
+			}
+			synchronized (call.endpoint) {
+				call.endpoint.timedOut++;
+			}
+			finish(call.endpoint);
+		}
+	}
+
+	private synchronized void resizePool() {
+		int stuckCalls = stuck.get();
+		if (stuckCalls > maxThreads) {
+			LOGGER.error(stuckCalls + " calls to services do not respond to being interrupted, the pool is not grown any further");
+		}
+		int size = maxThreads + Math.min(stuckCalls, maxThreads);
+		if (size > executor.getMaximumPoolSize()) {
+			executor.setMaximumPoolSize(size);
+			executor.setCorePoolSize(size);
+		} else {
+			executor.setCorePoolSize(size);
+			executor.setMaximumPoolSize(size);
+		}
+	}
+
+	private void finish(Endpoint endpoint) {
+		Call next;
+		synchronized (endpoint) {
+			next = endpoint.waiting.poll();
+			if (next == null) {
+				endpoint.running--;
+				return;
+			}
+		}
+		start(next);
+	}
+
+	public ObjectNode getStatistics() {
+		ObjectNode result = OBJECT_MAPPER.createObjectNode();
+		result.put("maxConcurrentPerEndpoint", maxConcurrentPerEndpoint);
+		result.put("timeoutMs", timeoutMillis);
+		result.put("maxThreads", maxThreads);
+		result.put("threads", executor.getPoolSize());
+		result.put("stuck", stuck.get());
+		result.put("queued", executor.getQueue().size());
+		ArrayNode endpointsNode = result.putArray("endpoints");
+		synchronized (endpoints) {
+			for (Endpoint endpoint : endpoints.values()) {
+				synchronized (endpoint) {
+					ObjectNode endpointNode = endpointsNode.addObject();
+					endpointNode.put("endpoint", endpoint.name);
+					endpointNode.put("running", endpoint.running);
+					endpointNode.put("waiting", endpoint.waiting.size());
+					endpointNode.put("dispatched", endpoint.dispatched);
+					endpointNode.put("completed", endpoint.completed);
+					endpointNode.put("failed", endpoint.failed);
+					endpointNode.put("timedOut", endpoint.timedOut);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Writes the statistics in the Prometheus text exposition format (version 0.0.4)
+	 */
+	public void writeTextExposition(Writer writer) throws IOException {
+		writer.write("# HELP bimserver_service_dispatcher_threads Threads calling external services\n");
+		writer.write("# TYPE bimserver_service_dispatcher_threads gauge\n");
+		writer.write("bimserver_service_dispatcher_threads " + executor.getPoolSize() + "\n");
+		writer.write("# HELP bimserver_service_dispatcher_stuck_calls Calls that have timed out, but have not given back their thread\n");
+		writer.write("# TYPE bimserver_service_dispatcher_stuck_calls gauge\n");
+		writer.write("bimserver_service_dispatcher_stuck_calls " + stuck.get() + "\n");
+		writer.write("# HELP bimserver_service_dispatcher_queued_calls Calls that wait for a thread\n");
+		writer.write("# TYPE bimserver_service_dispatcher_queued_calls gauge\n");
+		writer.write("bimserver_service_dispatcher_queued_calls " + executor.getQueue().size() + "\n");
+
+		List<long[]> values = new ArrayList<>();
+		List<String> labels = new ArrayList<>();
+		synchronized (endpoints) {
+			for (Endpoint endpoint : endpoints.values()) {
+				synchronized (endpoint) {
+					labels.add("endpoint=\"" + escapeLabel(endpoint.name) + "\"");
+					values.add(new long[] { endpoint.running, endpoint.waiting.size(), endpoint.dispatched, endpoint.completed, endpoint.failed, endpoint.timedOut });
+				}
+			}
+		}
+		String[][] metrics = new String[][] {
+			{ "bimserver_service_calls_running", "gauge", "Calls to an endpoint that are running" },
+			{ "bimserver_service_calls_waiting", "gauge", "Calls to an endpoint that wait for the concurrency limit of the endpoint" },
+			{ "bimserver_service_calls_dispatched_total", "counter", "Calls to an endpoint that have been dispatched" },
+			{ "bimserver_service_calls_completed_total", "counter", "Calls to an endpoint that have completed" },
+			{ "bimserver_service_calls_failed_total", "counter", "Calls to an endpoint that threw an exception" },
+			{ "bimserver_service_calls_timed_out_total", "counter", "Calls to an endpoint that have been interrupted after the timeout" }
+		};
+		for (int i = 0; i < metrics.length; i++) {
+			writer.write("# HELP " + metrics[i][0] + " " + metrics[i][2] + "\n");
+			writer.write("# TYPE " + metrics[i][0] + " " + metrics[i][1] + "\n");
+			for (int j = 0; j < labels.size(); j++) {
+				writer.write(metrics[i][0] + "{" + labels.get(j) + "} " + values.get(j)[i] + "\n");
+			}
+		}
+	}
+
+	private static String escapeLabel(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+	public void shutdown() {
+		timeoutExecutor.shutdownNow();
+		executor.shutdownNow();
+	}
+
+	private static class Endpoint {
+		private final String name;
+		private final ArrayDeque<Call> waiting = new ArrayDeque<>();
+		private int running;
+		private long dispatched;
+		private long completed;
+		private long failed;
+		private long timedOut;
+
+		public Endpoint(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class Call {
+		private final Endpoint endpoint;
+		private final String description;
+		private final Runnable task;
+		private final AtomicBoolean done = new AtomicBoolean();
+		private volatile Future<?> future;
+		private volatile ScheduledFuture<?> timeout;
+
+		public Call(Endpoint endpoint, String description, Runnable task) {
+			this.endpoint = endpoint;
+			this.description = description;
+			this.task = task;
+		}
+	}
+
+	static class NamedThreadFactory implements ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger();
+		private final String name;
+
+		public NamedThreadFactory(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -27,4 +27,24 @@ public interface RenderEnginePool  {
 	RenderEngine borrowObject() throws RenderEngineException;
 
 	void returnObject(RenderEngine renderEngine) throws RenderEngineException;
+
+	/**
+	 * Returns a render engine that has failed, it will not be used for another job
+	 */
+	default void invalidateObject(RenderEngine renderEngine) throws RenderEngineException {
+		returnObject(renderEngine);
+	}
+
+	/**
+	 * @return The statistics of this pool, or null when it does not keep any
+	 */
+	default RenderEnginePoolMetrics getMetrics() {
+		return null;
+	}
+
+	/**
+	 * Closes the render engines that are not in use
+	 */
+	default void close() {
+	}
 }
\ No newline at end of file
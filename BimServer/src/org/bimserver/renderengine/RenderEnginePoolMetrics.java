@@ -0,0 +1,89 @@
+package org.bimserver.renderengine;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import org.bimserver.LatencyHistogram;
+
+public class RenderEnginePoolMetrics {
+	private final LatencyHistogram borrowWait = new LatencyHistogram();
+	private final LatencyHistogram engineLifetime = new LatencyHistogram();
+	private final LongAdder created = new LongAdder();
+	private final LongAdder recycled = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final IntSupplier active;
+	private final IntSupplier idle;
+
+	public RenderEnginePoolMetrics(IntSupplier active, IntSupplier idle) {
+		this.active = active;
+		this.idle = idle;
+	}
+
+	public void borrowed(long waitNanos) {
+		borrowWait.record(waitNanos / 1000);
+	}
+
+	public void created() {
+		created.increment();
+	}
+
+	public void destroyed(long lifetimeNanos) {
+		engineLifetime.record(lifetimeNanos / 1000);
+	}
+
+	/**
+	 * An engine that has done the maximum number of jobs
+	 */
+	public void recycled() {
+		recycled.increment();
+	}
+
+	public void failed() {
+		failed.increment();
+	}
+
+	public LatencyHistogram getBorrowWait() {
+		return borrowWait;
+	}
+
+	public LatencyHistogram getEngineLifetime() {
+		return engineLifetime;
+	}
+
+	public long getCreated() {
+		return created.sum();
+	}
+
+	public long getRecycled() {
+		return recycled.sum();
+	}
+
+	public long getFailed() {
+		return failed.sum();
+	}
+
+	public int getActive() {
+		return active.getAsInt();
+	}
+
+	public int getIdle() {
+		return idle.getAsInt();
+	}
+}
@@ -17,19 +17,33 @@ package org.bimserver.renderengine;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.bimserver.BimServer;
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.MetricsRegistry;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.OldQuery;
 import org.bimserver.emf.Schema;
+import org.bimserver.models.store.ObjectState;
+import org.bimserver.models.store.RenderEnginePluginConfiguration;
+import org.bimserver.models.store.StorePackage;
+import org.bimserver.models.store.User;
 import org.bimserver.plugins.PluginConfiguration;
 import org.bimserver.plugins.renderengine.RenderEngine;
 import org.bimserver.plugins.renderengine.RenderEngineException;
 import org.bimserver.plugins.renderengine.RenderEnginePlugin;
 import org.bimserver.plugins.renderengine.VersionInfo;
 import org.bimserver.shared.exceptions.PluginException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class RenderEnginePools {
+	private static final Logger LOGGER = LoggerFactory.getLogger(RenderEnginePools.class);
 
 	private BimServer bimServer;
 	private final Map<Schema, Map<String, RenderEnginePool>> pools = new HashMap<>();
@@ -83,4 +97,97 @@ public class RenderEnginePools {
 			throw new PluginException("No render engine found for schema " + schema);
 		}
 	}
+
+	/**
+	 * Creates the pools of the default render engines of all active users up front, so pools that keep render engines
+	 * ready can start them before the first checkin
+	 */
+	public void prewarm(DatabaseSession session) throws BimserverDatabaseException {
+		Map<Long, RenderEnginePluginConfiguration> renderEngines = new HashMap<>();
+		for (User user : session.getAllOfType(StorePackage.eINSTANCE.getUser(), OldQuery.getDefault()).getAll(User.class)) {
+			if (user.getState() == ObjectState.ACTIVE && user.getUserSettings() != null && user.getUserSettings().getDefaultRenderEngine() != null) {
+				RenderEnginePluginConfiguration renderEngine = user.getUserSettings().getDefaultRenderEngine();
+				renderEngines.put(renderEngine.getOid(), renderEngine);
+			}
+		}
+		for (RenderEnginePluginConfiguration renderEngine : renderEngines.values()) {
+			for (Schema schema : pools.keySet()) {
+				try {
+					getRenderEnginePool(schema, renderEngine.getPluginDescriptor().getPluginClassName(), bimServer.getPluginSettingsCache().getPluginSettings(renderEngine.getOid()));
+				} catch (PluginException e) {
+					LOGGER.error("", e);
+				}
+			}
+		}
+	}
+
+	public synchronized void close() {
+		for (Map<String, RenderEnginePool> map : pools.values()) {
+			for (RenderEnginePool renderEnginePool : map.values()) {
+				renderEnginePool.close();
+			}
+		}
+	}
+
+	private synchronized Map<String, RenderEnginePoolMetrics> getMetricsPerPool() {
+		Map<String, RenderEnginePoolMetrics> result = new LinkedHashMap<>();
+		for (Map.Entry<Schema, Map<String, RenderEnginePool>> schemaEntry : pools.entrySet()) {
+			for (Map.Entry<String, RenderEnginePool> entry : schemaEntry.getValue().entrySet()) {
+				RenderEnginePoolMetrics metrics = entry.getValue().getMetrics();
+				if (metrics != null) {
+					result.put("schema=\"" + schemaEntry.getKey().name() + "\",render_engine=\"" + entry.getKey() + "\"", metrics);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Writes the statistics of all pools in the Prometheus text exposition format (version 0.0.4)
+	 */
+	public void writeTextExposition(Writer writer) throws IOException {
+		Map<String, RenderEnginePoolMetrics> metricsPerPool = getMetricsPerPool();
+
+		writer.write("# HELP bimserver_render_engine_borrow_wait_seconds Time spent waiting for a render engine\n");
+		writer.write("# TYPE bimserver_render_engine_borrow_wait_seconds summary\n");
+		for (Map.Entry<String, RenderEnginePoolMetrics> entry : metricsPerPool.entrySet()) {
+			MetricsRegistry.writeSummary(writer, "bimserver_render_engine_borrow_wait_seconds", entry.getKey(), entry.getValue().getBorrowWait());
+		}
+
+		writer.write("# HELP bimserver_render_engine_lifetime_seconds Time between starting and closing a reused render engine\n");
+		writer.write("# TYPE bimserver_render_engine_lifetime_seconds summary\n");
+		for (Map.Entry<String, RenderEnginePoolMetrics> entry : metricsPerPool.entrySet()) {
+			MetricsRegistry.writeSummary(writer, "bimserver_render_engine_lifetime_seconds", entry.getKey(), entry.getValue().getEngineLifetime());
+		}
+
+		writer.write("# HELP bimserver_render_engines_created_total Reused render engines that have been started\n");
+		writer.write("# TYPE bimserver_render_engines_created_total counter\n");
+		for (Map.Entry<String, RenderEnginePoolMetrics> entry : metricsPerPool.entrySet()) {
+			writer.write("bimserver_render_engines_created_total{" + entry.getKey() + "} " + entry.getValue().getCreated() + "\n");
+		}
+
+		writer.write("# HELP bimserver_render_engines_recycled_total Render engines that have been replaced after doing the maximum number of jobs\n");
+		writer.write("# TYPE bimserver_render_engines_recycled_total counter\n");
+		for (Map.Entry<String, RenderEnginePoolMetrics> entry : metricsPerPool.entrySet()) {
+			writer.write("bimserver_render_engines_recycled_total{" + entry.getKey() + "} " + entry.getValue().getRecycled() + "\n");
+		}
+
+		writer.write("# HELP bimserver_render_engines_failed_total Render engines that have been replaced because of an error\n");
+		writer.write("# TYPE bimserver_render_engines_failed_total counter\n");
+		for (Map.Entry<String, RenderEnginePoolMetrics> entry : metricsPerPool.entrySet()) {
+			writer.write("bimserver_render_engines_failed_total{" + entry.getKey() + "} " + entry.getValue().getFailed() + "\n");
+		}
+
+		writer.write("# HELP bimserver_render_engines_active Render engines that are in use\n");
+		writer.write("# TYPE bimserver_render_engines_active gauge\n");
+		for (Map.Entry<String, RenderEnginePoolMetrics> entry : metricsPerPool.entrySet()) {
+			writer.write("bimserver_render_engines_active{" + entry.getKey() + "} " + entry.getValue().getActive() + "\n");
+		}
+
+		writer.write("# HELP bimserver_render_engines_idle Render engines that are ready to be used\n");
+		writer.write("# TYPE bimserver_render_engines_idle gauge\n");
+		for (Map.Entry<String, RenderEnginePoolMetrics> entry : metricsPerPool.entrySet()) {
+			writer.write("bimserver_render_engines_idle{" + entry.getKey() + "} " + entry.getValue().getIdle() + "\n");
+		}
+	}
 }
\ No newline at end of file
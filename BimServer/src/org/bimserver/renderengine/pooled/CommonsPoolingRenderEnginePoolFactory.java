@@ -25,13 +25,23 @@ import org.bimserver.renderengine.RenderEnginePoolFactory;
 public class CommonsPoolingRenderEnginePoolFactory implements RenderEnginePoolFactory {
 
 	private int nrRenderEngineProcesses;
+	private boolean reuse;
+	private int maxJobsPerEngine;
+	private int prewarm;
 
 	public CommonsPoolingRenderEnginePoolFactory(int nrRenderEngineProcesses) {
+		this(nrRenderEngineProcesses, false, 0, 0);
+	}
+	
+	public CommonsPoolingRenderEnginePoolFactory(int nrRenderEngineProcesses, boolean reuse, int maxJobsPerEngine, int prewarm) {
 		this.nrRenderEngineProcesses = nrRenderEngineProcesses;
+		this.reuse = reuse;
+		this.maxJobsPerEngine = maxJobsPerEngine;
+		this.prewarm = prewarm;
 	}
 	
 	@Override
 	public RenderEnginePool newRenderEnginePool(RenderEngineFactory renderEngineFactory) throws RenderEngineException {
-		return new CommonsRenderEnginePool(nrRenderEngineProcesses, renderEngineFactory);
+		return new CommonsRenderEnginePool(nrRenderEngineProcesses, renderEngineFactory, reuse, maxJobsPerEngine, prewarm);
 	}
 }
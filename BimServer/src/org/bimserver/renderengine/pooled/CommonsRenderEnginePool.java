@@ -25,6 +25,7 @@ import org.bimserver.plugins.renderengine.RenderEngine;
 import org.bimserver.plugins.renderengine.RenderEngineException;
 import org.bimserver.renderengine.RenderEngineFactory;
 import org.bimserver.renderengine.RenderEnginePool;
+import org.bimserver.renderengine.RenderEnginePoolMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,51 +33,65 @@ public class CommonsRenderEnginePool implements RenderEnginePool {
 	private static final Logger LOGGER = LoggerFactory.getLogger(CommonsRenderEnginePool.class);
 	private GenericObjectPool<RenderEngine> genericObjectPool;
 	private RenderEngineFactory renderEngineFactory;
+	private final boolean reuse;
+	private final RenderEnginePoolMetrics metrics;
 	
 	public CommonsRenderEnginePool(int poolSize, RenderEngineFactory renderEngineFactory) throws RenderEngineException {
-		LOGGER.info("Pool size: " + poolSize);
+		this(poolSize, renderEngineFactory, false, 0, 0);
+	}
+
+	/**
+	 * @param reuse Keep initialized render engines around between jobs, when false every job gets a new render engine
+	 * @param maxJobsPerEngine When reusing, the number of jobs after which a render engine is replaced by a new one
+	 * @param prewarm When reusing, the number of render engines that is kept ready, starting right away
+	 */
+	public CommonsRenderEnginePool(int poolSize, RenderEngineFactory renderEngineFactory, boolean reuse, int maxJobsPerEngine, int prewarm) throws RenderEngineException {
+		LOGGER.info("Pool size: " + poolSize + (reuse ? ", reusing render engines for " + maxJobsPerEngine + " jobs" : ""));
 		this.renderEngineFactory = renderEngineFactory;
+		this.reuse = reuse;
 		
-		// This pool is currently only used for making sure there is a max amount of engines running simultaneously.
-		// It is not actually pooling the render engines because the render engines used are not stable enough to reuse at the moment.
-		
-		PooledObjectFactory<RenderEngine> pooledObjectFactory = new PooledObjectFactory<RenderEngine>() {
-			@Override
-			public void activateObject(PooledObject<RenderEngine> arg0) throws Exception {
-				arg0.getObject().init();
-			}
-
-			@Override
-			public void destroyObject(PooledObject<RenderEngine> arg0) throws Exception {
-			}
-
-			@Override
-			public PooledObject<RenderEngine> makeObject() throws Exception {
-				AlwaysClosingRenderEngineWrapper alwaysClosingRenderEngineWrapper = new AlwaysClosingRenderEngineWrapper(renderEngineFactory);
-				return new DefaultPooledObject<RenderEngine>(alwaysClosingRenderEngineWrapper);
-			}
-
-			@Override
-			public void passivateObject(PooledObject<RenderEngine> arg0) throws Exception {
-				arg0.getObject().close();
-			}
-
-			@Override
-			public boolean validateObject(PooledObject<RenderEngine> arg0) {
-				return false;
-			}
-		};
+		PooledObjectFactory<RenderEngine> pooledObjectFactory;
+		if (reuse) {
+			pooledObjectFactory = new ReusingFactory(maxJobsPerEngine);
+		} else {
+			// Only makes sure there is a max amount of engines running simultaneously, every job gets a new render engine
+			pooledObjectFactory = new AlwaysClosingFactory();
+		}
 		
 		genericObjectPool = new GenericObjectPool<RenderEngine>(pooledObjectFactory);
+		metrics = new RenderEnginePoolMetrics(genericObjectPool::getNumActive, genericObjectPool::getNumIdle);
 		
 		genericObjectPool.setMaxWaitMillis(1000 * 60 * 60);
 		genericObjectPool.setMaxTotal(poolSize);
+		if (reuse) {
+			// Validation between jobs, a render engine that failed or has done enough jobs is destroyed instead of returned
+			genericObjectPool.setTestOnReturn(true);
+			// The default max idle of 8 would destroy returned render engines of bigger pools
+			genericObjectPool.setMaxIdle(poolSize);
+			if (prewarm > 0) {
+				// The evictor tops up the ready render engines after some have been destroyed, but never evicts them for being idle
+				genericObjectPool.setMinIdle(Math.min(prewarm, poolSize));
+				genericObjectPool.setMinEvictableIdleTimeMillis(Long.MAX_VALUE);
+				genericObjectPool.setTimeBetweenEvictionRunsMillis(1000 * 30);
+				Thread thread = new Thread(() -> {
+					try {
+						genericObjectPool.preparePool();
+					} catch (Exception e) {
+						LOGGER.error("", e);
+					}
+				}, "RenderEnginePrewarm");
+				thread.setDaemon(true);
+				thread.start();
+			}
+		}
 	}
 
 	@Override
 	public RenderEngine borrowObject() throws RenderEngineException {
 		try {
+			long start = System.nanoTime();
 			RenderEngine borrowObject = genericObjectPool.borrowObject();
+			metrics.borrowed(System.nanoTime() - start);
 			return borrowObject;
 		} catch (Exception e) {
 			throw new RenderEngineException(e);
@@ -88,8 +103,115 @@ public class CommonsRenderEnginePool implements RenderEnginePool {
 		genericObjectPool.returnObject(renderEngine);
 	}
 
+	@Override
+	public void invalidateObject(RenderEngine renderEngine) throws RenderEngineException {
+		metrics.failed();
+		if (!reuse) {
+			// Closed on return anyway
+			returnObject(renderEngine);
+			return;
+		}
+		((ReusableRenderEngineWrapper) renderEngine).markFailed();
+		try {
+			genericObjectPool.invalidateObject(renderEngine);
+		} catch (Exception e) {
+			throw new RenderEngineException(e);
+		}
+	}
+
 	@Override
 	public RenderEngineFactory getRenderEngineFactory() {
 		return renderEngineFactory;
 	}
+
+	@Override
+	public RenderEnginePoolMetrics getMetrics() {
+		return metrics;
+	}
+
+	@Override
+	public void close() {
+		genericObjectPool.close();
+	}
+
+	private class AlwaysClosingFactory implements PooledObjectFactory<RenderEngine> {
+		@Override
+		public void activateObject(PooledObject<RenderEngine> arg0) throws Exception {
+			arg0.getObject().init();
+		}
+
+		@Override
+		public void destroyObject(PooledObject<RenderEngine> arg0) throws Exception {
+		}
+
+		@Override
+		public PooledObject<RenderEngine> makeObject() throws Exception {
+			AlwaysClosingRenderEngineWrapper alwaysClosingRenderEngineWrapper = new AlwaysClosingRenderEngineWrapper(renderEngineFactory);
+			return new DefaultPooledObject<RenderEngine>(alwaysClosingRenderEngineWrapper);
+		}
+
+		@Override
+		public void passivateObject(PooledObject<RenderEngine> arg0) throws Exception {
+			arg0.getObject().close();
+		}
+
+		@Override
+		public boolean validateObject(PooledObject<RenderEngine> arg0) {
+			return false;
+		}
+	}
+
+	private class ReusingFactory implements PooledObjectFactory<RenderEngine> {
+		private final int maxJobsPerEngine;
+
+		public ReusingFactory(int maxJobsPerEngine) {
+			this.maxJobsPerEngine = maxJobsPerEngine;
+		}
+
+		@Override
+		public PooledObject<RenderEngine> makeObject() throws Exception {
+			ReusableRenderEngineWrapper renderEngine = new ReusableRenderEngineWrapper(renderEngineFactory.createRenderEngine());
+			try {
+				renderEngine.init();
+			} catch (RenderEngineException e) {
+				metrics.failed();
+				try {
+					renderEngine.close();
+				} catch (RenderEngineException e1) {
+					LOGGER.debug("", e1);
+				}
+				throw e;
+			}
+			metrics.created();
+			return new DefaultPooledObject<RenderEngine>(renderEngine);
+		}
+
+		@Override
+		public void activateObject(PooledObject<RenderEngine> arg0) throws Exception {
+		}
+
+		@Override
+		public void passivateObject(PooledObject<RenderEngine> arg0) throws Exception {
+		}
+
+		@Override
+		public boolean validateObject(PooledObject<RenderEngine> arg0) {
+			ReusableRenderEngineWrapper renderEngine = (ReusableRenderEngineWrapper) arg0.getObject();
+			if (renderEngine.isFailed()) {
+				return false;
+			}
+			if (renderEngine.getNrJobs() >= maxJobsPerEngine) {
+				metrics.recycled();
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public void destroyObject(PooledObject<RenderEngine> arg0) throws Exception {
+			ReusableRenderEngineWrapper renderEngine = (ReusableRenderEngineWrapper) arg0.getObject();
+			metrics.destroyed(renderEngine.getAgeNanos());
+			renderEngine.close();
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package org.bimserver.renderengine.pooled;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.io.InputStream;
+
+import org.bimserver.plugins.renderengine.Metrics;
+import org.bimserver.plugins.renderengine.RenderEngine;
+import org.bimserver.plugins.renderengine.RenderEngineException;
+import org.bimserver.plugins.renderengine.RenderEngineModel;
+
+/**
+ * A render engine that stays initialized between jobs. Keeps track of the number of models it has opened and of whether it
+ * has failed, so the pool can decide whether it can be used for another job.
+ */
+public class ReusableRenderEngineWrapper implements RenderEngine {
+
+	private final RenderEngine wrapped;
+	private final long createdNanos = System.nanoTime();
+	private volatile int nrJobs;
+	private volatile boolean failed;
+
+	public ReusableRenderEngineWrapper(RenderEngine wrapped) {
+		this.wrapped = wrapped;
+	}
+
+	@Override
+	public void init() throws RenderEngineException {
+		try {
+			wrapped.init();
+		} catch (RenderEngineException e) {
+			failed = true;
+			throw e;
+		}
+	}
+
+	@Override
+	public RenderEngineModel openModel(InputStream inputStream, long size) throws RenderEngineException {
+		nrJobs++;
+		try {
+			return wrapped.openModel(inputStream, size);
+		} catch (RenderEngineException e) {
+			failed = true;
+			throw e;
+		}
+	}
+
+	@Override
+	public RenderEngineModel openModel(InputStream inputStream) throws RenderEngineException {
+		nrJobs++;
+		try {
+			return wrapped.openModel(inputStream);
+		} catch (RenderEngineException e) {
+			failed = true;
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() throws RenderEngineException {
+		wrapped.close();
+	}
+
+	@Override
+	public boolean isCalculateQuantities() {
+		return wrapped.isCalculateQuantities();
+	}
+
+	@Override
+	public boolean isApplyLayerSets() {
+		return wrapped.isApplyLayerSets();
+	}
+
+	@Override
+	public Metrics getMetrics() {
+		return wrapped.getMetrics();
+	}
+
+	public void markFailed() {
+		failed = true;
+	}
+
+	public boolean isFailed() {
+		return failed;
+	}
+
+	public int getNrJobs() {
+		return nrJobs;
+	}
+
+	public long getAgeNanos() {
+		return System.nanoTime() - createdNanos;
+	}
+}
@@ -17,28 +17,24 @@ package org.bimserver.servlets;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
-import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.bimserver.BimServer;
+import org.bimserver.JsonHandler;
 import org.bimserver.models.store.ServerState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.common.base.Charsets;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 public class JsonApiServlet extends SubServlet {
 	private static final Logger LOGGER = LoggerFactory.getLogger(JsonApiServlet.class);
-	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
 	public JsonApiServlet(BimServer bimServer, ServletContext servletContext) {
 		super(bimServer, servletContext);
@@ -53,19 +49,20 @@ public class JsonApiServlet extends SubServlet {
 		response.setHeader("Access-Control-Allow-Origin", request.getHeader("Origin"));
 		response.setHeader("Access-Control-Allow-Headers", "Content-Type");
 		response.setCharacterEncoding("UTF-8");
-		try {
-			ServletInputStream inputStream = request.getInputStream();
-			byte[] bytes = IOUtils.toByteArray(inputStream); // Not streaming here, because we want to be able to show the request-data when it's not valid
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Incoming JSON " + new String(bytes, Charsets.UTF_8));
-			}
-			ObjectNode parse = OBJECT_MAPPER.readValue(new ByteArrayInputStream(bytes), ObjectNode.class);
-			if (parse instanceof ObjectNode) {
-				ObjectNode jsonRequest = (ObjectNode) parse;
+		long maxRequestBytes = getBimServer().getConfig().getMaxJsonRequestBytes();
+		if (maxRequestBytes != -1 && request.getContentLengthLong() > maxRequestBytes) {
+			LOGGER.error("JSON request of " + request.getContentLengthLong() + " bytes is bigger than the maximum of " + maxRequestBytes + " bytes");
+			response.setStatus(413);
+			return;
+		}
+		JsonHandler jsonHandler = getBimServer().getJsonHandler();
+		try (JsonParser parser = jsonHandler.createParser(request.getInputStream())) {
+			// Not buffering the request, when it turns out to be invalid, the request that failed is logged by the JsonHandler
+			if (parser.nextToken() == JsonToken.START_OBJECT) {
 				response.setHeader("Content-Type", "application/json");
-				getBimServer().getJsonHandler().execute(jsonRequest, request, response.getWriter());
+				jsonHandler.execute(parser, request, response.getWriter());
 			} else {
-				LOGGER.error("Invalid JSON request: " + new String(bytes, Charsets.UTF_8));
+				LOGGER.error("Invalid JSON request, expected an object but got " + parser.currentToken());
 				response.setStatus(500);
 			}
 		} catch (IOException e) {
@@ -0,0 +1,87 @@
+package org.bimserver.servlets;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.io.IOException;
+import java.io.Writer;
+
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.bimserver.BimServer;
+import org.bimserver.models.log.AccessMethod;
+import org.bimserver.shared.exceptions.UserException;
+import org.bimserver.webservices.ServiceMap;
+import org.bimserver.webservices.authorization.AdminAuthorization;
+import org.bimserver.webservices.authorization.Authorization;
+import org.bimserver.webservices.authorization.MonitorAuthorization;
+import org.bimserver.webservices.authorization.SystemAuthorization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exposes the API call, render engine pool and notification metrics in the Prometheus text format. Requires the token of an admin or monitor user, either as
+ * "Authorization: Bearer [token]" header or as token parameter.
+ */
+public class MetricsServlet extends SubServlet {
+	private static final Logger LOGGER = LoggerFactory.getLogger(MetricsServlet.class);
+
+	public MetricsServlet(BimServer bimServer, ServletContext servletContext) {
+		super(bimServer, servletContext);
+	}
+
+	@Override
+	public void service(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+		String token = null;
+		String authorizationHeader = request.getHeader("Authorization");
+		if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+			token = authorizationHeader.substring(7).trim();
+		}
+		if (token == null) {
+			token = request.getParameter("token");
+		}
+		if (token == null) {
+			response.setStatus(401);
+			response.setHeader("WWW-Authenticate", "Bearer");
+			return;
+		}
+		try {
+			ServiceMap serviceMap = getBimServer().getServiceFactory().get(token, AccessMethod.INTERNAL);
+			Authorization authorization = serviceMap.getAuthorization();
+			if (!(authorization instanceof AdminAuthorization || authorization instanceof SystemAuthorization || authorization instanceof MonitorAuthorization)) {
+				response.setStatus(403);
+				return;
+			}
+		} catch (UserException e) {
+			LOGGER.debug("", e);
+			response.setStatus(401);
+			response.setHeader("WWW-Authenticate", "Bearer");
+			return;
+		}
+		response.setContentType("text/plain; version=0.0.4; charset=utf-8");
+		Writer writer = response.getWriter();
+		getBimServer().getMetricsRegistry().writeTextExposition(writer);
+		if (getBimServer().getRenderEnginePools() != null) {
+			getBimServer().getRenderEnginePools().writeTextExposition(writer);
+		}
+		getBimServer().getNotificationsManager().getNotificationsProcessor().writeTextExposition(writer);
+		writer.flush();
+	}
+}
@@ -20,6 +20,7 @@ package org.bimserver.servlets;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.bimserver.plugins.LittleEndianSerializerDataOutputStream;
 import org.bimserver.utils.GrowingByteBuffer;
@@ -29,10 +30,22 @@ import com.google.common.primitives.Longs;
 
 public class ReusableLittleEndianDataOutputStream extends LittleEndianSerializerDataOutputStream {
 
-	private final GrowingByteBuffer growingByteBuffer = new GrowingByteBuffer(1024 * 1024);
+	private final GrowingByteBuffer growingByteBuffer;
 	private final DataOutputStream dataOutputStream;
 
 	public ReusableLittleEndianDataOutputStream() {
+		this(new GrowingByteBuffer(1024 * 1024));
+	}
+
+	/**
+	 * Writes into the given buffer (for example one from a {@link DirectByteBufferPool}) as long as the data fits
+	 */
+	public ReusableLittleEndianDataOutputStream(ByteBuffer initialBuffer) {
+		this(GrowingByteBuffer.wrapInitial(initialBuffer));
+	}
+
+	private ReusableLittleEndianDataOutputStream(GrowingByteBuffer growingByteBuffer) {
+		this.growingByteBuffer = growingByteBuffer;
 		dataOutputStream = new DataOutputStream(new OutputStream() {
 			@Override
 			public void write(int b) throws IOException {
@@ -174,7 +187,7 @@ public class ReusableLittleEndianDataOutputStream extends LittleEndianSerializer
 	}
 
 	public void reset() {
-		growingByteBuffer.position(0);
+		growingByteBuffer.reset();
 	}
 
 	@Override
@@ -48,6 +48,7 @@ public class RootServlet extends HttpServlet {
 	private OAuthAccessTokenServlet oAuthAccesssTokenServlet;
 	private ServiceRunnerServlet serviceRunner;
 	private BulkUploadServlet bulkUploadServlet;
+	private MetricsServlet metricsServlet;
 
 	private BimServer bimServer;
 
@@ -72,6 +73,7 @@ public class RootServlet extends HttpServlet {
 		oAuthAccesssTokenServlet = new OAuthAccessTokenServlet(bimServer, servletContext);
 		oAuthRegistrationServlet = new OAuthRegistrationServlet(bimServer, servletContext);
 		serviceRunner = new ServiceRunnerServlet(bimServer, servletContext);
+		metricsServlet = new MetricsServlet(bimServer, servletContext);
 	}
 
 	@Override
@@ -153,6 +155,8 @@ public class RootServlet extends HttpServlet {
 				bulkUploadServlet.service(request, response);
 			} else if (requestUri.startsWith("/download/") || requestUri.equals("/download")) {
 				downloadServlet.service(request, response);
+			} else if (requestUri.equals("/metrics")) {
+				metricsServlet.service(request, response);
 			} else {
 				if (requestUri == null || requestUri.equals("") || requestUri.equals("/")) {
 					requestUri = "/index.html";
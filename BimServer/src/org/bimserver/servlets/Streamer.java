@@ -42,6 +42,7 @@ import java.io.Reader;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
 
 import org.bimserver.BimServer;
 import org.bimserver.endpoints.EndPoint;
@@ -70,6 +71,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class Streamer implements EndPoint {
 	private static final int ONE_MB = 1024 * 1024;
+	private static final int HEADER_SIZE = 16;
+	private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+	// Frames are sent when they reach 1 MB, the extra space is for the message that crosses that boundary
+	private static final DirectByteBufferPool BUFFER_POOL = new DirectByteBufferPool(2 * ONE_MB, 32);
 	private static final Logger LOGGER = LoggerFactory.getLogger(Streamer.class);
 	private long uoid;
 	private long endpointid;
@@ -104,10 +109,12 @@ public class Streamer implements EndPoint {
 					bimServer.getExecutorService().execute(new Runnable() {
 						public void run() {
 							Writer writer = null;
+							LongStreamingDownloadAction longStreamingDownloadAction = null;
+							ByteBuffer pooledBuffer = null;
 							try {
 								LongAction longAction = bimServer.getLongActionManager().getLongAction(topicId);
 								if (longAction instanceof LongStreamingDownloadAction) {
-									LongStreamingDownloadAction longStreamingDownloadAction = (LongStreamingDownloadAction) longAction;
+									longStreamingDownloadAction = (LongStreamingDownloadAction) longAction;
 									writer = longStreamingDownloadAction.getMessagingStreamingSerializer();
 								} else {
 									LongDownloadOrCheckoutAction longDownloadAction = (LongDownloadOrCheckoutAction) longAction;
@@ -120,13 +127,8 @@ public class Streamer implements EndPoint {
 									}
 								}
 								boolean writeMessage = true;
-								
-								// TODO pool the buffers
-
-								// TODO whenever a large object has been sent,
-								// the large buffer stays in memory until
-								// websocket closes...
-								ReusableLittleEndianDataOutputStream byteArrayOutputStream = new ReusableLittleEndianDataOutputStream();
+								pooledBuffer = BUFFER_POOL.acquire();
+								ReusableLittleEndianDataOutputStream byteArrayOutputStream = new ReusableLittleEndianDataOutputStream(pooledBuffer);
 								GrowingByteBuffer growingByteBuffer = byteArrayOutputStream.getGrowingByteBuffer();
 								ProgressReporter progressReporter = new ProgressReporter() {
 									@Override
@@ -162,13 +164,15 @@ public class Streamer implements EndPoint {
 
 								byteArrayOutputStream.writeLongUnchecked(topicId);
 								byteArrayOutputStream.writeLongUnchecked(0);
+								long lastSend = System.nanoTime();
 								do {
 									writeMessage = writer.writeMessage(byteArrayOutputStream, progressReporter);
 									messagesSent++;
-									// TODO we can just keep track of time, and for example always flush when nothing was sent in a second. Need to keep in mind that there could 63 other threads writing...
-									if (growingByteBuffer.usedSize() >= ONE_MB || !writeMessage) {
-										ByteBuffer newBuffer = ByteBuffer.wrap(growingByteBuffer.array(), 0, growingByteBuffer.usedSize());
-										streamingSocketInterface.sendBlocking(newBuffer);
+									long now = System.nanoTime();
+									if (growingByteBuffer.usedSize() >= ONE_MB || !writeMessage || (growingByteBuffer.usedSize() > HEADER_SIZE && now - lastSend > FLUSH_INTERVAL_NANOS)) {
+										// The socket reads directly from the (pooled) buffer, no copy
+										streamingSocketInterface.sendBlocking(growingByteBuffer.usedView());
+										lastSend = now;
 										byteArrayOutputStream.reset();
 										byteArrayOutputStream.writeLongUnchecked(topicId);
 										byteArrayOutputStream.writeLongUnchecked(0);
@@ -199,6 +203,13 @@ public class Streamer implements EndPoint {
 								} catch (IOException e) {
 									LOGGER.error("", e);
 								}
+								if (longStreamingDownloadAction != null) {
+									// After closing the writer, a caching writer might still need the objects for other downloads
+									longStreamingDownloadAction.closeObjectProvider();
+								}
+								if (pooledBuffer != null) {
+									BUFFER_POOL.release(pooledBuffer);
+								}
 							}
 						}
 					});
@@ -0,0 +1,241 @@
+package org.bimserver.tools.generators;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+
+import org.apache.commons.io.FileUtils;
+import org.bimserver.shared.InterfaceList;
+import org.bimserver.shared.meta.SMethod;
+import org.bimserver.shared.meta.SParameter;
+import org.bimserver.shared.meta.SService;
+import org.bimserver.shared.meta.SServicesMap;
+import org.bimserver.shared.reflector.PrecompiledReflectorFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Generates the same reflector classes as the RealtimeReflectorFactoryBuilder, but as source code in PluginBase/generated,
+ * so they are compiled with the rest of the code instead of on every start. Run again whenever a service interface changes,
+ * until then the servers and clients fall back to generating them at runtime.
+ */
+public class ReflectorGenerator {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReflectorGenerator.class);
+	private static final String HEADER = "/******************************************************************************\n"
+			+ " * Copyright (C) 2009-2019  BIMserver.org\n"
+			+ " * \n"
+			+ " * This program is free software: you can redistribute it and/or modify\n"
+			+ " * it under the terms of the GNU Affero General Public License as\n"
+			+ " * published by the Free Software Foundation, either version 3 of the\n"
+			+ " * License, or (at your option) any later version.\n"
+			+ " * \n"
+			+ " * This program is distributed in the hope that it will be useful,\n"
+			+ " * but WITHOUT ANY WARRANTY; without even the implied warranty of\n"
+			+ " * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the\n"
+			+ " * GNU Affero General Public License for more details.\n"
+			+ " * \n"
+			+ " * You should have received a copy of the GNU Affero General Public License\n"
+			+ " * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.\n"
+			+ " *****************************************************************************/\n";
+	private final File packageFolder;
+
+	public ReflectorGenerator(File sourceFolder) {
+		this.packageFolder = new File(sourceFolder, PrecompiledReflectorFactoryBuilder.GENERATED_PACKAGE.replace(".", File.separator));
+	}
+
+	public static void main(String[] args) {
+		new ReflectorGenerator(new File("../PluginBase/generated")).generate(InterfaceList.createSServicesMap());
+	}
+
+	public void generate(SServicesMap servicesMap) {
+		try {
+			FileUtils.forceMkdir(packageFolder);
+			for (String name : servicesMap.keySetName()) {
+				SService sService = servicesMap.getByName(name);
+				write(sService.getSimpleName() + "Impl", generateImpl(sService));
+				write(sService.getSimpleName() + "Reflector", generateReflector(sService));
+			}
+			write(PrecompiledReflectorFactoryBuilder.GENERATED_FACTORY_NAME, generateFactory(servicesMap));
+			LOGGER.info("Reflectors generated in " + packageFolder);
+		} catch (IOException e) {
+			LOGGER.error("", e);
+		}
+	}
+
+	private void write(String className, String source) throws IOException {
+		FileUtils.writeStringToFile(new File(packageFolder, className + ".java"), source, Charsets.UTF_8);
+	}
+
+	private StringBuilder startClass() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("package " + PrecompiledReflectorFactoryBuilder.GENERATED_PACKAGE + ";\n\n");
+		sb.append(HEADER);
+		sb.append("\n");
+		return sb;
+	}
+
+	/**
+	 * The implementation of a service interface that passes all calls on to a Reflector. Exceptions are rethrown as they are,
+	 * also the ones the interface does not declare, like the classes generated by Javassist do.
+	 */
+	private String generateImpl(SService sService) {
+		String interfaceName = sService.getInterfaceClass().getName();
+		String className = sService.getSimpleName() + "Impl";
+		StringBuilder sb = startClass();
+		sb.append("@SuppressWarnings(\"unchecked\")\n");
+		sb.append("public class " + className + " implements " + interfaceName + " {\n");
+		sb.append("\tprivate final org.bimserver.shared.reflector.Reflector reflector;\n\n");
+		sb.append("\tpublic " + className + "(org.bimserver.shared.reflector.Reflector reflector) {\n");
+		sb.append("\t\tthis.reflector = reflector;\n");
+		sb.append("\t}\n");
+		for (SMethod sMethod : sService.getMethods()) {
+			Method method = sMethod.getMethod();
+			sb.append("\n\t@Override\n");
+			sb.append("\tpublic " + typeName(method.getGenericReturnType()) + " " + sMethod.getName() + "(");
+			int i = 0;
+			for (SParameter sParameter : sMethod.getParameters()) {
+				if (i > 0) {
+					sb.append(", ");
+				}
+				sb.append(typeName(method.getGenericParameterTypes()[i]) + " " + sParameter.getName());
+				i++;
+			}
+			sb.append(")" + throwsClause(method) + " {\n");
+			sb.append("\t\ttry {\n");
+			sb.append("\t\t\t");
+			if (method.getReturnType() != void.class) {
+				sb.append("return (" + typeName(method.getGenericReturnType()) + ") ");
+			}
+			sb.append("this.reflector.callMethod(\"" + sService.getSimpleName() + "\", \"" + sMethod.getName() + "\", " + typeName(method.getReturnType()) + ".class");
+			for (SParameter sParameter : sMethod.getParameters()) {
+				sb.append(", new org.bimserver.shared.reflector.KeyValuePair(\"" + sParameter.getName() + "\", " + sParameter.getName() + ")");
+			}
+			sb.append(");\n");
+			sb.append("\t\t} catch (Exception e) {\n");
+			sb.append("\t\t\tthrow " + PrecompiledReflectorFactoryBuilder.GENERATED_FACTORY_NAME + ".<RuntimeException>rethrow(e);\n");
+			sb.append("\t\t}\n");
+			sb.append("\t}\n");
+		}
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	/**
+	 * The Reflector that calls the methods of an implementation of a service interface by name, exceptions are rethrown as they are
+	 */
+	private String generateReflector(SService sService) {
+		String interfaceName = sService.getInterfaceClass().getName();
+		String className = sService.getSimpleName() + "Reflector";
+		StringBuilder sb = startClass();
+		sb.append("@SuppressWarnings(\"unchecked\")\n");
+		sb.append("public class " + className + " implements org.bimserver.shared.reflector.Reflector {\n");
+		sb.append("\tprivate final " + interfaceName + " publicInterface;\n\n");
+		sb.append("\tpublic " + className + "(" + interfaceName + " publicInterface) {\n");
+		sb.append("\t\tthis.publicInterface = publicInterface;\n");
+		sb.append("\t}\n\n");
+		sb.append("\t@Override\n");
+		sb.append("\tpublic Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {\n");
+		sb.append("\t\ttry {\n");
+		sb.append("\t\t\tswitch (methodName) {\n");
+		for (SMethod sMethod : sService.getMethods()) {
+			Method method = sMethod.getMethod();
+			sb.append("\t\t\tcase \"" + sMethod.getName() + "\":\n");
+			StringBuilder call = new StringBuilder("publicInterface." + sMethod.getName() + "(");
+			for (int i = 0; i < sMethod.getParameters().size(); i++) {
+				if (i > 0) {
+					call.append(", ");
+				}
+				call.append("(" + typeName(method.getGenericParameterTypes()[i]) + ") args[" + i + "].getValue()");
+			}
+			call.append(")");
+			if (method.getReturnType() == void.class) {
+				sb.append("\t\t\t\t" + call + ";\n");
+				sb.append("\t\t\t\treturn null;\n");
+			} else {
+				sb.append("\t\t\t\treturn " + call + ";\n");
+			}
+		}
+		sb.append("\t\t\tdefault:\n");
+		sb.append("\t\t\t\treturn null;\n");
+		sb.append("\t\t\t}\n");
+		sb.append("\t\t} catch (Exception e) {\n");
+		sb.append("\t\t\tthrow " + PrecompiledReflectorFactoryBuilder.GENERATED_FACTORY_NAME + ".<RuntimeException>rethrow(e);\n");
+		sb.append("\t\t}\n");
+		sb.append("\t}\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	private String generateFactory(SServicesMap servicesMap) {
+		StringBuilder sb = startClass();
+		sb.append("public class " + PrecompiledReflectorFactoryBuilder.GENERATED_FACTORY_NAME + " implements org.bimserver.shared.reflector.ReflectorFactory {\n");
+		sb.append("\tpublic static final String " + PrecompiledReflectorFactoryBuilder.SIGNATURE_FIELD + " = \"" + PrecompiledReflectorFactoryBuilder.signature(servicesMap) + "\";\n\n");
+		sb.append("\t@SuppressWarnings(\"unchecked\")\n");
+		sb.append("\t@Override\n");
+		sb.append("\tpublic <T extends org.bimserver.shared.interfaces.PublicInterface> T createReflector(Class<T> clazz, org.bimserver.shared.reflector.Reflector reflector) {\n");
+		sb.append("\t\tswitch (clazz.getSimpleName()) {\n");
+		for (String name : servicesMap.keySetName()) {
+			SService sService = servicesMap.getByName(name);
+			sb.append("\t\tcase \"" + sService.getSimpleName() + "\":\n");
+			sb.append("\t\t\treturn (T) new " + sService.getSimpleName() + "Impl(reflector);\n");
+		}
+		sb.append("\t\tdefault:\n");
+		sb.append("\t\t\treturn null;\n");
+		sb.append("\t\t}\n");
+		sb.append("\t}\n\n");
+		sb.append("\t@Override\n");
+		sb.append("\tpublic <T extends org.bimserver.shared.interfaces.PublicInterface, K extends org.bimserver.shared.interfaces.PublicInterface> org.bimserver.shared.reflector.Reflector createReflector(Class<K> clazz, T t) {\n");
+		sb.append("\t\tswitch (clazz.getSimpleName()) {\n");
+		for (String name : servicesMap.keySetName()) {
+			SService sService = servicesMap.getByName(name);
+			sb.append("\t\tcase \"" + sService.getSimpleName() + "\":\n");
+			sb.append("\t\t\treturn new " + sService.getSimpleName() + "Reflector((" + sService.getInterfaceClass().getName() + ") t);\n");
+		}
+		sb.append("\t\tdefault:\n");
+		sb.append("\t\t\treturn null;\n");
+		sb.append("\t\t}\n");
+		sb.append("\t}\n\n");
+		sb.append("\t/**\n");
+		sb.append("\t * Throws the exception without wrapping it, checked exceptions that are not declared included\n");
+		sb.append("\t */\n");
+		sb.append("\t@SuppressWarnings(\"unchecked\")\n");
+		sb.append("\tstatic <E extends Throwable> RuntimeException rethrow(Throwable e) throws E {\n");
+		sb.append("\t\tthrow (E) e;\n");
+		sb.append("\t}\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	private String throwsClause(Method method) {
+		StringBuilder sb = new StringBuilder();
+		for (Class<?> exceptionType : method.getExceptionTypes()) {
+			sb.append(sb.length() == 0 ? " throws " : ", ");
+			sb.append(typeName(exceptionType));
+		}
+		return sb.toString();
+	}
+
+	private String typeName(Type type) {
+		return type.getTypeName().replace('$', '.');
+	}
+}
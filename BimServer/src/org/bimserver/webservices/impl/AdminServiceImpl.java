@@ -52,6 +52,7 @@ import org.bimserver.interfaces.objects.SJavaInfo;
 import org.bimserver.interfaces.objects.SLogAction;
 import org.bimserver.interfaces.objects.SMetrics;
 import org.bimserver.interfaces.objects.SMigration;
+import org.bimserver.interfaces.objects.SOutputFileCacheStatistics;
 import org.bimserver.interfaces.objects.SPluginDescriptor;
 import org.bimserver.interfaces.objects.SServerInfo;
 import org.bimserver.interfaces.objects.SSystemInfo;
@@ -92,6 +93,12 @@ public class AdminServiceImpl extends GenericServiceImpl implements AdminInterfa
 		return getBimServer().getNewDiskCacheManager().cleanup();
 	}
 
+	@Override
+	public SOutputFileCacheStatistics getOutputFileCacheStatistics() throws UserException {
+		requireAdminAuthentication();
+		return getBimServer().getNewDiskCacheManager().getStatistics();
+	}
+
 	@Override
 	public SSystemInfo getSystemInfo() throws UserException {
 		requireAdminAuthentication();
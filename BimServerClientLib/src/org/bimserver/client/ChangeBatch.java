@@ -0,0 +1,118 @@
+package org.bimserver.client;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bimserver.shared.exceptions.ServerException;
+import org.bimserver.shared.exceptions.UserException;
+import org.bimserver.shared.interfaces.LowLevelInterface;
+import org.bimserver.shared.json.JsonReflector;
+import org.bimserver.shared.reflector.KeyValuePair;
+import org.bimserver.shared.reflector.Reflector;
+import org.bimserver.shared.reflector.ReflectorFactory;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A LowLevelInterface that buffers the calls without a result, like setting attributes and changing references, and sends
+ * them to the server as one message per batch instead of one message per call.
+ * 
+ * A batch is sent when it has reached the maximum size, when a call is added more than the maximum interval after the first
+ * call of the batch, when {@link #flush()} is called and before every call that does have a result (like createObject and
+ * commitTransaction), so results always include the effect of all earlier calls.
+ */
+public class ChangeBatch implements Reflector {
+	private final JsonReflector jsonReflector;
+	private final LowLevelInterface lowLevelInterface;
+	private final int maxSize;
+	private final long maxIntervalMillis;
+	private final List<ObjectNode> requests = new ArrayList<>();
+	private long firstRequestMillis;
+
+	public ChangeBatch(JsonReflector jsonReflector, ReflectorFactory reflectorFactory, int maxSize, long maxIntervalMillis) {
+		this.jsonReflector = jsonReflector;
+		this.maxSize = maxSize;
+		this.maxIntervalMillis = maxIntervalMillis;
+		this.lowLevelInterface = reflectorFactory.createReflector(LowLevelInterface.class, this);
+	}
+
+	public LowLevelInterface getLowLevelInterface() {
+		return lowLevelInterface;
+	}
+
+	@Override
+	public synchronized Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, KeyValuePair... args) throws ServerException, UserException {
+		if (methodName.equals("abortTransaction")) {
+			// No use sending changes to a transaction that is aborted anyways
+			requests.clear();
+			return jsonReflector.callMethod(interfaceName, methodName, definedReturnType, args);
+		}
+		if (definedReturnType != void.class && definedReturnType != Void.class) {
+			flush();
+			return jsonReflector.callMethod(interfaceName, methodName, definedReturnType, args);
+		}
+		try {
+			requests.add(jsonReflector.createRequest(interfaceName, methodName, args));
+		} catch (IOException e) {
+			throw new UserException(e);
+		}
+		if (requests.size() == 1) {
+			firstRequestMillis = System.currentTimeMillis();
+		}
+		if (requests.size() >= maxSize || System.currentTimeMillis() - firstRequestMillis >= maxIntervalMillis) {
+			flush();
+		}
+		return null;
+	}
+
+	public synchronized int size() {
+		return requests.size();
+	}
+
+	/**
+	 * Sends the buffered calls, the calls that failed on the server are reported together in one ChangeBatchException after
+	 * all other calls of the batch have been executed
+	 */
+	public synchronized void flush() throws ServerException, UserException {
+		if (requests.isEmpty()) {
+			return;
+		}
+		List<ObjectNode> batch = new ArrayList<>(requests);
+		requests.clear();
+		ArrayNode responses = jsonReflector.callMethods(batch);
+		if (responses.size() != batch.size()) {
+			throw new ServerException("Sent " + batch.size() + " changes, but received " + responses.size() + " responses");
+		}
+		List<ChangeBatchException.Failure> failures = new ArrayList<>();
+		for (int i = 0; i < batch.size(); i++) {
+			ObjectNode request = batch.get(i);
+			try {
+				jsonReflector.processResponse(request.get("interface").asText(), request.get("method").asText(), (ObjectNode) responses.get(i));
+			} catch (Exception e) {
+				failures.add(new ChangeBatchException.Failure(i, request, e));
+			}
+		}
+		if (!failures.isEmpty()) {
+			throw new ChangeBatchException(batch.size(), failures);
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package org.bimserver.client;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.util.List;
+
+import org.bimserver.shared.exceptions.UserException;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Thrown when one or more calls of a {@link ChangeBatch} failed, the other calls of the batch have been executed
+ */
+public class ChangeBatchException extends UserException {
+
+	private static final long serialVersionUID = -2753466101826417155L;
+	private final int batchSize;
+	private final List<Failure> failures;
+
+	public ChangeBatchException(int batchSize, List<Failure> failures) {
+		super(failures.size() + " of " + batchSize + " changes failed, first failure: " + failures.get(0));
+		this.batchSize = batchSize;
+		this.failures = failures;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public List<Failure> getFailures() {
+		return failures;
+	}
+
+	public static class Failure {
+		private final int index;
+		private final ObjectNode request;
+		private final Exception exception;
+
+		public Failure(int index, ObjectNode request, Exception exception) {
+			this.index = index;
+			this.request = request;
+			this.exception = exception;
+		}
+
+		/**
+		 * @return The position of the failed call in the batch
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		public String getMethod() {
+			return request.get("method").asText();
+		}
+
+		public ObjectNode getParameters() {
+			return (ObjectNode) request.get("parameters");
+		}
+
+		public Exception getException() {
+			return exception;
+		}
+
+		@Override
+		public String toString() {
+			return "#" + index + " " + getMethod() + getParameters() + ": " + exception.getMessage();
+		}
+	}
+}
@@ -192,6 +192,13 @@ public abstract class Channel implements ServiceHolder {
 		return null;
 	}
 
+	/**
+	 * @return A batch that sends LowLevelInterface changes in bulk, or null when this channel can only send them one by one
+	 */
+	public ChangeBatch createChangeBatch(int maxSize, long maxIntervalMillis) {
+		return null;
+	}
+
 	protected SServicesMap getSServicesMap() {
 		return null;
 	}
@@ -78,6 +78,7 @@ public class ClientIfcModel extends IfcModel implements GeometryTarget {
 
 	private ClientDebugInfo clientDebugInfo = new ClientDebugInfo();
 	private boolean deep;
+	private ChangeBatch changeBatch;
 
 	public ClientIfcModel(BimServerClient bimServerClient, long poid, long roid, boolean deep, PackageMetaData packageMetaData, boolean recordChanges, boolean includeGeometry)
 			throws ServerException, UserException, PublicInterfaceNotFoundException {
@@ -169,15 +170,15 @@ public class ClientIfcModel extends IfcModel implements GeometryTarget {
 				if (getModelState() != ModelState.LOADING) {
 					try {
 						if (eFeature.getEType() == EcorePackage.eINSTANCE.getEString()) {
-							bimServerClient.getLowLevelInterface().addStringAttribute(getTransactionId(), idEObject.getOid(), eFeature.getName(), notification.getNewStringValue());
+							getChangeInterface().addStringAttribute(getTransactionId(), idEObject.getOid(), eFeature.getName(), notification.getNewStringValue());
 						} else if (eFeature.getEType() == EcorePackage.eINSTANCE.getELong() || eFeature.getEType() == EcorePackage.eINSTANCE.getELongObject()) {
 							throw new UnsupportedOperationException();
 						} else if (eFeature.getEType() == EcorePackage.eINSTANCE.getEDouble() || eFeature.getEType() == EcorePackage.eINSTANCE.getEDoubleObject()) {
-							bimServerClient.getLowLevelInterface().addDoubleAttribute(getTransactionId(), idEObject.getOid(), eFeature.getName(), (Double) notification.getNewValue());
+							getChangeInterface().addDoubleAttribute(getTransactionId(), idEObject.getOid(), eFeature.getName(), (Double) notification.getNewValue());
 						} else if (eFeature.getEType() == EcorePackage.eINSTANCE.getEBoolean() || eFeature.getEType() == EcorePackage.eINSTANCE.getEBooleanObject()) {
-							bimServerClient.getLowLevelInterface().addBooleanAttribute(getTransactionId(), idEObject.getOid(), eFeature.getName(), notification.getNewBooleanValue());
+							getChangeInterface().addBooleanAttribute(getTransactionId(), idEObject.getOid(), eFeature.getName(), notification.getNewBooleanValue());
 						} else if (eFeature.getEType() == EcorePackage.eINSTANCE.getEInt() || eFeature.getEType() == EcorePackage.eINSTANCE.getEIntegerObject()) {
-							bimServerClient.getLowLevelInterface().addIntegerAttribute(getTransactionId(), idEObject.getOid(), eFeature.getName(), notification.getNewIntValue());
+							getChangeInterface().addIntegerAttribute(getTransactionId(), idEObject.getOid(), eFeature.getName(), notification.getNewIntValue());
 						} else if (eFeature.getEType() == EcorePackage.eINSTANCE.getEByteArray()) {
 							throw new UnsupportedOperationException();
 						} else if (eFeature.getEType() instanceof EEnum) {
@@ -185,7 +186,7 @@ public class ClientIfcModel extends IfcModel implements GeometryTarget {
 						} else if (eFeature instanceof EReference) {
 							if (notification.getNewValue() == null) {
 							} else {
-								bimServerClient.getLowLevelInterface().addReference(getTransactionId(), idEObject.getOid(), eFeature.getName(), ((IdEObject) notification.getNewValue()).getOid());
+								getChangeInterface().addReference(getTransactionId(), idEObject.getOid(), eFeature.getName(), ((IdEObject) notification.getNewValue()).getOid());
 							}
 						} else {
 							throw new RuntimeException("Unimplemented " + eFeature.getEType().getName() + " " + notification.getNewValue());
@@ -201,7 +202,7 @@ public class ClientIfcModel extends IfcModel implements GeometryTarget {
 					try {
 						if (eFeature instanceof EReference) {
 							IdEObject oldValue = (IdEObject) notification.getOldValue();
-							bimServerClient.getLowLevelInterface().removeReferenceByOid(getTransactionId(), idEObject.getOid(), eFeature.getName(), oldValue.getOid());
+							getChangeInterface().removeReferenceByOid(getTransactionId(), idEObject.getOid(), eFeature.getName(), oldValue.getOid());
 						} else {
 							throw new RuntimeException("Unimplemented " + eFeature.getEType().getName() + " " + notification.getNewValue());
 						}
@@ -288,7 +289,46 @@ public class ClientIfcModel extends IfcModel implements GeometryTarget {
 		if (tid == -1) {
 			throw new UserException("No transaction was started");
 		}
-		return bimServerClient.getLowLevelInterface().commitTransaction(tid, comment, true);
+		return getChangeInterface().commitTransaction(tid, comment, true);
+	}
+
+	/**
+	 * From now on, changes to this model are sent to the server in batches instead of one call per change. Changes that
+	 * failed in a batch that was sent implicitly are logged, the ones in the batch sent by {@link #flushChanges()} or
+	 * {@link #commit(String)} are reported with a {@link ChangeBatchException}, in which case the transaction is not committed.
+	 * 
+	 * @param maxSize The maximum amount of changes per batch
+	 * @param maxIntervalMillis A batch is sent when a change is made this long after the first change in the batch
+	 */
+	public void enableBatching(int maxSize, long maxIntervalMillis) {
+		changeBatch = bimServerClient.getChannel().createChangeBatch(maxSize, maxIntervalMillis);
+		if (changeBatch == null) {
+			LOGGER.warn("The channel of this client does not support batching, changes will be sent one by one");
+		}
+	}
+
+	public void disableBatching() throws ServerException, UserException {
+		if (changeBatch != null) {
+			ChangeBatch batch = changeBatch;
+			changeBatch = null;
+			batch.flush();
+		}
+	}
+
+	/**
+	 * Sends the changes that have been batched so far
+	 */
+	public void flushChanges() throws ServerException, UserException {
+		if (changeBatch != null) {
+			changeBatch.flush();
+		}
+	}
+
+	private LowLevelInterface getChangeInterface() throws PublicInterfaceNotFoundException {
+		if (changeBatch != null) {
+			return changeBatch.getLowLevelInterface();
+		}
+		return bimServerClient.getLowLevelInterface();
 	}
 
 	private void loadDeep() throws ServerException, UserException, PublicInterfaceNotFoundException, QueryException {
@@ -696,7 +736,7 @@ public class ClientIfcModel extends IfcModel implements GeometryTarget {
 		if (recordChanges) {
 			idEObject.eAdapters().add(adapter);
 			try {
-				Long oid = bimServerClient.getLowLevelInterface().createObject(tid, eClass.getName(), eClass.getEStructuralFeature("GlobalId") != null);
+				Long oid = getChangeInterface().createObject(tid, eClass.getName(), eClass.getEStructuralFeature("GlobalId") != null);
 				idEObject.setOid(oid);
 			} catch (Exception e) {
 				LOGGER.error("", e);
@@ -715,7 +755,7 @@ public class ClientIfcModel extends IfcModel implements GeometryTarget {
 			if (getModelState() != ModelState.LOADING && ((IdEObjectImpl) idEObject).getLoadingState() != State.LOADING) {
 				try {
 					if (newValue != EStructuralFeature.Internal.DynamicValueHolder.NIL) {
-						LowLevelInterface lowLevelInterface = getBimServerClient().getLowLevelInterface();
+						LowLevelInterface lowLevelInterface = getChangeInterface();
 						if (eFeature.getName().equals("wrappedValue")) {
 							// Wrapped objects get the same oid as their
 							// "parent" object, so we know which object the
@@ -880,7 +920,7 @@ public class ClientIfcModel extends IfcModel implements GeometryTarget {
 	@Override
 	public void remove(IdEObject object) {
 		try {
-			bimServerClient.getLowLevelInterface().removeObject(getTransactionId(), object.getOid());
+			getChangeInterface().removeObject(getTransactionId(), object.getOid());
 		} catch (PublicInterfaceNotFoundException e) {
 			LOGGER.error("", e);
 		} catch (ServerException e) {
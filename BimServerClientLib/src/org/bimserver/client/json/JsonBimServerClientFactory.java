@@ -25,7 +25,7 @@ import org.bimserver.shared.ChannelConnectionException;
 import org.bimserver.shared.exceptions.BimServerClientException;
 import org.bimserver.shared.exceptions.ServiceException;
 import org.bimserver.shared.meta.SServicesMap;
-import org.bimserver.shared.reflector.RealtimeReflectorFactoryBuilder;
+import org.bimserver.shared.reflector.PrecompiledReflectorFactoryBuilder;
 import org.bimserver.shared.reflector.ReflectorFactory;
 import java.net.URL;
 
@@ -54,7 +54,7 @@ public class JsonBimServerClientFactory extends AbstractBimServerClientFactory {
 		super(metaDataManager, trustedCertificate);
 		this.address = address;
 		this.jsonSocketReflectorFactory = new JsonSocketReflectorFactory(getServicesMap(), getHttpClient());
-		RealtimeReflectorFactoryBuilder factoryBuilder = new RealtimeReflectorFactoryBuilder(getServicesMap());
+		PrecompiledReflectorFactoryBuilder factoryBuilder = new PrecompiledReflectorFactoryBuilder(getServicesMap());
 		reflectorFactory = factoryBuilder.newReflectorFactory();
 		getServicesMap().setReflectorFactory(reflectorFactory);
 	}
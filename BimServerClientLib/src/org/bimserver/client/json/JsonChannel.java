@@ -18,6 +18,7 @@ package org.bimserver.client.json;
  *****************************************************************************/
 
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.bimserver.client.ChangeBatch;
 import org.bimserver.client.Channel;
 import org.bimserver.shared.ChannelConnectionException;
 import org.bimserver.shared.TokenHolder;
@@ -57,6 +58,11 @@ public class JsonChannel extends Channel {
 		finish(reflector, reflectorFactory);
 	}
 
+	@Override
+	public ChangeBatch createChangeBatch(int maxSize, long maxIntervalMillis) {
+		return new ChangeBatch(reflector, reflectorFactory, maxSize, maxIntervalMillis);
+	}
+
 	@Override
 	protected JsonConverter getJsonConverter() {
 		return reflector.getConverter();
@@ -26,7 +26,7 @@ import org.bimserver.shared.exceptions.BimServerClientException;
 import org.bimserver.shared.exceptions.ServiceException;
 import org.bimserver.shared.meta.SServicesMap;
 import org.bimserver.shared.pb.ProtocolBuffersMetaData;
-import org.bimserver.shared.reflector.RealtimeReflectorFactoryBuilder;
+import org.bimserver.shared.reflector.PrecompiledReflectorFactoryBuilder;
 import org.bimserver.shared.reflector.ReflectorFactory;
 
 public class ProtocolBuffersBimServerClientFactory extends AbstractBimServerClientFactory {
@@ -44,7 +44,7 @@ public class ProtocolBuffersBimServerClientFactory extends AbstractBimServerClie
 		this.port = port;
 		this.protocolBuffersMetaData = new ProtocolBuffersMetaData();
 		this.protocolBuffersMetaData.load(getServicesMap(), ProtocolBuffersBimServerClientFactory.class);
-		RealtimeReflectorFactoryBuilder factoryBuilder = new RealtimeReflectorFactoryBuilder(getServicesMap());
+		PrecompiledReflectorFactoryBuilder factoryBuilder = new PrecompiledReflectorFactoryBuilder(getServicesMap());
 		this.reflectorFactory = factoryBuilder.newReflectorFactory();
 		getServicesMap().setReflectorFactory(reflectorFactory);
 	}
@@ -73,6 +73,16 @@ public class WarServerInitializer implements ServletContextListener {
 			autoMigrate = Boolean.valueOf(servletContext.getInitParameter("autoMigrate"));
 		}
 
+		Long outputFileCacheMaxBytes = null;
+		if (servletContext.getInitParameter("outputFileCacheMaxBytes") != null) {
+			outputFileCacheMaxBytes = Long.parseLong(servletContext.getInitParameter("outputFileCacheMaxBytes"));
+		}
+
+		Long maxJsonRequestBytes = null;
+		if (servletContext.getInitParameter("maxJsonRequestBytes") != null) {
+			maxJsonRequestBytes = Long.parseLong(servletContext.getInitParameter("maxJsonRequestBytes"));
+		}
+
 		String realPath = servletContext.getRealPath("/");
 		if (!realPath.endsWith("/")) {
 			realPath = realPath + "/";
@@ -86,6 +96,12 @@ public class WarServerInitializer implements ServletContextListener {
 
 		BimServerConfig config = new BimServerConfig();
 		config.setAutoMigrate(autoMigrate);
+		if (outputFileCacheMaxBytes != null) {
+			config.setOutputFileCacheMaxBytes(outputFileCacheMaxBytes);
+		}
+		if (maxJsonRequestBytes != null) {
+			config.setMaxJsonRequestBytes(maxJsonRequestBytes);
+		}
 		config.setEnvironment(Environment.WAR);
 		config.setHomeDir(homeDir);
 		config.setResourceFetcher(resourceFetcher);
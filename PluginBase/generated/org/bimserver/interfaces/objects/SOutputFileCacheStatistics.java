@@ -0,0 +1,230 @@
+package org.bimserver.interfaces.objects;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+import javax.xml.bind.annotation.XmlTransient;
+import java.util.UUID;
+import org.bimserver.shared.meta.*;
+import javax.xml.bind.annotation.XmlRootElement;
+
+
+@XmlRootElement
+public class SOutputFileCacheStatistics implements SDataBase
+{
+	private long oid = -1;
+	private UUID uuid;
+	private int rid = 0;
+
+	@XmlTransient
+	private static SClass sClass;
+	private long hits;
+	private long misses;
+	private long evictions;
+	private long evictedBytes;
+	private long files;
+	private long usedBytes;
+	private long maxBytes;
+
+	public long getOid() {
+		return this.oid;
+	}
+
+	public void setOid(long oid) {
+		this.oid = oid;
+	}
+
+	public UUID getUuid() {
+		return this.uuid;
+	}
+
+	public void setUuid(UUID uuid) {
+		this.uuid = uuid;
+	}
+
+	public int getRid() {
+		return rid;
+	}
+
+	public void setRid(int rid) {
+		this.rid = rid;
+	}
+
+	@XmlTransient
+	public SClass getSClass() {
+		return sClass;
+	}
+
+	public static void setSClass(SClass sClass) {
+		SOutputFileCacheStatistics.sClass = sClass;
+	}
+
+	public Object sGet(SField sField) {
+		if (sField.getName().equals("hits")) {
+			return getHits();
+		}
+		if (sField.getName().equals("misses")) {
+			return getMisses();
+		}
+		if (sField.getName().equals("evictions")) {
+			return getEvictions();
+		}
+		if (sField.getName().equals("evictedBytes")) {
+			return getEvictedBytes();
+		}
+		if (sField.getName().equals("files")) {
+			return getFiles();
+		}
+		if (sField.getName().equals("usedBytes")) {
+			return getUsedBytes();
+		}
+		if (sField.getName().equals("maxBytes")) {
+			return getMaxBytes();
+		}
+		if (sField.getName().equals("oid")) {
+			return getOid();
+		}
+		if (sField.getName().equals("rid")) {
+			return getRid();
+		}
+		if (sField.getName().equals("uuid")) {
+			return getUuid();
+		}
+		throw new RuntimeException("Field " + sField.getName() + " not found");
+	}
+
+	public void sSet(SField sField, Object val) {
+		if (sField.getName().equals("hits")) {
+			setHits((Long)val);
+			return;
+		}
+		if (sField.getName().equals("misses")) {
+			setMisses((Long)val);
+			return;
+		}
+		if (sField.getName().equals("evictions")) {
+			setEvictions((Long)val);
+			return;
+		}
+		if (sField.getName().equals("evictedBytes")) {
+			setEvictedBytes((Long)val);
+			return;
+		}
+		if (sField.getName().equals("files")) {
+			setFiles((Long)val);
+			return;
+		}
+		if (sField.getName().equals("usedBytes")) {
+			setUsedBytes((Long)val);
+			return;
+		}
+		if (sField.getName().equals("maxBytes")) {
+			setMaxBytes((Long)val);
+			return;
+		}
+		if (sField.getName().equals("oid")) {
+			setOid((Long)val);
+			return;
+		}
+		if (sField.getName().equals("rid")) {
+			setRid((Integer)val);
+			return;
+		}
+		if (sField.getName().equals("uuid")) {
+			setUuid((UUID)val);
+			return;
+		}
+		throw new RuntimeException("Field " + sField.getName() + " not found");
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public void setHits(long hits) {
+		this.hits = hits;
+	}
+	
+	public long getMisses() {
+		return misses;
+	}
+
+	public void setMisses(long misses) {
+		this.misses = misses;
+	}
+	
+	public long getEvictions() {
+		return evictions;
+	}
+
+	public void setEvictions(long evictions) {
+		this.evictions = evictions;
+	}
+	
+	public long getEvictedBytes() {
+		return evictedBytes;
+	}
+
+	public void setEvictedBytes(long evictedBytes) {
+		this.evictedBytes = evictedBytes;
+	}
+	
+	public long getFiles() {
+		return files;
+	}
+
+	public void setFiles(long files) {
+		this.files = files;
+	}
+	
+	public long getUsedBytes() {
+		return usedBytes;
+	}
+
+	public void setUsedBytes(long usedBytes) {
+		this.usedBytes = usedBytes;
+	}
+	
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	public void setMaxBytes(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+	
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (int) (oid ^ (oid >>> 32));
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		SOutputFileCacheStatistics other = (SOutputFileCacheStatistics) obj;
+		if (oid != other.oid)
+			return false;
+		return true;
+	}
+}
\ No newline at end of file
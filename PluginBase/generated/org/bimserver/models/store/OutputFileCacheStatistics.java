@@ -0,0 +1,244 @@
+/**
+ * Copyright (C) 2009-2014 BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bimserver.models.store;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import org.bimserver.emf.IdEObject;
+
+/**
+ * <!-- begin-user-doc -->
+ * A representation of the model object '<em><b>Output File Cache Statistics</b></em>'.
+ * <!-- end-user-doc -->
+ *
+ * <p>
+ * The following features are supported:
+ * </p>
+ * <ul>
+ *   <li>{@link org.bimserver.models.store.OutputFileCacheStatistics#getHits <em> Hits</em>}</li>
+ *   <li>{@link org.bimserver.models.store.OutputFileCacheStatistics#getMisses <em> Misses</em>}</li>
+ *   <li>{@link org.bimserver.models.store.OutputFileCacheStatistics#getEvictions <em> Evictions</em>}</li>
+ *   <li>{@link org.bimserver.models.store.OutputFileCacheStatistics#getEvictedBytes <em> Evicted Bytes</em>}</li>
+ *   <li>{@link org.bimserver.models.store.OutputFileCacheStatistics#getFiles <em> Files</em>}</li>
+ *   <li>{@link org.bimserver.models.store.OutputFileCacheStatistics#getUsedBytes <em> Used Bytes</em>}</li>
+ *   <li>{@link org.bimserver.models.store.OutputFileCacheStatistics#getMaxBytes <em> Max Bytes</em>}</li>
+ * </ul>
+ *
+ * @see org.bimserver.models.store.StorePackage#getOutputFileCacheStatistics()
+ * @model
+ * @extends IdEObject
+ * @generated
+ */
+public interface OutputFileCacheStatistics extends IdEObject {
+	/**
+	 * Returns the value of the '<em><b> Hits</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * If the meaning of the '<em> Hits</em>' attribute isn't clear,
+	 * there really should be more of a description here...
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em> Hits</em>' attribute.
+	 * @see #setHits(long)
+	 * @see org.bimserver.models.store.StorePackage#getOutputFileCacheStatistics_Hits()
+	 * @model
+	 * @generated
+	 */
+	long getHits();
+
+	/**
+	 * Sets the value of the '{@link org.bimserver.models.store.OutputFileCacheStatistics#getHits <em> Hits</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em> Hits</em>' attribute.
+	 * @see #getHits()
+	 * @generated
+	 */
+	void setHits(long value);
+
+	/**
+	 * Returns the value of the '<em><b> Misses</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * If the meaning of the '<em> Misses</em>' attribute isn't clear,
+	 * there really should be more of a description here...
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em> Misses</em>' attribute.
+	 * @see #setMisses(long)
+	 * @see org.bimserver.models.store.StorePackage#getOutputFileCacheStatistics_Misses()
+	 * @model
+	 * @generated
+	 */
+	long getMisses();
+
+	/**
+	 * Sets the value of the '{@link org.bimserver.models.store.OutputFileCacheStatistics#getMisses <em> Misses</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em> Misses</em>' attribute.
+	 * @see #getMisses()
+	 * @generated
+	 */
+	void setMisses(long value);
+
+	/**
+	 * Returns the value of the '<em><b> Evictions</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * If the meaning of the '<em> Evictions</em>' attribute isn't clear,
+	 * there really should be more of a description here...
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em> Evictions</em>' attribute.
+	 * @see #setEvictions(long)
+	 * @see org.bimserver.models.store.StorePackage#getOutputFileCacheStatistics_Evictions()
+	 * @model
+	 * @generated
+	 */
+	long getEvictions();
+
+	/**
+	 * Sets the value of the '{@link org.bimserver.models.store.OutputFileCacheStatistics#getEvictions <em> Evictions</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em> Evictions</em>' attribute.
+	 * @see #getEvictions()
+	 * @generated
+	 */
+	void setEvictions(long value);
+
+	/**
+	 * Returns the value of the '<em><b> Evicted Bytes</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * If the meaning of the '<em> Evicted Bytes</em>' attribute isn't clear,
+	 * there really should be more of a description here...
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em> Evicted Bytes</em>' attribute.
+	 * @see #setEvictedBytes(long)
+	 * @see org.bimserver.models.store.StorePackage#getOutputFileCacheStatistics_EvictedBytes()
+	 * @model
+	 * @generated
+	 */
+	long getEvictedBytes();
+
+	/**
+	 * Sets the value of the '{@link org.bimserver.models.store.OutputFileCacheStatistics#getEvictedBytes <em> Evicted Bytes</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em> Evicted Bytes</em>' attribute.
+	 * @see #getEvictedBytes()
+	 * @generated
+	 */
+	void setEvictedBytes(long value);
+
+	/**
+	 * Returns the value of the '<em><b> Files</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * If the meaning of the '<em> Files</em>' attribute isn't clear,
+	 * there really should be more of a description here...
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em> Files</em>' attribute.
+	 * @see #setFiles(long)
+	 * @see org.bimserver.models.store.StorePackage#getOutputFileCacheStatistics_Files()
+	 * @model
+	 * @generated
+	 */
+	long getFiles();
+
+	/**
+	 * Sets the value of the '{@link org.bimserver.models.store.OutputFileCacheStatistics#getFiles <em> Files</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em> Files</em>' attribute.
+	 * @see #getFiles()
+	 * @generated
+	 */
+	void setFiles(long value);
+
+	/**
+	 * Returns the value of the '<em><b> Used Bytes</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * If the meaning of the '<em> Used Bytes</em>' attribute isn't clear,
+	 * there really should be more of a description here...
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em> Used Bytes</em>' attribute.
+	 * @see #setUsedBytes(long)
+	 * @see org.bimserver.models.store.StorePackage#getOutputFileCacheStatistics_UsedBytes()
+	 * @model
+	 * @generated
+	 */
+	long getUsedBytes();
+
+	/**
+	 * Sets the value of the '{@link org.bimserver.models.store.OutputFileCacheStatistics#getUsedBytes <em> Used Bytes</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em> Used Bytes</em>' attribute.
+	 * @see #getUsedBytes()
+	 * @generated
+	 */
+	void setUsedBytes(long value);
+
+	/**
+	 * Returns the value of the '<em><b> Max Bytes</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <p>
+	 * If the meaning of the '<em> Max Bytes</em>' attribute isn't clear,
+	 * there really should be more of a description here...
+	 * </p>
+	 * <!-- end-user-doc -->
+	 * @return the value of the '<em> Max Bytes</em>' attribute.
+	 * @see #setMaxBytes(long)
+	 * @see org.bimserver.models.store.StorePackage#getOutputFileCacheStatistics_MaxBytes()
+	 * @model
+	 * @generated
+	 */
+	long getMaxBytes();
+
+	/**
+	 * Sets the value of the '{@link org.bimserver.models.store.OutputFileCacheStatistics#getMaxBytes <em> Max Bytes</em>}' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @param value the new value of the '<em> Max Bytes</em>' attribute.
+	 * @see #getMaxBytes()
+	 * @generated
+	 */
+	void setMaxBytes(long value);
+
+} // OutputFileCacheStatistics
@@ -1015,6 +1015,15 @@ public interface StoreFactory extends EFactory {
 	 */
 	Tile createTile();
 
+	/**
+	 * Returns a new object of class '<em>Output File Cache Statistics</em>'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return a new object of class '<em>Output File Cache Statistics</em>'.
+	 * @generated
+	 */
+	OutputFileCacheStatistics createOutputFileCacheStatistics();
+
 	/**
 	 * Returns the package supported by this factory.
 	 * <!-- begin-user-doc -->
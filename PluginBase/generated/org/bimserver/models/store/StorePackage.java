@@ -7539,6 +7539,88 @@ public interface StorePackage extends EPackage {
 	 */
 	int TILE_FEATURE_COUNT = 4;
 
+	/**
+	 * The meta object id for the '{@link org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl <em>Output File Cache Statistics</em>}' class.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @see org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl
+	 * @see org.bimserver.models.store.impl.StorePackageImpl#getOutputFileCacheStatistics()
+	 * @generated
+	 */
+	int OUTPUT_FILE_CACHE_STATISTICS = 107;
+
+	/**
+	 * The feature id for the '<em><b> Hits</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int OUTPUT_FILE_CACHE_STATISTICS__HITS = 0;
+
+	/**
+	 * The feature id for the '<em><b> Misses</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int OUTPUT_FILE_CACHE_STATISTICS__MISSES = 1;
+
+	/**
+	 * The feature id for the '<em><b> Evictions</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int OUTPUT_FILE_CACHE_STATISTICS__EVICTIONS = 2;
+
+	/**
+	 * The feature id for the '<em><b> Evicted Bytes</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int OUTPUT_FILE_CACHE_STATISTICS__EVICTED_BYTES = 3;
+
+	/**
+	 * The feature id for the '<em><b> Files</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int OUTPUT_FILE_CACHE_STATISTICS__FILES = 4;
+
+	/**
+	 * The feature id for the '<em><b> Used Bytes</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int OUTPUT_FILE_CACHE_STATISTICS__USED_BYTES = 5;
+
+	/**
+	 * The feature id for the '<em><b> Max Bytes</b></em>' attribute.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int OUTPUT_FILE_CACHE_STATISTICS__MAX_BYTES = 6;
+
+	/**
+	 * The number of structural features of the '<em>Output File Cache Statistics</em>' class.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 * @ordered
+	 */
+	int OUTPUT_FILE_CACHE_STATISTICS_FEATURE_COUNT = 7;
+
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.UserType <em>User Type</em>}' enum.
 	 * <!-- begin-user-doc -->
@@ -7547,7 +7629,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getUserType()
 	 * @generated
 	 */
-	int USER_TYPE = 107;
+	int USER_TYPE = 108;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.SIPrefix <em>SI Prefix</em>}' enum.
@@ -7557,7 +7639,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getSIPrefix()
 	 * @generated
 	 */
-	int SI_PREFIX = 108;
+	int SI_PREFIX = 109;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.ObjectState <em>Object State</em>}' enum.
@@ -7567,7 +7649,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getObjectState()
 	 * @generated
 	 */
-	int OBJECT_STATE = 109;
+	int OBJECT_STATE = 110;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.CompareType <em>Compare Type</em>}' enum.
@@ -7577,7 +7659,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getCompareType()
 	 * @generated
 	 */
-	int COMPARE_TYPE = 110;
+	int COMPARE_TYPE = 111;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.ActionState <em>Action State</em>}' enum.
@@ -7587,7 +7669,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getActionState()
 	 * @generated
 	 */
-	int ACTION_STATE = 111;
+	int ACTION_STATE = 112;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.ServerState <em>Server State</em>}' enum.
@@ -7597,7 +7679,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getServerState()
 	 * @generated
 	 */
-	int SERVER_STATE = 112;
+	int SERVER_STATE = 113;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.Trigger <em>Trigger</em>}' enum.
@@ -7607,7 +7689,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getTrigger()
 	 * @generated
 	 */
-	int TRIGGER = 113;
+	int TRIGGER = 114;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.ServiceSimpleType <em>Service Simple Type</em>}' enum.
@@ -7617,7 +7699,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getServiceSimpleType()
 	 * @generated
 	 */
-	int SERVICE_SIMPLE_TYPE = 114;
+	int SERVICE_SIMPLE_TYPE = 115;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.PrimitiveEnum <em>Primitive Enum</em>}' enum.
@@ -7627,7 +7709,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getPrimitiveEnum()
 	 * @generated
 	 */
-	int PRIMITIVE_ENUM = 115;
+	int PRIMITIVE_ENUM = 116;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.NotifictionResultEnum <em>Notifiction Result Enum</em>}' enum.
@@ -7637,7 +7719,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getNotifictionResultEnum()
 	 * @generated
 	 */
-	int NOTIFICTION_RESULT_ENUM = 116;
+	int NOTIFICTION_RESULT_ENUM = 117;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.ProgressTopicType <em>Progress Topic Type</em>}' enum.
@@ -7647,7 +7729,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getProgressTopicType()
 	 * @generated
 	 */
-	int PROGRESS_TOPIC_TYPE = 117;
+	int PROGRESS_TOPIC_TYPE = 118;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.ModelCheckerResultType <em>Model Checker Result Type</em>}' enum.
@@ -7657,7 +7739,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getModelCheckerResultType()
 	 * @generated
 	 */
-	int MODEL_CHECKER_RESULT_TYPE = 118;
+	int MODEL_CHECKER_RESULT_TYPE = 119;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.SmtpProtocol <em>Smtp Protocol</em>}' enum.
@@ -7667,7 +7749,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getSmtpProtocol()
 	 * @generated
 	 */
-	int SMTP_PROTOCOL = 119;
+	int SMTP_PROTOCOL = 120;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.PluginBundleType <em>Plugin Bundle Type</em>}' enum.
@@ -7677,7 +7759,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getPluginBundleType()
 	 * @generated
 	 */
-	int PLUGIN_BUNDLE_TYPE = 120;
+	int PLUGIN_BUNDLE_TYPE = 121;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.PluginType <em>Plugin Type</em>}' enum.
@@ -7687,7 +7769,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getPluginType()
 	 * @generated
 	 */
-	int PLUGIN_TYPE = 121;
+	int PLUGIN_TYPE = 122;
 
 	/**
 	 * The meta object id for the '{@link org.bimserver.models.store.ServiceStatus <em>Service Status</em>}' enum.
@@ -7697,7 +7779,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getServiceStatus()
 	 * @generated
 	 */
-	int SERVICE_STATUS = 122;
+	int SERVICE_STATUS = 123;
 
 	/**
 	 * The meta object id for the '<em>Data Handler</em>' data type.
@@ -7707,7 +7789,7 @@ public interface StorePackage extends EPackage {
 	 * @see org.bimserver.models.store.impl.StorePackageImpl#getDataHandler()
 	 * @generated
 	 */
-	int DATA_HANDLER = 123;
+	int DATA_HANDLER = 124;
 
 	/**
 	 * Returns the meta object for class '{@link org.bimserver.models.store.Project <em>Project</em>}'.
@@ -14587,6 +14669,93 @@ public interface StorePackage extends EPackage {
 	 */
 	EReference getTile_Bounds();
 
+	/**
+	 * Returns the meta object for class '{@link org.bimserver.models.store.OutputFileCacheStatistics <em>Output File Cache Statistics</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for class '<em>Output File Cache Statistics</em>'.
+	 * @see org.bimserver.models.store.OutputFileCacheStatistics
+	 * @generated
+	 */
+	EClass getOutputFileCacheStatistics();
+
+	/**
+	 * Returns the meta object for the attribute '{@link org.bimserver.models.store.OutputFileCacheStatistics#getHits <em> Hits</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em> Hits</em>'.
+	 * @see org.bimserver.models.store.OutputFileCacheStatistics#getHits()
+	 * @see #getOutputFileCacheStatistics()
+	 * @generated
+	 */
+	EAttribute getOutputFileCacheStatistics_Hits();
+
+	/**
+	 * Returns the meta object for the attribute '{@link org.bimserver.models.store.OutputFileCacheStatistics#getMisses <em> Misses</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em> Misses</em>'.
+	 * @see org.bimserver.models.store.OutputFileCacheStatistics#getMisses()
+	 * @see #getOutputFileCacheStatistics()
+	 * @generated
+	 */
+	EAttribute getOutputFileCacheStatistics_Misses();
+
+	/**
+	 * Returns the meta object for the attribute '{@link org.bimserver.models.store.OutputFileCacheStatistics#getEvictions <em> Evictions</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em> Evictions</em>'.
+	 * @see org.bimserver.models.store.OutputFileCacheStatistics#getEvictions()
+	 * @see #getOutputFileCacheStatistics()
+	 * @generated
+	 */
+	EAttribute getOutputFileCacheStatistics_Evictions();
+
+	/**
+	 * Returns the meta object for the attribute '{@link org.bimserver.models.store.OutputFileCacheStatistics#getEvictedBytes <em> Evicted Bytes</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em> Evicted Bytes</em>'.
+	 * @see org.bimserver.models.store.OutputFileCacheStatistics#getEvictedBytes()
+	 * @see #getOutputFileCacheStatistics()
+	 * @generated
+	 */
+	EAttribute getOutputFileCacheStatistics_EvictedBytes();
+
+	/**
+	 * Returns the meta object for the attribute '{@link org.bimserver.models.store.OutputFileCacheStatistics#getFiles <em> Files</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em> Files</em>'.
+	 * @see org.bimserver.models.store.OutputFileCacheStatistics#getFiles()
+	 * @see #getOutputFileCacheStatistics()
+	 * @generated
+	 */
+	EAttribute getOutputFileCacheStatistics_Files();
+
+	/**
+	 * Returns the meta object for the attribute '{@link org.bimserver.models.store.OutputFileCacheStatistics#getUsedBytes <em> Used Bytes</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em> Used Bytes</em>'.
+	 * @see org.bimserver.models.store.OutputFileCacheStatistics#getUsedBytes()
+	 * @see #getOutputFileCacheStatistics()
+	 * @generated
+	 */
+	EAttribute getOutputFileCacheStatistics_UsedBytes();
+
+	/**
+	 * Returns the meta object for the attribute '{@link org.bimserver.models.store.OutputFileCacheStatistics#getMaxBytes <em> Max Bytes</em>}'.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @return the meta object for the attribute '<em> Max Bytes</em>'.
+	 * @see org.bimserver.models.store.OutputFileCacheStatistics#getMaxBytes()
+	 * @see #getOutputFileCacheStatistics()
+	 * @generated
+	 */
+	EAttribute getOutputFileCacheStatistics_MaxBytes();
+
 	/**
 	 * Returns the meta object for enum '{@link org.bimserver.models.store.UserType <em>User Type</em>}'.
 	 * <!-- begin-user-doc -->
@@ -20074,6 +20243,72 @@ public interface StorePackage extends EPackage {
 		 */
 		EReference TILE__BOUNDS = eINSTANCE.getTile_Bounds();
 
+		/**
+		 * The meta object literal for the '{@link org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl <em>Output File Cache Statistics</em>}' class.
+		 * <!-- begin-user-doc -->
+		 * <!-- end-user-doc -->
+		 * @see org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl
+		 * @see org.bimserver.models.store.impl.StorePackageImpl#getOutputFileCacheStatistics()
+		 * @generated
+		 */
+		EClass OUTPUT_FILE_CACHE_STATISTICS = eINSTANCE.getOutputFileCacheStatistics();
+
+		/**
+		 * The meta object literal for the '<em><b> Hits</b></em>' attribute feature.
+		 * <!-- begin-user-doc -->
+		 * <!-- end-user-doc -->
+		 * @generated
+		 */
+		EAttribute OUTPUT_FILE_CACHE_STATISTICS__HITS = eINSTANCE.getOutputFileCacheStatistics_Hits();
+
+		/**
+		 * The meta object literal for the '<em><b> Misses</b></em>' attribute feature.
+		 * <!-- begin-user-doc -->
+		 * <!-- end-user-doc -->
+		 * @generated
+		 */
+		EAttribute OUTPUT_FILE_CACHE_STATISTICS__MISSES = eINSTANCE.getOutputFileCacheStatistics_Misses();
+
+		/**
+		 * The meta object literal for the '<em><b> Evictions</b></em>' attribute feature.
+		 * <!-- begin-user-doc -->
+		 * <!-- end-user-doc -->
+		 * @generated
+		 */
+		EAttribute OUTPUT_FILE_CACHE_STATISTICS__EVICTIONS = eINSTANCE.getOutputFileCacheStatistics_Evictions();
+
+		/**
+		 * The meta object literal for the '<em><b> Evicted Bytes</b></em>' attribute feature.
+		 * <!-- begin-user-doc -->
+		 * <!-- end-user-doc -->
+		 * @generated
+		 */
+		EAttribute OUTPUT_FILE_CACHE_STATISTICS__EVICTED_BYTES = eINSTANCE.getOutputFileCacheStatistics_EvictedBytes();
+
+		/**
+		 * The meta object literal for the '<em><b> Files</b></em>' attribute feature.
+		 * <!-- begin-user-doc -->
+		 * <!-- end-user-doc -->
+		 * @generated
+		 */
+		EAttribute OUTPUT_FILE_CACHE_STATISTICS__FILES = eINSTANCE.getOutputFileCacheStatistics_Files();
+
+		/**
+		 * The meta object literal for the '<em><b> Used Bytes</b></em>' attribute feature.
+		 * <!-- begin-user-doc -->
+		 * <!-- end-user-doc -->
+		 * @generated
+		 */
+		EAttribute OUTPUT_FILE_CACHE_STATISTICS__USED_BYTES = eINSTANCE.getOutputFileCacheStatistics_UsedBytes();
+
+		/**
+		 * The meta object literal for the '<em><b> Max Bytes</b></em>' attribute feature.
+		 * <!-- begin-user-doc -->
+		 * <!-- end-user-doc -->
+		 * @generated
+		 */
+		EAttribute OUTPUT_FILE_CACHE_STATISTICS__MAX_BYTES = eINSTANCE.getOutputFileCacheStatistics_MaxBytes();
+
 		/**
 		 * The meta object literal for the '{@link org.bimserver.models.store.UserType <em>User Type</em>}' enum.
 		 * <!-- begin-user-doc -->
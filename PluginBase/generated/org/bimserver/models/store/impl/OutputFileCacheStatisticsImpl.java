@@ -0,0 +1,230 @@
+/**
+ * Copyright (C) 2009-2014 BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bimserver.models.store.impl;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import org.bimserver.emf.IdEObjectImpl;
+import org.bimserver.models.store.OutputFileCacheStatistics;
+import org.bimserver.models.store.StorePackage;
+import org.eclipse.emf.ecore.EClass;
+
+/**
+ * <!-- begin-user-doc -->
+ * An implementation of the model object '<em><b>Output File Cache Statistics</b></em>'.
+ * <!-- end-user-doc -->
+ * <p>
+ * The following features are implemented:
+ * </p>
+ * <ul>
+ *   <li>{@link org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl#getHits <em> Hits</em>}</li>
+ *   <li>{@link org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl#getMisses <em> Misses</em>}</li>
+ *   <li>{@link org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl#getEvictions <em> Evictions</em>}</li>
+ *   <li>{@link org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl#getEvictedBytes <em> Evicted Bytes</em>}</li>
+ *   <li>{@link org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl#getFiles <em> Files</em>}</li>
+ *   <li>{@link org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl#getUsedBytes <em> Used Bytes</em>}</li>
+ *   <li>{@link org.bimserver.models.store.impl.OutputFileCacheStatisticsImpl#getMaxBytes <em> Max Bytes</em>}</li>
+ * </ul>
+ *
+ * @generated
+ */
+public class OutputFileCacheStatisticsImpl extends IdEObjectImpl implements OutputFileCacheStatistics {
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected OutputFileCacheStatisticsImpl() {
+		super();
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	protected EClass eStaticClass() {
+		return StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	protected int eStaticFeatureCount() {
+		return 0;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public long getHits() {
+		return (Long) eGet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__HITS, true);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public void setHits(long newHits) {
+		eSet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__HITS, newHits);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public long getMisses() {
+		return (Long) eGet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__MISSES, true);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public void setMisses(long newMisses) {
+		eSet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__MISSES, newMisses);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public long getEvictions() {
+		return (Long) eGet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__EVICTIONS, true);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public void setEvictions(long newEvictions) {
+		eSet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__EVICTIONS, newEvictions);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public long getEvictedBytes() {
+		return (Long) eGet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__EVICTED_BYTES, true);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public void setEvictedBytes(long newEvictedBytes) {
+		eSet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__EVICTED_BYTES, newEvictedBytes);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public long getFiles() {
+		return (Long) eGet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__FILES, true);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public void setFiles(long newFiles) {
+		eSet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__FILES, newFiles);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public long getUsedBytes() {
+		return (Long) eGet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__USED_BYTES, true);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public void setUsedBytes(long newUsedBytes) {
+		eSet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__USED_BYTES, newUsedBytes);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public long getMaxBytes() {
+		return (Long) eGet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__MAX_BYTES, true);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public void setMaxBytes(long newMaxBytes) {
+		eSet(StorePackage.Literals.OUTPUT_FILE_CACHE_STATISTICS__MAX_BYTES, newMaxBytes);
+	}
+
+} //OutputFileCacheStatisticsImpl
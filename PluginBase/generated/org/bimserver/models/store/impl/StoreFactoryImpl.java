@@ -300,6 +300,8 @@ public class StoreFactoryImpl extends EFactoryImpl implements StoreFactory {
 			return (EObject) createLongCheckinActionState();
 		case StorePackage.TILE:
 			return (EObject) createTile();
+		case StorePackage.OUTPUT_FILE_CACHE_STATISTICS:
+			return (EObject) createOutputFileCacheStatistics();
 		default:
 			throw new IllegalArgumentException("The class '" + eClass.getName() + "' is not a valid classifier");
 		}
@@ -1576,6 +1578,17 @@ public class StoreFactoryImpl extends EFactoryImpl implements StoreFactory {
 		return tile;
 	}
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public OutputFileCacheStatistics createOutputFileCacheStatistics() {
+		OutputFileCacheStatisticsImpl outputFileCacheStatistics = new OutputFileCacheStatisticsImpl();
+		return outputFileCacheStatistics;
+	}
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -822,6 +822,13 @@ public class StorePackageImpl extends EPackageImpl implements StorePackage {
 	 */
 	private EClass tileEClass = null;
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	private EClass outputFileCacheStatisticsEClass = null;
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
@@ -7690,6 +7697,89 @@ public class StorePackageImpl extends EPackageImpl implements StorePackage {
 		return (EReference) getTile().getEStructuralFeatures().get(3);
 	}
 
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public EClass getOutputFileCacheStatistics() {
+		if (outputFileCacheStatisticsEClass == null) {
+			outputFileCacheStatisticsEClass = (EClass) EPackage.Registry.INSTANCE.getEPackage(StorePackage.eNS_URI).getEClassifiers().get(124);
+		}
+		return outputFileCacheStatisticsEClass;
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public EAttribute getOutputFileCacheStatistics_Hits() {
+		return (EAttribute) getOutputFileCacheStatistics().getEStructuralFeatures().get(0);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public EAttribute getOutputFileCacheStatistics_Misses() {
+		return (EAttribute) getOutputFileCacheStatistics().getEStructuralFeatures().get(1);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public EAttribute getOutputFileCacheStatistics_Evictions() {
+		return (EAttribute) getOutputFileCacheStatistics().getEStructuralFeatures().get(2);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public EAttribute getOutputFileCacheStatistics_EvictedBytes() {
+		return (EAttribute) getOutputFileCacheStatistics().getEStructuralFeatures().get(3);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public EAttribute getOutputFileCacheStatistics_Files() {
+		return (EAttribute) getOutputFileCacheStatistics().getEStructuralFeatures().get(4);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public EAttribute getOutputFileCacheStatistics_UsedBytes() {
+		return (EAttribute) getOutputFileCacheStatistics().getEStructuralFeatures().get(5);
+	}
+
+	/**
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	@Override
+	public EAttribute getOutputFileCacheStatistics_MaxBytes() {
+		return (EAttribute) getOutputFileCacheStatistics().getEStructuralFeatures().get(6);
+	}
+
 	/**
 	 * <!-- begin-user-doc -->
 	 * <!-- end-user-doc -->
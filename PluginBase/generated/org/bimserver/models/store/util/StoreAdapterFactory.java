@@ -629,6 +629,11 @@ public class StoreAdapterFactory extends AdapterFactoryImpl {
 			return createTileAdapter();
 		}
 
+		@Override
+		public Adapter caseOutputFileCacheStatistics(OutputFileCacheStatistics object) {
+			return createOutputFileCacheStatisticsAdapter();
+		}
+
 		@Override
 		public Adapter defaultCase(EObject object) {
 			return createEObjectAdapter();
@@ -2146,6 +2151,20 @@ public class StoreAdapterFactory extends AdapterFactoryImpl {
 		return null;
 	}
 
+	/**
+	 * Creates a new adapter for an object of class '{@link org.bimserver.models.store.OutputFileCacheStatistics <em>Output File Cache Statistics</em>}'.
+	 * <!-- begin-user-doc -->
+	 * This default implementation returns null so that we can easily ignore cases;
+	 * it's useful to ignore a case when inheritance will catch all the cases anyway.
+	 * <!-- end-user-doc -->
+	 * @return the new adapter.
+	 * @see org.bimserver.models.store.OutputFileCacheStatistics
+	 * @generated
+	 */
+	public Adapter createOutputFileCacheStatisticsAdapter() {
+		return null;
+	}
+
 	/**
 	 * Creates a new adapter for the default case.
 	 * <!-- begin-user-doc -->
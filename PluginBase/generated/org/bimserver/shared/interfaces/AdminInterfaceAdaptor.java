@@ -70,6 +70,10 @@ public class AdminInterfaceAdaptor implements org.bimserver.shared.interfaces.Ad
 		return null;
 	}
 	
+	public org.bimserver.interfaces.objects.SOutputFileCacheStatistics getOutputFileCacheStatistics() throws UserException, ServerException {
+		return null;
+	}
+	
 	public java.lang.String getProtocolBuffersFile(java.lang.String interfaceName) throws UserException, ServerException {
 		return null;
 	}
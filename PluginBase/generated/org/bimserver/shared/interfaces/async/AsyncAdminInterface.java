@@ -94,6 +94,11 @@ public class AsyncAdminInterface {
 		void error(Throwable e);
 	}
 	
+	public interface GetOutputFileCacheStatisticsCallback {
+		void success(org.bimserver.interfaces.objects.SOutputFileCacheStatistics result);
+		void error(Throwable e);
+	}
+	
 	public interface GetProtocolBuffersFileCallback {
 		void success(java.lang.String result);
 		void error(Throwable e);
@@ -310,6 +315,18 @@ public class AsyncAdminInterface {
 		});
 	}
 	
+	public void getOutputFileCacheStatistics(final GetOutputFileCacheStatisticsCallback callback) {
+		executorService.submit(new Runnable(){
+			public void run(){
+				try {
+					callback.success(syncService.getOutputFileCacheStatistics());
+				} catch (Throwable e) {
+					callback.error(e);
+				}
+			}
+		});
+	}
+	
 	public void getProtocolBuffersFile(final java.lang.String interfaceName, final GetProtocolBuffersFileCallback callback) {
 		executorService.submit(new Runnable(){
 			public void run(){
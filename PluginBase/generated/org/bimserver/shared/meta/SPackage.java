@@ -197,6 +197,7 @@ public class SPackage {
 		Class.forName("org.bimserver.interfaces.objects.SDensity");
 		Class.forName("org.bimserver.interfaces.objects.SLongCheckinActionState");
 		Class.forName("org.bimserver.interfaces.objects.STile");
+		Class.forName("org.bimserver.interfaces.objects.SOutputFileCacheStatistics");
 		} catch (ClassNotFoundException e) {
 			LOGGER.error("", e);
 		}
@@ -0,0 +1,252 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class AdminInterfaceImpl implements org.bimserver.shared.interfaces.AdminInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public AdminInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public java.lang.Integer clearOutputFileCache() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Integer) this.reflector.callMethod("AdminInterface", "clearOutputFileCache", java.lang.Integer.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void disablePlugin(java.lang.String name) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("AdminInterface", "disablePlugin", void.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void enablePlugin(java.lang.String name) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("AdminInterface", "enablePlugin", void.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void gc() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("AdminInterface", "gc", void.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> getAllPlugins() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("AdminInterface", "getAllPlugins", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SBimServerInfo getBimServerInfo() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SBimServerInfo) this.reflector.callMethod("AdminInterface", "getBimServerInfo", org.bimserver.interfaces.objects.SBimServerInfo.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SDatabaseInformation getDatabaseInformation() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SDatabaseInformation) this.reflector.callMethod("AdminInterface", "getDatabaseInformation", org.bimserver.interfaces.objects.SDatabaseInformation.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SJavaInfo getJavaInfo() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SJavaInfo) this.reflector.callMethod("AdminInterface", "getJavaInfo", org.bimserver.interfaces.objects.SJavaInfo.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.Date getLastDatabaseReset() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.Date) this.reflector.callMethod("AdminInterface", "getLastDatabaseReset", java.util.Date.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SVersion getLatestVersion() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SVersion) this.reflector.callMethod("AdminInterface", "getLatestVersion", org.bimserver.interfaces.objects.SVersion.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SLogAction> getLogs() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SLogAction>) this.reflector.callMethod("AdminInterface", "getLogs", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SMetrics getMetrics() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SMetrics) this.reflector.callMethod("AdminInterface", "getMetrics", org.bimserver.interfaces.objects.SMetrics.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SMigration> getMigrations() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SMigration>) this.reflector.callMethod("AdminInterface", "getMigrations", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SOutputFileCacheStatistics getOutputFileCacheStatistics() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SOutputFileCacheStatistics) this.reflector.callMethod("AdminInterface", "getOutputFileCacheStatistics", org.bimserver.interfaces.objects.SOutputFileCacheStatistics.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String getProtocolBuffersFile(java.lang.String interfaceName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("AdminInterface", "getProtocolBuffersFile", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("interfaceName", interfaceName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SServerInfo getServerInfo() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SServerInfo) this.reflector.callMethod("AdminInterface", "getServerInfo", org.bimserver.interfaces.objects.SServerInfo.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String getServerLog() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("AdminInterface", "getServerLog", java.lang.String.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.Date getServerStartTime() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.Date) this.reflector.callMethod("AdminInterface", "getServerStartTime", java.util.Date.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SSystemInfo getSystemInfo() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SSystemInfo) this.reflector.callMethod("AdminInterface", "getSystemInfo", org.bimserver.interfaces.objects.SSystemInfo.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SVersion getVersion() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SVersion) this.reflector.callMethod("AdminInterface", "getVersion", org.bimserver.interfaces.objects.SVersion.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void migrateDatabase() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("AdminInterface", "migrateDatabase", void.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void regenerateGeometry(java.lang.Long croid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("AdminInterface", "regenerateGeometry", void.class, new org.bimserver.shared.reflector.KeyValuePair("croid", croid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setup(java.lang.String siteAddress, java.lang.String serverName, java.lang.String serverDescription, java.lang.String serverIcon, java.lang.String adminName, java.lang.String adminUsername, java.lang.String adminPassword) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("AdminInterface", "setup", void.class, new org.bimserver.shared.reflector.KeyValuePair("siteAddress", siteAddress), new org.bimserver.shared.reflector.KeyValuePair("serverName", serverName), new org.bimserver.shared.reflector.KeyValuePair("serverDescription", serverDescription), new org.bimserver.shared.reflector.KeyValuePair("serverIcon", serverIcon), new org.bimserver.shared.reflector.KeyValuePair("adminName", adminName), new org.bimserver.shared.reflector.KeyValuePair("adminUsername", adminUsername), new org.bimserver.shared.reflector.KeyValuePair("adminPassword", adminPassword));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void shutdown() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("AdminInterface", "shutdown", void.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean upgradePossible() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("AdminInterface", "upgradePossible", java.lang.Boolean.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class AdminInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.AdminInterface publicInterface;
+
+	public AdminInterfaceReflector(org.bimserver.shared.interfaces.AdminInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "clearOutputFileCache":
+				return publicInterface.clearOutputFileCache();
+			case "disablePlugin":
+				publicInterface.disablePlugin((java.lang.String) args[0].getValue());
+				return null;
+			case "enablePlugin":
+				publicInterface.enablePlugin((java.lang.String) args[0].getValue());
+				return null;
+			case "gc":
+				publicInterface.gc();
+				return null;
+			case "getAllPlugins":
+				return publicInterface.getAllPlugins();
+			case "getBimServerInfo":
+				return publicInterface.getBimServerInfo();
+			case "getDatabaseInformation":
+				return publicInterface.getDatabaseInformation();
+			case "getJavaInfo":
+				return publicInterface.getJavaInfo();
+			case "getLastDatabaseReset":
+				return publicInterface.getLastDatabaseReset();
+			case "getLatestVersion":
+				return publicInterface.getLatestVersion();
+			case "getLogs":
+				return publicInterface.getLogs();
+			case "getMetrics":
+				return publicInterface.getMetrics();
+			case "getMigrations":
+				return publicInterface.getMigrations();
+			case "getOutputFileCacheStatistics":
+				return publicInterface.getOutputFileCacheStatistics();
+			case "getProtocolBuffersFile":
+				return publicInterface.getProtocolBuffersFile((java.lang.String) args[0].getValue());
+			case "getServerInfo":
+				return publicInterface.getServerInfo();
+			case "getServerLog":
+				return publicInterface.getServerLog();
+			case "getServerStartTime":
+				return publicInterface.getServerStartTime();
+			case "getSystemInfo":
+				return publicInterface.getSystemInfo();
+			case "getVersion":
+				return publicInterface.getVersion();
+			case "migrateDatabase":
+				publicInterface.migrateDatabase();
+				return null;
+			case "regenerateGeometry":
+				publicInterface.regenerateGeometry((java.lang.Long) args[0].getValue());
+				return null;
+			case "setup":
+				publicInterface.setup((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue(), (java.lang.String) args[4].getValue(), (java.lang.String) args[5].getValue(), (java.lang.String) args[6].getValue());
+				return null;
+			case "shutdown":
+				publicInterface.shutdown();
+				return null;
+			case "upgradePossible":
+				return publicInterface.upgradePossible();
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
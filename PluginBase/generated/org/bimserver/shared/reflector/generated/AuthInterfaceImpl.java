@@ -0,0 +1,117 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class AuthInterfaceImpl implements org.bimserver.shared.interfaces.AuthInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public AuthInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public java.lang.Boolean changePassword(java.lang.Long uoid, java.lang.String oldPassword, java.lang.String newPassword) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("AuthInterface", "changePassword", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid), new org.bimserver.shared.reflector.KeyValuePair("oldPassword", oldPassword), new org.bimserver.shared.reflector.KeyValuePair("newPassword", newPassword));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SAccessMethod getAccessMethod() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SAccessMethod) this.reflector.callMethod("AuthInterface", "getAccessMethod", org.bimserver.interfaces.objects.SAccessMethod.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SUser getLoggedInUser() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SUser) this.reflector.callMethod("AuthInterface", "getLoggedInUser", org.bimserver.interfaces.objects.SUser.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean isLoggedIn() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("AuthInterface", "isLoggedIn", java.lang.Boolean.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String login(java.lang.String username, java.lang.String password) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("AuthInterface", "login", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("username", username), new org.bimserver.shared.reflector.KeyValuePair("password", password));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String loginUserToken(java.lang.String token) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("AuthInterface", "loginUserToken", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("token", token));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void logout() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("AuthInterface", "logout", void.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void requestPasswordChange(java.lang.String username, java.lang.String resetUrl, java.lang.Boolean includeSiteAddress) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("AuthInterface", "requestPasswordChange", void.class, new org.bimserver.shared.reflector.KeyValuePair("username", username), new org.bimserver.shared.reflector.KeyValuePair("resetUrl", resetUrl), new org.bimserver.shared.reflector.KeyValuePair("includeSiteAddress", includeSiteAddress));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setHash(java.lang.Long uoid, byte[] hash, byte[] salt) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("AuthInterface", "setHash", void.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid), new org.bimserver.shared.reflector.KeyValuePair("hash", hash), new org.bimserver.shared.reflector.KeyValuePair("salt", salt));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SUser validateAccount(java.lang.Long uoid, java.lang.String token, java.lang.String password) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SUser) this.reflector.callMethod("AuthInterface", "validateAccount", org.bimserver.interfaces.objects.SUser.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid), new org.bimserver.shared.reflector.KeyValuePair("token", token), new org.bimserver.shared.reflector.KeyValuePair("password", password));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class AuthInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.AuthInterface publicInterface;
+
+	public AuthInterfaceReflector(org.bimserver.shared.interfaces.AuthInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "changePassword":
+				return publicInterface.changePassword((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getAccessMethod":
+				return publicInterface.getAccessMethod();
+			case "getLoggedInUser":
+				return publicInterface.getLoggedInUser();
+			case "isLoggedIn":
+				return publicInterface.isLoggedIn();
+			case "login":
+				return publicInterface.login((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "loginUserToken":
+				return publicInterface.loginUserToken((java.lang.String) args[0].getValue());
+			case "logout":
+				publicInterface.logout();
+				return null;
+			case "requestPasswordChange":
+				publicInterface.requestPasswordChange((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.Boolean) args[2].getValue());
+				return null;
+			case "setHash":
+				publicInterface.setHash((java.lang.Long) args[0].getValue(), (byte[]) args[1].getValue(), (byte[]) args[2].getValue());
+				return null;
+			case "validateAccount":
+				return publicInterface.validateAccount((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue());
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
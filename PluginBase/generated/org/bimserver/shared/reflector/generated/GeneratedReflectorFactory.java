@@ -0,0 +1,95 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+public class GeneratedReflectorFactory implements org.bimserver.shared.reflector.ReflectorFactory {
+	public static final String SIGNATURE = "8d7bbbb96cde9e7f7cff5fa1817e74a0698e44a7";
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends org.bimserver.shared.interfaces.PublicInterface> T createReflector(Class<T> clazz, org.bimserver.shared.reflector.Reflector reflector) {
+		switch (clazz.getSimpleName()) {
+		case "ServiceInterface":
+			return (T) new ServiceInterfaceImpl(reflector);
+		case "NewServicesInterface":
+			return (T) new NewServicesInterfaceImpl(reflector);
+		case "AdminInterface":
+			return (T) new AdminInterfaceImpl(reflector);
+		case "MetaInterface":
+			return (T) new MetaInterfaceImpl(reflector);
+		case "SettingsInterface":
+			return (T) new SettingsInterfaceImpl(reflector);
+		case "AuthInterface":
+			return (T) new AuthInterfaceImpl(reflector);
+		case "PluginInterface":
+			return (T) new PluginInterfaceImpl(reflector);
+		case "NotificationInterface":
+			return (T) new NotificationInterfaceImpl(reflector);
+		case "RemoteServiceInterface":
+			return (T) new RemoteServiceInterfaceImpl(reflector);
+		case "LowLevelInterface":
+			return (T) new LowLevelInterfaceImpl(reflector);
+		case "NotificationRegistryInterface":
+			return (T) new NotificationRegistryInterfaceImpl(reflector);
+		case "OAuthInterface":
+			return (T) new OAuthInterfaceImpl(reflector);
+		default:
+			return null;
+		}
+	}
+
+	@Override
+	public <T extends org.bimserver.shared.interfaces.PublicInterface, K extends org.bimserver.shared.interfaces.PublicInterface> org.bimserver.shared.reflector.Reflector createReflector(Class<K> clazz, T t) {
+		switch (clazz.getSimpleName()) {
+		case "ServiceInterface":
+			return new ServiceInterfaceReflector((org.bimserver.shared.interfaces.ServiceInterface) t);
+		case "NewServicesInterface":
+			return new NewServicesInterfaceReflector((org.bimserver.shared.interfaces.NewServicesInterface) t);
+		case "AdminInterface":
+			return new AdminInterfaceReflector((org.bimserver.shared.interfaces.AdminInterface) t);
+		case "MetaInterface":
+			return new MetaInterfaceReflector((org.bimserver.shared.interfaces.MetaInterface) t);
+		case "SettingsInterface":
+			return new SettingsInterfaceReflector((org.bimserver.shared.interfaces.SettingsInterface) t);
+		case "AuthInterface":
+			return new AuthInterfaceReflector((org.bimserver.shared.interfaces.AuthInterface) t);
+		case "PluginInterface":
+			return new PluginInterfaceReflector((org.bimserver.shared.interfaces.PluginInterface) t);
+		case "NotificationInterface":
+			return new NotificationInterfaceReflector((org.bimserver.shared.interfaces.NotificationInterface) t);
+		case "RemoteServiceInterface":
+			return new RemoteServiceInterfaceReflector((org.bimserver.shared.interfaces.RemoteServiceInterface) t);
+		case "LowLevelInterface":
+			return new LowLevelInterfaceReflector((org.bimserver.shared.interfaces.LowLevelInterface) t);
+		case "NotificationRegistryInterface":
+			return new NotificationRegistryInterfaceReflector((org.bimserver.shared.interfaces.NotificationRegistryInterface) t);
+		case "OAuthInterface":
+			return new OAuthInterfaceReflector((org.bimserver.shared.interfaces.OAuthInterface) t);
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Throws the exception without wrapping it, checked exceptions that are not declared included
+	 */
+	@SuppressWarnings("unchecked")
+	static <E extends Throwable> RuntimeException rethrow(Throwable e) throws E {
+		throw (E) e;
+	}
+}
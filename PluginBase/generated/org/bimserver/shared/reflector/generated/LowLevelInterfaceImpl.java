@@ -0,0 +1,576 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class LowLevelInterfaceImpl implements org.bimserver.shared.interfaces.LowLevelInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public LowLevelInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public void abortTransaction(java.lang.Long tid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "abortTransaction", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void addBooleanAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Boolean value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "addBooleanAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void addDoubleAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Double value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "addDoubleAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void addIntegerAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "addIntegerAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void addReference(java.lang.Long tid, java.lang.Long oid, java.lang.String referenceName, java.lang.Long referenceOid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "addReference", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("referenceName", referenceName), new org.bimserver.shared.reflector.KeyValuePair("referenceOid", referenceOid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void addStringAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.String value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "addStringAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long commitTransaction(java.lang.Long tid, java.lang.String comment, java.lang.Boolean regenerateAllGeometry) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("LowLevelInterface", "commitTransaction", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("comment", comment), new org.bimserver.shared.reflector.KeyValuePair("regenerateAllGeometry", regenerateAllGeometry));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Integer count(java.lang.Long roid, java.lang.String className) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Integer) this.reflector.callMethod("LowLevelInterface", "count", java.lang.Integer.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("className", className));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long createObject(java.lang.Long tid, java.lang.String className, java.lang.Boolean generateGuid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("LowLevelInterface", "createObject", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("className", className), new org.bimserver.shared.reflector.KeyValuePair("generateGuid", generateGuid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean getBooleanAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("LowLevelInterface", "getBooleanAttribute", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean getBooleanAttributeAtIndex(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer index) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("LowLevelInterface", "getBooleanAttributeAtIndex", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("index", index));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.Boolean> getBooleanAttributes(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<java.lang.Boolean>) this.reflector.callMethod("LowLevelInterface", "getBooleanAttributes", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public byte[] getByteArrayAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (byte[]) this.reflector.callMethod("LowLevelInterface", "getByteArrayAttribute", byte[].class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<byte[]> getByteArrayAttributes(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<byte[]>) this.reflector.callMethod("LowLevelInterface", "getByteArrayAttributes", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SDataObject getDataObjectByGuid(java.lang.Long roid, java.lang.String guid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SDataObject) this.reflector.callMethod("LowLevelInterface", "getDataObjectByGuid", org.bimserver.interfaces.objects.SDataObject.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("guid", guid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SDataObject getDataObjectByOid(java.lang.Long roid, java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SDataObject) this.reflector.callMethod("LowLevelInterface", "getDataObjectByOid", org.bimserver.interfaces.objects.SDataObject.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SDataObject> getDataObjects(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SDataObject>) this.reflector.callMethod("LowLevelInterface", "getDataObjects", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SDataObject> getDataObjectsByType(java.lang.Long roid, java.lang.String packageName, java.lang.String className, java.lang.Boolean flat) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SDataObject>) this.reflector.callMethod("LowLevelInterface", "getDataObjectsByType", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("packageName", packageName), new org.bimserver.shared.reflector.KeyValuePair("className", className), new org.bimserver.shared.reflector.KeyValuePair("flat", flat));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Double getDoubleAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Double) this.reflector.callMethod("LowLevelInterface", "getDoubleAttribute", java.lang.Double.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Double getDoubleAttributeAtIndex(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer index) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Double) this.reflector.callMethod("LowLevelInterface", "getDoubleAttributeAtIndex", java.lang.Double.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("index", index));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.Double> getDoubleAttributes(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<java.lang.Double>) this.reflector.callMethod("LowLevelInterface", "getDoubleAttributes", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String getEnumAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("LowLevelInterface", "getEnumAttribute", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Integer getIntegerAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Integer) this.reflector.callMethod("LowLevelInterface", "getIntegerAttribute", java.lang.Integer.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Integer getIntegerAttributeAtIndex(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer index) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Integer) this.reflector.callMethod("LowLevelInterface", "getIntegerAttributeAtIndex", java.lang.Integer.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("index", index));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.Integer> getIntegerAttributes(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<java.lang.Integer>) this.reflector.callMethod("LowLevelInterface", "getIntegerAttributes", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long getLongAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("LowLevelInterface", "getLongAttribute", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long getLongAttributeAtIndex(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer index) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("LowLevelInterface", "getLongAttributeAtIndex", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("index", index));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long getReference(java.lang.Long tid, java.lang.Long oid, java.lang.String referenceName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("LowLevelInterface", "getReference", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("referenceName", referenceName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.Long> getReferences(java.lang.Long tid, java.lang.Long oid, java.lang.String referenceName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<java.lang.Long>) this.reflector.callMethod("LowLevelInterface", "getReferences", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("referenceName", referenceName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String getStringAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("LowLevelInterface", "getStringAttribute", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.String> getStringAttributes(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<java.lang.String>) this.reflector.callMethod("LowLevelInterface", "getStringAttributes", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void removeAllReferences(java.lang.Long tid, java.lang.Long oid, java.lang.String referenceName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "removeAllReferences", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("referenceName", referenceName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void removeAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer index) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "removeAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("index", index));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void removeObject(java.lang.Long tid, java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "removeObject", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void removeReference(java.lang.Long tid, java.lang.Long oid, java.lang.String referenceName, java.lang.Integer index) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "removeReference", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("referenceName", referenceName), new org.bimserver.shared.reflector.KeyValuePair("index", index));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void removeReferenceByOid(java.lang.Long tid, java.lang.Long oid, java.lang.String referenceName, java.lang.Long referencedOid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "removeReferenceByOid", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("referenceName", referenceName), new org.bimserver.shared.reflector.KeyValuePair("referencedOid", referencedOid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setBooleanAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Boolean value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setBooleanAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setBooleanAttributeAtIndex(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer index, java.lang.Boolean value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setBooleanAttributeAtIndex", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("index", index), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setBooleanAttributes(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.util.List<java.lang.Boolean> values) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setBooleanAttributes", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("values", values));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setByteArrayAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Byte[] value) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setByteArrayAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setDoubleAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Double value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setDoubleAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setDoubleAttributeAtIndex(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer index, java.lang.Double value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setDoubleAttributeAtIndex", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("index", index), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setDoubleAttributes(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.util.List<java.lang.Double> values) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setDoubleAttributes", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("values", values));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setEnumAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.String value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setEnumAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setIntegerAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setIntegerAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setIntegerAttributeAtIndex(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer index, java.lang.Integer value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setIntegerAttributeAtIndex", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("index", index), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setIntegerAttributes(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.util.List<java.lang.Integer> values) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setIntegerAttributes", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("values", values));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setLongAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Long value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setLongAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setLongAttributeAtIndex(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer index, java.lang.Long value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setLongAttributeAtIndex", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("index", index), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setLongAttributes(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.util.List<java.lang.Long> values) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setLongAttributes", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("values", values));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setReference(java.lang.Long tid, java.lang.Long oid, java.lang.String referenceName, java.lang.Long referenceOid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setReference", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("referenceName", referenceName), new org.bimserver.shared.reflector.KeyValuePair("referenceOid", referenceOid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setStringAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.String value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setStringAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setStringAttributeAtIndex(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.Integer index, java.lang.String value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setStringAttributeAtIndex", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("index", index), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setWrappedBooleanAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.String type, java.lang.Boolean value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setWrappedBooleanAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setWrappedDoubleAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.String type, java.lang.Double value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setWrappedDoubleAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setWrappedIntegerAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.String type, java.lang.Integer value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setWrappedIntegerAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setWrappedLongAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.String type, java.lang.Long value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setWrappedLongAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setWrappedStringAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName, java.lang.String type, java.lang.String value) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "setWrappedStringAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName), new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("value", value));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long startTransaction(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("LowLevelInterface", "startTransaction", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unsetAttribute(java.lang.Long tid, java.lang.Long oid, java.lang.String attributeName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "unsetAttribute", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("attributeName", attributeName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unsetReference(java.lang.Long tid, java.lang.Long oid, java.lang.String referenceName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("LowLevelInterface", "unsetReference", void.class, new org.bimserver.shared.reflector.KeyValuePair("tid", tid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid), new org.bimserver.shared.reflector.KeyValuePair("referenceName", referenceName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,196 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class LowLevelInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.LowLevelInterface publicInterface;
+
+	public LowLevelInterfaceReflector(org.bimserver.shared.interfaces.LowLevelInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "abortTransaction":
+				publicInterface.abortTransaction((java.lang.Long) args[0].getValue());
+				return null;
+			case "addBooleanAttribute":
+				publicInterface.addBooleanAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Boolean) args[3].getValue());
+				return null;
+			case "addDoubleAttribute":
+				publicInterface.addDoubleAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Double) args[3].getValue());
+				return null;
+			case "addIntegerAttribute":
+				publicInterface.addIntegerAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue());
+				return null;
+			case "addReference":
+				publicInterface.addReference((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Long) args[3].getValue());
+				return null;
+			case "addStringAttribute":
+				publicInterface.addStringAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue());
+				return null;
+			case "commitTransaction":
+				return publicInterface.commitTransaction((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.Boolean) args[2].getValue());
+			case "count":
+				return publicInterface.count((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "createObject":
+				return publicInterface.createObject((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.Boolean) args[2].getValue());
+			case "getBooleanAttribute":
+				return publicInterface.getBooleanAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getBooleanAttributeAtIndex":
+				return publicInterface.getBooleanAttributeAtIndex((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue());
+			case "getBooleanAttributes":
+				return publicInterface.getBooleanAttributes((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getByteArrayAttribute":
+				return publicInterface.getByteArrayAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getByteArrayAttributes":
+				return publicInterface.getByteArrayAttributes((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getDataObjectByGuid":
+				return publicInterface.getDataObjectByGuid((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "getDataObjectByOid":
+				return publicInterface.getDataObjectByOid((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "getDataObjects":
+				return publicInterface.getDataObjects((java.lang.Long) args[0].getValue());
+			case "getDataObjectsByType":
+				return publicInterface.getDataObjectsByType((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Boolean) args[3].getValue());
+			case "getDoubleAttribute":
+				return publicInterface.getDoubleAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getDoubleAttributeAtIndex":
+				return publicInterface.getDoubleAttributeAtIndex((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue());
+			case "getDoubleAttributes":
+				return publicInterface.getDoubleAttributes((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getEnumAttribute":
+				return publicInterface.getEnumAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getIntegerAttribute":
+				return publicInterface.getIntegerAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getIntegerAttributeAtIndex":
+				return publicInterface.getIntegerAttributeAtIndex((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue());
+			case "getIntegerAttributes":
+				return publicInterface.getIntegerAttributes((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getLongAttribute":
+				return publicInterface.getLongAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getLongAttributeAtIndex":
+				return publicInterface.getLongAttributeAtIndex((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue());
+			case "getReference":
+				return publicInterface.getReference((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getReferences":
+				return publicInterface.getReferences((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getStringAttribute":
+				return publicInterface.getStringAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getStringAttributes":
+				return publicInterface.getStringAttributes((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "removeAllReferences":
+				publicInterface.removeAllReferences((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+				return null;
+			case "removeAttribute":
+				publicInterface.removeAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue());
+				return null;
+			case "removeObject":
+				publicInterface.removeObject((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "removeReference":
+				publicInterface.removeReference((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue());
+				return null;
+			case "removeReferenceByOid":
+				publicInterface.removeReferenceByOid((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Long) args[3].getValue());
+				return null;
+			case "setBooleanAttribute":
+				publicInterface.setBooleanAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Boolean) args[3].getValue());
+				return null;
+			case "setBooleanAttributeAtIndex":
+				publicInterface.setBooleanAttributeAtIndex((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue(), (java.lang.Boolean) args[4].getValue());
+				return null;
+			case "setBooleanAttributes":
+				publicInterface.setBooleanAttributes((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.util.List<java.lang.Boolean>) args[3].getValue());
+				return null;
+			case "setByteArrayAttribute":
+				publicInterface.setByteArrayAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Byte[]) args[3].getValue());
+				return null;
+			case "setDoubleAttribute":
+				publicInterface.setDoubleAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Double) args[3].getValue());
+				return null;
+			case "setDoubleAttributeAtIndex":
+				publicInterface.setDoubleAttributeAtIndex((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue(), (java.lang.Double) args[4].getValue());
+				return null;
+			case "setDoubleAttributes":
+				publicInterface.setDoubleAttributes((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.util.List<java.lang.Double>) args[3].getValue());
+				return null;
+			case "setEnumAttribute":
+				publicInterface.setEnumAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue());
+				return null;
+			case "setIntegerAttribute":
+				publicInterface.setIntegerAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue());
+				return null;
+			case "setIntegerAttributeAtIndex":
+				publicInterface.setIntegerAttributeAtIndex((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue(), (java.lang.Integer) args[4].getValue());
+				return null;
+			case "setIntegerAttributes":
+				publicInterface.setIntegerAttributes((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.util.List<java.lang.Integer>) args[3].getValue());
+				return null;
+			case "setLongAttribute":
+				publicInterface.setLongAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Long) args[3].getValue());
+				return null;
+			case "setLongAttributeAtIndex":
+				publicInterface.setLongAttributeAtIndex((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue(), (java.lang.Long) args[4].getValue());
+				return null;
+			case "setLongAttributes":
+				publicInterface.setLongAttributes((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.util.List<java.lang.Long>) args[3].getValue());
+				return null;
+			case "setReference":
+				publicInterface.setReference((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Long) args[3].getValue());
+				return null;
+			case "setStringAttribute":
+				publicInterface.setStringAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue());
+				return null;
+			case "setStringAttributeAtIndex":
+				publicInterface.setStringAttributeAtIndex((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Integer) args[3].getValue(), (java.lang.String) args[4].getValue());
+				return null;
+			case "setWrappedBooleanAttribute":
+				publicInterface.setWrappedBooleanAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue(), (java.lang.Boolean) args[4].getValue());
+				return null;
+			case "setWrappedDoubleAttribute":
+				publicInterface.setWrappedDoubleAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue(), (java.lang.Double) args[4].getValue());
+				return null;
+			case "setWrappedIntegerAttribute":
+				publicInterface.setWrappedIntegerAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue(), (java.lang.Integer) args[4].getValue());
+				return null;
+			case "setWrappedLongAttribute":
+				publicInterface.setWrappedLongAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue(), (java.lang.Long) args[4].getValue());
+				return null;
+			case "setWrappedStringAttribute":
+				publicInterface.setWrappedStringAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue(), (java.lang.String) args[4].getValue());
+				return null;
+			case "startTransaction":
+				return publicInterface.startTransaction((java.lang.Long) args[0].getValue());
+			case "unsetAttribute":
+				publicInterface.unsetAttribute((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+				return null;
+			case "unsetReference":
+				publicInterface.unsetReference((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+				return null;
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class MetaInterfaceImpl implements org.bimserver.shared.interfaces.MetaInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public MetaInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public java.lang.String getAllAsJson() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("MetaInterface", "getAllAsJson", java.lang.String.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.String> getEnumLiterals(java.lang.String enumName) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<java.lang.String>) this.reflector.callMethod("MetaInterface", "getEnumLiterals", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("enumName", enumName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SServiceInterface getServiceInterface(java.lang.String serverInterfaceName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SServiceInterface) this.reflector.callMethod("MetaInterface", "getServiceInterface", org.bimserver.interfaces.objects.SServiceInterface.class, new org.bimserver.shared.reflector.KeyValuePair("serverInterfaceName", serverInterfaceName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SServiceInterface> getServiceInterfaces() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SServiceInterface>) this.reflector.callMethod("MetaInterface", "getServiceInterfaces", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SServiceMethod getServiceMethod(java.lang.String serviceInterfaceName, java.lang.String methodName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SServiceMethod) this.reflector.callMethod("MetaInterface", "getServiceMethod", org.bimserver.interfaces.objects.SServiceMethod.class, new org.bimserver.shared.reflector.KeyValuePair("serviceInterfaceName", serviceInterfaceName), new org.bimserver.shared.reflector.KeyValuePair("methodName", methodName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SServiceParameter> getServiceMethodParameters(java.lang.String serviceInterfaceName, java.lang.String serviceMethodName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SServiceParameter>) this.reflector.callMethod("MetaInterface", "getServiceMethodParameters", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("serviceInterfaceName", serviceInterfaceName), new org.bimserver.shared.reflector.KeyValuePair("serviceMethodName", serviceMethodName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SServiceMethod> getServiceMethods(java.lang.String serviceInterfaceName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SServiceMethod>) this.reflector.callMethod("MetaInterface", "getServiceMethods", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("serviceInterfaceName", serviceInterfaceName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SServiceType> getServiceTypes() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SServiceType>) this.reflector.callMethod("MetaInterface", "getServiceTypes", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class MetaInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.MetaInterface publicInterface;
+
+	public MetaInterfaceReflector(org.bimserver.shared.interfaces.MetaInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "getAllAsJson":
+				return publicInterface.getAllAsJson();
+			case "getEnumLiterals":
+				return publicInterface.getEnumLiterals((java.lang.String) args[0].getValue());
+			case "getServiceInterface":
+				return publicInterface.getServiceInterface((java.lang.String) args[0].getValue());
+			case "getServiceInterfaces":
+				return publicInterface.getServiceInterfaces();
+			case "getServiceMethod":
+				return publicInterface.getServiceMethod((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "getServiceMethodParameters":
+				return publicInterface.getServiceMethodParameters((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "getServiceMethods":
+				return publicInterface.getServiceMethods((java.lang.String) args[0].getValue());
+			case "getServiceTypes":
+				return publicInterface.getServiceTypes();
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
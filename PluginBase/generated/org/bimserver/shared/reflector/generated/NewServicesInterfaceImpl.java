@@ -0,0 +1,45 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class NewServicesInterfaceImpl implements org.bimserver.shared.interfaces.NewServicesInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public NewServicesInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SNewServiceDescriptor> listAllServiceDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SNewServiceDescriptor>) this.reflector.callMethod("NewServicesInterface", "listAllServiceDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SFormatSerializerMap> listAvailableOutputFormats(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SFormatSerializerMap>) this.reflector.callMethod("NewServicesInterface", "listAvailableOutputFormats", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
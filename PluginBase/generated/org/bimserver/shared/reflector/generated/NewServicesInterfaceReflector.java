@@ -0,0 +1,43 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class NewServicesInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.NewServicesInterface publicInterface;
+
+	public NewServicesInterfaceReflector(org.bimserver.shared.interfaces.NewServicesInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "listAllServiceDescriptors":
+				return publicInterface.listAllServiceDescriptors();
+			case "listAvailableOutputFormats":
+				return publicInterface.listAvailableOutputFormats((java.lang.Long) args[0].getValue());
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
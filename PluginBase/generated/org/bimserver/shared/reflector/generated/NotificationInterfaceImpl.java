@@ -0,0 +1,135 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class NotificationInterfaceImpl implements org.bimserver.shared.interfaces.NotificationInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public NotificationInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public void closedProgressOnProjectTopic(java.lang.Long poid, java.lang.Long topicId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "closedProgressOnProjectTopic", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void closedProgressOnRevisionTopic(java.lang.Long poid, java.lang.Long roid, java.lang.Long topicId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "closedProgressOnRevisionTopic", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void closedProgressOnServerTopic(java.lang.Long topicId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "closedProgressOnServerTopic", void.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newExtendedData(java.lang.Long roid, java.lang.Long edid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "newExtendedData", void.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("edid", edid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newProgressOnProjectTopic(java.lang.Long poid, java.lang.Long topicId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "newProgressOnProjectTopic", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newProgressOnRevisionTopic(java.lang.Long poid, java.lang.Long roid, java.lang.Long topicId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "newProgressOnRevisionTopic", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newProgressOnServerTopic(java.lang.Long topicId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "newProgressOnServerTopic", void.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newProgressTopic(java.lang.Long topicId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "newProgressTopic", void.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "newProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newRevision(java.lang.Long poid, java.lang.Long roid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "newRevision", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newUser(java.lang.Long uoid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "newUser", void.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void progress(java.lang.Long topicId, org.bimserver.interfaces.objects.SLongActionState state) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationInterface", "progress", void.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId), new org.bimserver.shared.reflector.KeyValuePair("state", state));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
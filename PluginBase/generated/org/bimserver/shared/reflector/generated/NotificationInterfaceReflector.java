@@ -0,0 +1,75 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class NotificationInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.NotificationInterface publicInterface;
+
+	public NotificationInterfaceReflector(org.bimserver.shared.interfaces.NotificationInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "closedProgressOnProjectTopic":
+				publicInterface.closedProgressOnProjectTopic((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "closedProgressOnRevisionTopic":
+				publicInterface.closedProgressOnRevisionTopic((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.Long) args[2].getValue());
+				return null;
+			case "closedProgressOnServerTopic":
+				publicInterface.closedProgressOnServerTopic((java.lang.Long) args[0].getValue());
+				return null;
+			case "newExtendedData":
+				publicInterface.newExtendedData((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "newProgressOnProjectTopic":
+				publicInterface.newProgressOnProjectTopic((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "newProgressOnRevisionTopic":
+				publicInterface.newProgressOnRevisionTopic((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.Long) args[2].getValue());
+				return null;
+			case "newProgressOnServerTopic":
+				publicInterface.newProgressOnServerTopic((java.lang.Long) args[0].getValue());
+				return null;
+			case "newProgressTopic":
+				publicInterface.newProgressTopic((java.lang.Long) args[0].getValue());
+				return null;
+			case "newProject":
+				publicInterface.newProject((java.lang.Long) args[0].getValue());
+				return null;
+			case "newRevision":
+				publicInterface.newRevision((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "newUser":
+				publicInterface.newUser((java.lang.Long) args[0].getValue());
+				return null;
+			case "progress":
+				publicInterface.progress((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SLongActionState) args[1].getValue());
+				return null;
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,270 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class NotificationRegistryInterfaceImpl implements org.bimserver.shared.interfaces.NotificationRegistryInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public NotificationRegistryInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SLongActionState getProgress(java.lang.Long topicId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SLongActionState) this.reflector.callMethod("NotificationRegistryInterface", "getProgress", org.bimserver.interfaces.objects.SLongActionState.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.Long> getProgressTopicsOnProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<java.lang.Long>) this.reflector.callMethod("NotificationRegistryInterface", "getProgressTopicsOnProject", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.Long> getProgressTopicsOnRevision(java.lang.Long poid, java.lang.Long roid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<java.lang.Long>) this.reflector.callMethod("NotificationRegistryInterface", "getProgressTopicsOnRevision", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.Long> getProgressTopicsOnServer() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<java.lang.Long>) this.reflector.callMethod("NotificationRegistryInterface", "getProgressTopicsOnServer", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void registerChangeProgressOnProject(java.lang.Long endPointId, java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "registerChangeProgressOnProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void registerChangeProgressOnRevision(java.lang.Long endPointId, java.lang.Long roid, java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "registerChangeProgressOnRevision", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId), new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void registerChangeProgressOnServer(java.lang.Long endPointId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "registerChangeProgressOnServer", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void registerNewExtendedDataOnRevisionHandler(java.lang.Long endPointId, java.lang.Long roid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "registerNewExtendedDataOnRevisionHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId), new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void registerNewProjectHandler(java.lang.Long endPointId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "registerNewProjectHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void registerNewRevisionHandler(java.lang.Long endPointId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "registerNewRevisionHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void registerNewRevisionOnSpecificProjectHandler(java.lang.Long endPointId, java.lang.Long poid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "registerNewRevisionOnSpecificProjectHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void registerNewUserHandler(java.lang.Long endPointId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "registerNewUserHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void registerProgressHandler(java.lang.Long topicId, java.lang.Long endPointId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "registerProgressHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId), new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long registerProgressOnProjectTopic(org.bimserver.interfaces.objects.SProgressTopicType type, java.lang.Long poid, java.lang.String description) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("NotificationRegistryInterface", "registerProgressOnProjectTopic", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("description", description));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long registerProgressOnRevisionTopic(org.bimserver.interfaces.objects.SProgressTopicType type, java.lang.Long poid, java.lang.Long roid, java.lang.String description) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("NotificationRegistryInterface", "registerProgressOnRevisionTopic", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("description", description));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long registerProgressTopic(org.bimserver.interfaces.objects.SProgressTopicType type, java.lang.String description) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("NotificationRegistryInterface", "registerProgressTopic", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("description", description));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unregisterChangeProgressOnProject(java.lang.Long endPointId, java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "unregisterChangeProgressOnProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unregisterChangeProgressOnRevision(java.lang.Long endPointId, java.lang.Long roid, java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "unregisterChangeProgressOnRevision", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId), new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unregisterChangeProgressOnServer(java.lang.Long endPointId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "unregisterChangeProgressOnServer", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unregisterNewExtendedDataOnRevisionHandler(java.lang.Long endPointId, java.lang.Long roid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "unregisterNewExtendedDataOnRevisionHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId), new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unregisterNewProjectHandler(java.lang.Long endPointId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "unregisterNewProjectHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unregisterNewRevisionHandler(java.lang.Long endPointId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "unregisterNewRevisionHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unregisterNewRevisionOnSpecificProjectHandler(java.lang.Long endPointId, java.lang.Long poid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "unregisterNewRevisionOnSpecificProjectHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unregisterNewUserHandler(java.lang.Long endPointId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "unregisterNewUserHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unregisterProgressHandler(java.lang.Long topicId, java.lang.Long endPointId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "unregisterProgressHandler", void.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId), new org.bimserver.shared.reflector.KeyValuePair("endPointId", endPointId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void unregisterProgressTopic(java.lang.Long topicId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "unregisterProgressTopic", void.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateProgressTopic(java.lang.Long topicId, org.bimserver.interfaces.objects.SLongActionState state) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("NotificationRegistryInterface", "updateProgressTopic", void.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId), new org.bimserver.shared.reflector.KeyValuePair("state", state));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class NotificationRegistryInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.NotificationRegistryInterface publicInterface;
+
+	public NotificationRegistryInterfaceReflector(org.bimserver.shared.interfaces.NotificationRegistryInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "getProgress":
+				return publicInterface.getProgress((java.lang.Long) args[0].getValue());
+			case "getProgressTopicsOnProject":
+				return publicInterface.getProgressTopicsOnProject((java.lang.Long) args[0].getValue());
+			case "getProgressTopicsOnRevision":
+				return publicInterface.getProgressTopicsOnRevision((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "getProgressTopicsOnServer":
+				return publicInterface.getProgressTopicsOnServer();
+			case "registerChangeProgressOnProject":
+				publicInterface.registerChangeProgressOnProject((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "registerChangeProgressOnRevision":
+				publicInterface.registerChangeProgressOnRevision((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.Long) args[2].getValue());
+				return null;
+			case "registerChangeProgressOnServer":
+				publicInterface.registerChangeProgressOnServer((java.lang.Long) args[0].getValue());
+				return null;
+			case "registerNewExtendedDataOnRevisionHandler":
+				publicInterface.registerNewExtendedDataOnRevisionHandler((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "registerNewProjectHandler":
+				publicInterface.registerNewProjectHandler((java.lang.Long) args[0].getValue());
+				return null;
+			case "registerNewRevisionHandler":
+				publicInterface.registerNewRevisionHandler((java.lang.Long) args[0].getValue());
+				return null;
+			case "registerNewRevisionOnSpecificProjectHandler":
+				publicInterface.registerNewRevisionOnSpecificProjectHandler((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "registerNewUserHandler":
+				publicInterface.registerNewUserHandler((java.lang.Long) args[0].getValue());
+				return null;
+			case "registerProgressHandler":
+				publicInterface.registerProgressHandler((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "registerProgressOnProjectTopic":
+				return publicInterface.registerProgressOnProjectTopic((org.bimserver.interfaces.objects.SProgressTopicType) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "registerProgressOnRevisionTopic":
+				return publicInterface.registerProgressOnRevisionTopic((org.bimserver.interfaces.objects.SProgressTopicType) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.Long) args[2].getValue(), (java.lang.String) args[3].getValue());
+			case "registerProgressTopic":
+				return publicInterface.registerProgressTopic((org.bimserver.interfaces.objects.SProgressTopicType) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "unregisterChangeProgressOnProject":
+				publicInterface.unregisterChangeProgressOnProject((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "unregisterChangeProgressOnRevision":
+				publicInterface.unregisterChangeProgressOnRevision((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.Long) args[2].getValue());
+				return null;
+			case "unregisterChangeProgressOnServer":
+				publicInterface.unregisterChangeProgressOnServer((java.lang.Long) args[0].getValue());
+				return null;
+			case "unregisterNewExtendedDataOnRevisionHandler":
+				publicInterface.unregisterNewExtendedDataOnRevisionHandler((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "unregisterNewProjectHandler":
+				publicInterface.unregisterNewProjectHandler((java.lang.Long) args[0].getValue());
+				return null;
+			case "unregisterNewRevisionHandler":
+				publicInterface.unregisterNewRevisionHandler((java.lang.Long) args[0].getValue());
+				return null;
+			case "unregisterNewRevisionOnSpecificProjectHandler":
+				publicInterface.unregisterNewRevisionOnSpecificProjectHandler((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "unregisterNewUserHandler":
+				publicInterface.unregisterNewUserHandler((java.lang.Long) args[0].getValue());
+				return null;
+			case "unregisterProgressHandler":
+				publicInterface.unregisterProgressHandler((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "unregisterProgressTopic":
+				publicInterface.unregisterProgressTopic((java.lang.Long) args[0].getValue());
+				return null;
+			case "updateProgressTopic":
+				publicInterface.updateProgressTopic((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SLongActionState) args[1].getValue());
+				return null;
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
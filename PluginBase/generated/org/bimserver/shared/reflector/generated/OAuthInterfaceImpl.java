@@ -0,0 +1,162 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class OAuthInterfaceImpl implements org.bimserver.shared.interfaces.OAuthInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public OAuthInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public java.lang.String authorize(java.lang.Long oAuthServerOid, org.bimserver.interfaces.objects.SAuthorization authorization) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("OAuthInterface", "authorize", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("oAuthServerOid", oAuthServerOid), new org.bimserver.shared.reflector.KeyValuePair("authorization", authorization));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String generateForwardUrl(java.lang.String registrationEndpoint, java.lang.String authorizeUrl, java.lang.String returnUrl) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("OAuthInterface", "generateForwardUrl", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("registrationEndpoint", registrationEndpoint), new org.bimserver.shared.reflector.KeyValuePair("authorizeUrl", authorizeUrl), new org.bimserver.shared.reflector.KeyValuePair("returnUrl", returnUrl));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SAuthorization getAuthorizationById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SAuthorization) this.reflector.callMethod("OAuthInterface", "getAuthorizationById", org.bimserver.interfaces.objects.SAuthorization.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SOAuthServer getOAuthServerByClientId(java.lang.String clientId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SOAuthServer) this.reflector.callMethod("OAuthInterface", "getOAuthServerByClientId", org.bimserver.interfaces.objects.SOAuthServer.class, new org.bimserver.shared.reflector.KeyValuePair("clientId", clientId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SOAuthServer getOAuthServerById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SOAuthServer) this.reflector.callMethod("OAuthInterface", "getOAuthServerById", org.bimserver.interfaces.objects.SOAuthServer.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String getRemoteToken(java.lang.Long soid, java.lang.String code, java.lang.Long serverId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("OAuthInterface", "getRemoteToken", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("soid", soid), new org.bimserver.shared.reflector.KeyValuePair("code", code), new org.bimserver.shared.reflector.KeyValuePair("serverId", serverId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SOAuthAuthorizationCode> listAuthorizationCodes() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SOAuthAuthorizationCode>) this.reflector.callMethod("OAuthInterface", "listAuthorizationCodes", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SOAuthAuthorizationCode> listIssuedAuthorizationCodes() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SOAuthAuthorizationCode>) this.reflector.callMethod("OAuthInterface", "listIssuedAuthorizationCodes", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SOAuthServer> listRegisteredServers() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SOAuthServer>) this.reflector.callMethod("OAuthInterface", "listRegisteredServers", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SOAuthServer> listRegisteredServersLocal() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SOAuthServer>) this.reflector.callMethod("OAuthInterface", "listRegisteredServersLocal", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long registerApplication(java.lang.String registrationEndpoint, java.lang.String apiUrl, java.lang.String redirectUrl) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("OAuthInterface", "registerApplication", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("registrationEndpoint", registrationEndpoint), new org.bimserver.shared.reflector.KeyValuePair("apiUrl", apiUrl), new org.bimserver.shared.reflector.KeyValuePair("redirectUrl", redirectUrl));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SOAuthServer registerRemoteApplication(java.lang.String redirectUrl, java.lang.String name, java.lang.String description) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SOAuthServer) this.reflector.callMethod("OAuthInterface", "registerRemoteApplication", org.bimserver.interfaces.objects.SOAuthServer.class, new org.bimserver.shared.reflector.KeyValuePair("redirectUrl", redirectUrl), new org.bimserver.shared.reflector.KeyValuePair("name", name), new org.bimserver.shared.reflector.KeyValuePair("description", description));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void revokeApplication(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("OAuthInterface", "revokeApplication", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void revokeAuthorization(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("OAuthInterface", "revokeAuthorization", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setAuthorizationCode(java.lang.Long applicationId, java.lang.String code) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("OAuthInterface", "setAuthorizationCode", void.class, new org.bimserver.shared.reflector.KeyValuePair("applicationId", applicationId), new org.bimserver.shared.reflector.KeyValuePair("code", code));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class OAuthInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.OAuthInterface publicInterface;
+
+	public OAuthInterfaceReflector(org.bimserver.shared.interfaces.OAuthInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "authorize":
+				return publicInterface.authorize((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SAuthorization) args[1].getValue());
+			case "generateForwardUrl":
+				return publicInterface.generateForwardUrl((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getAuthorizationById":
+				return publicInterface.getAuthorizationById((java.lang.Long) args[0].getValue());
+			case "getOAuthServerByClientId":
+				return publicInterface.getOAuthServerByClientId((java.lang.String) args[0].getValue());
+			case "getOAuthServerById":
+				return publicInterface.getOAuthServerById((java.lang.Long) args[0].getValue());
+			case "getRemoteToken":
+				return publicInterface.getRemoteToken((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.Long) args[2].getValue());
+			case "listAuthorizationCodes":
+				return publicInterface.listAuthorizationCodes();
+			case "listIssuedAuthorizationCodes":
+				return publicInterface.listIssuedAuthorizationCodes();
+			case "listRegisteredServers":
+				return publicInterface.listRegisteredServers();
+			case "listRegisteredServersLocal":
+				return publicInterface.listRegisteredServersLocal();
+			case "registerApplication":
+				return publicInterface.registerApplication((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "registerRemoteApplication":
+				return publicInterface.registerRemoteApplication((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "revokeApplication":
+				publicInterface.revokeApplication((java.lang.Long) args[0].getValue());
+				return null;
+			case "revokeAuthorization":
+				publicInterface.revokeAuthorization((java.lang.Long) args[0].getValue());
+				return null;
+			case "setAuthorizationCode":
+				publicInterface.setAuthorizationCode((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue());
+				return null;
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
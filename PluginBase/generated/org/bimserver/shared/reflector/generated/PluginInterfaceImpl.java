@@ -0,0 +1,855 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class PluginInterfaceImpl implements org.bimserver.shared.interfaces.PluginInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public PluginInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public java.lang.Long addDeserializer(org.bimserver.interfaces.objects.SDeserializerPluginConfiguration deserializer) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("PluginInterface", "addDeserializer", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("deserializer", deserializer));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long addInternalService(org.bimserver.interfaces.objects.SInternalServicePluginConfiguration internalService) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("PluginInterface", "addInternalService", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("internalService", internalService));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long addModelCompare(org.bimserver.interfaces.objects.SModelComparePluginConfiguration modelCompare) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("PluginInterface", "addModelCompare", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("modelCompare", modelCompare));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long addModelMerger(org.bimserver.interfaces.objects.SModelMergerPluginConfiguration modelMerger) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("PluginInterface", "addModelMerger", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("modelMerger", modelMerger));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long addQueryEngine(org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration queryEngine) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("PluginInterface", "addQueryEngine", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("queryEngine", queryEngine));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long addRenderEngine(org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration renderEngine) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("PluginInterface", "addRenderEngine", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("renderEngine", renderEngine));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long addSerializer(org.bimserver.interfaces.objects.SSerializerPluginConfiguration serializer) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("PluginInterface", "addSerializer", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("serializer", serializer));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void clearMavenCache() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "clearMavenCache", void.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void deleteDeserializer(java.lang.Long sid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "deleteDeserializer", void.class, new org.bimserver.shared.reflector.KeyValuePair("sid", sid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void deleteInternalService(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "deleteInternalService", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void deleteModelChecker(java.lang.Long iid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "deleteModelChecker", void.class, new org.bimserver.shared.reflector.KeyValuePair("iid", iid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void deleteModelCompare(java.lang.Long iid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "deleteModelCompare", void.class, new org.bimserver.shared.reflector.KeyValuePair("iid", iid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void deleteModelMerger(java.lang.Long iid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "deleteModelMerger", void.class, new org.bimserver.shared.reflector.KeyValuePair("iid", iid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void deletePluginConfiguration(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "deletePluginConfiguration", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void deleteQueryEngine(java.lang.Long iid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "deleteQueryEngine", void.class, new org.bimserver.shared.reflector.KeyValuePair("iid", iid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void deleteRenderEngine(java.lang.Long iid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "deleteRenderEngine", void.class, new org.bimserver.shared.reflector.KeyValuePair("iid", iid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void deleteSerializer(java.lang.Long sid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "deleteSerializer", void.class, new org.bimserver.shared.reflector.KeyValuePair("sid", sid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> getAllDeserializerPluginDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("PluginInterface", "getAllDeserializerPluginDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SDeserializerPluginConfiguration> getAllDeserializers(java.lang.Boolean onlyEnabled) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SDeserializerPluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllDeserializers", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SDeserializerPluginConfiguration> getAllDeserializersForProject(java.lang.Boolean onlyEnabled, java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SDeserializerPluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllDeserializersForProject", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SInternalServicePluginConfiguration> getAllInternalServices(java.lang.Boolean onlyEnabled) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SInternalServicePluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllInternalServices", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SInternalServicePluginConfiguration> getAllInternalServicesOfService(java.lang.String name, java.lang.Boolean onlyEnabled) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SInternalServicePluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllInternalServicesOfService", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("name", name), new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> getAllModelCheckerPluginDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("PluginInterface", "getAllModelCheckerPluginDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> getAllModelComparePluginDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("PluginInterface", "getAllModelComparePluginDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SModelComparePluginConfiguration> getAllModelCompares(java.lang.Boolean onlyEnabled) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SModelComparePluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllModelCompares", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> getAllModelMergerPluginDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("PluginInterface", "getAllModelMergerPluginDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SModelMergerPluginConfiguration> getAllModelMergers(java.lang.Boolean onlyEnabled) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SModelMergerPluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllModelMergers", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> getAllQueryEnginePluginDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("PluginInterface", "getAllQueryEnginePluginDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration> getAllQueryEngines(java.lang.Boolean onlyEnabled) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllQueryEngines", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> getAllRenderEnginePluginDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("PluginInterface", "getAllRenderEnginePluginDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration> getAllRenderEngines(java.lang.Boolean onlyEnabled) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllRenderEngines", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> getAllSerializerPluginDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("PluginInterface", "getAllSerializerPluginDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SSerializerPluginConfiguration> getAllSerializers(java.lang.Boolean onlyEnabled) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SSerializerPluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllSerializers", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SSerializerPluginConfiguration> getAllSerializersForPoids(java.lang.Boolean onlyEnabled, java.util.Set<java.lang.Long> poids) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SSerializerPluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllSerializersForPoids", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled), new org.bimserver.shared.reflector.KeyValuePair("poids", poids));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SSerializerPluginConfiguration> getAllSerializersForRoids(java.lang.Boolean onlyEnabled, java.util.Set<java.lang.Long> roids) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SSerializerPluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllSerializersForRoids", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled), new org.bimserver.shared.reflector.KeyValuePair("roids", roids));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> getAllServicePluginDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("PluginInterface", "getAllServicePluginDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> getAllWebModulePluginDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("PluginInterface", "getAllWebModulePluginDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SWebModulePluginConfiguration> getAllWebModules(java.lang.Boolean onlyEnabled) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SWebModulePluginConfiguration>) this.reflector.callMethod("PluginInterface", "getAllWebModules", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyEnabled", onlyEnabled));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginBundle> getAvailablePluginBundles() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginBundle>) this.reflector.callMethod("PluginInterface", "getAvailablePluginBundles", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SModelComparePluginConfiguration getDefaultModelCompare() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SModelComparePluginConfiguration) this.reflector.callMethod("PluginInterface", "getDefaultModelCompare", org.bimserver.interfaces.objects.SModelComparePluginConfiguration.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SModelMergerPluginConfiguration getDefaultModelMerger() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SModelMergerPluginConfiguration) this.reflector.callMethod("PluginInterface", "getDefaultModelMerger", org.bimserver.interfaces.objects.SModelMergerPluginConfiguration.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration getDefaultQueryEngine() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration) this.reflector.callMethod("PluginInterface", "getDefaultQueryEngine", org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration getDefaultRenderEngine() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration) this.reflector.callMethod("PluginInterface", "getDefaultRenderEngine", org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SPluginDescriptor getDefaultRenderEnginePluginDescriptor() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SPluginDescriptor) this.reflector.callMethod("PluginInterface", "getDefaultRenderEnginePluginDescriptor", org.bimserver.interfaces.objects.SPluginDescriptor.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SSerializerPluginConfiguration getDefaultSerializer() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SSerializerPluginConfiguration) this.reflector.callMethod("PluginInterface", "getDefaultSerializer", org.bimserver.interfaces.objects.SSerializerPluginConfiguration.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SWebModulePluginConfiguration getDefaultWebModule() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SWebModulePluginConfiguration) this.reflector.callMethod("PluginInterface", "getDefaultWebModule", org.bimserver.interfaces.objects.SWebModulePluginConfiguration.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SPluginBundleVersion getInstalledPluginBundle(java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SPluginBundleVersion) this.reflector.callMethod("PluginInterface", "getInstalledPluginBundle", org.bimserver.interfaces.objects.SPluginBundleVersion.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginBundle> getInstalledPluginBundles() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginBundle>) this.reflector.callMethod("PluginInterface", "getInstalledPluginBundles", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SInternalServicePluginConfiguration getInternalServiceById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SInternalServicePluginConfiguration) this.reflector.callMethod("PluginInterface", "getInternalServiceById", org.bimserver.interfaces.objects.SInternalServicePluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SModelComparePluginConfiguration getModelCompareById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SModelComparePluginConfiguration) this.reflector.callMethod("PluginInterface", "getModelCompareById", org.bimserver.interfaces.objects.SModelComparePluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SModelComparePluginConfiguration getModelCompareByName(java.lang.String name) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SModelComparePluginConfiguration) this.reflector.callMethod("PluginInterface", "getModelCompareByName", org.bimserver.interfaces.objects.SModelComparePluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SModelMergerPluginConfiguration getModelMergerById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SModelMergerPluginConfiguration) this.reflector.callMethod("PluginInterface", "getModelMergerById", org.bimserver.interfaces.objects.SModelMergerPluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SModelMergerPluginConfiguration getModelMergerByName(java.lang.String name) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SModelMergerPluginConfiguration) this.reflector.callMethod("PluginInterface", "getModelMergerByName", org.bimserver.interfaces.objects.SModelMergerPluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SPluginBundle getPluginBundle(java.lang.String repository, java.lang.String groupId, java.lang.String artifactId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SPluginBundle) this.reflector.callMethod("PluginInterface", "getPluginBundle", org.bimserver.interfaces.objects.SPluginBundle.class, new org.bimserver.shared.reflector.KeyValuePair("repository", repository), new org.bimserver.shared.reflector.KeyValuePair("groupId", groupId), new org.bimserver.shared.reflector.KeyValuePair("artifactId", artifactId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SPluginBundleVersion getPluginBundleVersionById(java.lang.Long pbid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SPluginBundleVersion) this.reflector.callMethod("PluginInterface", "getPluginBundleVersionById", org.bimserver.interfaces.objects.SPluginBundleVersion.class, new org.bimserver.shared.reflector.KeyValuePair("pbid", pbid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SPluginDescriptor getPluginDescriptor(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SPluginDescriptor) this.reflector.callMethod("PluginInterface", "getPluginDescriptor", org.bimserver.interfaces.objects.SPluginDescriptor.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SPluginDescriptor getPluginDescriptorByName(java.lang.String name) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SPluginDescriptor) this.reflector.callMethod("PluginInterface", "getPluginDescriptorByName", org.bimserver.interfaces.objects.SPluginDescriptor.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginInformation> getPluginInformation(java.lang.String repository, java.lang.String groupId, java.lang.String artifactId, java.lang.String version) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginInformation>) this.reflector.callMethod("PluginInterface", "getPluginInformation", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("repository", repository), new org.bimserver.shared.reflector.KeyValuePair("groupId", groupId), new org.bimserver.shared.reflector.KeyValuePair("artifactId", artifactId), new org.bimserver.shared.reflector.KeyValuePair("version", version));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SObjectDefinition getPluginObjectDefinition(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SObjectDefinition) this.reflector.callMethod("PluginInterface", "getPluginObjectDefinition", org.bimserver.interfaces.objects.SObjectDefinition.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SObjectType getPluginSettings(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SObjectType) this.reflector.callMethod("PluginInterface", "getPluginSettings", org.bimserver.interfaces.objects.SObjectType.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SObjectDefinition getPluginSystemObjectDefinition(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SObjectDefinition) this.reflector.callMethod("PluginInterface", "getPluginSystemObjectDefinition", org.bimserver.interfaces.objects.SObjectDefinition.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SObjectType getPluginSystemSettings(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SObjectType) this.reflector.callMethod("PluginInterface", "getPluginSystemSettings", org.bimserver.interfaces.objects.SObjectType.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration getRenderEngineById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration) this.reflector.callMethod("PluginInterface", "getRenderEngineById", org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration getRenderEngineByName(java.lang.String name) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration) this.reflector.callMethod("PluginInterface", "getRenderEngineByName", org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SSerializerPluginConfiguration getSerializerByPluginClassName(java.lang.String pluginClassName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SSerializerPluginConfiguration) this.reflector.callMethod("PluginInterface", "getSerializerByPluginClassName", org.bimserver.interfaces.objects.SSerializerPluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("pluginClassName", pluginClassName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SWebModulePluginConfiguration getWebModuleById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SWebModulePluginConfiguration) this.reflector.callMethod("PluginInterface", "getWebModuleById", org.bimserver.interfaces.objects.SWebModulePluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SWebModulePluginConfiguration getWebModuleByName(java.lang.String name) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SWebModulePluginConfiguration) this.reflector.callMethod("PluginInterface", "getWebModuleByName", org.bimserver.interfaces.objects.SWebModulePluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean hasActiveSerializer(java.lang.String contentType) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("PluginInterface", "hasActiveSerializer", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("contentType", contentType));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean hasPreBuiltPlugins() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("PluginInterface", "hasPreBuiltPlugins", java.lang.Boolean.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void installPluginBundle(java.lang.String repository, java.lang.String groupId, java.lang.String artifactId, java.lang.String version, java.util.List<org.bimserver.interfaces.objects.SPluginInformation> plugins) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "installPluginBundle", void.class, new org.bimserver.shared.reflector.KeyValuePair("repository", repository), new org.bimserver.shared.reflector.KeyValuePair("groupId", groupId), new org.bimserver.shared.reflector.KeyValuePair("artifactId", artifactId), new org.bimserver.shared.reflector.KeyValuePair("version", version), new org.bimserver.shared.reflector.KeyValuePair("plugins", plugins));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void installPluginBundleFromFile(javax.activation.DataHandler data, java.lang.Boolean installAllPluginsForAllUsers, java.lang.Boolean installAllPluginsForNewUsers) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "installPluginBundleFromFile", void.class, new org.bimserver.shared.reflector.KeyValuePair("data", data), new org.bimserver.shared.reflector.KeyValuePair("installAllPluginsForAllUsers", installAllPluginsForAllUsers), new org.bimserver.shared.reflector.KeyValuePair("installAllPluginsForNewUsers", installAllPluginsForNewUsers));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void installPluginBundleFromUrl(java.lang.String url, java.lang.Boolean installAllPluginsForAllUsers, java.lang.Boolean installAllPluginsForNewUsers) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "installPluginBundleFromUrl", void.class, new org.bimserver.shared.reflector.KeyValuePair("url", url), new org.bimserver.shared.reflector.KeyValuePair("installAllPluginsForAllUsers", installAllPluginsForAllUsers), new org.bimserver.shared.reflector.KeyValuePair("installAllPluginsForNewUsers", installAllPluginsForNewUsers));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void installPreBuiltPlugins(java.util.List<java.lang.String> artifacts) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "installPreBuiltPlugins", void.class, new org.bimserver.shared.reflector.KeyValuePair("artifacts", artifacts));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SWebModulePluginConfiguration> listAllWebModules() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SWebModulePluginConfiguration>) this.reflector.callMethod("PluginInterface", "listAllWebModules", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor> listPluginsInBundle(java.lang.Long pluginBundleVersionOid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SPluginDescriptor>) this.reflector.callMethod("PluginInterface", "listPluginsInBundle", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("pluginBundleVersionOid", pluginBundleVersionOid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setDefaultModelCompare(java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "setDefaultModelCompare", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setDefaultModelMerger(java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "setDefaultModelMerger", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setDefaultQueryEngine(java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "setDefaultQueryEngine", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setDefaultRenderEngine(java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "setDefaultRenderEngine", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setDefaultSerializer(java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "setDefaultSerializer", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setDefaultWebModule(java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "setDefaultWebModule", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setPluginSettings(java.lang.Long poid, org.bimserver.interfaces.objects.SObjectType settings) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "setPluginSettings", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("settings", settings));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setPluginSystemSettings(java.lang.Long poid, org.bimserver.interfaces.objects.SObjectType settings) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "setPluginSystemSettings", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("settings", settings));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void uninstallPluginBundle(java.lang.String repository, java.lang.String groupId, java.lang.String artifactId, java.lang.String version) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "uninstallPluginBundle", void.class, new org.bimserver.shared.reflector.KeyValuePair("repository", repository), new org.bimserver.shared.reflector.KeyValuePair("groupId", groupId), new org.bimserver.shared.reflector.KeyValuePair("artifactId", artifactId), new org.bimserver.shared.reflector.KeyValuePair("version", version));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateDeserializer(org.bimserver.interfaces.objects.SDeserializerPluginConfiguration deserializer) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "updateDeserializer", void.class, new org.bimserver.shared.reflector.KeyValuePair("deserializer", deserializer));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateInternalService(org.bimserver.interfaces.objects.SInternalServicePluginConfiguration internalService) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "updateInternalService", void.class, new org.bimserver.shared.reflector.KeyValuePair("internalService", internalService));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateModelCompare(org.bimserver.interfaces.objects.SModelComparePluginConfiguration modelCompare) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "updateModelCompare", void.class, new org.bimserver.shared.reflector.KeyValuePair("modelCompare", modelCompare));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateModelMerger(org.bimserver.interfaces.objects.SModelMergerPluginConfiguration modelMerger) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "updateModelMerger", void.class, new org.bimserver.shared.reflector.KeyValuePair("modelMerger", modelMerger));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updatePluginBundle(java.lang.String repository, java.lang.String groupId, java.lang.String artifactId, java.lang.String version) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("PluginInterface", "updatePluginBundle", void.class, new org.bimserver.shared.reflector.KeyValuePair("repository", repository), new org.bimserver.shared.reflector.KeyValuePair("groupId", groupId), new org.bimserver.shared.reflector.KeyValuePair("artifactId", artifactId), new org.bimserver.shared.reflector.KeyValuePair("version", version));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateQueryEngine(org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration queryEngine) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "updateQueryEngine", void.class, new org.bimserver.shared.reflector.KeyValuePair("queryEngine", queryEngine));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateRenderEngine(org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration renderEngine) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "updateRenderEngine", void.class, new org.bimserver.shared.reflector.KeyValuePair("renderEngine", renderEngine));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateSerializer(org.bimserver.interfaces.objects.SSerializerPluginConfiguration serializer) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("PluginInterface", "updateSerializer", void.class, new org.bimserver.shared.reflector.KeyValuePair("serializer", serializer));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
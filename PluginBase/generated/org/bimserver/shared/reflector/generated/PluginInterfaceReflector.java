@@ -0,0 +1,254 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class PluginInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.PluginInterface publicInterface;
+
+	public PluginInterfaceReflector(org.bimserver.shared.interfaces.PluginInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "addDeserializer":
+				return publicInterface.addDeserializer((org.bimserver.interfaces.objects.SDeserializerPluginConfiguration) args[0].getValue());
+			case "addInternalService":
+				return publicInterface.addInternalService((org.bimserver.interfaces.objects.SInternalServicePluginConfiguration) args[0].getValue());
+			case "addModelCompare":
+				return publicInterface.addModelCompare((org.bimserver.interfaces.objects.SModelComparePluginConfiguration) args[0].getValue());
+			case "addModelMerger":
+				return publicInterface.addModelMerger((org.bimserver.interfaces.objects.SModelMergerPluginConfiguration) args[0].getValue());
+			case "addQueryEngine":
+				return publicInterface.addQueryEngine((org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration) args[0].getValue());
+			case "addRenderEngine":
+				return publicInterface.addRenderEngine((org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration) args[0].getValue());
+			case "addSerializer":
+				return publicInterface.addSerializer((org.bimserver.interfaces.objects.SSerializerPluginConfiguration) args[0].getValue());
+			case "clearMavenCache":
+				publicInterface.clearMavenCache();
+				return null;
+			case "deleteDeserializer":
+				publicInterface.deleteDeserializer((java.lang.Long) args[0].getValue());
+				return null;
+			case "deleteInternalService":
+				publicInterface.deleteInternalService((java.lang.Long) args[0].getValue());
+				return null;
+			case "deleteModelChecker":
+				publicInterface.deleteModelChecker((java.lang.Long) args[0].getValue());
+				return null;
+			case "deleteModelCompare":
+				publicInterface.deleteModelCompare((java.lang.Long) args[0].getValue());
+				return null;
+			case "deleteModelMerger":
+				publicInterface.deleteModelMerger((java.lang.Long) args[0].getValue());
+				return null;
+			case "deletePluginConfiguration":
+				publicInterface.deletePluginConfiguration((java.lang.Long) args[0].getValue());
+				return null;
+			case "deleteQueryEngine":
+				publicInterface.deleteQueryEngine((java.lang.Long) args[0].getValue());
+				return null;
+			case "deleteRenderEngine":
+				publicInterface.deleteRenderEngine((java.lang.Long) args[0].getValue());
+				return null;
+			case "deleteSerializer":
+				publicInterface.deleteSerializer((java.lang.Long) args[0].getValue());
+				return null;
+			case "getAllDeserializerPluginDescriptors":
+				return publicInterface.getAllDeserializerPluginDescriptors();
+			case "getAllDeserializers":
+				return publicInterface.getAllDeserializers((java.lang.Boolean) args[0].getValue());
+			case "getAllDeserializersForProject":
+				return publicInterface.getAllDeserializersForProject((java.lang.Boolean) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "getAllInternalServices":
+				return publicInterface.getAllInternalServices((java.lang.Boolean) args[0].getValue());
+			case "getAllInternalServicesOfService":
+				return publicInterface.getAllInternalServicesOfService((java.lang.String) args[0].getValue(), (java.lang.Boolean) args[1].getValue());
+			case "getAllModelCheckerPluginDescriptors":
+				return publicInterface.getAllModelCheckerPluginDescriptors();
+			case "getAllModelComparePluginDescriptors":
+				return publicInterface.getAllModelComparePluginDescriptors();
+			case "getAllModelCompares":
+				return publicInterface.getAllModelCompares((java.lang.Boolean) args[0].getValue());
+			case "getAllModelMergerPluginDescriptors":
+				return publicInterface.getAllModelMergerPluginDescriptors();
+			case "getAllModelMergers":
+				return publicInterface.getAllModelMergers((java.lang.Boolean) args[0].getValue());
+			case "getAllQueryEnginePluginDescriptors":
+				return publicInterface.getAllQueryEnginePluginDescriptors();
+			case "getAllQueryEngines":
+				return publicInterface.getAllQueryEngines((java.lang.Boolean) args[0].getValue());
+			case "getAllRenderEnginePluginDescriptors":
+				return publicInterface.getAllRenderEnginePluginDescriptors();
+			case "getAllRenderEngines":
+				return publicInterface.getAllRenderEngines((java.lang.Boolean) args[0].getValue());
+			case "getAllSerializerPluginDescriptors":
+				return publicInterface.getAllSerializerPluginDescriptors();
+			case "getAllSerializers":
+				return publicInterface.getAllSerializers((java.lang.Boolean) args[0].getValue());
+			case "getAllSerializersForPoids":
+				return publicInterface.getAllSerializersForPoids((java.lang.Boolean) args[0].getValue(), (java.util.Set<java.lang.Long>) args[1].getValue());
+			case "getAllSerializersForRoids":
+				return publicInterface.getAllSerializersForRoids((java.lang.Boolean) args[0].getValue(), (java.util.Set<java.lang.Long>) args[1].getValue());
+			case "getAllServicePluginDescriptors":
+				return publicInterface.getAllServicePluginDescriptors();
+			case "getAllWebModulePluginDescriptors":
+				return publicInterface.getAllWebModulePluginDescriptors();
+			case "getAllWebModules":
+				return publicInterface.getAllWebModules((java.lang.Boolean) args[0].getValue());
+			case "getAvailablePluginBundles":
+				return publicInterface.getAvailablePluginBundles();
+			case "getDefaultModelCompare":
+				return publicInterface.getDefaultModelCompare();
+			case "getDefaultModelMerger":
+				return publicInterface.getDefaultModelMerger();
+			case "getDefaultQueryEngine":
+				return publicInterface.getDefaultQueryEngine();
+			case "getDefaultRenderEngine":
+				return publicInterface.getDefaultRenderEngine();
+			case "getDefaultRenderEnginePluginDescriptor":
+				return publicInterface.getDefaultRenderEnginePluginDescriptor();
+			case "getDefaultSerializer":
+				return publicInterface.getDefaultSerializer();
+			case "getDefaultWebModule":
+				return publicInterface.getDefaultWebModule();
+			case "getInstalledPluginBundle":
+				return publicInterface.getInstalledPluginBundle((java.lang.Long) args[0].getValue());
+			case "getInstalledPluginBundles":
+				return publicInterface.getInstalledPluginBundles();
+			case "getInternalServiceById":
+				return publicInterface.getInternalServiceById((java.lang.Long) args[0].getValue());
+			case "getModelCompareById":
+				return publicInterface.getModelCompareById((java.lang.Long) args[0].getValue());
+			case "getModelCompareByName":
+				return publicInterface.getModelCompareByName((java.lang.String) args[0].getValue());
+			case "getModelMergerById":
+				return publicInterface.getModelMergerById((java.lang.Long) args[0].getValue());
+			case "getModelMergerByName":
+				return publicInterface.getModelMergerByName((java.lang.String) args[0].getValue());
+			case "getPluginBundle":
+				return publicInterface.getPluginBundle((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "getPluginBundleVersionById":
+				return publicInterface.getPluginBundleVersionById((java.lang.Long) args[0].getValue());
+			case "getPluginDescriptor":
+				return publicInterface.getPluginDescriptor((java.lang.Long) args[0].getValue());
+			case "getPluginDescriptorByName":
+				return publicInterface.getPluginDescriptorByName((java.lang.String) args[0].getValue());
+			case "getPluginInformation":
+				return publicInterface.getPluginInformation((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue());
+			case "getPluginObjectDefinition":
+				return publicInterface.getPluginObjectDefinition((java.lang.Long) args[0].getValue());
+			case "getPluginSettings":
+				return publicInterface.getPluginSettings((java.lang.Long) args[0].getValue());
+			case "getPluginSystemObjectDefinition":
+				return publicInterface.getPluginSystemObjectDefinition((java.lang.Long) args[0].getValue());
+			case "getPluginSystemSettings":
+				return publicInterface.getPluginSystemSettings((java.lang.Long) args[0].getValue());
+			case "getRenderEngineById":
+				return publicInterface.getRenderEngineById((java.lang.Long) args[0].getValue());
+			case "getRenderEngineByName":
+				return publicInterface.getRenderEngineByName((java.lang.String) args[0].getValue());
+			case "getSerializerByPluginClassName":
+				return publicInterface.getSerializerByPluginClassName((java.lang.String) args[0].getValue());
+			case "getWebModuleById":
+				return publicInterface.getWebModuleById((java.lang.Long) args[0].getValue());
+			case "getWebModuleByName":
+				return publicInterface.getWebModuleByName((java.lang.String) args[0].getValue());
+			case "hasActiveSerializer":
+				return publicInterface.hasActiveSerializer((java.lang.String) args[0].getValue());
+			case "hasPreBuiltPlugins":
+				return publicInterface.hasPreBuiltPlugins();
+			case "installPluginBundle":
+				publicInterface.installPluginBundle((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue(), (java.util.List<org.bimserver.interfaces.objects.SPluginInformation>) args[4].getValue());
+				return null;
+			case "installPluginBundleFromFile":
+				publicInterface.installPluginBundleFromFile((javax.activation.DataHandler) args[0].getValue(), (java.lang.Boolean) args[1].getValue(), (java.lang.Boolean) args[2].getValue());
+				return null;
+			case "installPluginBundleFromUrl":
+				publicInterface.installPluginBundleFromUrl((java.lang.String) args[0].getValue(), (java.lang.Boolean) args[1].getValue(), (java.lang.Boolean) args[2].getValue());
+				return null;
+			case "installPreBuiltPlugins":
+				publicInterface.installPreBuiltPlugins((java.util.List<java.lang.String>) args[0].getValue());
+				return null;
+			case "listAllWebModules":
+				return publicInterface.listAllWebModules();
+			case "listPluginsInBundle":
+				return publicInterface.listPluginsInBundle((java.lang.Long) args[0].getValue());
+			case "setDefaultModelCompare":
+				publicInterface.setDefaultModelCompare((java.lang.Long) args[0].getValue());
+				return null;
+			case "setDefaultModelMerger":
+				publicInterface.setDefaultModelMerger((java.lang.Long) args[0].getValue());
+				return null;
+			case "setDefaultQueryEngine":
+				publicInterface.setDefaultQueryEngine((java.lang.Long) args[0].getValue());
+				return null;
+			case "setDefaultRenderEngine":
+				publicInterface.setDefaultRenderEngine((java.lang.Long) args[0].getValue());
+				return null;
+			case "setDefaultSerializer":
+				publicInterface.setDefaultSerializer((java.lang.Long) args[0].getValue());
+				return null;
+			case "setDefaultWebModule":
+				publicInterface.setDefaultWebModule((java.lang.Long) args[0].getValue());
+				return null;
+			case "setPluginSettings":
+				publicInterface.setPluginSettings((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SObjectType) args[1].getValue());
+				return null;
+			case "setPluginSystemSettings":
+				publicInterface.setPluginSystemSettings((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SObjectType) args[1].getValue());
+				return null;
+			case "uninstallPluginBundle":
+				publicInterface.uninstallPluginBundle((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue());
+				return null;
+			case "updateDeserializer":
+				publicInterface.updateDeserializer((org.bimserver.interfaces.objects.SDeserializerPluginConfiguration) args[0].getValue());
+				return null;
+			case "updateInternalService":
+				publicInterface.updateInternalService((org.bimserver.interfaces.objects.SInternalServicePluginConfiguration) args[0].getValue());
+				return null;
+			case "updateModelCompare":
+				publicInterface.updateModelCompare((org.bimserver.interfaces.objects.SModelComparePluginConfiguration) args[0].getValue());
+				return null;
+			case "updateModelMerger":
+				publicInterface.updateModelMerger((org.bimserver.interfaces.objects.SModelMergerPluginConfiguration) args[0].getValue());
+				return null;
+			case "updatePluginBundle":
+				publicInterface.updatePluginBundle((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue());
+				return null;
+			case "updateQueryEngine":
+				publicInterface.updateQueryEngine((org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration) args[0].getValue());
+				return null;
+			case "updateRenderEngine":
+				publicInterface.updateRenderEngine((org.bimserver.interfaces.objects.SRenderEnginePluginConfiguration) args[0].getValue());
+				return null;
+			case "updateSerializer":
+				publicInterface.updateSerializer((org.bimserver.interfaces.objects.SSerializerPluginConfiguration) args[0].getValue());
+				return null;
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class RemoteServiceInterfaceImpl implements org.bimserver.shared.interfaces.RemoteServiceInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public RemoteServiceInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProfileDescriptor> getPrivateProfiles(java.lang.String serviceIdentifier, java.lang.String token) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProfileDescriptor>) this.reflector.callMethod("RemoteServiceInterface", "getPrivateProfiles", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("serviceIdentifier", serviceIdentifier), new org.bimserver.shared.reflector.KeyValuePair("token", token));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProfileDescriptor> getPublicProfiles(java.lang.String serviceIdentifier) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProfileDescriptor>) this.reflector.callMethod("RemoteServiceInterface", "getPublicProfiles", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("serviceIdentifier", serviceIdentifier));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SServiceDescriptor getService(java.lang.String serviceIdentifier) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SServiceDescriptor) this.reflector.callMethod("RemoteServiceInterface", "getService", org.bimserver.interfaces.objects.SServiceDescriptor.class, new org.bimserver.shared.reflector.KeyValuePair("serviceIdentifier", serviceIdentifier));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newExtendedDataOnProject(java.lang.Long poid, java.lang.Long edid, java.lang.Long soid, java.lang.String serviceIdentifier, java.lang.String profileIdentifier, java.lang.String userToken, java.lang.String token, java.lang.String apiUrl) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("RemoteServiceInterface", "newExtendedDataOnProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("edid", edid), new org.bimserver.shared.reflector.KeyValuePair("soid", soid), new org.bimserver.shared.reflector.KeyValuePair("serviceIdentifier", serviceIdentifier), new org.bimserver.shared.reflector.KeyValuePair("profileIdentifier", profileIdentifier), new org.bimserver.shared.reflector.KeyValuePair("userToken", userToken), new org.bimserver.shared.reflector.KeyValuePair("token", token), new org.bimserver.shared.reflector.KeyValuePair("apiUrl", apiUrl));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newExtendedDataOnRevision(java.lang.Long poid, java.lang.Long roid, java.lang.Long edid, java.lang.Long soid, java.lang.String serviceIdentifier, java.lang.String profileIdentifier, java.lang.String userToken, java.lang.String token, java.lang.String apiUrl) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("RemoteServiceInterface", "newExtendedDataOnRevision", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("edid", edid), new org.bimserver.shared.reflector.KeyValuePair("soid", soid), new org.bimserver.shared.reflector.KeyValuePair("serviceIdentifier", serviceIdentifier), new org.bimserver.shared.reflector.KeyValuePair("profileIdentifier", profileIdentifier), new org.bimserver.shared.reflector.KeyValuePair("userToken", userToken), new org.bimserver.shared.reflector.KeyValuePair("token", token), new org.bimserver.shared.reflector.KeyValuePair("apiUrl", apiUrl));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void newRevision(java.lang.Long poid, java.lang.Long roid, java.lang.Long soid, java.lang.String serviceIdentifier, java.lang.String profileIdentifier, java.lang.String userToken, java.lang.String token, java.lang.String apiUrl) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("RemoteServiceInterface", "newRevision", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("soid", soid), new org.bimserver.shared.reflector.KeyValuePair("serviceIdentifier", serviceIdentifier), new org.bimserver.shared.reflector.KeyValuePair("profileIdentifier", profileIdentifier), new org.bimserver.shared.reflector.KeyValuePair("userToken", userToken), new org.bimserver.shared.reflector.KeyValuePair("token", token), new org.bimserver.shared.reflector.KeyValuePair("apiUrl", apiUrl));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,1377 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class ServiceInterfaceImpl implements org.bimserver.shared.interfaces.ServiceInterface {
+	private final org.bimserver.shared.reflector.Reflector reflector;
+
+	public ServiceInterfaceImpl(org.bimserver.shared.reflector.Reflector reflector) {
+		this.reflector = reflector;
+	}
+
+	@Override
+	public java.lang.Long addExtendedDataSchema(org.bimserver.interfaces.objects.SExtendedDataSchema extendedDataSchema) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "addExtendedDataSchema", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("extendedDataSchema", extendedDataSchema));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void addExtendedDataToProject(java.lang.Long poid, org.bimserver.interfaces.objects.SExtendedData extendedData) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "addExtendedDataToProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("extendedData", extendedData));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void addExtendedDataToRevision(java.lang.Long roid, org.bimserver.interfaces.objects.SExtendedData extendedData) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "addExtendedDataToRevision", void.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("extendedData", extendedData));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void addLocalServiceToProject(java.lang.Long poid, org.bimserver.interfaces.objects.SService sService, java.lang.Long internalServiceOid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "addLocalServiceToProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("sService", sService), new org.bimserver.shared.reflector.KeyValuePair("internalServiceOid", internalServiceOid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long addModelChecker(org.bimserver.interfaces.objects.SModelCheckerInstance modelCheckerInstance) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "addModelChecker", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("modelCheckerInstance", modelCheckerInstance));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void addModelCheckerToProject(java.lang.Long poid, java.lang.Long modelCheckerOid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "addModelCheckerToProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("modelCheckerOid", modelCheckerOid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long addNewServiceToProject(java.lang.Long poid, org.bimserver.interfaces.objects.SNewService sService, org.bimserver.interfaces.objects.SAction sAction) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "addNewServiceToProject", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("sService", sService), new org.bimserver.shared.reflector.KeyValuePair("sAction", sAction));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SProject addProject(java.lang.String projectName, java.lang.String schema) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SProject) this.reflector.callMethod("ServiceInterface", "addProject", org.bimserver.interfaces.objects.SProject.class, new org.bimserver.shared.reflector.KeyValuePair("projectName", projectName), new org.bimserver.shared.reflector.KeyValuePair("schema", schema));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SProject addProjectAsSubProject(java.lang.String projectName, java.lang.Long parentPoid, java.lang.String schema) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SProject) this.reflector.callMethod("ServiceInterface", "addProjectAsSubProject", org.bimserver.interfaces.objects.SProject.class, new org.bimserver.shared.reflector.KeyValuePair("projectName", projectName), new org.bimserver.shared.reflector.KeyValuePair("parentPoid", parentPoid), new org.bimserver.shared.reflector.KeyValuePair("schema", schema));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long addServiceToProject(java.lang.Long poid, org.bimserver.interfaces.objects.SService sService) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "addServiceToProject", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("sService", sService));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SUser addUser(java.lang.String username, java.lang.String name, org.bimserver.interfaces.objects.SUserType type, java.lang.Boolean selfRegistration, java.lang.String resetUrl) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SUser) this.reflector.callMethod("ServiceInterface", "addUser", org.bimserver.interfaces.objects.SUser.class, new org.bimserver.shared.reflector.KeyValuePair("username", username), new org.bimserver.shared.reflector.KeyValuePair("name", name), new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("selfRegistration", selfRegistration), new org.bimserver.shared.reflector.KeyValuePair("resetUrl", resetUrl));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void addUserToExtendedDataSchema(java.lang.Long uoid, java.lang.Long edsid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "addUserToExtendedDataSchema", void.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid), new org.bimserver.shared.reflector.KeyValuePair("edsid", edsid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean addUserToProject(java.lang.Long uoid, java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("ServiceInterface", "addUserToProject", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SUser addUserWithPassword(java.lang.String username, java.lang.String password, java.lang.String name, org.bimserver.interfaces.objects.SUserType type, java.lang.Boolean selfRegistration, java.lang.String resetUrl) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SUser) this.reflector.callMethod("ServiceInterface", "addUserWithPassword", org.bimserver.interfaces.objects.SUser.class, new org.bimserver.shared.reflector.KeyValuePair("username", username), new org.bimserver.shared.reflector.KeyValuePair("password", password), new org.bimserver.shared.reflector.KeyValuePair("name", name), new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("selfRegistration", selfRegistration), new org.bimserver.shared.reflector.KeyValuePair("resetUrl", resetUrl));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String bcfToJson(java.lang.Long extendedDataId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("ServiceInterface", "bcfToJson", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("extendedDataId", extendedDataId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long branchToExistingProject(java.lang.Long roid, java.lang.Long destPoid, java.lang.String comment, java.lang.Boolean sync) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "branchToExistingProject", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("destPoid", destPoid), new org.bimserver.shared.reflector.KeyValuePair("comment", comment), new org.bimserver.shared.reflector.KeyValuePair("sync", sync));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long branchToNewProject(java.lang.Long roid, java.lang.String projectName, java.lang.String comment, java.lang.Boolean sync) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "branchToNewProject", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("projectName", projectName), new org.bimserver.shared.reflector.KeyValuePair("comment", comment), new org.bimserver.shared.reflector.KeyValuePair("sync", sync));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void changeUserType(java.lang.Long uoid, org.bimserver.interfaces.objects.SUserType userType) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "changeUserType", void.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid), new org.bimserver.shared.reflector.KeyValuePair("userType", userType));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean checkInternetConnection() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("ServiceInterface", "checkInternetConnection", java.lang.Boolean.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long checkinAsync(java.lang.Long poid, java.lang.String comment, java.lang.Long deserializerOid, java.lang.Long fileSize, java.lang.String fileName, javax.activation.DataHandler data, java.lang.Boolean merge) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "checkinAsync", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("comment", comment), new org.bimserver.shared.reflector.KeyValuePair("deserializerOid", deserializerOid), new org.bimserver.shared.reflector.KeyValuePair("fileSize", fileSize), new org.bimserver.shared.reflector.KeyValuePair("fileName", fileName), new org.bimserver.shared.reflector.KeyValuePair("data", data), new org.bimserver.shared.reflector.KeyValuePair("merge", merge));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long checkinFromUrlAsync(java.lang.Long poid, java.lang.String comment, java.lang.Long deserializerOid, java.lang.String fileName, java.lang.String url, java.lang.Boolean merge) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "checkinFromUrlAsync", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("comment", comment), new org.bimserver.shared.reflector.KeyValuePair("deserializerOid", deserializerOid), new org.bimserver.shared.reflector.KeyValuePair("fileName", fileName), new org.bimserver.shared.reflector.KeyValuePair("url", url), new org.bimserver.shared.reflector.KeyValuePair("merge", merge));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SLongCheckinActionState checkinFromUrlSync(java.lang.Long poid, java.lang.String comment, java.lang.Long deserializerOid, java.lang.String fileName, java.lang.String url, java.lang.Boolean merge) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SLongCheckinActionState) this.reflector.callMethod("ServiceInterface", "checkinFromUrlSync", org.bimserver.interfaces.objects.SLongCheckinActionState.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("comment", comment), new org.bimserver.shared.reflector.KeyValuePair("deserializerOid", deserializerOid), new org.bimserver.shared.reflector.KeyValuePair("fileName", fileName), new org.bimserver.shared.reflector.KeyValuePair("url", url), new org.bimserver.shared.reflector.KeyValuePair("merge", merge));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long checkinInitiatedAsync(java.lang.Long topicId, java.lang.Long poid, java.lang.String comment, java.lang.Long deserializerOid, java.lang.Long fileSize, java.lang.String fileName, javax.activation.DataHandler data, java.lang.Boolean merge) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "checkinInitiatedAsync", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId), new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("comment", comment), new org.bimserver.shared.reflector.KeyValuePair("deserializerOid", deserializerOid), new org.bimserver.shared.reflector.KeyValuePair("fileSize", fileSize), new org.bimserver.shared.reflector.KeyValuePair("fileName", fileName), new org.bimserver.shared.reflector.KeyValuePair("data", data), new org.bimserver.shared.reflector.KeyValuePair("merge", merge));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SLongCheckinActionState checkinInitiatedSync(java.lang.Long topicId, java.lang.Long poid, java.lang.String comment, java.lang.Long deserializerOid, java.lang.Long fileSize, java.lang.String fileName, javax.activation.DataHandler data, java.lang.Boolean merge) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SLongCheckinActionState) this.reflector.callMethod("ServiceInterface", "checkinInitiatedSync", org.bimserver.interfaces.objects.SLongCheckinActionState.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId), new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("comment", comment), new org.bimserver.shared.reflector.KeyValuePair("deserializerOid", deserializerOid), new org.bimserver.shared.reflector.KeyValuePair("fileSize", fileSize), new org.bimserver.shared.reflector.KeyValuePair("fileName", fileName), new org.bimserver.shared.reflector.KeyValuePair("data", data), new org.bimserver.shared.reflector.KeyValuePair("merge", merge));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SLongCheckinActionState checkinSync(java.lang.Long poid, java.lang.String comment, java.lang.Long deserializerOid, java.lang.Long fileSize, java.lang.String fileName, javax.activation.DataHandler data, java.lang.Boolean merge) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SLongCheckinActionState) this.reflector.callMethod("ServiceInterface", "checkinSync", org.bimserver.interfaces.objects.SLongCheckinActionState.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("comment", comment), new org.bimserver.shared.reflector.KeyValuePair("deserializerOid", deserializerOid), new org.bimserver.shared.reflector.KeyValuePair("fileSize", fileSize), new org.bimserver.shared.reflector.KeyValuePair("fileName", fileName), new org.bimserver.shared.reflector.KeyValuePair("data", data), new org.bimserver.shared.reflector.KeyValuePair("merge", merge));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long checkout(java.lang.Long roid, java.lang.Long serializerOid, java.lang.Boolean sync) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "checkout", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("serializerOid", serializerOid), new org.bimserver.shared.reflector.KeyValuePair("sync", sync));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void cleanupLongAction(java.lang.Long topicId) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "cleanupLongAction", void.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long clone(java.lang.Long roid, java.lang.String projectName, java.lang.String comment, java.lang.Boolean sync) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "clone", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("projectName", projectName), new org.bimserver.shared.reflector.KeyValuePair("comment", comment), new org.bimserver.shared.reflector.KeyValuePair("sync", sync));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SCompareResult compare(java.lang.Long roid1, java.lang.Long roid2, org.bimserver.interfaces.objects.SCompareType sCompareType, java.lang.Long mcid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SCompareResult) this.reflector.callMethod("ServiceInterface", "compare", org.bimserver.interfaces.objects.SCompareResult.class, new org.bimserver.shared.reflector.KeyValuePair("roid1", roid1), new org.bimserver.shared.reflector.KeyValuePair("roid2", roid2), new org.bimserver.shared.reflector.KeyValuePair("sCompareType", sCompareType), new org.bimserver.shared.reflector.KeyValuePair("mcid", mcid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean deleteProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("ServiceInterface", "deleteProject", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void deleteService(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "deleteService", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean deleteUser(java.lang.Long uoid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("ServiceInterface", "deleteUser", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String determineIfcVersion(byte[] head, java.lang.Boolean zipped) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServiceException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("ServiceInterface", "determineIfcVersion", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("head", head), new org.bimserver.shared.reflector.KeyValuePair("zipped", zipped));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long download(java.util.Set<java.lang.Long> roids, java.lang.String query, java.lang.Long serializerOid, java.lang.Boolean sync) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "download", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("roids", roids), new org.bimserver.shared.reflector.KeyValuePair("query", query), new org.bimserver.shared.reflector.KeyValuePair("serializerOid", serializerOid), new org.bimserver.shared.reflector.KeyValuePair("sync", sync));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long downloadCompareResults(java.lang.Long serializerOid, java.lang.Long roid1, java.lang.Long roid2, java.lang.Long mcid, org.bimserver.interfaces.objects.SCompareType type, java.lang.Boolean sync) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "downloadCompareResults", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("serializerOid", serializerOid), new org.bimserver.shared.reflector.KeyValuePair("roid1", roid1), new org.bimserver.shared.reflector.KeyValuePair("roid2", roid2), new org.bimserver.shared.reflector.KeyValuePair("mcid", mcid), new org.bimserver.shared.reflector.KeyValuePair("type", type), new org.bimserver.shared.reflector.KeyValuePair("sync", sync));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SUser> getAllAuthorizedUsersOfProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SUser>) this.reflector.callMethod("ServiceInterface", "getAllAuthorizedUsersOfProject", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SCheckout> getAllCheckoutsByUser(java.lang.Long uoid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SCheckout>) this.reflector.callMethod("ServiceInterface", "getAllCheckoutsByUser", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SCheckout> getAllCheckoutsOfProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SCheckout>) this.reflector.callMethod("ServiceInterface", "getAllCheckoutsOfProject", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SCheckout> getAllCheckoutsOfProjectAndSubProjects(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SCheckout>) this.reflector.callMethod("ServiceInterface", "getAllCheckoutsOfProjectAndSubProjects", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SCheckout> getAllCheckoutsOfRevision(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SCheckout>) this.reflector.callMethod("ServiceInterface", "getAllCheckoutsOfRevision", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SExtendedData> getAllExtendedDataOfRevision(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SExtendedData>) this.reflector.callMethod("ServiceInterface", "getAllExtendedDataOfRevision", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SExtendedData> getAllExtendedDataOfRevisionAndSchema(java.lang.Long roid, java.lang.Long schemaId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SExtendedData>) this.reflector.callMethod("ServiceInterface", "getAllExtendedDataOfRevisionAndSchema", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("schemaId", schemaId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SExtendedDataSchema> getAllExtendedDataSchemas() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SExtendedDataSchema>) this.reflector.callMethod("ServiceInterface", "getAllExtendedDataSchemas", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProfileDescriptor> getAllLocalProfiles(java.lang.String serviceIdentifier) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProfileDescriptor>) this.reflector.callMethod("ServiceInterface", "getAllLocalProfiles", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("serviceIdentifier", serviceIdentifier));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SServiceDescriptor> getAllLocalServiceDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SServiceDescriptor>) this.reflector.callMethod("ServiceInterface", "getAllLocalServiceDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SModelCheckerInstance> getAllModelCheckers() throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SModelCheckerInstance>) this.reflector.callMethod("ServiceInterface", "getAllModelCheckers", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SModelCheckerInstance> getAllModelCheckersOfProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SModelCheckerInstance>) this.reflector.callMethod("ServiceInterface", "getAllModelCheckersOfProject", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SNewService> getAllNewServicesOfProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SNewService>) this.reflector.callMethod("ServiceInterface", "getAllNewServicesOfProject", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProject> getAllNonAuthorizedProjectsOfUser(java.lang.Long uoid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProject>) this.reflector.callMethod("ServiceInterface", "getAllNonAuthorizedProjectsOfUser", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SUser> getAllNonAuthorizedUsersOfProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SUser>) this.reflector.callMethod("ServiceInterface", "getAllNonAuthorizedUsersOfProject", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProfileDescriptor> getAllPrivateProfiles(java.lang.String notificationsUrl, java.lang.String serviceIdentifier) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProfileDescriptor>) this.reflector.callMethod("ServiceInterface", "getAllPrivateProfiles", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("notificationsUrl", notificationsUrl), new org.bimserver.shared.reflector.KeyValuePair("serviceIdentifier", serviceIdentifier));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProject> getAllProjects(java.lang.Boolean onlyTopLevel, java.lang.Boolean onlyActive) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProject>) this.reflector.callMethod("ServiceInterface", "getAllProjects", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("onlyTopLevel", onlyTopLevel), new org.bimserver.shared.reflector.KeyValuePair("onlyActive", onlyActive));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProjectSmall> getAllProjectsSmall() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProjectSmall>) this.reflector.callMethod("ServiceInterface", "getAllProjectsSmall", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProfileDescriptor> getAllPublicProfiles(java.lang.String notificationsUrl, java.lang.String serviceIdentifier) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProfileDescriptor>) this.reflector.callMethod("ServiceInterface", "getAllPublicProfiles", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("notificationsUrl", notificationsUrl), new org.bimserver.shared.reflector.KeyValuePair("serviceIdentifier", serviceIdentifier));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProject> getAllReadableProjects() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProject>) this.reflector.callMethod("ServiceInterface", "getAllReadableProjects", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProjectSmall> getAllRelatedProjects(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProjectSmall>) this.reflector.callMethod("ServiceInterface", "getAllRelatedProjects", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SExtendedDataSchema> getAllRepositoryExtendedDataSchemas(java.lang.Boolean usePre) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SExtendedDataSchema>) this.reflector.callMethod("ServiceInterface", "getAllRepositoryExtendedDataSchemas", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("usePre", usePre));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SModelCheckerInstance> getAllRepositoryModelCheckers() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SModelCheckerInstance>) this.reflector.callMethod("ServiceInterface", "getAllRepositoryModelCheckers", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SRevision> getAllRevisionsByUser(java.lang.Long uoid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SRevision>) this.reflector.callMethod("ServiceInterface", "getAllRevisionsByUser", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SRevision> getAllRevisionsOfProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SRevision>) this.reflector.callMethod("ServiceInterface", "getAllRevisionsOfProject", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SServiceDescriptor> getAllServiceDescriptors() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SServiceDescriptor>) this.reflector.callMethod("ServiceInterface", "getAllServiceDescriptors", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SService> getAllServicesOfProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SService>) this.reflector.callMethod("ServiceInterface", "getAllServicesOfProject", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SUser> getAllUsers() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SUser>) this.reflector.callMethod("ServiceInterface", "getAllUsers", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProject> getAllWritableProjects() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProject>) this.reflector.callMethod("ServiceInterface", "getAllWritableProjects", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Double getArea(java.lang.Long roid, java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Double) this.reflector.callMethod("ServiceInterface", "getArea", java.lang.Double.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.String> getAvailableClasses() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<java.lang.String>) this.reflector.callMethod("ServiceInterface", "getAvailableClasses", java.util.List.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.String> getAvailableClassesInRevision(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<java.lang.String>) this.reflector.callMethod("ServiceInterface", "getAvailableClassesInRevision", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.Set<java.lang.String> getCheckinWarnings(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.Set<java.lang.String>) this.reflector.callMethod("ServiceInterface", "getCheckinWarnings", java.util.Set.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.Set<java.lang.String> getCheckoutWarnings(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.Set<java.lang.String>) this.reflector.callMethod("ServiceInterface", "getCheckoutWarnings", java.util.Set.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SDensity getDensityThreshold(java.util.Set<java.lang.Long> roids, java.lang.Long nrTriangles, java.util.Set<java.lang.String> excludedTypes) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SDensity) this.reflector.callMethod("ServiceInterface", "getDensityThreshold", org.bimserver.interfaces.objects.SDensity.class, new org.bimserver.shared.reflector.KeyValuePair("roids", roids), new org.bimserver.shared.reflector.KeyValuePair("nrTriangles", nrTriangles), new org.bimserver.shared.reflector.KeyValuePair("excludedTypes", excludedTypes));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SDeserializerPluginConfiguration getDeserializerById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SDeserializerPluginConfiguration) this.reflector.callMethod("ServiceInterface", "getDeserializerById", org.bimserver.interfaces.objects.SDeserializerPluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SDeserializerPluginConfiguration getDeserializerByName(java.lang.String deserializerName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SDeserializerPluginConfiguration) this.reflector.callMethod("ServiceInterface", "getDeserializerByName", org.bimserver.interfaces.objects.SDeserializerPluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("deserializerName", deserializerName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SDownloadResult getDownloadData(java.lang.Long topicId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SDownloadResult) this.reflector.callMethod("ServiceInterface", "getDownloadData", org.bimserver.interfaces.objects.SDownloadResult.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SExtendedData getExtendedData(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SExtendedData) this.reflector.callMethod("ServiceInterface", "getExtendedData", org.bimserver.interfaces.objects.SExtendedData.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SExtendedDataSchema getExtendedDataSchemaById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SExtendedDataSchema) this.reflector.callMethod("ServiceInterface", "getExtendedDataSchemaById", org.bimserver.interfaces.objects.SExtendedDataSchema.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SExtendedDataSchema getExtendedDataSchemaByName(java.lang.String name) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SExtendedDataSchema) this.reflector.callMethod("ServiceInterface", "getExtendedDataSchemaByName", org.bimserver.interfaces.objects.SExtendedDataSchema.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SExtendedDataSchema getExtendedDataSchemaFromRepository(java.lang.String namespace) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SExtendedDataSchema) this.reflector.callMethod("ServiceInterface", "getExtendedDataSchemaFromRepository", org.bimserver.interfaces.objects.SExtendedDataSchema.class, new org.bimserver.shared.reflector.KeyValuePair("namespace", namespace));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SFile getFile(java.lang.Long fileId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SFile) this.reflector.callMethod("ServiceInterface", "getFile", org.bimserver.interfaces.objects.SFile.class, new org.bimserver.shared.reflector.KeyValuePair("fileId", fileId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SFile getFileMeta(java.lang.Long fileId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SFile) this.reflector.callMethod("ServiceInterface", "getFileMeta", org.bimserver.interfaces.objects.SFile.class, new org.bimserver.shared.reflector.KeyValuePair("fileId", fileId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SGeoTag getGeoTag(java.lang.Long goid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SGeoTag) this.reflector.callMethod("ServiceInterface", "getGeoTag", org.bimserver.interfaces.objects.SGeoTag.class, new org.bimserver.shared.reflector.KeyValuePair("goid", goid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.Set<java.lang.Long> getGeometryDataToReuse(java.util.Set<java.lang.Long> roids, java.util.Set<java.lang.String> excludedTypes, java.lang.Integer trianglesToSave) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.util.Set<java.lang.Long>) this.reflector.callMethod("ServiceInterface", "getGeometryDataToReuse", java.util.Set.class, new org.bimserver.shared.reflector.KeyValuePair("roids", roids), new org.bimserver.shared.reflector.KeyValuePair("excludedTypes", excludedTypes), new org.bimserver.shared.reflector.KeyValuePair("trianglesToSave", trianglesToSave));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SGeometryInfo getGeometryInfo(java.lang.Long roid, java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SGeometryInfo) this.reflector.callMethod("ServiceInterface", "getGeometryInfo", org.bimserver.interfaces.objects.SGeometryInfo.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SIfcHeader getIfcHeader(java.lang.Long croid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SIfcHeader) this.reflector.callMethod("ServiceInterface", "getIfcHeader", org.bimserver.interfaces.objects.SIfcHeader.class, new org.bimserver.shared.reflector.KeyValuePair("croid", croid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SExtendedData getLastExtendedDataOfRevisionAndSchema(java.lang.Long roid, java.lang.Long schemaId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SExtendedData) this.reflector.callMethod("ServiceInterface", "getLastExtendedDataOfRevisionAndSchema", org.bimserver.interfaces.objects.SExtendedData.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("schemaId", schemaId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SBounds getModelBounds(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SBounds) this.reflector.callMethod("ServiceInterface", "getModelBounds", org.bimserver.interfaces.objects.SBounds.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SBounds getModelBoundsForConcreteRevision(java.lang.Long croid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SBounds) this.reflector.callMethod("ServiceInterface", "getModelBoundsForConcreteRevision", org.bimserver.interfaces.objects.SBounds.class, new org.bimserver.shared.reflector.KeyValuePair("croid", croid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SBounds getModelBoundsUntransformed(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SBounds) this.reflector.callMethod("ServiceInterface", "getModelBoundsUntransformed", org.bimserver.interfaces.objects.SBounds.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SBounds getModelBoundsUntransformedForConcreteRevision(java.lang.Long croid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SBounds) this.reflector.callMethod("ServiceInterface", "getModelBoundsUntransformedForConcreteRevision", org.bimserver.interfaces.objects.SBounds.class, new org.bimserver.shared.reflector.KeyValuePair("croid", croid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SModelCheckerInstance getModelCheckerInstance(java.lang.Long mcioid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SModelCheckerInstance) this.reflector.callMethod("ServiceInterface", "getModelCheckerInstance", org.bimserver.interfaces.objects.SModelCheckerInstance.class, new org.bimserver.shared.reflector.KeyValuePair("mcioid", mcioid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SVector3f getModelMaxBounds(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SVector3f) this.reflector.callMethod("ServiceInterface", "getModelMaxBounds", org.bimserver.interfaces.objects.SVector3f.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SVector3f getModelMinBounds(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SVector3f) this.reflector.callMethod("ServiceInterface", "getModelMinBounds", org.bimserver.interfaces.objects.SVector3f.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SNewService getNewService(java.lang.Long soid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SNewService) this.reflector.callMethod("ServiceInterface", "getNewService", org.bimserver.interfaces.objects.SNewService.class, new org.bimserver.shared.reflector.KeyValuePair("soid", soid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long getNrPrimitives(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "getNrPrimitives", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long getNrPrimitivesTotal(java.util.Set<java.lang.Long> roids) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "getNrPrimitivesTotal", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("roids", roids));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long getOidByGuid(java.lang.Long roid, java.lang.String guid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "getOidByGuid", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("guid", guid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SProject getProjectByPoid(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SProject) this.reflector.callMethod("ServiceInterface", "getProjectByPoid", org.bimserver.interfaces.objects.SProject.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SProject getProjectByUuid(java.lang.String uuid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SProject) this.reflector.callMethod("ServiceInterface", "getProjectByUuid", org.bimserver.interfaces.objects.SProject.class, new org.bimserver.shared.reflector.KeyValuePair("uuid", uuid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SProjectSmall getProjectSmallByPoid(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SProjectSmall) this.reflector.callMethod("ServiceInterface", "getProjectSmallByPoid", org.bimserver.interfaces.objects.SProjectSmall.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProject> getProjectsByName(java.lang.String name) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProject>) this.reflector.callMethod("ServiceInterface", "getProjectsByName", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration getQueryEngineById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration) this.reflector.callMethod("ServiceInterface", "getQueryEngineById", org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration getQueryEngineByName(java.lang.String name) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration) this.reflector.callMethod("ServiceInterface", "getQueryEngineByName", org.bimserver.interfaces.objects.SQueryEnginePluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String getQueryEngineExample(java.lang.Long qeid, java.lang.String key) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("ServiceInterface", "getQueryEngineExample", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("qeid", qeid), new org.bimserver.shared.reflector.KeyValuePair("key", key));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.String> getQueryEngineExampleKeys(java.lang.Long qeid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<java.lang.String>) this.reflector.callMethod("ServiceInterface", "getQueryEngineExampleKeys", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("qeid", qeid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SRevision getRevision(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SRevision) this.reflector.callMethod("ServiceInterface", "getRevision", org.bimserver.interfaces.objects.SRevision.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SRevisionSummary getRevisionSummary(java.lang.Long roid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SRevisionSummary) this.reflector.callMethod("ServiceInterface", "getRevisionSummary", org.bimserver.interfaces.objects.SRevisionSummary.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SSerializerPluginConfiguration getSerializerByContentType(java.lang.String contentType) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SSerializerPluginConfiguration) this.reflector.callMethod("ServiceInterface", "getSerializerByContentType", org.bimserver.interfaces.objects.SSerializerPluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("contentType", contentType));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SSerializerPluginConfiguration getSerializerById(java.lang.Long oid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SSerializerPluginConfiguration) this.reflector.callMethod("ServiceInterface", "getSerializerById", org.bimserver.interfaces.objects.SSerializerPluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SSerializerPluginConfiguration getSerializerByName(java.lang.String serializerName) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SSerializerPluginConfiguration) this.reflector.callMethod("ServiceInterface", "getSerializerByName", org.bimserver.interfaces.objects.SSerializerPluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("serializerName", serializerName));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SService getService(java.lang.Long soid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SService) this.reflector.callMethod("ServiceInterface", "getService", org.bimserver.interfaces.objects.SService.class, new org.bimserver.shared.reflector.KeyValuePair("soid", soid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SServiceDescriptor getServiceDescriptor(java.lang.String baseUrl, java.lang.String serviceIdentifier) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SServiceDescriptor) this.reflector.callMethod("ServiceInterface", "getServiceDescriptor", org.bimserver.interfaces.objects.SServiceDescriptor.class, new org.bimserver.shared.reflector.KeyValuePair("baseUrl", baseUrl), new org.bimserver.shared.reflector.KeyValuePair("serviceIdentifier", serviceIdentifier));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SProject getSubProjectByName(java.lang.Long parentProjectId, java.lang.String name) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (org.bimserver.interfaces.objects.SProject) this.reflector.callMethod("ServiceInterface", "getSubProjectByName", org.bimserver.interfaces.objects.SProject.class, new org.bimserver.shared.reflector.KeyValuePair("parentProjectId", parentProjectId), new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProject> getSubProjects(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProject>) this.reflector.callMethod("ServiceInterface", "getSubProjects", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SDeserializerPluginConfiguration getSuggestedDeserializerForExtension(java.lang.String extension, java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SDeserializerPluginConfiguration) this.reflector.callMethod("ServiceInterface", "getSuggestedDeserializerForExtension", org.bimserver.interfaces.objects.SDeserializerPluginConfiguration.class, new org.bimserver.shared.reflector.KeyValuePair("extension", extension), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<java.lang.Number> getTileCounts(java.util.Set<java.lang.Long> roids, java.util.Set<java.lang.String> excludedTypes, java.util.Set<java.lang.Long> geometryIdsToReuse, java.lang.Float minimumThreshold, java.lang.Float maximumThreshold, java.lang.Integer depth) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<java.lang.Number>) this.reflector.callMethod("ServiceInterface", "getTileCounts", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("roids", roids), new org.bimserver.shared.reflector.KeyValuePair("excludedTypes", excludedTypes), new org.bimserver.shared.reflector.KeyValuePair("geometryIdsToReuse", geometryIdsToReuse), new org.bimserver.shared.reflector.KeyValuePair("minimumThreshold", minimumThreshold), new org.bimserver.shared.reflector.KeyValuePair("maximumThreshold", maximumThreshold), new org.bimserver.shared.reflector.KeyValuePair("depth", depth));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.STile> getTiles(java.util.Set<java.lang.Long> roids, java.util.Set<java.lang.String> excludedTypes, java.util.Set<java.lang.Long> geometryIdsToReuse, java.lang.Float minimumThreshold, java.lang.Float maximumThreshold, java.lang.Integer depth) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.STile>) this.reflector.callMethod("ServiceInterface", "getTiles", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("roids", roids), new org.bimserver.shared.reflector.KeyValuePair("excludedTypes", excludedTypes), new org.bimserver.shared.reflector.KeyValuePair("geometryIdsToReuse", geometryIdsToReuse), new org.bimserver.shared.reflector.KeyValuePair("minimumThreshold", minimumThreshold), new org.bimserver.shared.reflector.KeyValuePair("maximumThreshold", maximumThreshold), new org.bimserver.shared.reflector.KeyValuePair("depth", depth));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SProject getTopLevelProjectByName(java.lang.String name) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SProject) this.reflector.callMethod("ServiceInterface", "getTopLevelProjectByName", org.bimserver.interfaces.objects.SProject.class, new org.bimserver.shared.reflector.KeyValuePair("name", name));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SBounds getTotalBounds(java.util.Set<java.lang.Long> roids) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SBounds) this.reflector.callMethod("ServiceInterface", "getTotalBounds", org.bimserver.interfaces.objects.SBounds.class, new org.bimserver.shared.reflector.KeyValuePair("roids", roids));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SBounds getTotalUntransformedBounds(java.util.Set<java.lang.Long> roids) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SBounds) this.reflector.callMethod("ServiceInterface", "getTotalUntransformedBounds", org.bimserver.interfaces.objects.SBounds.class, new org.bimserver.shared.reflector.KeyValuePair("roids", roids));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SUser getUserByUoid(java.lang.Long uoid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SUser) this.reflector.callMethod("ServiceInterface", "getUserByUoid", org.bimserver.interfaces.objects.SUser.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SUser getUserByUserName(java.lang.String username) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SUser) this.reflector.callMethod("ServiceInterface", "getUserByUserName", org.bimserver.interfaces.objects.SUser.class, new org.bimserver.shared.reflector.KeyValuePair("username", username));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SLogAction> getUserRelatedLogs(java.lang.Long uoid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SLogAction>) this.reflector.callMethod("ServiceInterface", "getUserRelatedLogs", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public org.bimserver.interfaces.objects.SUserSettings getUserSettings() throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (org.bimserver.interfaces.objects.SUserSettings) this.reflector.callMethod("ServiceInterface", "getUserSettings", org.bimserver.interfaces.objects.SUserSettings.class);
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SProject> getUsersProjects(java.lang.Long uoid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SProject>) this.reflector.callMethod("ServiceInterface", "getUsersProjects", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Double getVolume(java.lang.Long roid, java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.Double) this.reflector.callMethod("ServiceInterface", "getVolume", java.lang.Double.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void importData(java.lang.String address, java.lang.String username, java.lang.String password, java.lang.String path) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "importData", void.class, new org.bimserver.shared.reflector.KeyValuePair("address", address), new org.bimserver.shared.reflector.KeyValuePair("username", username), new org.bimserver.shared.reflector.KeyValuePair("password", password), new org.bimserver.shared.reflector.KeyValuePair("path", path));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long initiateCheckin(java.lang.Long poid, java.lang.Long deserializerOid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "initiateCheckin", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("deserializerOid", deserializerOid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.util.List<org.bimserver.interfaces.objects.SBounds> listBoundingBoxes(java.util.Set<java.lang.Long> roids) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.util.List<org.bimserver.interfaces.objects.SBounds>) this.reflector.callMethod("ServiceInterface", "listBoundingBoxes", java.util.List.class, new org.bimserver.shared.reflector.KeyValuePair("roids", roids));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long regenerateGeometry(java.lang.Long roid, java.lang.Long eoid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "regenerateGeometry", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("eoid", eoid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void removeModelCheckerFromProject(java.lang.Long poid, java.lang.Long modelCheckerOid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "removeModelCheckerFromProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("modelCheckerOid", modelCheckerOid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void removeNewServiceFromProject(java.lang.Long poid, java.lang.Long serviceOid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "removeNewServiceFromProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("serviceOid", serviceOid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void removeServiceFromProject(java.lang.Long poid, java.lang.Long serviceOid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "removeServiceFromProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("serviceOid", serviceOid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void removeUserFromExtendedDataSchema(java.lang.Long uoid, java.lang.Long edsid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "removeUserFromExtendedDataSchema", void.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid), new org.bimserver.shared.reflector.KeyValuePair("edsid", edsid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean removeUserFromProject(java.lang.Long uoid, java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("ServiceInterface", "removeUserFromProject", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void sendCompareEmail(org.bimserver.interfaces.objects.SCompareType sCompareType, java.lang.Long mcid, java.lang.Long poid, java.lang.Long roid1, java.lang.Long roid2, java.lang.String address) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "sendCompareEmail", void.class, new org.bimserver.shared.reflector.KeyValuePair("sCompareType", sCompareType), new org.bimserver.shared.reflector.KeyValuePair("mcid", mcid), new org.bimserver.shared.reflector.KeyValuePair("poid", poid), new org.bimserver.shared.reflector.KeyValuePair("roid1", roid1), new org.bimserver.shared.reflector.KeyValuePair("roid2", roid2), new org.bimserver.shared.reflector.KeyValuePair("address", address));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void setRevisionTag(java.lang.Long roid, java.lang.String tag) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "setRevisionTag", void.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("tag", tag));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.String shareRevision(java.lang.Long roid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			return (java.lang.String) this.reflector.callMethod("ServiceInterface", "shareRevision", java.lang.String.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void terminateLongRunningAction(java.lang.Long topicId) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "terminateLongRunningAction", void.class, new org.bimserver.shared.reflector.KeyValuePair("topicId", topicId));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void triggerNewExtendedData(java.lang.Long edid, java.lang.Long soid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "triggerNewExtendedData", void.class, new org.bimserver.shared.reflector.KeyValuePair("edid", edid), new org.bimserver.shared.reflector.KeyValuePair("soid", soid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void triggerNewRevision(java.lang.Long roid, java.lang.Long soid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "triggerNewRevision", void.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("soid", soid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void triggerRevisionService(java.lang.Long roid, java.lang.Long soid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "triggerRevisionService", void.class, new org.bimserver.shared.reflector.KeyValuePair("roid", roid), new org.bimserver.shared.reflector.KeyValuePair("soid", soid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean undeleteProject(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("ServiceInterface", "undeleteProject", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean undeleteUser(java.lang.Long uoid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("ServiceInterface", "undeleteUser", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateGeoTag(org.bimserver.interfaces.objects.SGeoTag sGeoTag) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "updateGeoTag", void.class, new org.bimserver.shared.reflector.KeyValuePair("sGeoTag", sGeoTag));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateModelChecker(org.bimserver.interfaces.objects.SModelCheckerInstance modelCheckerInstance) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "updateModelChecker", void.class, new org.bimserver.shared.reflector.KeyValuePair("modelCheckerInstance", modelCheckerInstance));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateProject(org.bimserver.interfaces.objects.SProject sProject) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "updateProject", void.class, new org.bimserver.shared.reflector.KeyValuePair("sProject", sProject));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void updateRevision(org.bimserver.interfaces.objects.SRevision sRevision) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "updateRevision", void.class, new org.bimserver.shared.reflector.KeyValuePair("sRevision", sRevision));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Long uploadFile(org.bimserver.interfaces.objects.SFile file) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Long) this.reflector.callMethod("ServiceInterface", "uploadFile", java.lang.Long.class, new org.bimserver.shared.reflector.KeyValuePair("file", file));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean userHasCheckinRights(java.lang.Long uoid, java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("ServiceInterface", "userHasCheckinRights", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("uoid", uoid), new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public java.lang.Boolean userHasRights(java.lang.Long poid) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			return (java.lang.Boolean) this.reflector.callMethod("ServiceInterface", "userHasRights", java.lang.Boolean.class, new org.bimserver.shared.reflector.KeyValuePair("poid", poid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+
+	@Override
+	public void validateModelChecker(java.lang.Long oid) throws org.bimserver.shared.exceptions.UserException, org.bimserver.shared.exceptions.ServerException {
+		try {
+			this.reflector.callMethod("ServiceInterface", "validateModelChecker", void.class, new org.bimserver.shared.reflector.KeyValuePair("oid", oid));
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
@@ -0,0 +1,363 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class ServiceInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.ServiceInterface publicInterface;
+
+	public ServiceInterfaceReflector(org.bimserver.shared.interfaces.ServiceInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "addExtendedDataSchema":
+				return publicInterface.addExtendedDataSchema((org.bimserver.interfaces.objects.SExtendedDataSchema) args[0].getValue());
+			case "addExtendedDataToProject":
+				publicInterface.addExtendedDataToProject((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SExtendedData) args[1].getValue());
+				return null;
+			case "addExtendedDataToRevision":
+				publicInterface.addExtendedDataToRevision((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SExtendedData) args[1].getValue());
+				return null;
+			case "addLocalServiceToProject":
+				publicInterface.addLocalServiceToProject((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SService) args[1].getValue(), (java.lang.Long) args[2].getValue());
+				return null;
+			case "addModelChecker":
+				return publicInterface.addModelChecker((org.bimserver.interfaces.objects.SModelCheckerInstance) args[0].getValue());
+			case "addModelCheckerToProject":
+				publicInterface.addModelCheckerToProject((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "addNewServiceToProject":
+				return publicInterface.addNewServiceToProject((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SNewService) args[1].getValue(), (org.bimserver.interfaces.objects.SAction) args[2].getValue());
+			case "addProject":
+				return publicInterface.addProject((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "addProjectAsSubProject":
+				return publicInterface.addProjectAsSubProject((java.lang.String) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue());
+			case "addServiceToProject":
+				return publicInterface.addServiceToProject((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SService) args[1].getValue());
+			case "addUser":
+				return publicInterface.addUser((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (org.bimserver.interfaces.objects.SUserType) args[2].getValue(), (java.lang.Boolean) args[3].getValue(), (java.lang.String) args[4].getValue());
+			case "addUserToExtendedDataSchema":
+				publicInterface.addUserToExtendedDataSchema((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "addUserToProject":
+				return publicInterface.addUserToProject((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "addUserWithPassword":
+				return publicInterface.addUserWithPassword((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue(), (org.bimserver.interfaces.objects.SUserType) args[3].getValue(), (java.lang.Boolean) args[4].getValue(), (java.lang.String) args[5].getValue());
+			case "bcfToJson":
+				return publicInterface.bcfToJson((java.lang.Long) args[0].getValue());
+			case "branchToExistingProject":
+				return publicInterface.branchToExistingProject((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Boolean) args[3].getValue());
+			case "branchToNewProject":
+				return publicInterface.branchToNewProject((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Boolean) args[3].getValue());
+			case "changeUserType":
+				publicInterface.changeUserType((java.lang.Long) args[0].getValue(), (org.bimserver.interfaces.objects.SUserType) args[1].getValue());
+				return null;
+			case "checkInternetConnection":
+				return publicInterface.checkInternetConnection();
+			case "checkinAsync":
+				return publicInterface.checkinAsync((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.Long) args[2].getValue(), (java.lang.Long) args[3].getValue(), (java.lang.String) args[4].getValue(), (javax.activation.DataHandler) args[5].getValue(), (java.lang.Boolean) args[6].getValue());
+			case "checkinFromUrlAsync":
+				return publicInterface.checkinFromUrlAsync((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.Long) args[2].getValue(), (java.lang.String) args[3].getValue(), (java.lang.String) args[4].getValue(), (java.lang.Boolean) args[5].getValue());
+			case "checkinFromUrlSync":
+				return publicInterface.checkinFromUrlSync((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.Long) args[2].getValue(), (java.lang.String) args[3].getValue(), (java.lang.String) args[4].getValue(), (java.lang.Boolean) args[5].getValue());
+			case "checkinInitiatedAsync":
+				return publicInterface.checkinInitiatedAsync((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Long) args[3].getValue(), (java.lang.Long) args[4].getValue(), (java.lang.String) args[5].getValue(), (javax.activation.DataHandler) args[6].getValue(), (java.lang.Boolean) args[7].getValue());
+			case "checkinInitiatedSync":
+				return publicInterface.checkinInitiatedSync((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Long) args[3].getValue(), (java.lang.Long) args[4].getValue(), (java.lang.String) args[5].getValue(), (javax.activation.DataHandler) args[6].getValue(), (java.lang.Boolean) args[7].getValue());
+			case "checkinSync":
+				return publicInterface.checkinSync((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.Long) args[2].getValue(), (java.lang.Long) args[3].getValue(), (java.lang.String) args[4].getValue(), (javax.activation.DataHandler) args[5].getValue(), (java.lang.Boolean) args[6].getValue());
+			case "checkout":
+				return publicInterface.checkout((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.Boolean) args[2].getValue());
+			case "cleanupLongAction":
+				publicInterface.cleanupLongAction((java.lang.Long) args[0].getValue());
+				return null;
+			case "clone":
+				return publicInterface.clone((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.Boolean) args[3].getValue());
+			case "compare":
+				return publicInterface.compare((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (org.bimserver.interfaces.objects.SCompareType) args[2].getValue(), (java.lang.Long) args[3].getValue());
+			case "deleteProject":
+				return publicInterface.deleteProject((java.lang.Long) args[0].getValue());
+			case "deleteService":
+				publicInterface.deleteService((java.lang.Long) args[0].getValue());
+				return null;
+			case "deleteUser":
+				return publicInterface.deleteUser((java.lang.Long) args[0].getValue());
+			case "determineIfcVersion":
+				return publicInterface.determineIfcVersion((byte[]) args[0].getValue(), (java.lang.Boolean) args[1].getValue());
+			case "download":
+				return publicInterface.download((java.util.Set<java.lang.Long>) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.Long) args[2].getValue(), (java.lang.Boolean) args[3].getValue());
+			case "downloadCompareResults":
+				return publicInterface.downloadCompareResults((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.Long) args[2].getValue(), (java.lang.Long) args[3].getValue(), (org.bimserver.interfaces.objects.SCompareType) args[4].getValue(), (java.lang.Boolean) args[5].getValue());
+			case "getAllAuthorizedUsersOfProject":
+				return publicInterface.getAllAuthorizedUsersOfProject((java.lang.Long) args[0].getValue());
+			case "getAllCheckoutsByUser":
+				return publicInterface.getAllCheckoutsByUser((java.lang.Long) args[0].getValue());
+			case "getAllCheckoutsOfProject":
+				return publicInterface.getAllCheckoutsOfProject((java.lang.Long) args[0].getValue());
+			case "getAllCheckoutsOfProjectAndSubProjects":
+				return publicInterface.getAllCheckoutsOfProjectAndSubProjects((java.lang.Long) args[0].getValue());
+			case "getAllCheckoutsOfRevision":
+				return publicInterface.getAllCheckoutsOfRevision((java.lang.Long) args[0].getValue());
+			case "getAllExtendedDataOfRevision":
+				return publicInterface.getAllExtendedDataOfRevision((java.lang.Long) args[0].getValue());
+			case "getAllExtendedDataOfRevisionAndSchema":
+				return publicInterface.getAllExtendedDataOfRevisionAndSchema((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "getAllExtendedDataSchemas":
+				return publicInterface.getAllExtendedDataSchemas();
+			case "getAllLocalProfiles":
+				return publicInterface.getAllLocalProfiles((java.lang.String) args[0].getValue());
+			case "getAllLocalServiceDescriptors":
+				return publicInterface.getAllLocalServiceDescriptors();
+			case "getAllModelCheckers":
+				return publicInterface.getAllModelCheckers();
+			case "getAllModelCheckersOfProject":
+				return publicInterface.getAllModelCheckersOfProject((java.lang.Long) args[0].getValue());
+			case "getAllNewServicesOfProject":
+				return publicInterface.getAllNewServicesOfProject((java.lang.Long) args[0].getValue());
+			case "getAllNonAuthorizedProjectsOfUser":
+				return publicInterface.getAllNonAuthorizedProjectsOfUser((java.lang.Long) args[0].getValue());
+			case "getAllNonAuthorizedUsersOfProject":
+				return publicInterface.getAllNonAuthorizedUsersOfProject((java.lang.Long) args[0].getValue());
+			case "getAllPrivateProfiles":
+				return publicInterface.getAllPrivateProfiles((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "getAllProjects":
+				return publicInterface.getAllProjects((java.lang.Boolean) args[0].getValue(), (java.lang.Boolean) args[1].getValue());
+			case "getAllProjectsSmall":
+				return publicInterface.getAllProjectsSmall();
+			case "getAllPublicProfiles":
+				return publicInterface.getAllPublicProfiles((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "getAllReadableProjects":
+				return publicInterface.getAllReadableProjects();
+			case "getAllRelatedProjects":
+				return publicInterface.getAllRelatedProjects((java.lang.Long) args[0].getValue());
+			case "getAllRepositoryExtendedDataSchemas":
+				return publicInterface.getAllRepositoryExtendedDataSchemas((java.lang.Boolean) args[0].getValue());
+			case "getAllRepositoryModelCheckers":
+				return publicInterface.getAllRepositoryModelCheckers();
+			case "getAllRevisionsByUser":
+				return publicInterface.getAllRevisionsByUser((java.lang.Long) args[0].getValue());
+			case "getAllRevisionsOfProject":
+				return publicInterface.getAllRevisionsOfProject((java.lang.Long) args[0].getValue());
+			case "getAllServiceDescriptors":
+				return publicInterface.getAllServiceDescriptors();
+			case "getAllServicesOfProject":
+				return publicInterface.getAllServicesOfProject((java.lang.Long) args[0].getValue());
+			case "getAllUsers":
+				return publicInterface.getAllUsers();
+			case "getAllWritableProjects":
+				return publicInterface.getAllWritableProjects();
+			case "getArea":
+				return publicInterface.getArea((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "getAvailableClasses":
+				return publicInterface.getAvailableClasses();
+			case "getAvailableClassesInRevision":
+				return publicInterface.getAvailableClassesInRevision((java.lang.Long) args[0].getValue());
+			case "getCheckinWarnings":
+				return publicInterface.getCheckinWarnings((java.lang.Long) args[0].getValue());
+			case "getCheckoutWarnings":
+				return publicInterface.getCheckoutWarnings((java.lang.Long) args[0].getValue());
+			case "getDensityThreshold":
+				return publicInterface.getDensityThreshold((java.util.Set<java.lang.Long>) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.util.Set<java.lang.String>) args[2].getValue());
+			case "getDeserializerById":
+				return publicInterface.getDeserializerById((java.lang.Long) args[0].getValue());
+			case "getDeserializerByName":
+				return publicInterface.getDeserializerByName((java.lang.String) args[0].getValue());
+			case "getDownloadData":
+				return publicInterface.getDownloadData((java.lang.Long) args[0].getValue());
+			case "getExtendedData":
+				return publicInterface.getExtendedData((java.lang.Long) args[0].getValue());
+			case "getExtendedDataSchemaById":
+				return publicInterface.getExtendedDataSchemaById((java.lang.Long) args[0].getValue());
+			case "getExtendedDataSchemaByName":
+				return publicInterface.getExtendedDataSchemaByName((java.lang.String) args[0].getValue());
+			case "getExtendedDataSchemaFromRepository":
+				return publicInterface.getExtendedDataSchemaFromRepository((java.lang.String) args[0].getValue());
+			case "getFile":
+				return publicInterface.getFile((java.lang.Long) args[0].getValue());
+			case "getFileMeta":
+				return publicInterface.getFileMeta((java.lang.Long) args[0].getValue());
+			case "getGeoTag":
+				return publicInterface.getGeoTag((java.lang.Long) args[0].getValue());
+			case "getGeometryDataToReuse":
+				return publicInterface.getGeometryDataToReuse((java.util.Set<java.lang.Long>) args[0].getValue(), (java.util.Set<java.lang.String>) args[1].getValue(), (java.lang.Integer) args[2].getValue());
+			case "getGeometryInfo":
+				return publicInterface.getGeometryInfo((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "getIfcHeader":
+				return publicInterface.getIfcHeader((java.lang.Long) args[0].getValue());
+			case "getLastExtendedDataOfRevisionAndSchema":
+				return publicInterface.getLastExtendedDataOfRevisionAndSchema((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "getModelBounds":
+				return publicInterface.getModelBounds((java.lang.Long) args[0].getValue());
+			case "getModelBoundsForConcreteRevision":
+				return publicInterface.getModelBoundsForConcreteRevision((java.lang.Long) args[0].getValue());
+			case "getModelBoundsUntransformed":
+				return publicInterface.getModelBoundsUntransformed((java.lang.Long) args[0].getValue());
+			case "getModelBoundsUntransformedForConcreteRevision":
+				return publicInterface.getModelBoundsUntransformedForConcreteRevision((java.lang.Long) args[0].getValue());
+			case "getModelCheckerInstance":
+				return publicInterface.getModelCheckerInstance((java.lang.Long) args[0].getValue());
+			case "getModelMaxBounds":
+				return publicInterface.getModelMaxBounds((java.lang.Long) args[0].getValue());
+			case "getModelMinBounds":
+				return publicInterface.getModelMinBounds((java.lang.Long) args[0].getValue());
+			case "getNewService":
+				return publicInterface.getNewService((java.lang.Long) args[0].getValue());
+			case "getNrPrimitives":
+				return publicInterface.getNrPrimitives((java.lang.Long) args[0].getValue());
+			case "getNrPrimitivesTotal":
+				return publicInterface.getNrPrimitivesTotal((java.util.Set<java.lang.Long>) args[0].getValue());
+			case "getOidByGuid":
+				return publicInterface.getOidByGuid((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "getProjectByPoid":
+				return publicInterface.getProjectByPoid((java.lang.Long) args[0].getValue());
+			case "getProjectByUuid":
+				return publicInterface.getProjectByUuid((java.lang.String) args[0].getValue());
+			case "getProjectSmallByPoid":
+				return publicInterface.getProjectSmallByPoid((java.lang.Long) args[0].getValue());
+			case "getProjectsByName":
+				return publicInterface.getProjectsByName((java.lang.String) args[0].getValue());
+			case "getQueryEngineById":
+				return publicInterface.getQueryEngineById((java.lang.Long) args[0].getValue());
+			case "getQueryEngineByName":
+				return publicInterface.getQueryEngineByName((java.lang.String) args[0].getValue());
+			case "getQueryEngineExample":
+				return publicInterface.getQueryEngineExample((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "getQueryEngineExampleKeys":
+				return publicInterface.getQueryEngineExampleKeys((java.lang.Long) args[0].getValue());
+			case "getRevision":
+				return publicInterface.getRevision((java.lang.Long) args[0].getValue());
+			case "getRevisionSummary":
+				return publicInterface.getRevisionSummary((java.lang.Long) args[0].getValue());
+			case "getSerializerByContentType":
+				return publicInterface.getSerializerByContentType((java.lang.String) args[0].getValue());
+			case "getSerializerById":
+				return publicInterface.getSerializerById((java.lang.Long) args[0].getValue());
+			case "getSerializerByName":
+				return publicInterface.getSerializerByName((java.lang.String) args[0].getValue());
+			case "getService":
+				return publicInterface.getService((java.lang.Long) args[0].getValue());
+			case "getServiceDescriptor":
+				return publicInterface.getServiceDescriptor((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "getSubProjectByName":
+				return publicInterface.getSubProjectByName((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue());
+			case "getSubProjects":
+				return publicInterface.getSubProjects((java.lang.Long) args[0].getValue());
+			case "getSuggestedDeserializerForExtension":
+				return publicInterface.getSuggestedDeserializerForExtension((java.lang.String) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "getTileCounts":
+				return publicInterface.getTileCounts((java.util.Set<java.lang.Long>) args[0].getValue(), (java.util.Set<java.lang.String>) args[1].getValue(), (java.util.Set<java.lang.Long>) args[2].getValue(), (java.lang.Float) args[3].getValue(), (java.lang.Float) args[4].getValue(), (java.lang.Integer) args[5].getValue());
+			case "getTiles":
+				return publicInterface.getTiles((java.util.Set<java.lang.Long>) args[0].getValue(), (java.util.Set<java.lang.String>) args[1].getValue(), (java.util.Set<java.lang.Long>) args[2].getValue(), (java.lang.Float) args[3].getValue(), (java.lang.Float) args[4].getValue(), (java.lang.Integer) args[5].getValue());
+			case "getTopLevelProjectByName":
+				return publicInterface.getTopLevelProjectByName((java.lang.String) args[0].getValue());
+			case "getTotalBounds":
+				return publicInterface.getTotalBounds((java.util.Set<java.lang.Long>) args[0].getValue());
+			case "getTotalUntransformedBounds":
+				return publicInterface.getTotalUntransformedBounds((java.util.Set<java.lang.Long>) args[0].getValue());
+			case "getUserByUoid":
+				return publicInterface.getUserByUoid((java.lang.Long) args[0].getValue());
+			case "getUserByUserName":
+				return publicInterface.getUserByUserName((java.lang.String) args[0].getValue());
+			case "getUserRelatedLogs":
+				return publicInterface.getUserRelatedLogs((java.lang.Long) args[0].getValue());
+			case "getUserSettings":
+				return publicInterface.getUserSettings();
+			case "getUsersProjects":
+				return publicInterface.getUsersProjects((java.lang.Long) args[0].getValue());
+			case "getVolume":
+				return publicInterface.getVolume((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "importData":
+				publicInterface.importData((java.lang.String) args[0].getValue(), (java.lang.String) args[1].getValue(), (java.lang.String) args[2].getValue(), (java.lang.String) args[3].getValue());
+				return null;
+			case "initiateCheckin":
+				return publicInterface.initiateCheckin((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "listBoundingBoxes":
+				return publicInterface.listBoundingBoxes((java.util.Set<java.lang.Long>) args[0].getValue());
+			case "regenerateGeometry":
+				return publicInterface.regenerateGeometry((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "removeModelCheckerFromProject":
+				publicInterface.removeModelCheckerFromProject((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "removeNewServiceFromProject":
+				publicInterface.removeNewServiceFromProject((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "removeServiceFromProject":
+				publicInterface.removeServiceFromProject((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "removeUserFromExtendedDataSchema":
+				publicInterface.removeUserFromExtendedDataSchema((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "removeUserFromProject":
+				return publicInterface.removeUserFromProject((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "sendCompareEmail":
+				publicInterface.sendCompareEmail((org.bimserver.interfaces.objects.SCompareType) args[0].getValue(), (java.lang.Long) args[1].getValue(), (java.lang.Long) args[2].getValue(), (java.lang.Long) args[3].getValue(), (java.lang.Long) args[4].getValue(), (java.lang.String) args[5].getValue());
+				return null;
+			case "setRevisionTag":
+				publicInterface.setRevisionTag((java.lang.Long) args[0].getValue(), (java.lang.String) args[1].getValue());
+				return null;
+			case "shareRevision":
+				return publicInterface.shareRevision((java.lang.Long) args[0].getValue());
+			case "terminateLongRunningAction":
+				publicInterface.terminateLongRunningAction((java.lang.Long) args[0].getValue());
+				return null;
+			case "triggerNewExtendedData":
+				publicInterface.triggerNewExtendedData((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "triggerNewRevision":
+				publicInterface.triggerNewRevision((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "triggerRevisionService":
+				publicInterface.triggerRevisionService((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+				return null;
+			case "undeleteProject":
+				return publicInterface.undeleteProject((java.lang.Long) args[0].getValue());
+			case "undeleteUser":
+				return publicInterface.undeleteUser((java.lang.Long) args[0].getValue());
+			case "updateGeoTag":
+				publicInterface.updateGeoTag((org.bimserver.interfaces.objects.SGeoTag) args[0].getValue());
+				return null;
+			case "updateModelChecker":
+				publicInterface.updateModelChecker((org.bimserver.interfaces.objects.SModelCheckerInstance) args[0].getValue());
+				return null;
+			case "updateProject":
+				publicInterface.updateProject((org.bimserver.interfaces.objects.SProject) args[0].getValue());
+				return null;
+			case "updateRevision":
+				publicInterface.updateRevision((org.bimserver.interfaces.objects.SRevision) args[0].getValue());
+				return null;
+			case "uploadFile":
+				return publicInterface.uploadFile((org.bimserver.interfaces.objects.SFile) args[0].getValue());
+			case "userHasCheckinRights":
+				return publicInterface.userHasCheckinRights((java.lang.Long) args[0].getValue(), (java.lang.Long) args[1].getValue());
+			case "userHasRights":
+				return publicInterface.userHasRights((java.lang.Long) args[0].getValue());
+			case "validateModelChecker":
+				publicInterface.validateModelChecker((java.lang.Long) args[0].getValue());
+				return null;
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
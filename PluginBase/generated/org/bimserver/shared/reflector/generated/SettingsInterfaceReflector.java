@@ -0,0 +1,121 @@
+package org.bimserver.shared.reflector.generated;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+@SuppressWarnings("unchecked")
+public class SettingsInterfaceReflector implements org.bimserver.shared.reflector.Reflector {
+	private final org.bimserver.shared.interfaces.SettingsInterface publicInterface;
+
+	public SettingsInterfaceReflector(org.bimserver.shared.interfaces.SettingsInterface publicInterface) {
+		this.publicInterface = publicInterface;
+	}
+
+	@Override
+	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, org.bimserver.shared.reflector.KeyValuePair... args) throws org.bimserver.shared.exceptions.ServerException, org.bimserver.shared.exceptions.UserException {
+		try {
+			switch (methodName) {
+			case "getEmailSenderAddress":
+				return publicInterface.getEmailSenderAddress();
+			case "getProtocolBuffersPort":
+				return publicInterface.getProtocolBuffersPort();
+			case "getServerSettings":
+				return publicInterface.getServerSettings();
+			case "getServiceRepositoryUrl":
+				return publicInterface.getServiceRepositoryUrl();
+			case "getSiteAddress":
+				return publicInterface.getSiteAddress();
+			case "getSmtpServer":
+				return publicInterface.getSmtpServer();
+			case "isAllowSelfRegistration":
+				return publicInterface.isAllowSelfRegistration();
+			case "isAllowUsersToCreateTopLevelProjects":
+				return publicInterface.isAllowUsersToCreateTopLevelProjects();
+			case "isCacheOutputFiles":
+				return publicInterface.isCacheOutputFiles();
+			case "isCheckinMergingEnabled":
+				return publicInterface.isCheckinMergingEnabled();
+			case "isGenerateGeometryOnCheckin":
+				return publicInterface.isGenerateGeometryOnCheckin();
+			case "isHideUserListForNonAdmin":
+				return publicInterface.isHideUserListForNonAdmin();
+			case "isPluginStrictVersionChecking":
+				return publicInterface.isPluginStrictVersionChecking();
+			case "isSendConfirmationEmailAfterRegistration":
+				return publicInterface.isSendConfirmationEmailAfterRegistration();
+			case "setAllowSelfRegistration":
+				publicInterface.setAllowSelfRegistration((java.lang.Boolean) args[0].getValue());
+				return null;
+			case "setAllowUsersToCreateTopLevelProjects":
+				publicInterface.setAllowUsersToCreateTopLevelProjects((java.lang.Boolean) args[0].getValue());
+				return null;
+			case "setCacheOutputFiles":
+				publicInterface.setCacheOutputFiles((java.lang.Boolean) args[0].getValue());
+				return null;
+			case "setCheckinMergingEnabled":
+				publicInterface.setCheckinMergingEnabled((java.lang.Boolean) args[0].getValue());
+				return null;
+			case "setEmailSenderAddress":
+				publicInterface.setEmailSenderAddress((java.lang.String) args[0].getValue());
+				return null;
+			case "setGenerateGeometryOnCheckin":
+				publicInterface.setGenerateGeometryOnCheckin((java.lang.Boolean) args[0].getValue());
+				return null;
+			case "setHideUserListForNonAdmin":
+				publicInterface.setHideUserListForNonAdmin((java.lang.Boolean) args[0].getValue());
+				return null;
+			case "setPluginStrictVersionChecking":
+				publicInterface.setPluginStrictVersionChecking((java.lang.Boolean) args[0].getValue());
+				return null;
+			case "setProtocolBuffersPort":
+				publicInterface.setProtocolBuffersPort((java.lang.Integer) args[0].getValue());
+				return null;
+			case "setSendConfirmationEmailAfterRegistration":
+				publicInterface.setSendConfirmationEmailAfterRegistration((java.lang.Boolean) args[0].getValue());
+				return null;
+			case "setServerDescription":
+				publicInterface.setServerDescription((java.lang.String) args[0].getValue());
+				return null;
+			case "setServerIcon":
+				publicInterface.setServerIcon((java.lang.String) args[0].getValue());
+				return null;
+			case "setServerName":
+				publicInterface.setServerName((java.lang.String) args[0].getValue());
+				return null;
+			case "setServerSettings":
+				publicInterface.setServerSettings((org.bimserver.interfaces.objects.SServerSettings) args[0].getValue());
+				return null;
+			case "setServiceRepositoryUrl":
+				publicInterface.setServiceRepositoryUrl((java.lang.String) args[0].getValue());
+				return null;
+			case "setSiteAddress":
+				publicInterface.setSiteAddress((java.lang.String) args[0].getValue());
+				return null;
+			case "setSmtpServer":
+				publicInterface.setSmtpServer((java.lang.String) args[0].getValue());
+				return null;
+			case "setWhiteListedDomains":
+				publicInterface.setWhiteListedDomains((java.util.List<java.lang.String>) args[0].getValue());
+				return null;
+			default:
+				return null;
+			}
+		} catch (Exception e) {
+			throw GeneratedReflectorFactory.<RuntimeException>rethrow(e);
+		}
+	}
+}
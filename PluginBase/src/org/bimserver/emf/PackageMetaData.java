@@ -423,7 +423,12 @@ public class PackageMetaData implements ObjectFactory, Comparable<PackageMetaDat
 	}
 
 	public Set<EClass> getAllSubClassesIncludingSelf(EClass superClass) {
-		Set<EClass> set = new TreeSet<>(getAllSubClasses(superClass));
+		// EClass is not Comparable, ordered by name like getDirectSubClasses
+		Set<EClass> set = new TreeSet<>(Comparator.comparing(EClass::getName));
+		Set<EClass> subClasses = getAllSubClasses(superClass);
+		if (subClasses != null) {
+			set.addAll(subClasses);
+		}
 		set.add(superClass);
 		return set;
 	}
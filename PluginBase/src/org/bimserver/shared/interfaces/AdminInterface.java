@@ -34,6 +34,7 @@ import org.bimserver.interfaces.objects.SJavaInfo;
 import org.bimserver.interfaces.objects.SLogAction;
 import org.bimserver.interfaces.objects.SMetrics;
 import org.bimserver.interfaces.objects.SMigration;
+import org.bimserver.interfaces.objects.SOutputFileCacheStatistics;
 import org.bimserver.interfaces.objects.SPluginDescriptor;
 import org.bimserver.interfaces.objects.SServerInfo;
 import org.bimserver.interfaces.objects.SSystemInfo;
@@ -153,6 +154,15 @@ public interface AdminInterface extends PublicInterface {
 	@WebMethod(action = "clearOutputFileCache")
 	Integer clearOutputFileCache() throws UserException, ServerException;
 
+	/**
+	 * Get the statistics of the output cache
+	 * @return A SOutputFileCacheStatistics object
+	 * @throws UserException
+	 * @throws ServerException
+	 */
+	@WebMethod(action = "getOutputFileCacheStatistics")
+	SOutputFileCacheStatistics getOutputFileCacheStatistics() throws UserException, ServerException;
+
 	/**
 	 * Get information about the system this BIMserver is running on
 	 * @return A SSystemInfo object
@@ -39,6 +39,7 @@ import org.bimserver.shared.meta.SField;
 import org.bimserver.shared.meta.SServicesMap;
 import org.bimserver.utils.ByteArrayDataSource;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -62,55 +63,81 @@ public class JsonConverter {
 		this.servicesMap = servicesMap;
 	}
 
-//	public void toJson(Object object, ObjectMapper objectMapper) throws IOException, SerializerException {
-//		if (object instanceof SBase) {
-//			SBase base = (SBase) object;
-//			out.beginObject();
-//			out.name("__type");
-//			out.value(base.getSClass().getSimpleName());
-//			for (SField field : base.getSClass().getAllFields()) {
-//				out.name(field.getName());
-//				toJson(base.sGet(field), out);
-//			}
-//			out.endObject();
-//		} else if (object instanceof Collection) {
-//			Collection<?> collection = (Collection<?>) object;
-//			out.beginArray();
-//			for (Object value : collection) {
-//				toJson(value, out);
-//			}
-//			out.endArray();
-//		} else if (object instanceof Date) {
-//			out.value(((Date) object).getTime());
-//		} else if (object instanceof DataHandler) {
-//			DataHandler dataHandler = (DataHandler) object;
-//			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-//			if (dataHandler.getDataSource() instanceof CacheStoringEmfSerializerDataSource) {
-//				CacheStoringEmfSerializerDataSource cacheStoringEmfSerializerDataSource = (CacheStoringEmfSerializerDataSource) dataHandler.getDataSource();
-//				cacheStoringEmfSerializerDataSource.writeToOutputStream(baos, null);
-//				out.value(new String(Base64.encodeBase64(baos.toByteArray()), Charsets.UTF_8));
-//			} else {
-//				InputStream inputStream = dataHandler.getInputStream();
-//				IOUtils.copy(inputStream, baos);
-//				out.value(new String(Base64.encodeBase64(baos.toByteArray()), Charsets.UTF_8));
-//			}
-//		} else if (object instanceof byte[]) {
-//			byte[] data = (byte[]) object;
-//			out.value(new String(Base64.encodeBase64(data), Charsets.UTF_8));
-//		} else if (object instanceof String) {
-//			out.value((String) object);
-//		} else if (object instanceof Number) {
-//			out.value((Number) object);
-//		} else if (object instanceof Enum) {
-//			out.value(object.toString());
-//		} else if (object instanceof Boolean) {
-//			out.value((Boolean) object);
-//		} else if (object == null) {
-//			out.nullValue();
-//		} else {
-//			throw new UnsupportedOperationException(object.toString());
-//		}
-//	}
+	/**
+	 * Writes the same JSON as {@link #toJson(Object)}, but directly to the generator, without building a tree first
+	 */
+	public void toJson(Object object, JsonGenerator out) throws IOException {
+		if (object instanceof SBase) {
+			SBase base = (SBase) object;
+			out.writeStartObject();
+			out.writeStringField("__type", base.getSClass().getSimpleName());
+			for (SField field : base.getSClass().getAllFields()) {
+				out.writeFieldName(field.getName());
+				toJson(base.sGet(field), out);
+			}
+			out.writeEndObject();
+		} else if (object instanceof Collection) {
+			Collection<?> collection = (Collection<?>) object;
+			out.writeStartArray();
+			for (Object value : collection) {
+				toJson(value, out);
+			}
+			out.writeEndArray();
+		} else if (object instanceof Date) {
+			out.writeNumber(((Date) object).getTime());
+		} else if (object instanceof DataHandler) {
+			DataHandler dataHandler = (DataHandler) object;
+			try (InputStream inputStream = dataHandler.getInputStream()) {
+				out.writeBinary(inputStream, -1);
+			}
+		} else if (object instanceof Boolean) {
+			out.writeBoolean((Boolean) object);
+		} else if (object instanceof String) {
+			out.writeString((String) object);
+		} else if (object instanceof Long) {
+			out.writeNumber((Long) object);
+		} else if (object instanceof UUID) {
+			out.writeString(((UUID) object).toString());
+		} else if (object instanceof Integer) {
+			out.writeNumber((Integer) object);
+		} else if (object instanceof Double) {
+			out.writeNumber((Double) object);
+		} else if (object instanceof Float) {
+			out.writeNumber((Float) object);
+		} else if (object instanceof Enum) {
+			out.writeString(object.toString());
+		} else if (object == null) {
+			out.writeNull();
+		} else if (object instanceof byte[]) {
+			out.writeBinary((byte[]) object);
+		} else {
+			throw new UnsupportedOperationException(object.getClass().getName());
+		}
+	}
+
+	/**
+	 * @return Whether {@link #toJson(Object, JsonGenerator)} can write the object without failing halfway, which is not the
+	 *         case for DataHandlers, since reading their data can fail
+	 */
+	public boolean isStreamable(Object object) {
+		if (object instanceof SBase) {
+			SBase base = (SBase) object;
+			for (SField field : base.getSClass().getAllFields()) {
+				if (!isStreamable(base.sGet(field))) {
+					return false;
+				}
+			}
+			return true;
+		} else if (object instanceof Collection) {
+			for (Object value : (Collection<?>) object) {
+				if (!isStreamable(value)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return !(object instanceof DataHandler);
+	}
 
 	public JsonNode toJson(Object object) throws IOException {
 		if (object instanceof SBase) {
@@ -21,6 +21,9 @@ import org.bimserver.shared.exceptions.DefaultErrorCode;
  * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
  *****************************************************************************/
 
+import java.io.IOException;
+import java.util.List;
+
 import org.bimserver.shared.exceptions.ErrorCode;
 import org.bimserver.shared.exceptions.ServerException;
 import org.bimserver.shared.exceptions.UserException;
@@ -32,6 +35,7 @@ import org.bimserver.shared.reflector.ReflectorException;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public abstract class JsonReflector implements Reflector {
@@ -51,62 +55,14 @@ public abstract class JsonReflector implements Reflector {
 	@Override
 	public Object callMethod(String interfaceName, String methodName, Class<?> definedReturnType, KeyValuePair... args) throws ServerException, UserException {
 		try {
-			ObjectNode request = OBJECT_MAPPER.createObjectNode();
-			request.put("interface", interfaceName);
-			request.put("method", methodName);
-			ObjectNode parameters = OBJECT_MAPPER.createObjectNode();
-			for (KeyValuePair arg : args) {
-				parameters.set(arg.getFieldName(), converter.toJson(arg.getValue()));
-			}
-			request.set("parameters", parameters);
 			ObjectNode requestObject = OBJECT_MAPPER.createObjectNode();
-			requestObject.set("request", request);
+			requestObject.set("request", createRequest(interfaceName, methodName, args));
 			JsonNode jsonResult = call(requestObject);
 			if (!isOneWay()) {
 				if (jsonResult == null) {
 					return null;
 				}
-				ObjectNode response = (ObjectNode) jsonResult.get("response");
-				if (response.has("exception")) {
-					ObjectNode exceptionJson = (ObjectNode) response.get("exception");
-					String exceptionType = exceptionJson.get("__type").asText();
-					String message = exceptionJson.has("message") ? exceptionJson.get("message").asText() : "unknown";
-					if (exceptionType.equals(UserException.class.getSimpleName())) {
-						if (exceptionJson.has("errorCode")) {
-							String errorType = exceptionJson.get("errorType").asText();
-							if (errorType.equals("DefaultErrorCode")) {
-								throw new UserException(message, DefaultErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
-							} else if (errorType.contentEquals("DeserializerErrorCode")) {
-								throw new UserException(message, DeserializerErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
-							} else {
-								throw new UserException(message, ErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
-							}
-						} else {
-							throw new UserException(message);
-						}
-					} else if (exceptionType.equals(ServerException.class.getSimpleName())) {
-						String errorType = exceptionJson.get("errorType").asText();
-						if (errorType.equals("DefaultErrorCode")) {
-							throw new ServerException(message, DefaultErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
-						} else if (errorType.contentEquals("DeserializerErrorCode")) {
-							throw new ServerException(message, DeserializerErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
-						} else {
-							throw new ServerException(message, ErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
-						}
-					} else {
-						if (exceptionJson.has("errorCode")) {
-							throw new ServerException(message, ErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
-						} else {
-							throw new ServerException(message);
-						}
-					}
-				} else if (response.has("result")) {
-					Object result = response.get("result");
-					SMethod method = servicesMap.getBySimpleName(interfaceName).getSMethod(methodName);
-					return converter.fromJson(method.getReturnType(), method.getGenericReturnType(), result);
-				} else {
-					return null;
-				}
+				return processResponse(interfaceName, methodName, (ObjectNode) jsonResult.get("response"));
 			} else {
 				return null;
 			}
@@ -121,6 +77,93 @@ public abstract class JsonReflector implements Reflector {
 		}
 	}
 
+	/**
+	 * Calls multiple methods with one message, the requests are made with {@link #createRequest(String, String, KeyValuePair...)}
+	 * 
+	 * @return The responses in the same order as the requests, each to be processed with {@link #processResponse(String, String, ObjectNode)}
+	 */
+	public ArrayNode callMethods(List<ObjectNode> requests) throws ServerException, UserException {
+		try {
+			ObjectNode requestObject = OBJECT_MAPPER.createObjectNode();
+			requestObject.putArray("requests").addAll(requests);
+			JsonNode jsonResult = call(requestObject);
+			if (jsonResult != null && jsonResult.has("responses")) {
+				return (ArrayNode) jsonResult.get("responses");
+			}
+			if (jsonResult != null && jsonResult.has("response")) {
+				// The message as a whole could not be processed
+				processResponse(null, null, (ObjectNode) jsonResult.get("response"));
+			}
+			throw new ServerException("No responses received");
+		} catch (HttpHostConnectException e) {
+			throw new UserException(e.getMessage(), DefaultErrorCode.HTTP_CONNECTION_REFUSED);
+		} catch (UserException e) {
+			throw e;
+		} catch (ServerException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new UserException(e);
+		}
+	}
+
+	public ObjectNode createRequest(String interfaceName, String methodName, KeyValuePair... args) throws IOException {
+		ObjectNode request = OBJECT_MAPPER.createObjectNode();
+		request.put("interface", interfaceName);
+		request.put("method", methodName);
+		ObjectNode parameters = OBJECT_MAPPER.createObjectNode();
+		for (KeyValuePair arg : args) {
+			parameters.set(arg.getFieldName(), converter.toJson(arg.getValue()));
+		}
+		request.set("parameters", parameters);
+		return request;
+	}
+
+	/**
+	 * @return The converted result of a call, an exception that occurred on the server is thrown
+	 */
+	public Object processResponse(String interfaceName, String methodName, ObjectNode response) throws ServerException, UserException, ConvertException, IOException {
+		if (response.has("exception")) {
+			ObjectNode exceptionJson = (ObjectNode) response.get("exception");
+			String exceptionType = exceptionJson.get("__type").asText();
+			String message = exceptionJson.has("message") ? exceptionJson.get("message").asText() : "unknown";
+			if (exceptionType.equals(UserException.class.getSimpleName())) {
+				if (exceptionJson.has("errorCode")) {
+					String errorType = exceptionJson.get("errorType").asText();
+					if (errorType.equals("DefaultErrorCode")) {
+						throw new UserException(message, DefaultErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
+					} else if (errorType.contentEquals("DeserializerErrorCode")) {
+						throw new UserException(message, DeserializerErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
+					} else {
+						throw new UserException(message, ErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
+					}
+				} else {
+					throw new UserException(message);
+				}
+			} else if (exceptionType.equals(ServerException.class.getSimpleName())) {
+				String errorType = exceptionJson.get("errorType").asText();
+				if (errorType.equals("DefaultErrorCode")) {
+					throw new ServerException(message, DefaultErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
+				} else if (errorType.contentEquals("DeserializerErrorCode")) {
+					throw new ServerException(message, DeserializerErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
+				} else {
+					throw new ServerException(message, ErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
+				}
+			} else {
+				if (exceptionJson.has("errorCode")) {
+					throw new ServerException(message, ErrorCode.fromCode(exceptionJson.get("errorCode").asInt()));
+				} else {
+					throw new ServerException(message);
+				}
+			}
+		} else if (response.has("result")) {
+			Object result = response.get("result");
+			SMethod method = servicesMap.getBySimpleName(interfaceName).getSMethod(methodName);
+			return converter.fromJson(method.getReturnType(), method.getGenericReturnType(), result);
+		} else {
+			return null;
+		}
+	}
+
 	protected boolean isOneWay() {
 		return false;
 	}
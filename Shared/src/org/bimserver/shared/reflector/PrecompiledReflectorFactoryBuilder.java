@@ -0,0 +1,92 @@
+package org.bimserver.shared.reflector;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.bimserver.shared.meta.SMethod;
+import org.bimserver.shared.meta.SService;
+import org.bimserver.shared.meta.SServicesMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Uses the reflector classes that were generated at build time by the ReflectorGenerator, which saves compiling them with
+ * Javassist on every start. When the generated classes are missing, or were generated for other service interfaces than
+ * the ones in the services map, the {@link RealtimeReflectorFactoryBuilder} is used instead.
+ */
+public class PrecompiledReflectorFactoryBuilder implements ReflectorFactoryBuilder {
+	private static final Logger LOGGER = LoggerFactory.getLogger(PrecompiledReflectorFactoryBuilder.class);
+	public static final String GENERATED_PACKAGE = "org.bimserver.shared.reflector.generated";
+	public static final String GENERATED_FACTORY_NAME = "GeneratedReflectorFactory";
+	public static final String SIGNATURE_FIELD = "SIGNATURE";
+	private final SServicesMap servicesMap;
+
+	public PrecompiledReflectorFactoryBuilder(SServicesMap servicesMap) {
+		this.servicesMap = servicesMap;
+	}
+
+	@Override
+	public ReflectorFactory newReflectorFactory() {
+		try {
+			Class<?> factoryClass = Class.forName(GENERATED_PACKAGE + "." + GENERATED_FACTORY_NAME, true, getClass().getClassLoader());
+			if (signature(servicesMap).equals(factoryClass.getField(SIGNATURE_FIELD).get(null))) {
+				return (ReflectorFactory) factoryClass.newInstance();
+			}
+			LOGGER.info("Generated reflectors do not match the service interfaces, generating them at runtime");
+		} catch (ClassNotFoundException e) {
+			LOGGER.debug("No generated reflectors found, generating them at runtime");
+		} catch (ReflectiveOperationException e) {
+			LOGGER.error("", e);
+		}
+		return new RealtimeReflectorFactoryBuilder(servicesMap).newReflectorFactory();
+	}
+
+	/**
+	 * A hash of all services and the signatures of their methods, generated reflectors can only be used for the same signature
+	 */
+	public static String signature(SServicesMap servicesMap) {
+		StringBuilder sb = new StringBuilder();
+		for (String name : new TreeSet<>(servicesMap.keySetName())) {
+			SService sService = servicesMap.getByName(name);
+			List<String> methods = new ArrayList<>();
+			for (SMethod sMethod : sService.getMethods()) {
+				methods.add(sMethod.getMethod().toGenericString());
+			}
+			sb.append(name).append("\n");
+			for (String method : new TreeSet<>(methods)) {
+				sb.append(method).append("\n");
+			}
+		}
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder();
+			for (byte b : digest) {
+				hex.append(String.format("%02x", b));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
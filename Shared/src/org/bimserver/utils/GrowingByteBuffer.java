@@ -21,10 +21,23 @@ import java.nio.ByteBuffer;
 
 public class GrowingByteBuffer {
 	private ByteBuffer byteBuffer;
+	private ByteBuffer initialBuffer;
 
 	public GrowingByteBuffer(int initialCapacity) {
 		byteBuffer = ByteBuffer.allocate(initialCapacity);
 	}
+
+	/**
+	 * Uses the given (possibly direct) buffer until more space is needed, after that the data is moved to a bigger heap buffer.
+	 * The given buffer is used again after {@link #reset()}.
+	 */
+	public static GrowingByteBuffer wrapInitial(ByteBuffer initialBuffer) {
+		GrowingByteBuffer growingByteBuffer = new GrowingByteBuffer(0);
+		initialBuffer.clear();
+		growingByteBuffer.initialBuffer = initialBuffer;
+		growingByteBuffer.byteBuffer = initialBuffer;
+		return growingByteBuffer;
+	}
 	
 	public int usedSize() {
 		return byteBuffer.position();
@@ -49,11 +62,34 @@ public class GrowingByteBuffer {
 		if (byteBuffer.capacity() <= byteBuffer.position() + nrExtraBytes) {
 			ByteBuffer oldBuffer = byteBuffer;
 			byteBuffer = ByteBuffer.allocate(Math.max(oldBuffer.position() * 2, byteBuffer.position() + nrExtraBytes));
-			int oldPos = oldBuffer.position();
-			oldBuffer.position(0);
-			byteBuffer.put(oldBuffer.array(), 0, oldPos);
-			byteBuffer.position(oldPos);
+			byteBuffer.order(oldBuffer.order());
+			ByteBuffer used = oldBuffer.duplicate();
+			used.flip();
+			byteBuffer.put(used);
+		}
+	}
+
+	/**
+	 * Empties the buffer, when it has grown beyond the initial buffer the big buffer is released
+	 */
+	public void reset() {
+		if (initialBuffer != null) {
+			byteBuffer = initialBuffer;
 		}
+		byteBuffer.clear();
+	}
+
+	public boolean hasArray() {
+		return byteBuffer.hasArray();
+	}
+
+	/**
+	 * @return A view on the written bytes (from 0 to the current position) that shares the content of this buffer, valid until the next write or reset
+	 */
+	public ByteBuffer usedView() {
+		ByteBuffer view = byteBuffer.duplicate();
+		view.flip();
+		return view;
 	}
 
 	public int position() {
@@ -90,7 +126,16 @@ public class GrowingByteBuffer {
 		byteBuffer.putShort(value);
 	}
 
+	/**
+	 * @return The backing array, or a copy of the written bytes when the buffer has no array (a direct buffer given to {@link #wrapInitial(ByteBuffer)}), in that case later writes are not visible in the returned array
+	 */
 	public byte[] array() {
+		if (!byteBuffer.hasArray()) {
+			ByteBuffer used = usedView();
+			byte[] copy = new byte[used.remaining()];
+			used.get(copy);
+			return copy;
+		}
 		return byteBuffer.array();
 	}
 
@@ -0,0 +1,113 @@
+package org.bimserver;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.bimserver.LatencyHistogram.Snapshot;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+	private static final int LAST_BUCKET = LatencyHistogram.bucketIndex(Long.MAX_VALUE);
+
+	@Test
+	void smallValuesHaveTheirOwnBucket() {
+		for (int value = 0; value < 8; value++) {
+			assertEquals(value, LatencyHistogram.bucketIndex(value));
+			assertEquals(value, LatencyHistogram.bucketUpperBound(value));
+		}
+		// 8 to 15 still fit in 8 linear buckets of width 1
+		assertEquals(8, LatencyHistogram.bucketIndex(8));
+		assertEquals(15, LatencyHistogram.bucketIndex(15));
+		assertEquals(15, LatencyHistogram.bucketUpperBound(15));
+	}
+
+	@Test
+	void powerOfTwoBoundaries() {
+		for (int exponent = 4; exponent < 63; exponent++) {
+			long powerOfTwo = 1L << exponent;
+			int index = LatencyHistogram.bucketIndex(powerOfTwo);
+			assertEquals(index - 1, LatencyHistogram.bucketIndex(powerOfTwo - 1));
+			assertEquals(powerOfTwo - 1, LatencyHistogram.bucketUpperBound(index - 1));
+			// Every power of two is split in 8 buckets
+			assertEquals(index + 7, LatencyHistogram.bucketIndex(powerOfTwo * 2 - 1));
+		}
+	}
+
+	@Test
+	void upperBoundsAreTheLastValueOfEveryBucket() {
+		for (int index = 0; index < LAST_BUCKET; index++) {
+			long upperBound = LatencyHistogram.bucketUpperBound(index);
+			assertEquals(index, LatencyHistogram.bucketIndex(upperBound));
+			assertEquals(index + 1, LatencyHistogram.bucketIndex(upperBound + 1));
+			if (index >= 8) {
+				long lowerBound = LatencyHistogram.bucketUpperBound(index - 1) + 1;
+				assertTrue(upperBound - lowerBound <= lowerBound / 8, "Bucket " + index + " is wider than 12.5%");
+			}
+		}
+	}
+
+	@Test
+	void valuesNearLongMaxValue() {
+		assertEquals(LAST_BUCKET, LatencyHistogram.bucketIndex(Long.MAX_VALUE - 1));
+		assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LAST_BUCKET));
+		assertEquals(LAST_BUCKET - 1, LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(LAST_BUCKET - 1)));
+
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+		latencyHistogram.record(Long.MAX_VALUE);
+		latencyHistogram.record(-5);
+		assertEquals(Long.MAX_VALUE, latencyHistogram.getPercentile(100));
+		assertEquals(0, latencyHistogram.getPercentile(50));
+		assertEquals(0, latencyHistogram.getMin());
+	}
+
+	@Test
+	void percentilesOfAUniformDistribution() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+		for (int value = 1; value <= 1000; value++) {
+			latencyHistogram.record(value);
+		}
+		Snapshot snapshot = latencyHistogram.snapshot();
+		assertEquals(1000, snapshot.getCount());
+		assertEquals(1, snapshot.getPercentile(0));
+		// 500 falls in the bucket 480-511, 990 in the bucket 960-1023 which is capped at the highest recorded value
+		assertEquals(511, snapshot.getPercentile(50));
+		assertEquals(1000, snapshot.getPercentile(99));
+		assertEquals(1000, snapshot.getPercentile(100));
+		assertEquals(500, latencyHistogram.getAverage());
+		assertEquals(1, latencyHistogram.getMin());
+		assertEquals(1000, latencyHistogram.getMax());
+	}
+
+	@Test
+	void percentilesOfASkewedDistribution() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+		for (int i = 0; i < 990; i++) {
+			latencyHistogram.record(100);
+		}
+		for (int i = 0; i < 10; i++) {
+			latencyHistogram.record(100000);
+		}
+		// 100 is in the bucket 96-103, 100000 in the bucket 98304-106495
+		assertEquals(103, latencyHistogram.getPercentile(50));
+		assertEquals(103, latencyHistogram.getPercentile(99));
+		assertEquals(100000, latencyHistogram.getPercentile(99.5));
+		assertEquals(0, new LatencyHistogram().getPercentile(99));
+	}
+}
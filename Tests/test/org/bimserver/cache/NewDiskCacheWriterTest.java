@@ -0,0 +1,165 @@
+package org.bimserver.cache;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.plugins.PluginManagerInterface;
+import org.bimserver.plugins.serializers.MessagingStreamingSerializer;
+import org.bimserver.plugins.serializers.ObjectProvider;
+import org.bimserver.plugins.serializers.ProgressReporter;
+import org.bimserver.plugins.serializers.ProjectInfo;
+import org.bimserver.plugins.serializers.SerializerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NewDiskCacheWriterTest {
+	private static final ProgressReporter PROGRESS_REPORTER = new ProgressReporter() {
+		@Override
+		public void update(long progress, long max) {
+		}
+
+		@Override
+		public void setTitle(String stage) {
+		}
+	};
+	private static final byte[][] MESSAGES = new byte[][] { { 1, 2, 3 }, { 4 }, { 5, 6 } };
+
+	@TempDir
+	Path tempDir;
+
+	private NewDiskCacheManager newDiskCacheManager;
+	private DownloadDescriptor downloadDescriptor;
+	private Path file;
+
+	@BeforeEach
+	void setup() {
+		// The writer does not need the server, only the enabled check does
+		newDiskCacheManager = new NewDiskCacheManager(null, tempDir.resolve("cache"), -1);
+		downloadDescriptor = new DownloadDescriptor(null, "{}", Collections.singleton(1L), null, 1, "model");
+		file = tempDir.resolve("cache").resolve(downloadDescriptor.getCacheKey());
+	}
+
+	@Test
+	void readerTailsTheFileWhileItIsWritten() throws Exception {
+		NewDiskCacheWriter writer = createWriter(-1);
+		FileCacheReadingWriter reader = new FileCacheReadingWriter(writer.attach());
+
+		// The reader also reads the size of the next message, so that has to be written already
+		assertTrue(writer.writeMessage(new ByteArrayOutputStream(), PROGRESS_REPORTER));
+		assertTrue(writer.writeMessage(new ByteArrayOutputStream(), PROGRESS_REPORTER));
+		assertArrayEquals(MESSAGES[0], readMessage(reader, true));
+
+		assertFalse(writer.writeMessage(new ByteArrayOutputStream(), PROGRESS_REPORTER));
+		assertArrayEquals(MESSAGES[1], readMessage(reader, true));
+		assertArrayEquals(MESSAGES[2], readMessage(reader, false));
+		reader.close();
+
+		writer.close();
+		assertTrue(Files.exists(file));
+	}
+
+	@Test
+	void stoppedDownloadIsCompletedForItsReaders() throws Exception {
+		NewDiskCacheWriter writer = createWriter(-1);
+		FileCacheReadingWriter reader = new FileCacheReadingWriter(writer.attach());
+
+		assertTrue(writer.writeMessage(new ByteArrayOutputStream(), PROGRESS_REPORTER));
+		writer.close();
+
+		assertArrayEquals(MESSAGES[0], readMessage(reader, true));
+		assertArrayEquals(MESSAGES[1], readMessage(reader, true));
+		assertArrayEquals(MESSAGES[2], readMessage(reader, false));
+		reader.close();
+		assertTrue(Files.exists(file));
+		assertEquals(null, writer.attach());
+	}
+
+	@Test
+	void failedDownloadAbortsItsReaders() throws Exception {
+		NewDiskCacheWriter writer = createWriter(1);
+		FileCacheReadingWriter reader = new FileCacheReadingWriter(writer.attach());
+
+		assertTrue(writer.writeMessage(new ByteArrayOutputStream(), PROGRESS_REPORTER));
+		assertThrows(SerializerException.class, () -> writer.writeMessage(new ByteArrayOutputStream(), PROGRESS_REPORTER));
+		writer.close();
+
+		// The reader fails where the data ends
+		assertThrows(IOException.class, () -> readMessage(reader, true));
+		reader.close();
+		assertFalse(Files.exists(file));
+	}
+
+	@Test
+	void stoppedDownloadWithoutReadersIsNotCached() throws Exception {
+		NewDiskCacheWriter writer = createWriter(-1);
+		assertTrue(writer.writeMessage(new ByteArrayOutputStream(), PROGRESS_REPORTER));
+		writer.close();
+
+		assertFalse(Files.exists(file));
+	}
+
+	private NewDiskCacheWriter createWriter(int failAt) throws IOException {
+		return new NewDiskCacheWriter(newDiskCacheManager, file, downloadDescriptor, new TestSerializer(failAt));
+	}
+
+	private byte[] readMessage(FileCacheReadingWriter reader, boolean expectMore) throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		assertEquals(expectMore, reader.writeMessage(outputStream, PROGRESS_REPORTER));
+		return outputStream.toByteArray();
+	}
+
+	private static class TestSerializer implements MessagingStreamingSerializer {
+		private final int failAt;
+		private int next;
+
+		public TestSerializer(int failAt) {
+			this.failAt = failAt;
+		}
+
+		@Override
+		public void init(ObjectProvider objectProvider, ProjectInfo projectInfo, PluginManagerInterface pluginManager, PackageMetaData packageMetaData) {
+		}
+
+		@Override
+		public boolean writeMessage(OutputStream outputStream, ProgressReporter progressReporter) throws IOException, SerializerException {
+			if (next == failAt) {
+				throw new SerializerException("Failing on purpose");
+			}
+			outputStream.write(MESSAGES[next++]);
+			return next < MESSAGES.length;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
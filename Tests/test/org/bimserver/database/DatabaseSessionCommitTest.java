@@ -0,0 +1,155 @@
+package org.bimserver.database;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bimserver.database.berkeley.BimserverConcurrentModificationDatabaseException;
+import org.bimserver.models.store.ExtendedDataSchema;
+import org.bimserver.models.store.StorePackage;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Commits with more records than fit in one write batch, the batches that have been written before a failure must be rolled
+ * back with the rest of the transaction. ExtendedDataSchema is used because its name is indexed and it is versioned per record.
+ */
+class DatabaseSessionCommitTest {
+	// More than the 10000 records of one write batch
+	private static final int COUNT = 10050;
+
+	@TempDir
+	static Path home;
+
+	private static LocalTestServer server;
+
+	@BeforeAll
+	static void start() throws Exception {
+		server = LocalTestServer.start(home);
+	}
+
+	@AfterAll
+	static void stop() {
+		server.close();
+	}
+
+	@Test
+	void allRecordsAreWritten() throws Exception {
+		int existing = count();
+		List<Long> oids = createSchemas("written");
+		assertEquals(existing + COUNT, count());
+		try (DatabaseSession databaseSession = createSession(OperationType.READ_ONLY)) {
+			for (int i = 0; i < COUNT; i++) {
+				ExtendedDataSchema schema = databaseSession.get(oids.get(i), OldQuery.getDefault());
+				assertEquals("written " + i, schema.getName());
+			}
+			assertEquals(oids.get(0), find(databaseSession, "written 0").getOid());
+			assertEquals(oids.get(COUNT - 1), find(databaseSession, "written " + (COUNT - 1)).getOid());
+		}
+	}
+
+	@Test
+	void oldVersionsAreRemovedFromTheIndex() throws Exception {
+		List<Long> oids = createSchemas("old");
+		try (DatabaseSession databaseSession = createSession(OperationType.POSSIBLY_WRITE)) {
+			for (int i = 0; i < COUNT; i++) {
+				ExtendedDataSchema schema = databaseSession.get(oids.get(i), OldQuery.getDefault());
+				schema.setName("new " + i);
+				databaseSession.store(schema);
+			}
+			databaseSession.commit();
+		}
+		try (DatabaseSession databaseSession = createSession(OperationType.READ_ONLY)) {
+			for (int i : new int[] { 0, 9999, 10000, COUNT - 1 }) {
+				assertNull(find(databaseSession, "old " + i));
+				ExtendedDataSchema schema = find(databaseSession, "new " + i);
+				assertNotNull(schema);
+				assertEquals(oids.get(i), schema.getOid());
+			}
+		}
+	}
+
+	@Test
+	void existingVersionIsNotOverwritten() throws Exception {
+		List<Long> oids = createSchemas("stale");
+		ExtendedDataSchema stale;
+		try (DatabaseSession databaseSession = createSession(OperationType.READ_ONLY)) {
+			stale = databaseSession.get(oids.get(0), OldQuery.getDefault());
+		}
+		try (DatabaseSession databaseSession = createSession(OperationType.POSSIBLY_WRITE)) {
+			ExtendedDataSchema schema = databaseSession.get(oids.get(0), OldQuery.getDefault());
+			schema.setName("first");
+			databaseSession.store(schema);
+			databaseSession.commit();
+		}
+
+		// The version written by the stale object already exists, it is stored last so the first batch has been written when the commit fails
+		int existing = count();
+		try (DatabaseSession databaseSession = createSession(OperationType.POSSIBLY_WRITE)) {
+			for (int i = 0; i < COUNT; i++) {
+				ExtendedDataSchema schema = databaseSession.create(ExtendedDataSchema.class);
+				schema.setName("lost " + i);
+			}
+			stale.setName("second");
+			databaseSession.store(stale);
+			assertThrows(BimserverConcurrentModificationDatabaseException.class, () -> databaseSession.commit());
+		}
+		assertEquals(existing, count());
+		try (DatabaseSession databaseSession = createSession(OperationType.READ_ONLY)) {
+			assertNull(find(databaseSession, "lost 0"));
+			assertNull(find(databaseSession, "second"));
+			assertEquals("first", ((ExtendedDataSchema) databaseSession.get(oids.get(0), OldQuery.getDefault())).getName());
+		}
+	}
+
+	private List<Long> createSchemas(String prefix) throws Exception {
+		List<Long> oids = new ArrayList<>();
+		try (DatabaseSession databaseSession = createSession(OperationType.POSSIBLY_WRITE)) {
+			for (int i = 0; i < COUNT; i++) {
+				ExtendedDataSchema schema = databaseSession.create(ExtendedDataSchema.class);
+				schema.setName(prefix + " " + i);
+				oids.add(schema.getOid());
+			}
+			databaseSession.commit();
+		}
+		return oids;
+	}
+
+	private int count() throws Exception {
+		try (DatabaseSession databaseSession = createSession(OperationType.READ_ONLY)) {
+			return databaseSession.getAllOfType(StorePackage.eINSTANCE.getExtendedDataSchema(), ExtendedDataSchema.class, OldQuery.getDefault()).size();
+		}
+	}
+
+	private ExtendedDataSchema find(DatabaseSession databaseSession, String name) throws Exception {
+		return databaseSession.querySingle(StorePackage.eINSTANCE.getExtendedDataSchema_Name(), name);
+	}
+
+	private DatabaseSession createSession(OperationType operationType) {
+		return server.getBimServer().getDatabase().createSession(operationType);
+	}
+}
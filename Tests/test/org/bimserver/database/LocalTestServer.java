@@ -0,0 +1,203 @@
+package org.bimserver.database;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.bimserver.BimServer;
+import org.bimserver.BimServerConfig;
+import org.bimserver.database.actions.CheckinDatabaseAction;
+import org.bimserver.database.queries.QueryObjectProvider;
+import org.bimserver.database.queries.om.JsonQueryObjectModelConverter;
+import org.bimserver.database.queries.om.Query;
+import org.bimserver.emf.IdEObject;
+import org.bimserver.emf.IdEObjectImpl;
+import org.bimserver.emf.IfcModelInterface;
+import org.bimserver.emf.IfcModelInterfaceException;
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.interfaces.objects.SProject;
+import org.bimserver.models.log.AccessMethod;
+import org.bimserver.models.store.ConcreteRevision;
+import org.bimserver.models.store.ServerState;
+import org.bimserver.shared.HashMapVirtualObject;
+import org.bimserver.shared.LocalDevelopmentResourceFetcher;
+import org.bimserver.shared.interfaces.AdminInterface;
+import org.bimserver.webservices.ServiceMap;
+import org.bimserver.webservices.authorization.SystemAuthorization;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A BIMserver with its database in a temporary directory, without web server and plugins. Models are created with low level
+ * transactions, or checked in from memory without generating geometry.
+ *
+ * Resources are loaded from the workspace, so run the tests from the Tests directory.
+ */
+public class LocalTestServer implements AutoCloseable {
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final BimServer bimServer;
+	private final ServiceMap serviceMap;
+
+	private LocalTestServer(BimServer bimServer, ServiceMap serviceMap) {
+		this.bimServer = bimServer;
+		this.serviceMap = serviceMap;
+	}
+
+	public static LocalTestServer start(Path home) throws Exception {
+		BimServerConfig config = new BimServerConfig();
+		config.setHomeDir(home);
+		config.setResourceFetcher(new LocalDevelopmentResourceFetcher(Paths.get("../")));
+		config.setStartEmbeddedWebServer(false);
+		config.setClassPath(System.getProperty("java.class.path"));
+		config.setStartCommandLine(false);
+		config.setLocalDev(true);
+		BimServer bimServer = new BimServer(config);
+		bimServer.getVersionChecker().getLocalVersion().setDate(new Date());
+		bimServer.start();
+		if (bimServer.getServerInfo().getServerState() == ServerState.NOT_SETUP) {
+			AdminInterface adminInterface = bimServer.getServiceFactory().get(new SystemAuthorization(1, TimeUnit.HOURS), AccessMethod.INTERNAL).get(AdminInterface.class);
+			adminInterface.setup("http://localhost:8080", "Test", "Test server", null, "Administrator", "admin@bimserver.org", "admin");
+		}
+		String token = bimServer.getServiceFactory().get(AccessMethod.INTERNAL).getAuthInterface().login("admin@bimserver.org", "admin");
+		ServiceMap serviceMap = bimServer.getServiceFactory().get(token, AccessMethod.INTERNAL);
+		serviceMap.getSettingsInterface().setGenerateGeometryOnCheckin(false);
+		return new LocalTestServer(bimServer, serviceMap);
+	}
+
+	public BimServer getBimServer() {
+		return bimServer;
+	}
+
+	public ServiceMap getServiceMap() {
+		return serviceMap;
+	}
+
+	/**
+	 * Sessions that have been created and not closed yet, including the ones of the server itself
+	 */
+	public int getOpenSessionCount() {
+		return ((Database) bimServer.getDatabase()).sessions.size();
+	}
+
+	public PackageMetaData getPackageMetaData(String schema) {
+		return bimServer.getMetaDataManager().getPackageMetaData(schema);
+	}
+
+	public SProject addProject(String schema) throws Exception {
+		return serviceMap.getServiceInterface().addProject("test" + Math.random(), schema);
+	}
+
+	/**
+	 * Checks in a model that was created in memory, the oids of the objects are replaced
+	 *
+	 * @return The roid of the new revision
+	 */
+	public long checkin(long poid, IfcModelInterface model) throws Exception {
+		try (DatabaseSession databaseSession = bimServer.getDatabase().createSession(OperationType.POSSIBLY_WRITE)) {
+			CheckinDatabaseAction checkinDatabaseAction = new CheckinDatabaseAction(bimServer, databaseSession, AccessMethod.INTERNAL, poid, serviceMap.getAuthorization(), model, "test", "test.ifc", false, -1, -1);
+			ConcreteRevision concreteRevision = databaseSession.executeAndCommitAction(checkinDatabaseAction);
+			return concreteRevision.getRevisions().get(0).getOid();
+		}
+	}
+
+	public List<HashMapVirtualObject> query(String schema, String json, Long... roids) throws Exception {
+		try (DatabaseSession databaseSession = bimServer.getDatabase().createSession(OperationType.READ_ONLY)) {
+			return query(databaseSession, schema, json, roids);
+		}
+	}
+
+	/**
+	 * Runs the query in the given session, so it also sees the uncommitted changes of that session
+	 */
+	public List<HashMapVirtualObject> query(DatabaseSession databaseSession, String schema, String json, Long... roids) throws Exception {
+		PackageMetaData packageMetaData = getPackageMetaData(schema);
+		Query query = new JsonQueryObjectModelConverter(packageMetaData).parseJson("query", OBJECT_MAPPER.readValue(json, ObjectNode.class));
+		return query(databaseSession, query, roids);
+	}
+
+	public List<HashMapVirtualObject> query(Query query, Long... roids) throws Exception {
+		try (DatabaseSession databaseSession = bimServer.getDatabase().createSession(OperationType.READ_ONLY)) {
+			return query(databaseSession, query, roids);
+		}
+	}
+
+	public List<HashMapVirtualObject> query(DatabaseSession databaseSession, Query query, Long... roids) throws Exception {
+		Set<Long> roidSet = new HashSet<>(Arrays.asList(roids));
+		QueryObjectProvider queryObjectProvider = new QueryObjectProvider(databaseSession, bimServer, query, roidSet, query.getPackageMetaData());
+		List<HashMapVirtualObject> result = new ArrayList<>();
+		HashMapVirtualObject next = queryObjectProvider.next();
+		while (next != null) {
+			result.add(next);
+			next = queryObjectProvider.next();
+		}
+		return result;
+	}
+
+	/**
+	 * Creates an object in a model that is going to be checked in with {@link #checkin(long, IfcModelInterface)}
+	 */
+	public static <T extends IdEObject> T create(IfcModelInterface model, String className) throws IfcModelInterfaceException {
+		IdEObjectImpl object = model.createAndAdd(model.getPackageMetaData().getEClass(className), model.size() + 1);
+		object.setUuid(UUID.randomUUID());
+		@SuppressWarnings("unchecked")
+		T result = (T) object;
+		return result;
+	}
+
+	/**
+	 * Enum values can be given by the name of their literal
+	 */
+	public static void set(IdEObject object, String featureName, Object value) {
+		EStructuralFeature feature = object.eClass().getEStructuralFeature(featureName);
+		if (value instanceof String && feature.getEType() instanceof EEnum) {
+			value = ((EEnum) feature.getEType()).getEEnumLiteral((String) value).getInstance();
+		}
+		object.eSet(feature, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static void add(IdEObject object, String featureName, Object value) {
+		((List<Object>) object.eGet(object.eClass().getEStructuralFeature(featureName))).add(value);
+	}
+
+	public static Set<Long> oids(List<HashMapVirtualObject> objects) {
+		Set<Long> oids = new HashSet<>();
+		for (HashMapVirtualObject object : objects) {
+			oids.add(object.getOid());
+		}
+		return oids;
+	}
+
+	@Override
+	public void close() {
+		bimServer.stop();
+	}
+}
@@ -0,0 +1,140 @@
+package org.bimserver.database;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class LongLruCacheTest {
+	@Test
+	void evictsLeastRecentlyUsed() {
+		LongLruCache<String> cache = new LongLruCache<>(3, 1);
+		cache.put(1, "1");
+		cache.put(2, "2");
+		cache.put(3, "3");
+		assertEquals("1", cache.get(1));
+		cache.put(4, "4");
+		assertNull(cache.get(2));
+		assertEquals("1", cache.get(1));
+		assertEquals("3", cache.get(3));
+		assertEquals("4", cache.get(4));
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.getEvictions());
+		assertEquals(4, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	void pinnedEntriesAreNotEvictedUntilUnpinned() {
+		LongLruCache<String> cache = new LongLruCache<>(1, 1);
+		cache.putPinned(1, "1");
+		cache.put(2, "2");
+		cache.put(3, "3");
+		assertEquals("1", cache.get(1));
+		assertNull(cache.get(2));
+		assertEquals(1, cache.getPinnedSize());
+
+		cache.put(1, "1b");
+		assertEquals("1b", cache.get(1));
+		assertEquals(1, cache.getPinnedSize());
+
+		cache.unpin(1);
+		assertEquals(0, cache.getPinnedSize());
+		assertNull(cache.get(3));
+		cache.put(4, "4");
+		assertNull(cache.get(1));
+	}
+
+	@Test
+	void removeAndClear() {
+		LongLruCache<String> cache = new LongLruCache<>(10);
+		cache.put(1, "1");
+		cache.putPinned(2, "2");
+		cache.remove(1);
+		cache.remove(2);
+		assertNull(cache.get(1));
+		assertNull(cache.get(2));
+		cache.put(3, "3");
+		cache.putPinned(4, "4");
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getPinnedSize());
+	}
+
+	@Test
+	void invalidValuesAreMisses() {
+		LongLruCache<String> cache = new LongLruCache<>(10);
+		cache.put(1, "rid1");
+		assertNull(cache.get(1, value -> value.equals("rid2")));
+		assertEquals("rid1", cache.get(1, value -> value.equals("rid1")));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	void segmentsTogetherStayWithinMaxSize() {
+		LongLruCache<Long> cache = new LongLruCache<>(100, 16);
+		for (long oid = 0; oid < 10000; oid++) {
+			cache.put(oid, oid);
+		}
+		assertTrue(cache.size() <= 100);
+		assertEquals(10000 - cache.size(), cache.getEvictions());
+		for (long oid = 9990; oid < 10000; oid++) {
+			assertEquals(oid, cache.get(oid));
+		}
+	}
+
+	@Test
+	void concurrentAccess() throws Exception {
+		LongLruCache<Long> cache = new LongLruCache<>(1000);
+		Long pinned = Long.valueOf(-1);
+		cache.putPinned(-1, pinned);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				long offset = t * 100000L;
+				futures.add(executor.submit(() -> {
+					for (long oid = offset; oid < offset + 20000; oid++) {
+						cache.put(oid, oid);
+						Long value = cache.get(oid - 10);
+						assertTrue(value == null || value == oid - 10);
+						assertSame(pinned, cache.get(-1));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertTrue(cache.size() <= 1001);
+		assertEquals(1, cache.getPinnedSize());
+	}
+}
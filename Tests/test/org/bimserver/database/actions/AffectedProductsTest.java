@@ -0,0 +1,331 @@
+package org.bimserver.database.actions;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.bimserver.changes.Transaction;
+import org.bimserver.database.queries.om.Include.TypeDef;
+import org.bimserver.database.queries.om.Query;
+import org.bimserver.database.queries.om.QueryException;
+import org.bimserver.database.queries.om.QueryPart;
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.emf.Schema;
+import org.bimserver.models.geometry.GeometryPackage;
+import org.bimserver.models.ifc4.Ifc4Package;
+import org.bimserver.models.store.ConcreteRevision;
+import org.bimserver.models.store.StoreFactory;
+import org.bimserver.plugins.deserializers.DatabaseInterface;
+import org.bimserver.plugins.serializers.ObjectProvider;
+import org.bimserver.shared.HashMapVirtualObject;
+import org.bimserver.shared.QueryContext;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+class AffectedProductsTest {
+	private static final long PREVIOUS_ROID = 1;
+	private static final long NEW_ROID = 2;
+
+	@TempDir
+	Path tempDir;
+
+	private PackageMetaData packageMetaData;
+	private final Map<Long, EClass> classes = new HashMap<>();
+	private final Map<Long, Map<Long, HashMapVirtualObject>> revisions = new HashMap<>();
+	private final Set<String> scannedClasses = new HashSet<>();
+	private final List<HashMapVirtualObject> overwritten = new ArrayList<>();
+	private QueryContext previousContext;
+	private QueryContext newContext;
+	private Transaction transaction;
+	private AffectedProducts affectedProducts;
+
+	@BeforeEach
+	void setup() throws Exception {
+		packageMetaData = new PackageMetaData(Ifc4Package.eINSTANCE, Schema.IFC4, tempDir);
+		DatabaseInterface databaseInterface = (DatabaseInterface) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DatabaseInterface.class }, (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "getEClassForOid":
+				return classes.get(args[0]);
+			case "saveOverwrite":
+				overwritten.add((HashMapVirtualObject) args[0]);
+				return 0;
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+		});
+		previousContext = new QueryContext(databaseInterface, packageMetaData, 1, 1, PREVIOUS_ROID, PREVIOUS_ROID, 1);
+		newContext = new QueryContext(databaseInterface, packageMetaData, 1, 2, NEW_ROID, NEW_ROID, 2);
+		revisions.put(PREVIOUS_ROID, createModel(previousContext));
+		revisions.put(NEW_ROID, createModel(newContext));
+		ConcreteRevision concreteRevision = StoreFactory.eINSTANCE.createConcreteRevision();
+		concreteRevision.setId(2);
+		transaction = new Transaction(null, null, null, concreteRevision, null);
+		affectedProducts = new AffectedProducts(null, null, packageMetaData) {
+			@Override
+			ObjectProvider createObjectProvider(Query query, long roid) throws IOException, QueryException {
+				return new RevisionObjectProvider(query, revisions.get(roid));
+			}
+		};
+	}
+
+	/**
+	 * Two walls, the first one has a polyline as representation, the second one only has a placement. The third polyline is
+	 * not used by any representation.
+	 */
+	private Map<Long, HashMapVirtualObject> createModel(QueryContext queryContext) throws Exception {
+		Map<Long, HashMapVirtualObject> model = new TreeMap<>();
+		create(model, queryContext, 1, "IfcWall");
+		create(model, queryContext, 2, "IfcLocalPlacement");
+		create(model, queryContext, 3, "IfcProductDefinitionShape");
+		create(model, queryContext, 4, "IfcShapeRepresentation");
+		create(model, queryContext, 5, "IfcPolyline");
+		create(model, queryContext, 6, "IfcCartesianPoint");
+		create(model, queryContext, 7, "IfcWall");
+		create(model, queryContext, 8, "IfcLocalPlacement");
+		create(model, queryContext, 9, "IfcPolyline");
+		create(model, queryContext, 10, "IfcCartesianPoint");
+		classes.put(100L, GeometryPackage.eINSTANCE.getGeometryInfo());
+		classes.put(101L, GeometryPackage.eINSTANCE.getGeometryInfo());
+
+		setReference(model.get(1L), "ObjectPlacement", 2);
+		setReference(model.get(1L), "Representation", 3);
+		setReference(model.get(1L), "geometry", 100);
+		addReference(model.get(2L), "PlacesObject", 1);
+		addReference(model.get(3L), "Representations", 4);
+		addReference(model.get(3L), "ShapeOfProduct", 1);
+		addReference(model.get(4L), "Items", 5);
+		addReference(model.get(4L), "OfProductRepresentation", 3);
+		addReference(model.get(5L), "Points", 6);
+		setReference(model.get(7L), "ObjectPlacement", 8);
+		setReference(model.get(7L), "geometry", 101);
+		addReference(model.get(8L), "PlacesObject", 7);
+		addReference(model.get(9L), "Points", 10);
+		return model;
+	}
+
+	private HashMapVirtualObject create(Map<Long, HashMapVirtualObject> model, QueryContext queryContext, long oid, String className) {
+		EClass eClass = packageMetaData.getEClass(className);
+		classes.put(oid, eClass);
+		HashMapVirtualObject object = new HashMapVirtualObject(queryContext, eClass, oid, null);
+		model.put(oid, object);
+		return object;
+	}
+
+	private void setReference(HashMapVirtualObject object, String name, long oid) throws Exception {
+		object.setReference(getEReference(object, name), oid);
+	}
+
+	private void addReference(HashMapVirtualObject object, String name, long oid) {
+		object.addReference(getEReference(object, name), classes.get(oid), oid);
+	}
+
+	private EReference getEReference(HashMapVirtualObject object, String name) {
+		return (EReference) object.eClass().getEStructuralFeature(name);
+	}
+
+	private HashMapVirtualObject getNew(long oid) {
+		return revisions.get(NEW_ROID).get(oid);
+	}
+
+	@Test
+	void changedPointAffectsOnlyTheProductUsingIt() throws Exception {
+		transaction.updated(getNew(6));
+
+		affectedProducts.compute(transaction, PREVIOUS_ROID, NEW_ROID);
+
+		assertEquals(Set.of(1L), affectedProducts.getAffectedProducts());
+		assertEquals(Set.of(100L), affectedProducts.getReplacedGeometry());
+		// The representation items are read by class, from the representation upwards the stored inverses are used
+		assertTrue(scannedClasses.contains("IfcPolyline"));
+		assertTrue(scannedClasses.contains("IfcShapeRepresentation"));
+		assertFalse(scannedClasses.contains("IfcProductDefinitionShape"));
+		assertFalse(scannedClasses.contains("IfcWall"));
+		assertTrue(overwritten.isEmpty());
+	}
+
+	@Test
+	void changedPlacementIsFollowedThroughInverses() throws Exception {
+		transaction.updated(getNew(8));
+
+		affectedProducts.compute(transaction, PREVIOUS_ROID, NEW_ROID);
+
+		assertEquals(Set.of(7L), affectedProducts.getAffectedProducts());
+		assertEquals(Set.of(101L), affectedProducts.getReplacedGeometry());
+		assertTrue(scannedClasses.isEmpty());
+	}
+
+	@Test
+	void productWithChangedNameIsNotAffected() throws Exception {
+		transaction.updated(getNew(7));
+
+		affectedProducts.compute(transaction, PREVIOUS_ROID, NEW_ROID);
+
+		assertTrue(affectedProducts.getAffectedProducts().isEmpty());
+		assertTrue(affectedProducts.getReplacedGeometry().isEmpty());
+	}
+
+	@Test
+	void removedRepresentationClearsTheGeometry() throws Exception {
+		HashMapVirtualObject wall = getNew(1);
+		wall.eUnset(getEReference(wall, "Representation"));
+		transaction.updated(wall);
+		HashMapVirtualObject productDefinitionShape = getNew(3);
+		productDefinitionShape.eUnset(getEReference(productDefinitionShape, "ShapeOfProduct"));
+		transaction.updated(productDefinitionShape);
+
+		affectedProducts.compute(transaction, PREVIOUS_ROID, NEW_ROID);
+
+		assertEquals(Set.of(1L), affectedProducts.getAffectedProducts());
+		assertEquals(Set.of(100L), affectedProducts.getReplacedGeometry());
+		assertEquals(1, overwritten.size());
+		assertEquals(1L, overwritten.get(0).getOid());
+		assertSame(newContext, overwritten.get(0).getReusable());
+		assertFalse(overwritten.get(0).eIsSet(getEReference(wall, "geometry")));
+	}
+
+	@Test
+	void newOpeningAffectsItsElementWithoutReadingTheModel() throws Exception {
+		Map<Long, HashMapVirtualObject> model = revisions.get(NEW_ROID);
+		HashMapVirtualObject opening = create(model, newContext, 20, "IfcOpeningElement");
+		HashMapVirtualObject placement = create(model, newContext, 21, "IfcLocalPlacement");
+		HashMapVirtualObject relVoids = create(model, newContext, 22, "IfcRelVoidsElement");
+		setReference(opening, "ObjectPlacement", 21);
+		addReference(opening, "VoidsElements", 22);
+		addReference(placement, "PlacesObject", 20);
+		setReference(relVoids, "RelatingBuildingElement", 1);
+		setReference(relVoids, "RelatedOpeningElement", 20);
+		HashMapVirtualObject wall = getNew(1);
+		addReference(wall, "HasOpenings", 22);
+		transaction.created(opening);
+		transaction.created(placement);
+		transaction.created(relVoids);
+		transaction.updated(wall);
+
+		affectedProducts.compute(transaction, PREVIOUS_ROID, NEW_ROID);
+
+		assertEquals(Set.of(1L, 20L), affectedProducts.getAffectedProducts());
+		assertEquals(Set.of(100L), affectedProducts.getReplacedGeometry());
+		assertTrue(scannedClasses.isEmpty());
+	}
+
+	@Test
+	void deletedProductIsNotAffected() throws Exception {
+		transaction.deleted(revisions.get(PREVIOUS_ROID).get(7L));
+		transaction.deleted(revisions.get(PREVIOUS_ROID).get(8L));
+		revisions.get(NEW_ROID).remove(7L);
+		revisions.get(NEW_ROID).remove(8L);
+
+		affectedProducts.compute(transaction, PREVIOUS_ROID, NEW_ROID);
+
+		assertTrue(affectedProducts.getAffectedProducts().isEmpty());
+		assertEquals(new LongOpenHashSet(new long[] { 7 }), affectedProducts.getDeletedProducts());
+		assertEquals(Set.of(101L), affectedProducts.getReplacedGeometry());
+	}
+
+	/**
+	 * Returns the objects of one revision that match the oids or types of the query, ordered by oid
+	 */
+	private class RevisionObjectProvider implements ObjectProvider {
+		private final Iterator<HashMapVirtualObject> iterator;
+
+		RevisionObjectProvider(Query query, Map<Long, HashMapVirtualObject> model) {
+			List<HashMapVirtualObject> result = new ArrayList<>();
+			for (QueryPart queryPart : query.getQueryParts()) {
+				if (queryPart.hasTypes()) {
+					for (TypeDef typeDef : queryPart.getTypes()) {
+						scannedClasses.add(typeDef.geteClass().getName());
+					}
+				}
+				for (HashMapVirtualObject object : model.values()) {
+					if (matches(queryPart, object)) {
+						result.add(object);
+					}
+				}
+			}
+			iterator = result.iterator();
+		}
+
+		private boolean matches(QueryPart queryPart, HashMapVirtualObject object) {
+			if (queryPart.hasOids()) {
+				return queryPart.getOids().contains(object.getOid());
+			}
+			for (TypeDef typeDef : queryPart.getTypes()) {
+				if (typeDef.geteClass() == object.eClass() || (typeDef.isIncludeSubTypes() && typeDef.geteClass().isSuperTypeOf(object.eClass()))) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public HashMapVirtualObject next() {
+			return iterator.hasNext() ? iterator.next() : null;
+		}
+
+		@Override
+		public ObjectProvider copy() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public HashMapVirtualObject getByOid(long oid) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public EClass getEClassForOid(long oid) {
+			return classes.get(oid);
+		}
+
+		@Override
+		public EClass getEClassForCid(short cid) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ObjectNode getQueryNode() {
+			return null;
+		}
+
+		@Override
+		public void cache(HashMapVirtualObject object) {
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package org.bimserver.database.actions;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.bimserver.database.actions.InverseReferenceSorter.SortedIterator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InverseReferenceSorterTest {
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void sortsInMemoryBeyondTheInitialCapacity() throws IOException {
+		checkSorted(5000, 1000000);
+		assertEquals(0, countRuns());
+	}
+
+	@Test
+	void mergesSpilledRunsStably() throws IOException {
+		checkSorted(5000, 700);
+		assertEquals(0, countRuns());
+	}
+
+	@Test
+	void emptySorter() throws IOException {
+		try (InverseReferenceSorter sorter = new InverseReferenceSorter(tempDir, 10); SortedIterator iterator = sorter.sorted()) {
+			assertFalse(iterator.next());
+		}
+	}
+
+	private void checkSorted(int nrTuples, int maxTuplesInMemory) throws IOException {
+		Random random = new Random(1);
+		List<long[]> expected = new ArrayList<>();
+		try (InverseReferenceSorter sorter = new InverseReferenceSorter(tempDir, maxTuplesInMemory)) {
+			for (int i = 0; i < nrTuples; i++) {
+				// A few classes and targets, so there are many ties to keep in order
+				long target = ((long) random.nextInt(50) << 16) | random.nextInt(4);
+				sorter.add(target, i, i % 7);
+				expected.add(new long[] { target, i, i % 7 });
+			}
+			assertEquals(nrTuples, sorter.getTotal());
+			expected.sort(Comparator.<long[]>comparingInt(tuple -> (short) tuple[0]).thenComparingLong(tuple -> tuple[0]));
+			try (SortedIterator iterator = sorter.sorted()) {
+				for (long[] tuple : expected) {
+					assertTrue(iterator.next());
+					assertEquals(tuple[0], iterator.getTargetOid());
+					assertEquals(tuple[1], iterator.getSourceOid());
+					assertEquals(tuple[2], iterator.getFeatureId());
+				}
+				assertFalse(iterator.next());
+			}
+		}
+	}
+
+	private long countRuns() throws IOException {
+		try (Stream<Path> files = Files.list(tempDir)) {
+			return files.count();
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.LocalTestServer;
+import org.bimserver.database.OldQuery;
+import org.bimserver.database.OperationType;
+import org.bimserver.emf.IdEObject;
+import org.bimserver.emf.IfcModelInterface;
+import org.bimserver.ifc.BasicIfcModel;
+import org.bimserver.models.store.ConcreteRevision;
+import org.bimserver.models.store.Revision;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Classification queries on revisions with a classification index read the matching oids from the index, these tests compare
+ * the results with the lookups in the index tables of the classification references followed by a scan over all objects of
+ * the type, which is used without an index.
+ */
+class ClassificationIndexTest {
+	@TempDir
+	static Path home;
+
+	private static LocalTestServer server;
+
+	@BeforeAll
+	static void start() throws Exception {
+		server = LocalTestServer.start(home);
+	}
+
+	@AfterAll
+	static void stop() {
+		server.close();
+	}
+
+	@Test
+	void ifc2x3tc1() throws Exception {
+		assertClassifications("ifc2x3tc1", "ItemReference");
+	}
+
+	@Test
+	void ifc4() throws Exception {
+		assertClassifications("ifc4", "Identification");
+	}
+
+	private void assertClassifications(String schema, String codeFeature) throws Exception {
+		IfcModelInterface model = new BasicIfcModel(server.getPackageMetaData(schema), null);
+		IdEObject wall1 = LocalTestServer.create(model, "IfcWall");
+		IdEObject wall2 = LocalTestServer.create(model, "IfcWall");
+		IdEObject wall3 = LocalTestServer.create(model, "IfcWall");
+		LocalTestServer.create(model, "IfcWall");
+		IdEObject slab = LocalTestServer.create(model, "IfcSlab");
+
+		IdEObject exteriorWalls = createReference(model, codeFeature, "21.22");
+		IdEObject interiorWalls = createReference(model, codeFeature, "21.23");
+		// Two references with the same code, and one reference that is used by two relations
+		IdEObject exteriorWallsCopy = createReference(model, codeFeature, "21.22");
+		associate(model, exteriorWalls, wall1, slab);
+		associate(model, interiorWalls, wall2);
+		associate(model, interiorWalls, wall3);
+		associate(model, exteriorWallsCopy, wall3);
+		createReference(model, codeFeature, "21.24");
+
+		long roid = server.checkin(server.addProject(schema).getOid(), model);
+		assertTrue(hasIndex(roid));
+
+		assertMatches(schema, roid, Set.of(wall1.getOid(), wall3.getOid()), "IfcWall", "21.22");
+		assertMatches(schema, roid, Set.of(wall2.getOid(), wall3.getOid()), "IfcWall", "21.23");
+		assertMatches(schema, roid, Set.of(wall1.getOid(), wall2.getOid(), wall3.getOid()), "IfcWall", "21.22", "21.23");
+		assertMatches(schema, roid, Set.of(slab.getOid()), "IfcSlab", "21.22");
+		assertMatches(schema, roid, Set.of(), "IfcSlab", "21.23");
+		// A reference without relations, and a code that is not used at all
+		assertMatches(schema, roid, Set.of(), "IfcWall", "21.24");
+		assertMatches(schema, roid, Set.of(), "IfcWall", "99");
+		assertTrue(hasIndex(roid));
+	}
+
+	private IdEObject createReference(IfcModelInterface model, String codeFeature, String code) throws Exception {
+		IdEObject reference = LocalTestServer.create(model, "IfcClassificationReference");
+		LocalTestServer.set(reference, codeFeature, code);
+		return reference;
+	}
+
+	private void associate(IfcModelInterface model, IdEObject reference, IdEObject... objects) throws Exception {
+		IdEObject relAssociatesClassification = LocalTestServer.create(model, "IfcRelAssociatesClassification");
+		LocalTestServer.set(relAssociatesClassification, "RelatingClassification", reference);
+		for (IdEObject object : objects) {
+			LocalTestServer.add(relAssociatesClassification, "RelatedObjects", object);
+		}
+	}
+
+	/**
+	 * Asserts that the indexed query and the old query both return the expected objects
+	 */
+	private void assertMatches(String schema, long roid, Set<Long> expected, String type, String... codes) throws Exception {
+		String json = createQuery(type, codes);
+		assertEquals(expected, LocalTestServer.oids(server.query(schema, json, roid)), json + " (index)");
+		assertEquals(expected, scan(schema, json, roid), json + " (scan)");
+	}
+
+	private String createQuery(String type, String... codes) {
+		StringBuilder json = new StringBuilder("{\"type\":\"" + type + "\",\"classifications\":[");
+		for (int i = 0; i < codes.length; i++) {
+			json.append(i == 0 ? "" : ",").append("\"" + codes[i] + "\"");
+		}
+		return json.append("]}").toString();
+	}
+
+	/**
+	 * Runs the query with the classification index of the revision removed in a transaction that is rolled back
+	 */
+	private Set<Long> scan(String schema, String json, long roid) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.POSSIBLY_WRITE)) {
+			ConcreteRevision concreteRevision = ((Revision) databaseSession.get(roid, OldQuery.getDefault())).getLastConcreteRevision();
+			databaseSession.getKeyValueStore().delete(ClassificationIndex.CLASSIFICATION_INDEX_TABLE, PropertyIndex.createKey(concreteRevision.getProject().getId(), concreteRevision.getId()), databaseSession);
+			return LocalTestServer.oids(server.query(databaseSession, schema, json, roid));
+		}
+	}
+
+	private boolean hasIndex(long roid) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			ConcreteRevision concreteRevision = ((Revision) databaseSession.get(roid, OldQuery.getDefault())).getLastConcreteRevision();
+			return databaseSession.getClassificationIndex().hasIndex(databaseSession, concreteRevision.getProject().getId(), concreteRevision.getId());
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.OperationType;
+import org.bimserver.database.berkeley.BerkeleyKeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GeometryDataIndexTest {
+	private static final int PID = 1;
+	private static final int RID = 2;
+
+	@TempDir
+	Path tempDir;
+
+	private BerkeleyKeyValueStore keyValueStore;
+	private GeometryDataIndex geometryDataIndex;
+
+	@BeforeEach
+	void setup() throws Exception {
+		keyValueStore = new BerkeleyKeyValueStore(tempDir.resolve("database"), null);
+		keyValueStore.createTable(GeometryDataIndex.GEOMETRY_DATA_INDEX_TABLE, null, true);
+		geometryDataIndex = new GeometryDataIndex(keyValueStore);
+	}
+
+	@AfterEach
+	void tearDown() {
+		keyValueStore.close();
+	}
+
+	@Test
+	void storedPartsAreFoundPerProject() throws Exception {
+		long[] parts = new long[] { 10, -1, 12 };
+		DatabaseSession databaseSession = createSession();
+		geometryDataIndex.put(databaseSession, PID, RID, hash(1), parts);
+		databaseSession.getBimTransaction().commit();
+
+		assertArrayEquals(parts, geometryDataIndex.get(null, PID, RID, hash(1)));
+		assertArrayEquals(parts, geometryDataIndex.get(null, PID, RID + 1, hash(1)));
+		assertNull(geometryDataIndex.get(null, PID, RID, hash(2)));
+		assertNull(geometryDataIndex.get(null, PID + 1, RID, hash(1)));
+	}
+
+	@Test
+	void partsOfNewerRevisionsAreNotVisible() throws Exception {
+		DatabaseSession databaseSession = createSession();
+		geometryDataIndex.put(databaseSession, PID, RID, hash(1), new long[] { 10 });
+		databaseSession.getBimTransaction().commit();
+
+		assertNull(geometryDataIndex.get(null, PID, RID - 1, hash(1)));
+	}
+
+	@Test
+	void abortedTransactionLeavesNoEntries() throws Exception {
+		DatabaseSession databaseSession = createSession();
+		geometryDataIndex.put(databaseSession, PID, RID, hash(1), new long[] { 10 });
+		assertArrayEquals(new long[] { 10 }, geometryDataIndex.get(databaseSession, PID, RID, hash(1)));
+		databaseSession.getBimTransaction().rollback();
+
+		assertNull(geometryDataIndex.get(null, PID, RID, hash(1)));
+	}
+
+	@Test
+	void hashMustBe128Bits() {
+		assertThrows(IllegalArgumentException.class, () -> geometryDataIndex.get(null, PID, RID, new byte[8]));
+	}
+
+	private DatabaseSession createSession() {
+		return new DatabaseSession(null, keyValueStore.startTransaction(), OperationType.POSSIBLY_WRITE);
+	}
+
+	private byte[] hash(int value) {
+		byte[] hash = new byte[16];
+		hash[15] = (byte) value;
+		return hash;
+	}
+}
@@ -0,0 +1,216 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.LocalTestServer;
+import org.bimserver.database.OldQuery;
+import org.bimserver.database.OperationType;
+import org.bimserver.database.queries.om.Query;
+import org.bimserver.database.queries.om.QueryPart;
+import org.bimserver.emf.IdEObject;
+import org.bimserver.emf.IfcModelInterface;
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.ifc.BasicIfcModel;
+import org.bimserver.models.store.ConcreteRevision;
+import org.bimserver.models.store.Revision;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Property queries on revisions with a property index read the matching oids from the index, these tests compare the results
+ * with the scan over all objects of the type and their property sets that is used without an index.
+ */
+class PropertyIndexTest {
+	private static final String PSET = "Pset_WallCommon";
+
+	@TempDir
+	static Path home;
+
+	private static LocalTestServer server;
+
+	@BeforeAll
+	static void start() throws Exception {
+		server = LocalTestServer.start(home);
+	}
+
+	@AfterAll
+	static void stop() {
+		server.close();
+	}
+
+	@Test
+	void ifc2x3tc1() throws Exception {
+		Walls walls = checkin("ifc2x3tc1");
+		assertStringProperties(walls);
+		assertDoubleProperties(walls);
+		// Properties of a type object apply to the objects of that type through IsDefinedBy
+		assertMatches(walls, Set.of(walls.typed), "Reference", "T");
+		assertBooleanProperties(walls, Set.of(walls.a, walls.typed));
+		assertTrue(hasIndex(walls.roid));
+	}
+
+	@Test
+	void ifc4() throws Exception {
+		Walls walls = checkin("ifc4");
+		assertStringProperties(walls);
+		assertDoubleProperties(walls);
+		// IsTypedBy is not followed in IFC4, so neither the scan nor the index find the properties of the type object
+		assertMatches(walls, Set.of(), "Reference", "T");
+		assertBooleanProperties(walls, Set.of(walls.a));
+		assertTrue(hasIndex(walls.roid));
+	}
+
+	private void assertStringProperties(Walls walls) throws Exception {
+		assertMatches(walls, Set.of(walls.a), "Reference", "A");
+		assertMatches(walls, Set.of(walls.b), "Reference", "B");
+		assertMatches(walls, Set.of(), "Reference", "C");
+	}
+
+	private void assertBooleanProperties(Walls walls, Set<Long> external) throws Exception {
+		assertMatches(walls, external, "IsExternal", true);
+		assertMatches(walls, Set.of(walls.b), "IsExternal", false);
+		// IfcBoolean values are compared with the lower case name of the literal, so a String query value matches as well
+		assertMatches(walls, external, "IsExternal", "true");
+		assertMatches(walls, Set.of(walls.b), "IsExternal", "false");
+		assertMatches(walls, Set.of(), "IsExternal", "TRUE");
+	}
+
+	private void assertDoubleProperties(Walls walls) throws Exception {
+		assertMatches(walls, Set.of(walls.a), "ThermalTransmittance", 2.0);
+		assertMatches(walls, Set.of(walls.b), "ThermalTransmittance", 2.5);
+		// Stored values are Doubles, which are never equal to an Integer
+		assertMatches(walls, Set.of(), "ThermalTransmittance", 2);
+		assertMatches(walls, Set.of(), "ThermalTransmittance", "2.0");
+	}
+
+	/**
+	 * Asserts that the indexed query and the scan both return the expected walls
+	 */
+	private void assertMatches(Walls walls, Set<Long> expected, String propertyName, Object value) throws Exception {
+		Query query = createQuery(walls.schema, propertyName, value);
+		assertEquals(expected, indexed(query, walls.roid), propertyName + " = " + value + " (index)");
+		assertEquals(expected, scan(query, walls.roid), propertyName + " = " + value + " (scan)");
+	}
+
+	private Query createQuery(String schema, String propertyName, Object value) {
+		PackageMetaData packageMetaData = server.getPackageMetaData(schema);
+		Query query = new Query(packageMetaData);
+		QueryPart queryPart = query.createQueryPart();
+		queryPart.addType(packageMetaData.getEClass("IfcWall"), false);
+		queryPart.addProperty(PSET, propertyName, value);
+		return query;
+	}
+
+	private Set<Long> indexed(Query query, long roid) throws Exception {
+		return LocalTestServer.oids(server.query(query, roid));
+	}
+
+	/**
+	 * Runs the query with the property index of the revision removed in a transaction that is rolled back
+	 */
+	private Set<Long> scan(Query query, long roid) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.POSSIBLY_WRITE)) {
+			ConcreteRevision concreteRevision = ((Revision) databaseSession.get(roid, OldQuery.getDefault())).getLastConcreteRevision();
+			databaseSession.getKeyValueStore().delete(PropertyIndex.PROPERTY_INDEX_TABLE, PropertyIndex.createKey(concreteRevision.getProject().getId(), concreteRevision.getId()), databaseSession);
+			return LocalTestServer.oids(server.query(databaseSession, query, roid));
+		}
+	}
+
+	private boolean hasIndex(long roid) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			ConcreteRevision concreteRevision = ((Revision) databaseSession.get(roid, OldQuery.getDefault())).getLastConcreteRevision();
+			return databaseSession.getPropertyIndex().hasIndex(databaseSession, concreteRevision.getProject().getId(), concreteRevision.getId());
+		}
+	}
+
+	/**
+	 * Wall a and b have their own property set, the typed wall only gets properties from its type and the last wall has none
+	 */
+	private Walls checkin(String schema) throws Exception {
+		IfcModelInterface model = new BasicIfcModel(server.getPackageMetaData(schema), null);
+		IdEObject a = LocalTestServer.create(model, "IfcWall");
+		IdEObject b = LocalTestServer.create(model, "IfcWall");
+		IdEObject typed = LocalTestServer.create(model, "IfcWall");
+		LocalTestServer.create(model, "IfcWall");
+
+		defineProperties(model, a, createPropertySet(model, "A", "TRUE", 2.0));
+		defineProperties(model, b, createPropertySet(model, "B", "FALSE", 2.5));
+
+		IdEObject wallType = LocalTestServer.create(model, "IfcWallType");
+		LocalTestServer.add(wallType, "HasPropertySets", createPropertySet(model, "T", "TRUE", null));
+		IdEObject relDefinesByType = LocalTestServer.create(model, "IfcRelDefinesByType");
+		LocalTestServer.set(relDefinesByType, "RelatingType", wallType);
+		LocalTestServer.add(relDefinesByType, "RelatedObjects", typed);
+
+		long roid = server.checkin(server.addProject(schema).getOid(), model);
+		return new Walls(schema, roid, a.getOid(), b.getOid(), typed.getOid());
+	}
+
+	private IdEObject createPropertySet(IfcModelInterface model, String reference, String isExternal, Double thermalTransmittance) throws Exception {
+		IdEObject propertySet = LocalTestServer.create(model, "IfcPropertySet");
+		LocalTestServer.set(propertySet, "Name", PSET);
+		LocalTestServer.add(propertySet, "HasProperties", createProperty(model, "Reference", "IfcIdentifier", reference));
+		LocalTestServer.add(propertySet, "HasProperties", createProperty(model, "IsExternal", "IfcBoolean", isExternal));
+		if (thermalTransmittance != null) {
+			IdEObject property = createProperty(model, "ThermalTransmittance", "IfcThermalTransmittanceMeasure", thermalTransmittance);
+			LocalTestServer.set((IdEObject) property.eGet(property.eClass().getEStructuralFeature("NominalValue")), "wrappedValueAsString", thermalTransmittance.toString());
+			LocalTestServer.add(propertySet, "HasProperties", property);
+		}
+		return propertySet;
+	}
+
+	private IdEObject createProperty(IfcModelInterface model, String name, String valueType, Object value) throws Exception {
+		IdEObject property = LocalTestServer.create(model, "IfcPropertySingleValue");
+		LocalTestServer.set(property, "Name", name);
+		IdEObject nominalValue = LocalTestServer.create(model, valueType);
+		LocalTestServer.set(nominalValue, "wrappedValue", value);
+		LocalTestServer.set(property, "NominalValue", nominalValue);
+		return property;
+	}
+
+	private void defineProperties(IfcModelInterface model, IdEObject object, IdEObject propertySet) throws Exception {
+		IdEObject relDefinesByProperties = LocalTestServer.create(model, "IfcRelDefinesByProperties");
+		LocalTestServer.set(relDefinesByProperties, "RelatingPropertyDefinition", propertySet);
+		LocalTestServer.add(relDefinesByProperties, "RelatedObjects", object);
+	}
+
+	private static class Walls {
+		private final String schema;
+		private final long roid;
+		private final long a;
+		private final long b;
+		private final long typed;
+
+		public Walls(String schema, long roid, long a, long b, long typed) {
+			this.schema = schema;
+			this.roid = roid;
+			this.a = a;
+			this.b = b;
+			this.typed = typed;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.LocalTestServer;
+import org.bimserver.database.OldQuery;
+import org.bimserver.database.OperationType;
+import org.bimserver.database.indexes.RevisionVisibilityIndex.VisibleOids;
+import org.bimserver.emf.IdEObject;
+import org.bimserver.emf.IfcModelInterface;
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.ifc.BasicIfcModel;
+import org.bimserver.interfaces.objects.SProject;
+import org.bimserver.models.store.ConcreteRevision;
+import org.bimserver.models.store.Revision;
+import org.bimserver.shared.interfaces.LowLevelInterface;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Type queries read the objects of a revision through the revision visibility index when the revision has one, these tests
+ * compare the results with the scan over all object versions that is used without an index.
+ */
+class RevisionVisibilityIndexTest {
+	private static final String SCHEMA = "ifc2x3tc1";
+	private static final String WALLS = "{\"type\":\"IfcWall\"}";
+	private static final String BUILDING_ELEMENTS = "{\"type\":{\"name\":\"IfcBuildingElement\",\"includeAllSubTypes\":true}}";
+
+	@TempDir
+	static Path home;
+
+	private static LocalTestServer server;
+	private static LowLevelInterface lowLevelInterface;
+
+	@BeforeAll
+	static void start() throws Exception {
+		server = LocalTestServer.start(home);
+		lowLevelInterface = server.getServiceMap().getLowLevelInterface();
+	}
+
+	@AfterAll
+	static void stop() {
+		server.close();
+	}
+
+	@Test
+	void checkinIndexMatchesScan() throws Exception {
+		PackageMetaData packageMetaData = server.getPackageMetaData(SCHEMA);
+		IfcModelInterface model = new BasicIfcModel(packageMetaData, null);
+		for (int i = 0; i < 5; i++) {
+			LocalTestServer.create(model, "IfcWall");
+		}
+		for (int i = 0; i < 3; i++) {
+			LocalTestServer.create(model, "IfcSlab");
+		}
+		LocalTestServer.create(model, "IfcBuildingStorey");
+		SProject project = server.addProject(SCHEMA);
+		long roid = server.checkin(project.getOid(), model);
+
+		Set<Long> walls = new HashSet<>();
+		Set<Long> buildingElements = new HashSet<>();
+		for (IdEObject idEObject : model.getValues()) {
+			if (idEObject.eClass().getName().equals("IfcWall")) {
+				walls.add(idEObject.getOid());
+			}
+			if (!idEObject.eClass().getName().equals("IfcBuildingStorey")) {
+				buildingElements.add(idEObject.getOid());
+			}
+		}
+		assertTrue(hasIndex(roid));
+		assertEquals(walls, indexed(roid, "IfcWall"));
+		assertEquals(walls, query(roid, WALLS));
+		assertEquals(walls, scan(roid, WALLS));
+		assertEquals(buildingElements, query(roid, BUILDING_ELEMENTS));
+		assertEquals(buildingElements, scan(roid, BUILDING_ELEMENTS));
+	}
+
+	@Test
+	void transactionChangesAreAppliedToThePreviousIndex() throws Exception {
+		SProject project = server.addProject(SCHEMA);
+		Long tid = lowLevelInterface.startTransaction(project.getOid());
+		List<Long> walls = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			walls.add(lowLevelInterface.createObject(tid, "IfcWall", true));
+		}
+		Long slab = lowLevelInterface.createObject(tid, "IfcSlab", true);
+		long firstRoid = lowLevelInterface.commitTransaction(tid, "first", false);
+		assertTrue(hasIndex(firstRoid));
+		assertEquals(new HashSet<>(walls), query(firstRoid, WALLS));
+
+		tid = lowLevelInterface.startTransaction(project.getOid());
+		Long newWall1 = lowLevelInterface.createObject(tid, "IfcWall", true);
+		Long newWall2 = lowLevelInterface.createObject(tid, "IfcWall", true);
+		lowLevelInterface.removeObject(tid, walls.get(1));
+		lowLevelInterface.removeObject(tid, slab);
+		long secondRoid = lowLevelInterface.commitTransaction(tid, "second", false);
+
+		Set<Long> expected = new HashSet<>(walls);
+		expected.remove(walls.get(1));
+		expected.add(newWall1);
+		expected.add(newWall2);
+		assertTrue(hasIndex(secondRoid));
+		assertEquals(expected, indexed(secondRoid, "IfcWall"));
+		assertEquals(expected, query(secondRoid, WALLS));
+		assertEquals(expected, scan(secondRoid, WALLS));
+		assertTrue(indexed(secondRoid, "IfcSlab").isEmpty());
+		assertEquals(expected, query(secondRoid, BUILDING_ELEMENTS));
+		assertEquals(expected, scan(secondRoid, BUILDING_ELEMENTS));
+		// The previous revision is not affected by the changes
+		assertEquals(new HashSet<>(walls), query(firstRoid, WALLS));
+		assertEquals(new HashSet<>(walls), scan(firstRoid, WALLS));
+	}
+
+	@Test
+	void revisionWithoutIndexIsScanned() throws Exception {
+		SProject project = server.addProject(SCHEMA);
+		Long tid = lowLevelInterface.startTransaction(project.getOid());
+		Long wall1 = lowLevelInterface.createObject(tid, "IfcWall", true);
+		Long wall2 = lowLevelInterface.createObject(tid, "IfcWall", true);
+		long firstRoid = lowLevelInterface.commitTransaction(tid, "first", false);
+		removeIndex(firstRoid);
+		assertFalse(hasIndex(firstRoid));
+		assertEquals(Set.of(wall1, wall2), query(firstRoid, WALLS));
+
+		// Without an index for the previous revision the changes cannot be applied, so the next revision has none either
+		tid = lowLevelInterface.startTransaction(project.getOid());
+		Long wall3 = lowLevelInterface.createObject(tid, "IfcWall", true);
+		lowLevelInterface.removeObject(tid, wall1);
+		long secondRoid = lowLevelInterface.commitTransaction(tid, "second", false);
+		assertFalse(hasIndex(secondRoid));
+		assertEquals(Set.of(wall2, wall3), query(secondRoid, WALLS));
+	}
+
+	@Test
+	void revisionWithMultipleConcreteRevisions() throws Exception {
+		SProject parent = server.addProject(SCHEMA);
+		Set<Long> walls = new HashSet<>();
+		for (int i = 0; i < 2; i++) {
+			SProject subProject = server.getServiceMap().getServiceInterface().addProjectAsSubProject("sub" + Math.random(), parent.getOid(), SCHEMA);
+			Long tid = lowLevelInterface.startTransaction(subProject.getOid());
+			walls.add(lowLevelInterface.createObject(tid, "IfcWall", true));
+			walls.add(lowLevelInterface.createObject(tid, "IfcWall", true));
+			long roid = lowLevelInterface.commitTransaction(tid, "sub", false);
+			assertTrue(hasIndex(roid));
+		}
+		long parentRoid = server.getServiceMap().getServiceInterface().getProjectByPoid(parent.getOid()).getLastRevisionId();
+		assertEquals(2, getConcreteRevisionCount(parentRoid));
+		assertEquals(walls, query(parentRoid, WALLS));
+		assertEquals(walls, scan(parentRoid, WALLS));
+
+		// A transaction cannot combine the indexes of multiple concrete revisions, the new revision is scanned
+		Long tid = lowLevelInterface.startTransaction(parent.getOid());
+		Long wall = lowLevelInterface.createObject(tid, "IfcWall", true);
+		long roid = lowLevelInterface.commitTransaction(tid, "parent", false);
+		assertFalse(hasIndex(roid));
+		assertEquals(Set.of(wall), query(roid, WALLS));
+	}
+
+	private Set<Long> query(long roid, String json) throws Exception {
+		return LocalTestServer.oids(server.query(SCHEMA, json, roid));
+	}
+
+	/**
+	 * Runs the query with the indexes of the revision removed in a transaction that is rolled back
+	 */
+	private Set<Long> scan(long roid, String json) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.POSSIBLY_WRITE)) {
+			Revision revision = databaseSession.get(roid, OldQuery.getDefault());
+			for (ConcreteRevision concreteRevision : revision.getConcreteRevisions()) {
+				databaseSession.getKeyValueStore().delete(RevisionVisibilityIndex.REVISION_VISIBILITY_TABLE, PropertyIndex.createKey(concreteRevision.getProject().getId(), concreteRevision.getId()), databaseSession);
+			}
+			return LocalTestServer.oids(server.query(databaseSession, SCHEMA, json, roid));
+		}
+	}
+
+	private void removeIndex(long roid) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.POSSIBLY_WRITE)) {
+			ConcreteRevision concreteRevision = ((Revision) databaseSession.get(roid, OldQuery.getDefault())).getLastConcreteRevision();
+			databaseSession.getKeyValueStore().delete(RevisionVisibilityIndex.REVISION_VISIBILITY_TABLE, PropertyIndex.createKey(concreteRevision.getProject().getId(), concreteRevision.getId()), databaseSession);
+			databaseSession.commit();
+		}
+	}
+
+	private boolean hasIndex(long roid) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			ConcreteRevision concreteRevision = ((Revision) databaseSession.get(roid, OldQuery.getDefault())).getLastConcreteRevision();
+			return databaseSession.getRevisionVisibilityIndex().hasIndex(databaseSession, concreteRevision.getProject().getId(), concreteRevision.getId());
+		}
+	}
+
+	private int getConcreteRevisionCount(long roid) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			return ((Revision) databaseSession.get(roid, OldQuery.getDefault())).getConcreteRevisions().size();
+		}
+	}
+
+	private Set<Long> indexed(long roid, String className) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			ConcreteRevision concreteRevision = ((Revision) databaseSession.get(roid, OldQuery.getDefault())).getLastConcreteRevision();
+			VisibleOids visibleOids = databaseSession.getRevisionVisibilityIndex().get(databaseSession, concreteRevision.getProject().getId(), concreteRevision.getId(), server.getPackageMetaData(SCHEMA).getEClass(className));
+			Set<Long> oids = new HashSet<>();
+			while (visibleOids.hasNext()) {
+				oids.add(visibleOids.next());
+			}
+			assertEquals(oids.size(), visibleOids.size());
+			return oids;
+		}
+	}
+}
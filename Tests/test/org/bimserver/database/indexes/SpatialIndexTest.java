@@ -0,0 +1,187 @@
+package org.bimserver.database.indexes;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.OperationType;
+import org.bimserver.database.berkeley.BerkeleyKeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+class SpatialIndexTest {
+	private static final int PID = 1;
+	private static final int RID = 1;
+	private static final short WALL = 10;
+	private static final short SLAB = 11;
+
+	@TempDir
+	Path tempDir;
+
+	private BerkeleyKeyValueStore keyValueStore;
+	private SpatialIndex spatialIndex;
+
+	@BeforeEach
+	void setup() throws Exception {
+		keyValueStore = new BerkeleyKeyValueStore(tempDir.resolve("database"), null);
+		keyValueStore.createTable(SpatialIndex.SPATIAL_INDEX_TABLE, null, true);
+		spatialIndex = new SpatialIndex(keyValueStore);
+	}
+
+	@AfterEach
+	void tearDown() {
+		keyValueStore.close();
+	}
+
+	@Test
+	void levels() {
+		assertEquals(0, SpatialIndex.getLevel(0, 0, 0, 500, 500, 500));
+		assertEquals(0, SpatialIndex.getLevel(0, 0, 0, 1024, 10, 10));
+		assertEquals(1, SpatialIndex.getLevel(0, 0, 0, 10, 2000, 10));
+		assertEquals(SpatialIndex.NR_LEVELS - 1, SpatialIndex.getLevel(0, 0, 0, 1e30, 0, 0));
+		assertEquals(SpatialIndex.NR_LEVELS - 1, SpatialIndex.getLevel(0, 0, 0, Double.NaN, 0, 0));
+	}
+
+	@Test
+	void encodedCellsKeepTheirOrder() {
+		int[] cells = new int[] { -SpatialIndex.MAX_CELL, -2, -1, 0, 1, 2, SpatialIndex.MAX_CELL };
+		for (int i = 1; i < cells.length; i++) {
+			assertTrue(Integer.compareUnsigned(SpatialIndex.encodeCell(cells[i - 1]), SpatialIndex.encodeCell(cells[i])) < 0);
+			assertEquals(cells[i], SpatialIndex.decodeCell(SpatialIndex.encodeCell(cells[i])));
+		}
+		assertEquals(-SpatialIndex.MAX_CELL, SpatialIndex.getCell(-1e300, 1024));
+		assertEquals(SpatialIndex.MAX_CELL, SpatialIndex.getCell(1e300, 1024));
+	}
+
+	@Test
+	void queryFindsIntersectingObjectsOnAllLevels() throws Exception {
+		spatialIndex.add(null, PID, RID, WALL, 1, 0, 0, 0, 500, 500, 500, 1);
+		spatialIndex.add(null, PID, RID, WALL, 2, -3000, -3000, 0, 3000, 3000, 100, 1);
+		spatialIndex.add(null, PID, RID, WALL, 3, 1000000, 1000000, 0, 1000500, 1000500, 500, 1);
+		spatialIndex.add(null, PID, RID, WALL, 4, -1e9, -1e9, -1e9, 1e9, 1e9, 1e9, 1);
+		spatialIndex.add(null, PID, RID, SLAB, 5, 0, 0, 0, 500, 500, 500, 1);
+
+		Set<Long> found = query(WALL, 100, 100, 100, 10, 10, 10);
+		assertTrue(found.contains(1L));
+		assertTrue(found.contains(2L));
+		assertTrue(found.contains(4L));
+		assertFalse(found.contains(3L));
+		assertFalse(found.contains(5L));
+	}
+
+	@Test
+	void unusableBoxReturnsAllObjectsOfTheClass() throws Exception {
+		spatialIndex.add(null, PID, RID, WALL, 1, 0, 0, 0, 500, 500, 500, 1);
+		spatialIndex.add(null, PID, RID, WALL, 3, 1000000, 1000000, 0, 1000500, 1000500, 500, 1);
+		spatialIndex.add(null, PID, RID, SLAB, 5, 0, 0, 0, 500, 500, 500, 1);
+
+		assertEquals(Set.of(1L, 3L), query(WALL, Double.NaN, 0, 0, 1, 1, 1));
+		assertEquals(Set.of(1L, 3L), query(WALL, 0, 0, 0, -1, 1, 1));
+	}
+
+	@Test
+	void storedBoundsAreReturned() throws Exception {
+		spatialIndex.add(null, PID, RID, WALL, 1, -10, -20, -30, 10, 20, 30, 0.5f);
+		try (SpatialIndexIterator iterator = spatialIndex.query(null, PID, RID, WALL, 0, 0, 0, 1, 1, 1)) {
+			assertTrue(iterator.next());
+			assertEquals(1, iterator.getOid());
+			assertEquals(-10, iterator.getMinX());
+			assertEquals(-20, iterator.getMinY());
+			assertEquals(-30, iterator.getMinZ());
+			assertEquals(10, iterator.getMaxX());
+			assertEquals(20, iterator.getMaxY());
+			assertEquals(30, iterator.getMaxZ());
+			assertEquals(0.5f, iterator.getDensity());
+			assertFalse(iterator.next());
+		}
+	}
+
+	@Test
+	void clearRemovesEntriesAndMarkerOfOneRevision() throws Exception {
+		spatialIndex.add(null, PID, RID, WALL, 1, 0, 0, 0, 500, 500, 500, 1);
+		spatialIndex.add(null, PID, RID + 1, WALL, 1, 0, 0, 0, 500, 500, 500, 1);
+		spatialIndex.markComplete(null, PID, RID);
+		spatialIndex.markComplete(null, PID, RID + 1);
+		assertTrue(spatialIndex.isComplete(null, PID, RID));
+
+		DatabaseSession databaseSession = createSession();
+		assertEquals(2, spatialIndex.clear(databaseSession, PID, RID));
+		databaseSession.getBimTransaction().commit();
+		assertFalse(spatialIndex.isComplete(null, PID, RID));
+		assertTrue(query(WALL, Double.NaN, 0, 0, 0, 0, 0).isEmpty());
+		assertTrue(spatialIndex.isComplete(null, PID, RID + 1));
+	}
+
+	@Test
+	void abortedTransactionLeavesNoIndex() throws Exception {
+		DatabaseSession databaseSession = createSession();
+		spatialIndex.add(databaseSession, PID, RID, WALL, 1, 0, 0, 0, 500, 500, 500, 1);
+		spatialIndex.markComplete(databaseSession, PID, RID);
+		assertTrue(spatialIndex.isComplete(databaseSession, PID, RID));
+		databaseSession.getBimTransaction().rollback();
+
+		assertFalse(spatialIndex.isComplete(null, PID, RID));
+		assertTrue(query(WALL, Double.NaN, 0, 0, 0, 0, 0).isEmpty());
+	}
+
+	@Test
+	void copySkipsExcludedObjectsAndKeepsCompleteness() throws Exception {
+		spatialIndex.add(null, PID, RID, WALL, 1, 0, 0, 0, 500, 500, 500, 1);
+		spatialIndex.add(null, PID, RID, WALL, 2, 0, 0, 0, 500, 500, 500, 1);
+		spatialIndex.add(null, PID, RID, SLAB, 5, 0, 0, 0, 500, 500, 500, 1);
+
+		LongOpenHashSet excluded = new LongOpenHashSet();
+		excluded.add(2);
+		assertEquals(2, spatialIndex.copy(null, PID, RID, RID + 1, excluded));
+		assertFalse(spatialIndex.isComplete(null, PID, RID + 1));
+
+		spatialIndex.markComplete(null, PID, RID);
+		spatialIndex.copy(null, PID, RID, RID + 2, excluded);
+		assertTrue(spatialIndex.isComplete(null, PID, RID + 2));
+		try (SpatialIndexIterator iterator = spatialIndex.query(null, PID, RID + 2, WALL, Double.NaN, 0, 0, 0, 0, 0)) {
+			assertTrue(iterator.next());
+			assertEquals(1, iterator.getOid());
+			assertFalse(iterator.next());
+		}
+	}
+
+	private DatabaseSession createSession() {
+		return new DatabaseSession(null, keyValueStore.startTransaction(), OperationType.POSSIBLY_WRITE);
+	}
+
+	private Set<Long> query(short cid, double x, double y, double z, double width, double height, double depth) throws Exception {
+		Set<Long> oids = new HashSet<>();
+		try (SpatialIndexIterator iterator = spatialIndex.query(null, PID, RID, cid, x, y, z, width, height, depth)) {
+			while (iterator.next()) {
+				oids.add(iterator.getOid());
+			}
+		}
+		return oids;
+	}
+}
@@ -0,0 +1,233 @@
+package org.bimserver.database.queries;
+
+/******************************************************************************
+ * Copyright (C) 2009-2019  BIMserver.org
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see {@literal<http://www.gnu.org/licenses/>}.
+ *****************************************************************************/
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.bimserver.BimserverDatabaseException;
+import org.bimserver.database.DatabaseSession;
+import org.bimserver.database.LocalTestServer;
+import org.bimserver.database.OperationType;
+import org.bimserver.database.queries.om.JsonQueryObjectModelConverter;
+import org.bimserver.database.queries.om.Query;
+import org.bimserver.emf.IfcModelInterface;
+import org.bimserver.emf.PackageMetaData;
+import org.bimserver.ifc.BasicIfcModel;
+import org.bimserver.plugins.serializers.ObjectProvider;
+import org.bimserver.shared.HashMapVirtualObject;
+import org.bimserver.shared.interfaces.LowLevelInterface;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class ParallelQueryObjectProviderTest {
+	private static final String SCHEMA = "ifc2x3tc1";
+	private static final String BUILDING_ELEMENTS = "{\"type\":{\"name\":\"IfcBuildingElement\",\"includeAllSubTypes\":true}}";
+
+	@TempDir
+	static Path home;
+
+	private static LocalTestServer server;
+	private static LowLevelInterface lowLevelInterface;
+	private static PackageMetaData packageMetaData;
+	private static long firstRoid;
+	private static long otherProjectRoid;
+	private static long secondRoid;
+
+	@BeforeAll
+	static void start() throws Exception {
+		server = LocalTestServer.start(home);
+		lowLevelInterface = server.getServiceMap().getLowLevelInterface();
+		packageMetaData = server.getPackageMetaData(SCHEMA);
+
+		long poid = server.addProject(SCHEMA).getOid();
+		Long tid = lowLevelInterface.startTransaction(poid);
+		lowLevelInterface.createObject(tid, "IfcWall", true);
+		Long removedWall = lowLevelInterface.createObject(tid, "IfcWall", true);
+		lowLevelInterface.createObject(tid, "IfcSlab", true);
+		firstRoid = lowLevelInterface.commitTransaction(tid, "first", false);
+
+		// The objects that did not change are in both revisions of this project
+		tid = lowLevelInterface.startTransaction(poid);
+		lowLevelInterface.createObject(tid, "IfcWall", true);
+		lowLevelInterface.removeObject(tid, removedWall);
+		secondRoid = lowLevelInterface.commitTransaction(tid, "second", false);
+
+		tid = lowLevelInterface.startTransaction(server.addProject(SCHEMA).getOid());
+		lowLevelInterface.createObject(tid, "IfcWall", true);
+		lowLevelInterface.createObject(tid, "IfcColumn", true);
+		otherProjectRoid = lowLevelInterface.commitTransaction(tid, "other", false);
+	}
+
+	@AfterAll
+	static void stop() {
+		server.close();
+	}
+
+	@Test
+	void objectsAreReturnedInTheOrderOfTheRevisionsWithoutDuplicates() throws Exception {
+		Set<Long> roids = roids(firstRoid, otherProjectRoid, secondRoid);
+		List<Long> expected = new ArrayList<>();
+		int total = 0;
+		for (long roid : roids) {
+			for (HashMapVirtualObject object : server.query(SCHEMA, BUILDING_ELEMENTS, roid)) {
+				total++;
+				if (!expected.contains(object.getOid())) {
+					expected.add(object.getOid());
+				}
+			}
+		}
+		// The revisions of the first project share objects
+		assertTrue(expected.size() < total);
+
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			assertInstanceOf(ParallelQueryObjectProvider.class, ParallelQueryObjectProvider.create(databaseSession, server.getBimServer(), createQuery(), roids, packageMetaData));
+		}
+		List<Long> oids = readAll(roids);
+		assertEquals(expected, oids);
+		assertEquals(new HashSet<>(oids), LocalTestServer.oids(server.query(SCHEMA, BUILDING_ELEMENTS, roids.toArray(new Long[0]))));
+
+		// Starting with the second revision, its objects come first and the first revision only adds the removed wall
+		oids = readAll(roids(secondRoid, otherProjectRoid, firstRoid));
+		assertEquals(new HashSet<>(expected), new HashSet<>(oids));
+		Set<Long> secondRevision = LocalTestServer.oids(server.query(SCHEMA, BUILDING_ELEMENTS, secondRoid));
+		assertEquals(secondRevision, new HashSet<>(oids.subList(0, secondRevision.size())));
+		assertEquals(expected.size(), oids.size());
+	}
+
+	@Test
+	void closeStopsPartitionsThatAreRunning() throws Exception {
+		// Enough objects to fill the queue of the partition, so it keeps running until it is cancelled
+		IfcModelInterface model = new BasicIfcModel(packageMetaData, null);
+		for (int i = 0; i < 10100; i++) {
+			LocalTestServer.create(model, "IfcWall");
+		}
+		long largeRoid = server.checkin(server.addProject(SCHEMA).getOid(), model);
+		awaitQuiescence();
+
+		int openSessions = server.getOpenSessionCount();
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			ParallelQueryObjectProvider objectProvider = (ParallelQueryObjectProvider) ParallelQueryObjectProvider.create(databaseSession, server.getBimServer(), createQuery(), roids(firstRoid, largeRoid), packageMetaData);
+			assertNotNull(objectProvider.next());
+			// The caller's session and the one of the large partition
+			waitFor(openSessions + 2, server::getOpenSessionCount);
+			objectProvider.close();
+			awaitQuiescence();
+			assertEquals(openSessions + 1, server.getOpenSessionCount());
+		}
+	}
+
+	@Test
+	void closeCancelsPartitionsThatNeverStarted() throws Exception {
+		// More revisions than the pool runs ahead, so the last ones are never submitted before close
+		int parallelism = server.getBimServer().getQueryPool().getParallelism();
+		long poid = server.addProject(SCHEMA).getOid();
+		List<Long> roids = new ArrayList<>();
+		for (int i = 0; i < parallelism + 3; i++) {
+			Long tid = lowLevelInterface.startTransaction(poid);
+			lowLevelInterface.createObject(tid, "IfcWall", true);
+			roids.add(lowLevelInterface.commitTransaction(tid, "revision " + i, false));
+		}
+		awaitQuiescence();
+
+		int openSessions = server.getOpenSessionCount();
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			ParallelQueryObjectProvider objectProvider = (ParallelQueryObjectProvider) ParallelQueryObjectProvider.create(databaseSession, server.getBimServer(), createQuery(), new LinkedHashSet<>(roids), packageMetaData);
+			assertNotNull(objectProvider.next());
+			awaitQuiescence();
+			// Partitions that have been read completely keep their session open until the consumer gets to them
+			int running = server.getOpenSessionCount() - openSessions - 1;
+			assertTrue(running > 0 && running < roids.size() - 1, running + " partitions running");
+			objectProvider.close();
+			awaitQuiescence();
+			assertEquals(openSessions + 1, server.getOpenSessionCount());
+		}
+	}
+
+	@Test
+	void errorsOfPartitionsInThePoolAreThrownByNext() throws Exception {
+		int openSessions = server.getOpenSessionCount();
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			// There is no revision with this roid, the partition fails when it starts
+			ObjectProvider objectProvider = ParallelQueryObjectProvider.create(databaseSession, server.getBimServer(), createQuery(), roids(firstRoid, Long.MAX_VALUE), packageMetaData);
+			assertNotNull(objectProvider.next());
+			// The second partition has run in the pool by now
+			awaitQuiescence();
+			assertThrows(BimserverDatabaseException.class, () -> {
+				while (objectProvider.next() != null) {
+				}
+			});
+		}
+		assertEquals(openSessions, server.getOpenSessionCount());
+	}
+
+	private List<Long> readAll(Set<Long> roids) throws Exception {
+		try (DatabaseSession databaseSession = server.getBimServer().getDatabase().createSession(OperationType.READ_ONLY)) {
+			ObjectProvider objectProvider = ParallelQueryObjectProvider.create(databaseSession, server.getBimServer(), createQuery(), roids, packageMetaData);
+			List<Long> oids = new ArrayList<>();
+			HashMapVirtualObject next = objectProvider.next();
+			while (next != null) {
+				oids.add(next.getOid());
+				next = objectProvider.next();
+			}
+			return oids;
+		}
+	}
+
+	private static Query createQuery() throws Exception {
+		return new JsonQueryObjectModelConverter(packageMetaData).parseJson("query", new ObjectMapper().readValue(BUILDING_ELEMENTS, ObjectNode.class));
+	}
+
+	private static Set<Long> roids(Long... roids) {
+		Set<Long> result = new LinkedHashSet<>();
+		Collections.addAll(result, roids);
+		return result;
+	}
+
+	private static void awaitQuiescence() {
+		ForkJoinPool queryPool = server.getBimServer().getQueryPool();
+		assertTrue(queryPool.awaitQuiescence(30, TimeUnit.SECONDS), "Query pool still busy");
+	}
+
+	private static void waitFor(int expected, IntSupplier actual) throws InterruptedException {
+		long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (actual.getAsInt() != expected && System.nanoTime() < end) {
+			Thread.sleep(10);
+		}
+		assertEquals(expected, actual.getAsInt());
+	}
+}